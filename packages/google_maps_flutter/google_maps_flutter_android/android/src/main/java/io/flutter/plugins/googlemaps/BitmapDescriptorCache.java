@@ -0,0 +1,143 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of {@link BitmapDescriptor}s, keyed by the content they were created
+ * from.
+ *
+ * <p>Markers and custom caps that share the same icon bytes or asset reuse a single descriptor, so
+ * the image is only decoded once. The cache is bounded by the approximate size of the decoded
+ * bitmaps it holds, and is safe to use from any thread.
+ */
+final class BitmapDescriptorCache {
+
+  /** Identifies the content a descriptor was created from. */
+  static final class Key {
+    private final String type;
+    private final String name;
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private Key(String type, String name, byte[] bytes) {
+      this.type = type;
+      this.name = name;
+      this.bytes = bytes;
+      this.hashCode = 31 * (31 * type.hashCode() + name.hashCode()) + Arrays.hashCode(bytes);
+    }
+
+    /** A key for an image decoded from {@code bytes}. */
+    static Key forBytes(byte[] bytes) {
+      return new Key("bytes", "", bytes);
+    }
+
+    /** A key for the Flutter asset {@code assetName}, optionally in {@code packageName}. */
+    static Key forAsset(String assetName, String packageName) {
+      final String name = packageName == null ? assetName : packageName + "/" + assetName;
+      return new Key("asset", name, null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return hashCode == other.hashCode
+          && type.equals(other.type)
+          && name.equals(other.name)
+          && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class Entry {
+    final BitmapDescriptor descriptor;
+    final long sizeBytes;
+
+    Entry(BitmapDescriptor descriptor, long sizeBytes) {
+      this.descriptor = descriptor;
+      this.sizeBytes = sizeBytes;
+    }
+  }
+
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxSizeBytes;
+  private long sizeBytes = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+
+  BitmapDescriptorCache(long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /** Returns the descriptor cached for {@code key}, or null if there is none. */
+  synchronized BitmapDescriptor get(Key key) {
+    final Entry entry = entries.get(key);
+    if (entry == null) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    return entry.descriptor;
+  }
+
+  /**
+   * Caches {@code descriptor} for {@code key}, evicting the least recently used descriptors until
+   * the cache fits in its bound again.
+   *
+   * @param sizeBytes the approximate memory held by the descriptor's bitmap.
+   */
+  synchronized void put(Key key, BitmapDescriptor descriptor, long sizeBytes) {
+    if (sizeBytes > maxSizeBytes) {
+      return;
+    }
+    final Entry previous = entries.put(key, new Entry(descriptor, sizeBytes));
+    if (previous != null) {
+      this.sizeBytes -= previous.sizeBytes;
+    }
+    this.sizeBytes += sizeBytes;
+    trimToSize(maxSizeBytes);
+  }
+
+  /** Drops every cached descriptor. Markers already using them are not affected. */
+  synchronized void evictAll() {
+    trimToSize(-1);
+  }
+
+  synchronized long size() {
+    return sizeBytes;
+  }
+
+  synchronized Map<String, Object> getStats() {
+    final Map<String, Object> stats = new LinkedHashMap<>(4);
+    stats.put("entries", entries.size());
+    stats.put("sizeBytes", sizeBytes);
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    return stats;
+  }
+
+  private void trimToSize(long maxSize) {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (sizeBytes > maxSize && iterator.hasNext()) {
+      sizeBytes -= iterator.next().sizeBytes;
+      iterator.remove();
+    }
+  }
+}
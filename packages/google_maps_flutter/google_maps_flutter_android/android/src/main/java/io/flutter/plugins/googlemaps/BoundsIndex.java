@@ -0,0 +1,412 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Uniform grid index of bounding boxes, keyed by id.
+ *
+ * <p>Boxes are registered in every grid cell they overlap. Boxes that span too many cells are kept
+ * in a separate list that every query checks.
+ *
+ * <p>A box whose minimum longitude is greater than its maximum longitude crosses the antimeridian,
+ * like {@link LatLngBounds} do.
+ */
+final class BoundsIndex {
+
+  private static final double DEFAULT_CELL_DEGREES = 0.05;
+  private static final int MAX_CELLS_PER_BOX = 64;
+  // Queries covering more cells than this scan every box instead of walking the grid.
+  private static final int MAX_QUERY_CELLS = 4096;
+  private static final long CELLS_PER_ROW = 1L << 32;
+  private static final double EARTH_RADIUS_METERS = 6371008.8;
+  // The easternmost longitude of a LatLng, which wraps a longitude of 180 to -180.
+  private static final double MAX_LONGITUDE = 180 - 1e-9;
+
+  /** The bounding box of an entry, as {minLatitude, west, maxLatitude, east}. */
+  private final Map<String, double[]> boxes = new HashMap<>();
+
+  private final Map<Long, Set<String>> cells = new HashMap<>();
+  private final Set<String> oversized = new HashSet<>();
+  private final double cellDegrees;
+
+  BoundsIndex() {
+    this(DEFAULT_CELL_DEGREES);
+  }
+
+  BoundsIndex(double cellDegrees) {
+    this.cellDegrees = cellDegrees;
+  }
+
+  int size() {
+    return boxes.size();
+  }
+
+  /**
+   * Adds {@code id}, or moves it if it is already indexed.
+   *
+   * <p>The box crosses the antimeridian when {@code west} is greater than {@code east}.
+   */
+  void put(String id, double minLatitude, double west, double maxLatitude, double east) {
+    remove(id);
+    final double[] box = {minLatitude, west, maxLatitude, east};
+    boxes.put(id, box);
+    final List<Long> keys = cellKeys(box);
+    if (keys == null) {
+      oversized.add(id);
+      return;
+    }
+    for (long key : keys) {
+      Set<String> ids = cells.get(key);
+      if (ids == null) {
+        ids = new HashSet<>();
+        cells.put(key, ids);
+      }
+      ids.add(id);
+    }
+  }
+
+  void remove(String id) {
+    final double[] box = boxes.remove(id);
+    if (box == null) {
+      return;
+    }
+    if (oversized.remove(id)) {
+      return;
+    }
+    for (long key : cellKeys(box)) {
+      final Set<String> ids = cells.get(key);
+      if (ids != null) {
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          cells.remove(key);
+        }
+      }
+    }
+  }
+
+  /** Returns the keys of the cells {@code box} overlaps, or null if there are too many. */
+  private List<Long> cellKeys(double[] box) {
+    // A box crossing the antimeridian overlaps the cells on both of its sides.
+    final double[][] longitudeRanges =
+        box[1] <= box[3]
+            ? new double[][] {{box[1], box[3]}}
+            : new double[][] {{box[1], 180}, {-180, box[3]}};
+    final long rows = cell(box[2]) - cell(box[0]) + 1;
+    long cellCount = 0;
+    for (double[] range : longitudeRanges) {
+      cellCount += rows * (cell(range[1]) - cell(range[0]) + 1);
+    }
+    if (cellCount > MAX_CELLS_PER_BOX) {
+      return null;
+    }
+    final List<Long> keys = new ArrayList<>((int) cellCount);
+    for (double[] range : longitudeRanges) {
+      for (long row = cell(box[0]); row <= cell(box[2]); row++) {
+        for (long column = cell(range[0]); column <= cell(range[1]); column++) {
+          keys.add(row * CELLS_PER_ROW + column);
+        }
+      }
+    }
+    return keys;
+  }
+
+  void clear() {
+    boxes.clear();
+    cells.clear();
+    oversized.clear();
+  }
+
+  /** Returns whether the box of {@code id} intersects {@code bounds}. */
+  boolean intersects(String id, LatLngBounds bounds) {
+    final double[] box = boxes.get(id);
+    return box != null && intersects(box, bounds);
+  }
+
+  /** Returns the ids of every box that intersects {@code bounds}. */
+  Set<String> query(LatLngBounds bounds) {
+    final Set<String> result = new HashSet<>();
+    final double minLatitude = bounds.southwest.latitude;
+    final double maxLatitude = bounds.northeast.latitude;
+    final double west = bounds.southwest.longitude;
+    final double east = bounds.northeast.longitude;
+    if (west <= east) {
+      queryRange(minLatitude, west, maxLatitude, east, bounds, result);
+    } else {
+      // The bounds cross the antimeridian.
+      queryRange(minLatitude, west, maxLatitude, 180, bounds, result);
+      queryRange(minLatitude, -180, maxLatitude, east, bounds, result);
+    }
+    for (String id : oversized) {
+      if (intersects(boxes.get(id), bounds)) {
+        result.add(id);
+      }
+    }
+    return result;
+  }
+
+  private void queryRange(
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude,
+      LatLngBounds bounds,
+      Set<String> result) {
+    final long cellCount =
+        (cell(maxLatitude) - cell(minLatitude) + 1) * (cell(maxLongitude) - cell(minLongitude) + 1);
+    if (cellCount > MAX_QUERY_CELLS) {
+      for (Map.Entry<String, double[]> entry : boxes.entrySet()) {
+        if (intersects(entry.getValue(), bounds)) {
+          result.add(entry.getKey());
+        }
+      }
+      return;
+    }
+    for (long row = cell(minLatitude); row <= cell(maxLatitude); row++) {
+      for (long column = cell(minLongitude); column <= cell(maxLongitude); column++) {
+        final Set<String> ids = cells.get(row * CELLS_PER_ROW + column);
+        if (ids == null) {
+          continue;
+        }
+        for (String id : ids) {
+          if (!result.contains(id) && intersects(boxes.get(id), bounds)) {
+            result.add(id);
+          }
+        }
+      }
+    }
+  }
+
+  private long cell(double degrees) {
+    return (long) Math.floor(degrees / cellDegrees);
+  }
+
+  private static boolean intersects(double[] box, LatLngBounds bounds) {
+    if (box[2] < bounds.southwest.latitude || box[0] > bounds.northeast.latitude) {
+      return false;
+    }
+    final double west = bounds.southwest.longitude;
+    final double east = bounds.northeast.longitude;
+    final boolean boxCrosses = box[1] > box[3];
+    final boolean boundsCross = west > east;
+    if (boxCrosses && boundsCross) {
+      // Both contain the antimeridian.
+      return true;
+    }
+    if (boxCrosses) {
+      return east >= box[1] || west <= box[3];
+    }
+    if (boundsCross) {
+      return box[3] >= west || box[1] <= east;
+    }
+    return box[3] >= west && box[1] <= east;
+  }
+
+  /** Adds the bounding box of {@code points} under {@code id}, if there are any. */
+  void putPoints(String id, List<LatLng> points) {
+    if (points == null || points.isEmpty()) {
+      remove(id);
+      return;
+    }
+    double minLatitude = Double.POSITIVE_INFINITY;
+    double minLongitude = Double.POSITIVE_INFINITY;
+    double maxLatitude = Double.NEGATIVE_INFINITY;
+    double maxLongitude = Double.NEGATIVE_INFINITY;
+    for (LatLng point : points) {
+      minLatitude = Math.min(minLatitude, point.latitude);
+      minLongitude = Math.min(minLongitude, point.longitude);
+      maxLatitude = Math.max(maxLatitude, point.latitude);
+      maxLongitude = Math.max(maxLongitude, point.longitude);
+    }
+    put(id, minLatitude, minLongitude, maxLatitude, maxLongitude);
+  }
+
+  /** Adds the bounding box of the circle at {@code center} under {@code id}, if there is one. */
+  void putCircle(String id, LatLng center, double radiusMeters) {
+    if (center == null) {
+      remove(id);
+      return;
+    }
+    final double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+    final double cos = Math.cos(Math.toRadians(center.latitude));
+    final double minLatitude = Math.max(-90, center.latitude - latitudeDelta);
+    final double maxLatitude = Math.min(90, center.latitude + latitudeDelta);
+    if (cos <= 1e-6 || latitudeDelta / cos >= 180) {
+      put(id, minLatitude, -180, maxLatitude, 180);
+      return;
+    }
+    // Circles crossing the antimeridian wrap around it, with a west greater than their east.
+    final double longitudeDelta = latitudeDelta / cos;
+    put(
+        id,
+        minLatitude,
+        wrapLongitude(center.longitude - longitudeDelta),
+        maxLatitude,
+        wrapLongitude(center.longitude + longitudeDelta));
+  }
+
+  /** Adds {@code point} under {@code id}, or removes {@code id} if there is no point. */
+  void putPoint(String id, LatLng point) {
+    if (point == null) {
+      remove(id);
+      return;
+    }
+    put(id, point.latitude, point.longitude, point.latitude, point.longitude);
+  }
+
+  /**
+   * Returns the ids of the {@code count} boxes closest to {@code point}, closest first.
+   *
+   * <p>The search starts with the grid cells around {@code point} and doubles its extent until the
+   * closest boxes found are known to be closer than any box outside of it.
+   */
+  List<String> nearest(LatLng point, int count) {
+    if (count <= 0 || boxes.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final int wanted = Math.min(count, boxes.size());
+    double extentDegrees = cellDegrees;
+    while (true) {
+      final boolean wholeWorld = extentDegrees >= 180;
+      final Set<String> candidates;
+      if (wholeWorld) {
+        candidates = boxes.keySet();
+      } else {
+        final double south = Math.max(-90, point.latitude - extentDegrees);
+        final double north = Math.min(90, point.latitude + extentDegrees);
+        candidates =
+            query(
+                new LatLngBounds(
+                    new LatLng(south, wrapLongitude(point.longitude - extentDegrees)),
+                    new LatLng(north, wrapLongitude(point.longitude + extentDegrees))));
+      }
+      if (candidates.size() >= wanted) {
+        final List<String> sorted = sortByDistance(candidates, point);
+        final double farthest = distanceMeters(boxes.get(sorted.get(wanted - 1)), point);
+        if (wholeWorld || farthest <= searchedRadiusMeters(point, extentDegrees)) {
+          return sorted.subList(0, wanted);
+        }
+      }
+      extentDegrees *= 2;
+    }
+  }
+
+  /** Returns the great-circle distance, in meters, from {@code point} to the box of {@code id}. */
+  double distanceMeters(String id, LatLng point) {
+    final double[] box = boxes.get(id);
+    return box == null ? Double.POSITIVE_INFINITY : distanceMeters(box, point);
+  }
+
+  private List<String> sortByDistance(Set<String> ids, LatLng point) {
+    final List<String> sorted = new ArrayList<>(ids);
+    final Map<String, Double> distances = new HashMap<>(ids.size());
+    for (String id : ids) {
+      distances.put(id, distanceMeters(boxes.get(id), point));
+    }
+    Collections.sort(sorted, (a, b) -> Double.compare(distances.get(a), distances.get(b)));
+    return sorted;
+  }
+
+  /**
+   * Returns a distance under which every box within {@code extentDegrees} of latitude and longitude
+   * of {@code point} is closer than every box outside of that extent.
+   */
+  private static double searchedRadiusMeters(LatLng point, double extentDegrees) {
+    final double extent = Math.toRadians(extentDegrees);
+    // Outside of the extent in latitude: at least the meridian distance.
+    final double latitudeBound = EARTH_RADIUS_METERS * extent;
+    // Outside of the extent in longitude only: the distance shrinks with the cosine of the largest
+    // latitude still inside of the extent.
+    final double maxLatitude = Math.abs(point.latitude) + extentDegrees;
+    if (maxLatitude >= 90) {
+      return 0;
+    }
+    final double longitudeBound =
+        2
+            * EARTH_RADIUS_METERS
+            * Math.asin(Math.min(1, Math.cos(Math.toRadians(maxLatitude)) * Math.sin(extent / 2)));
+    return Math.min(latitudeBound, longitudeBound);
+  }
+
+  /** Haversine distance from {@code point} to the closest location of {@code box}. */
+  private static double distanceMeters(double[] box, LatLng point) {
+    final double latitude = Math.max(box[0], Math.min(box[2], point.latitude));
+    double longitude = point.longitude;
+    final boolean inside =
+        box[1] <= box[3]
+            ? longitude >= box[1] && longitude <= box[3]
+            : longitude >= box[1] || longitude <= box[3];
+    if (!inside) {
+      final double toWest = wrapLongitude(box[1] - longitude);
+      final double toEast = wrapLongitude(box[3] - longitude);
+      longitude = Math.abs(toWest) <= Math.abs(toEast) ? box[1] : box[3];
+    }
+    final double latitude1 = Math.toRadians(point.latitude);
+    final double latitude2 = Math.toRadians(latitude);
+    final double sinLatitude = Math.sin((latitude2 - latitude1) / 2);
+    final double sinLongitude = Math.sin(Math.toRadians(longitude - point.longitude) / 2);
+    final double h =
+        sinLatitude * sinLatitude
+            + Math.cos(latitude1) * Math.cos(latitude2) * sinLongitude * sinLongitude;
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(h)));
+  }
+
+  /** Returns bounds containing every location within {@code radiusMeters} of {@code point}. */
+  static LatLngBounds around(LatLng point, double radiusMeters) {
+    final double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+    final double south = Math.max(-90, point.latitude - latitudeDelta);
+    final double north = Math.min(90, point.latitude + latitudeDelta);
+    final double cos = Math.cos(Math.toRadians(Math.max(Math.abs(south), Math.abs(north))));
+    if (cos < 1e-6 || latitudeDelta / cos >= 180) {
+      return new LatLngBounds(new LatLng(south, -180), new LatLng(north, MAX_LONGITUDE));
+    }
+    final double longitudeDelta = latitudeDelta / cos;
+    return new LatLngBounds(
+        new LatLng(south, wrapLongitude(point.longitude - longitudeDelta)),
+        new LatLng(north, wrapLongitude(point.longitude + longitudeDelta)));
+  }
+
+  /**
+   * Returns {@code bounds} grown by {@code ratio} of its size on every side, so that shapes just
+   * outside of the viewport are already shown when the camera starts moving again.
+   */
+  static LatLngBounds expand(LatLngBounds bounds, double ratio) {
+    final double latitudeMargin =
+        (bounds.northeast.latitude - bounds.southwest.latitude) * ratio;
+    double longitudeSpan = bounds.northeast.longitude - bounds.southwest.longitude;
+    if (longitudeSpan < 0) {
+      longitudeSpan += 360;
+    }
+    final LatLng southwest;
+    final LatLng northeast;
+    final double south = Math.max(-90, bounds.southwest.latitude - latitudeMargin);
+    final double north = Math.min(90, bounds.northeast.latitude + latitudeMargin);
+    if (longitudeSpan * (1 + 2 * ratio) >= 360) {
+      southwest = new LatLng(south, -180);
+      northeast = new LatLng(north, MAX_LONGITUDE);
+    } else {
+      final double longitudeMargin = longitudeSpan * ratio;
+      southwest = new LatLng(south, wrapLongitude(bounds.southwest.longitude - longitudeMargin));
+      northeast = new LatLng(north, wrapLongitude(bounds.northeast.longitude + longitudeMargin));
+    }
+    return new LatLngBounds(southwest, northeast);
+  }
+
+  private static double wrapLongitude(double longitude) {
+    if (longitude < -180) {
+      return longitude + 360;
+    }
+    return longitude > 180 ? longitude - 360 : longitude;
+  }
+}
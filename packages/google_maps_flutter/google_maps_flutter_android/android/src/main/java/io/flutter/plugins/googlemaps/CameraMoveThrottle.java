@@ -0,0 +1,90 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which camera positions reported by the SDK while the camera moves are worth sending to
+ * Dart.
+ *
+ * <p>A throttle with every threshold at zero sends every position that differs from the last one
+ * sent.
+ */
+final class CameraMoveThrottle {
+
+  private static final double EARTH_RADIUS_METERS = 6371008.8;
+
+  final long minIntervalNanos;
+  final boolean frameAligned;
+  final double targetThresholdMeters;
+  final float zoomThreshold;
+  final float bearingThreshold;
+  final float tiltThreshold;
+
+  /**
+   * @param minIntervalMillis the minimum time between two positions sent to Dart.
+   * @param frameAligned whether positions are coalesced so that at most one is sent per frame.
+   * @param targetThresholdMeters the distance the target must move before a position is sent.
+   * @param zoomThreshold the zoom change before a position is sent.
+   * @param bearingThreshold the bearing change in degrees before a position is sent.
+   * @param tiltThreshold the tilt change in degrees before a position is sent.
+   */
+  CameraMoveThrottle(
+      long minIntervalMillis,
+      boolean frameAligned,
+      double targetThresholdMeters,
+      float zoomThreshold,
+      float bearingThreshold,
+      float tiltThreshold) {
+    this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    this.frameAligned = frameAligned;
+    this.targetThresholdMeters = targetThresholdMeters;
+    this.zoomThreshold = zoomThreshold;
+    this.bearingThreshold = bearingThreshold;
+    this.tiltThreshold = tiltThreshold;
+  }
+
+  /**
+   * Returns whether {@code current} should be sent, given the last position sent at {@code
+   * lastSentNanos}.
+   */
+  boolean shouldSend(
+      CameraPosition lastSent, long lastSentNanos, CameraPosition current, long nowNanos) {
+    if (lastSent == null) {
+      return true;
+    }
+    if (nowNanos - lastSentNanos < minIntervalNanos) {
+      return false;
+    }
+    return exceeds(Math.abs(current.zoom - lastSent.zoom), zoomThreshold)
+        || exceeds(angleDifference(current.bearing, lastSent.bearing), bearingThreshold)
+        || exceeds(Math.abs(current.tilt - lastSent.tilt), tiltThreshold)
+        || exceeds(distanceMeters(current, lastSent), targetThresholdMeters);
+  }
+
+  private static boolean exceeds(double change, double threshold) {
+    return change > 0 && change >= threshold;
+  }
+
+  private static float angleDifference(float a, float b) {
+    final float difference = Math.abs(a - b) % 360;
+    return difference > 180 ? 360 - difference : difference;
+  }
+
+  /** Equirectangular approximation, which is precise enough for the small moves compared here. */
+  private static double distanceMeters(CameraPosition a, CameraPosition b) {
+    final double latitude1 = Math.toRadians(a.target.latitude);
+    final double latitude2 = Math.toRadians(b.target.latitude);
+    double longitudeDelta = Math.abs(a.target.longitude - b.target.longitude);
+    if (longitudeDelta > 180) {
+      longitudeDelta = 360 - longitudeDelta;
+    }
+    final double x = Math.toRadians(longitudeDelta) * Math.cos((latitude1 + latitude2) / 2);
+    final double y = latitude2 - latitude1;
+    return Math.sqrt(x * x + y * y) * EARTH_RADIUS_METERS;
+  }
+}
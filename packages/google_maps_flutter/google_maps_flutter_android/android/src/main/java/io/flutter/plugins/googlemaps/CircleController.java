@@ -13,6 +13,8 @@ class CircleController implements CircleOptionsSink {
   private final String googleMapsCircleId;
   private final float density;
   private boolean consumeTapEvents;
+  private boolean visible = true;
+  private boolean culled = false;
 
   CircleController(Circle circle, boolean consumeTapEvents, float density) {
     this.circle = circle;
@@ -53,7 +55,25 @@ class CircleController implements CircleOptionsSink {
 
   @Override
   public void setVisible(boolean visible) {
-    circle.setVisible(visible);
+    this.visible = visible;
+    if (!culled) {
+      circle.setVisible(visible);
+    }
+  }
+
+  /**
+   * Hides the circle while it is outside of the viewport, without losing the visibility requested
+   * by Dart.
+   */
+  void setCulled(boolean culled) {
+    if (this.culled == culled) {
+      return;
+    }
+    if (culled) {
+      visible = circle.isVisible();
+    }
+    this.culled = culled;
+    circle.setVisible(visible && !culled);
   }
 
   @Override
@@ -66,6 +86,14 @@ class CircleController implements CircleOptionsSink {
     circle.setZIndex(zIndex);
   }
 
+  LatLng getCenter() {
+    return circle.getCenter();
+  }
+
+  double getRadius() {
+    return circle.getRadius();
+  }
+
   String getGoogleMapsCircleId() {
     return googleMapsCircleId;
   }
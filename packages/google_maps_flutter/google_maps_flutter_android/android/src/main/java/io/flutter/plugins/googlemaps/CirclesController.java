@@ -4,19 +4,25 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.CircleOptions;
+import com.google.android.gms.maps.model.LatLngBounds;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class CirclesController {
 
   private final Map<String, CircleController> circleIdToController;
   private final Map<String, String> googleMapsCircleIdToDartCircleId;
   private final MethodChannel methodChannel;
+  private final BoundsIndex boundsIndex = new BoundsIndex();
+  private boolean cullingEnabled = false;
+  @Nullable private LatLngBounds viewport;
   private final float density;
   private GoogleMap googleMap;
 
@@ -31,6 +37,42 @@ class CirclesController {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Enables or disables hiding the circles that are outside of the viewport. While enabled, the
+   * hidden circles are updated with {@link #cull(LatLngBounds)}.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (cullingEnabled) {
+      for (Map.Entry<String, CircleController> entry : circleIdToController.entrySet()) {
+        final CircleController circleController = entry.getValue();
+        boundsIndex.putCircle(
+            entry.getKey(), circleController.getCenter(), circleController.getRadius());
+      }
+    } else {
+      boundsIndex.clear();
+      viewport = null;
+      for (CircleController circleController : circleIdToController.values()) {
+        circleController.setCulled(false);
+      }
+    }
+  }
+
+  /** Hides the circles that do not intersect {@code viewport} and shows the others. */
+  void cull(LatLngBounds viewport) {
+    if (!cullingEnabled) {
+      return;
+    }
+    this.viewport = viewport;
+    final Set<String> visibleCircleIds = boundsIndex.query(viewport);
+    for (Map.Entry<String, CircleController> entry : circleIdToController.entrySet()) {
+      entry.getValue().setCulled(!visibleCircleIds.contains(entry.getKey()));
+    }
+  }
+
   void addCircles(List<Object> circlesToAdd) {
     if (circlesToAdd != null) {
       for (Object circleToAdd : circlesToAdd) {
@@ -59,6 +101,7 @@ class CirclesController {
       final CircleController circleController = circleIdToController.remove(circleId);
       if (circleController != null) {
         circleController.remove();
+        boundsIndex.remove(circleId);
         googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
       }
     }
@@ -92,6 +135,10 @@ class CirclesController {
     CircleController controller = new CircleController(circle, consumeTapEvents, density);
     circleIdToController.put(circleId, controller);
     googleMapsCircleIdToDartCircleId.put(circle.getId(), circleId);
+    if (cullingEnabled) {
+      boundsIndex.putCircle(circleId, circleOptions.getCenter(), circleOptions.getRadius());
+      updateCulled(circleId, controller);
+    }
   }
 
   private void changeCircle(Object circle) {
@@ -102,6 +149,18 @@ class CirclesController {
     CircleController circleController = circleIdToController.get(circleId);
     if (circleController != null) {
       Convert.interpretCircleOptions(circle, circleController);
+      if (cullingEnabled
+          && (((Map<?, ?>) circle).containsKey("center")
+              || ((Map<?, ?>) circle).containsKey("radius"))) {
+        boundsIndex.putCircle(circleId, circleController.getCenter(), circleController.getRadius());
+        updateCulled(circleId, circleController);
+      }
+    }
+  }
+
+  private void updateCulled(String circleId, CircleController circleController) {
+    if (viewport != null) {
+      circleController.setCulled(!boundsIndex.intersects(circleId, viewport));
     }
   }
 
@@ -0,0 +1,228 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid based clustering of a static set of points.
+ *
+ * <p>Points are projected once to normalized Web Mercator coordinates and kept sorted by x, so
+ * clustering a visible region only visits the points that fall within its longitude range.
+ */
+final class ClusterAlgorithm {
+
+  /** A group of points that share a grid cell, or a single point when {@link #size()} is 1. */
+  static final class Cluster {
+    /**
+     * Identifies the cluster across recomputations.
+     *
+     * <p>Single points are keyed by their id so that they keep the same marker across zoom levels.
+     */
+    final String key;
+
+    final LatLng position;
+    final String[] itemIds;
+
+    Cluster(String key, LatLng position, String[] itemIds) {
+      this.key = key;
+      this.position = position;
+      this.itemIds = itemIds;
+    }
+
+    int size() {
+      return itemIds.length;
+    }
+  }
+
+  private static final double TILE_SIZE = 256;
+
+  private final String[] ids;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final double[] xs;
+  private final double[] ys;
+
+  /**
+   * Creates an index over {@code ids}, where the position of {@code ids[i]} is {@code
+   * (latLngs[2 * i], latLngs[2 * i + 1])}.
+   */
+  ClusterAlgorithm(List<String> ids, double[] latLngs) {
+    if (latLngs.length != ids.size() * 2) {
+      throw new IllegalArgumentException(
+          "Expected " + ids.size() * 2 + " coordinates, got: " + latLngs.length);
+    }
+    final int count = ids.size();
+    final double[] unsortedXs = new double[count];
+    final Integer[] order = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      unsortedXs[i] = toX(latLngs[2 * i + 1]);
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(unsortedXs[a], unsortedXs[b]));
+
+    this.ids = new String[count];
+    this.latitudes = new double[count];
+    this.longitudes = new double[count];
+    this.xs = new double[count];
+    this.ys = new double[count];
+    for (int i = 0; i < count; i++) {
+      final int source = order[i];
+      this.ids[i] = ids.get(source);
+      this.latitudes[i] = latLngs[2 * source];
+      this.longitudes[i] = latLngs[2 * source + 1];
+      this.xs[i] = unsortedXs[source];
+      this.ys[i] = toY(latitudes[i]);
+    }
+  }
+
+  int size() {
+    return ids.length;
+  }
+
+  /**
+   * Clusters the points within {@code bounds}, expanded by one grid cell on every side.
+   *
+   * @param zoom the camera zoom. Cells are computed at the integer zoom level below it so that
+   *     clusters stay stable while zooming between levels.
+   * @param gridSize the cell size in density independent pixels.
+   * @param minClusterSize cells with fewer points than this are returned as single points.
+   */
+  List<Cluster> cluster(float zoom, LatLngBounds bounds, double gridSize, int minClusterSize) {
+    if (ids.length == 0) {
+      return Collections.emptyList();
+    }
+    final int zoomLevel = (int) Math.floor(zoom);
+    final double cellSize = gridSize / (TILE_SIZE * Math.pow(2, zoomLevel));
+
+    final double minY = Math.max(0, toY(bounds.northeast.latitude) - cellSize);
+    final double maxY = Math.min(1, toY(bounds.southwest.latitude) + cellSize);
+    double minX = toX(bounds.southwest.longitude) - cellSize;
+    double maxX = toX(bounds.northeast.longitude) + cellSize;
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The region crosses the antimeridian.
+      maxX += 1;
+    }
+
+    final Map<Long, CellAccumulator> cells = new HashMap<>();
+    final long cellsPerRow = (long) Math.ceil(1 / cellSize);
+    if (maxX - minX >= 1) {
+      accumulate(cells, 0, 1, minY, maxY, cellSize, cellsPerRow);
+    } else {
+      // Split the range at the antimeridian, if the expanded region wraps around it.
+      if (minX < 0) {
+        accumulate(cells, minX + 1, 1, minY, maxY, cellSize, cellsPerRow);
+        minX = 0;
+      }
+      if (maxX > 1) {
+        accumulate(cells, 0, maxX - 1, minY, maxY, cellSize, cellsPerRow);
+        maxX = 1;
+      }
+      accumulate(cells, minX, maxX, minY, maxY, cellSize, cellsPerRow);
+    }
+
+    final List<Cluster> clusters = new ArrayList<>(cells.size());
+    for (Map.Entry<Long, CellAccumulator> entry : cells.entrySet()) {
+      final CellAccumulator cell = entry.getValue();
+      if (cell.count < minClusterSize) {
+        for (int i = 0; i < cell.count; i++) {
+          final int index = cell.indices[i];
+          clusters.add(
+              new Cluster(
+                  "item/" + ids[index],
+                  new LatLng(latitudes[index], longitudes[index]),
+                  new String[] {ids[index]}));
+        }
+      } else {
+        final String[] itemIds = new String[cell.count];
+        for (int i = 0; i < cell.count; i++) {
+          itemIds[i] = ids[cell.indices[i]];
+        }
+        clusters.add(
+            new Cluster(
+                "cell/" + zoomLevel + "/" + entry.getKey(),
+                new LatLng(cell.latitudeSum / cell.count, cell.longitudeSum / cell.count),
+                itemIds));
+      }
+    }
+    return clusters;
+  }
+
+  private void accumulate(
+      Map<Long, CellAccumulator> cells,
+      double minX,
+      double maxX,
+      double minY,
+      double maxY,
+      double cellSize,
+      long cellsPerRow) {
+    int i = lowerBound(xs, minX);
+    for (; i < xs.length && xs[i] <= maxX; i++) {
+      final double y = ys[i];
+      if (y < minY || y > maxY) {
+        continue;
+      }
+      final long cellX = (long) (xs[i] / cellSize);
+      final long cellY = (long) (y / cellSize);
+      final long cellKey = cellY * cellsPerRow + cellX;
+      CellAccumulator cell = cells.get(cellKey);
+      if (cell == null) {
+        cell = new CellAccumulator();
+        cells.put(cellKey, cell);
+      }
+      cell.add(i, latitudes[i], longitudes[i]);
+    }
+  }
+
+  /** Returns the index of the first value in {@code sorted} that is not smaller than {@code x}. */
+  private static int lowerBound(double[] sorted, double x) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sorted[mid] < x) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Normalized Web Mercator x in [0, 1]. */
+  static double toX(double longitude) {
+    return longitude / 360 + 0.5;
+  }
+
+  /** Normalized Web Mercator y in [0, 1], growing southwards. */
+  static double toY(double latitude) {
+    final double sin = Math.sin(Math.toRadians(latitude));
+    final double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    return Math.min(1, Math.max(0, y));
+  }
+
+  private static final class CellAccumulator {
+    int[] indices = new int[4];
+    int count = 0;
+    double latitudeSum = 0;
+    double longitudeSum = 0;
+
+    void add(int index, double latitude, double longitude) {
+      if (count == indices.length) {
+        indices = Arrays.copyOf(indices, count * 2);
+      }
+      indices[count++] = index;
+      latitudeSum += latitude;
+      longitudeSum += longitude;
+    }
+  }
+}
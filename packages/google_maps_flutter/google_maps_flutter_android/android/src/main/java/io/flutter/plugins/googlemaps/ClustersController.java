@@ -0,0 +1,239 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Renders a large set of points as clusters.
+ *
+ * <p>Only the clusters and single points within the visible region are kept as live markers on
+ * the map. Clusters are recomputed on the background executor whenever the camera becomes idle,
+ * and only markers whose cluster changed are added, updated or removed.
+ */
+class ClustersController {
+
+  private static final String TAG = "ClustersController";
+
+  private static final int[] CLUSTER_SIZE_BUCKETS = {10, 20, 50, 100, 200, 500, 1000};
+  private static final double DEFAULT_GRID_SIZE = 60;
+  private static final int DEFAULT_MIN_CLUSTER_SIZE = 2;
+
+  private final Map<String, ClusterMarker> clusterKeyToMarker;
+  private final Map<String, String> googleMapsMarkerIdToClusterKey;
+  private final Map<String, BitmapDescriptor> clusterIcons;
+  private final MethodChannel methodChannel;
+  private final Executor backgroundExecutor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final float density;
+  private GoogleMap googleMap;
+  private ClusterAlgorithm algorithm;
+  private double gridSize = DEFAULT_GRID_SIZE;
+  private int minClusterSize = DEFAULT_MIN_CLUSTER_SIZE;
+  // Incremented whenever the items change, so that stale results are not applied.
+  private int generation = 0;
+
+  ClustersController(MethodChannel methodChannel, Executor backgroundExecutor, float density) {
+    this.clusterKeyToMarker = new HashMap<>();
+    this.googleMapsMarkerIdToClusterKey = new HashMap<>();
+    this.clusterIcons = new HashMap<>();
+    this.methodChannel = methodChannel;
+    this.backgroundExecutor = backgroundExecutor;
+    this.density = density;
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+    recompute();
+  }
+
+  /**
+   * Replaces the clustered items.
+   *
+   * <p>{@code positions} holds the latitude and longitude of each item in {@code ids}, packed as
+   * {@code [lat0, lng0, lat1, lng1, ...]}.
+   */
+  void setItems(List<String> ids, double[] positions, Number gridSize, Number minClusterSize) {
+    this.gridSize = gridSize != null ? gridSize.doubleValue() : DEFAULT_GRID_SIZE;
+    this.minClusterSize =
+        minClusterSize != null ? minClusterSize.intValue() : DEFAULT_MIN_CLUSTER_SIZE;
+    final int itemsGeneration = ++generation;
+    backgroundExecutor.execute(
+        () -> {
+          final ClusterAlgorithm newAlgorithm;
+          try {
+            newAlgorithm = new ClusterAlgorithm(ids, positions);
+          } catch (IllegalArgumentException e) {
+            Log.e(TAG, "Unable to index cluster items", e);
+            return;
+          }
+          mainHandler.post(
+              () -> {
+                if (itemsGeneration != generation) {
+                  return;
+                }
+                algorithm = newAlgorithm;
+                recompute();
+              });
+        });
+  }
+
+  void clearItems() {
+    generation++;
+    algorithm = null;
+    for (ClusterMarker clusterMarker : clusterKeyToMarker.values()) {
+      clusterMarker.marker.remove();
+    }
+    clusterKeyToMarker.clear();
+    googleMapsMarkerIdToClusterKey.clear();
+  }
+
+  void onCameraIdle() {
+    recompute();
+  }
+
+  /** Returns whether {@code googleMarkerId} is a cluster marker, reporting the tap if so. */
+  boolean onMarkerTap(String googleMarkerId) {
+    final String clusterKey = googleMapsMarkerIdToClusterKey.get(googleMarkerId);
+    if (clusterKey == null) {
+      return false;
+    }
+    final ClusterMarker clusterMarker = clusterKeyToMarker.get(clusterKey);
+    if (clusterMarker == null) {
+      return false;
+    }
+    final Map<String, Object> data = new HashMap<>(3);
+    data.put("position", Convert.latLngToJson(clusterMarker.marker.getPosition()));
+    data.put("itemIds", Arrays.asList(clusterMarker.itemIds));
+    data.put("count", clusterMarker.itemIds.length);
+    methodChannel.invokeMethod("cluster#onTap", data);
+    // Let single items behave like regular markers, but keep the map from centering on clusters.
+    return clusterMarker.itemIds.length > 1;
+  }
+
+  private void recompute() {
+    if (googleMap == null || algorithm == null) {
+      return;
+    }
+    final ClusterAlgorithm currentAlgorithm = algorithm;
+    final int currentGeneration = generation;
+    final float zoom = googleMap.getCameraPosition().zoom;
+    final LatLngBounds bounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    final double currentGridSize = gridSize;
+    final int currentMinClusterSize = minClusterSize;
+    backgroundExecutor.execute(
+        () -> {
+          final List<ClusterAlgorithm.Cluster> clusters =
+              currentAlgorithm.cluster(zoom, bounds, currentGridSize, currentMinClusterSize);
+          mainHandler.post(
+              () -> {
+                if (currentGeneration == generation && googleMap != null) {
+                  applyClusters(clusters);
+                }
+              });
+        });
+  }
+
+  private void applyClusters(List<ClusterAlgorithm.Cluster> clusters) {
+    final Map<String, ClusterMarker> previous = new HashMap<>(clusterKeyToMarker);
+    clusterKeyToMarker.clear();
+    for (ClusterAlgorithm.Cluster cluster : clusters) {
+      ClusterMarker clusterMarker = previous.remove(cluster.key);
+      if (clusterMarker == null) {
+        final Marker marker =
+            googleMap.addMarker(
+                new MarkerOptions()
+                    .position(cluster.position)
+                    .icon(iconFor(cluster.size()))
+                    .anchor(0.5f, cluster.size() > 1 ? 0.5f : 1.0f));
+        clusterMarker = new ClusterMarker(marker, cluster.itemIds);
+        googleMapsMarkerIdToClusterKey.put(marker.getId(), cluster.key);
+      } else if (clusterMarker.itemIds.length != cluster.size()
+          || !clusterMarker.marker.getPosition().equals(cluster.position)) {
+        clusterMarker.marker.setPosition(cluster.position);
+        clusterMarker.marker.setIcon(iconFor(cluster.size()));
+        clusterMarker.itemIds = cluster.itemIds;
+      } else {
+        clusterMarker.itemIds = cluster.itemIds;
+      }
+      clusterKeyToMarker.put(cluster.key, clusterMarker);
+    }
+    for (ClusterMarker stale : previous.values()) {
+      googleMapsMarkerIdToClusterKey.remove(stale.marker.getId());
+      stale.marker.remove();
+    }
+  }
+
+  private BitmapDescriptor iconFor(int size) {
+    if (size <= 1) {
+      return BitmapDescriptorFactory.defaultMarker();
+    }
+    final String label = labelFor(size);
+    BitmapDescriptor icon = clusterIcons.get(label);
+    if (icon == null) {
+      icon = BitmapDescriptorFactory.fromBitmap(drawClusterIcon(label));
+      clusterIcons.put(label, icon);
+    }
+    return icon;
+  }
+
+  /** Buckets large sizes so that only a handful of distinct icons are ever drawn. */
+  static String labelFor(int size) {
+    for (int i = CLUSTER_SIZE_BUCKETS.length - 1; i >= 0; i--) {
+      if (size >= CLUSTER_SIZE_BUCKETS[i]) {
+        return CLUSTER_SIZE_BUCKETS[i] + "+";
+      }
+    }
+    return Integer.toString(size);
+  }
+
+  private Bitmap drawClusterIcon(String label) {
+    final int diameter = (int) ((label.length() > 3 ? 48 : 40) * density);
+    final Bitmap bitmap = Bitmap.createBitmap(diameter, diameter, Bitmap.Config.ARGB_8888);
+    final Canvas canvas = new Canvas(bitmap);
+    final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    final float radius = diameter / 2f;
+    paint.setColor(Color.WHITE);
+    canvas.drawCircle(radius, radius, radius, paint);
+    paint.setColor(Color.rgb(0x1E, 0x88, 0xE5));
+    canvas.drawCircle(radius, radius, radius - 3 * density, paint);
+    paint.setColor(Color.WHITE);
+    paint.setTextAlign(Paint.Align.CENTER);
+    paint.setFakeBoldText(true);
+    paint.setTextSize(14 * density);
+    final float baseline = radius - (paint.descent() + paint.ascent()) / 2;
+    canvas.drawText(label, radius, baseline, paint);
+    return bitmap;
+  }
+
+  /** A live marker that represents a cluster or a single item. */
+  private static final class ClusterMarker {
+    final Marker marker;
+    String[] itemIds;
+
+    ClusterMarker(Marker marker, String[] itemIds) {
+      this.marker = marker;
+      this.itemIds = itemIds;
+    }
+  }
+}
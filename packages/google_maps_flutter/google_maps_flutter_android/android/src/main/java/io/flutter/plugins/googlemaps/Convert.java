@@ -7,6 +7,7 @@ package io.flutter.plugins.googlemaps;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Point;
+import android.graphics.Rect;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.CameraUpdate;
 import com.google.android.gms.maps.CameraUpdateFactory;
@@ -35,6 +36,18 @@ import java.util.Map;
 /** Conversions between JSON-like values and GoogleMaps data types. */
 class Convert {
 
+  /**
+   * Descriptors shared by every map, so that identical icons are only decoded once.
+   *
+   * <p>Bounded to a sixteenth of the heap, which comfortably fits a few hundred distinct marker
+   * icons.
+   */
+  static final BitmapDescriptorCache bitmapDescriptorCache =
+      new BitmapDescriptorCache(Runtime.getRuntime().maxMemory() / 16);
+
+  // Asset descriptors only reference the asset, which the SDK loads lazily.
+  private static final long ASSET_DESCRIPTOR_SIZE_BYTES = 1024;
+
   // TODO(hamdikahloun): FlutterMain has been deprecated and should be replaced with FlutterLoader
   //  when it's available in Stable channel: https://github.com/flutter/flutter/issues/70923.
   @SuppressWarnings("deprecation")
@@ -49,16 +62,13 @@ class Convert {
         }
       case "fromAsset":
         if (data.size() == 2) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(toString(data.get(1)), null);
         } else {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1)), toString(data.get(2))));
+          return getBitmapFromAsset(toString(data.get(1)), toString(data.get(2)));
         }
       case "fromAssetImage":
         if (data.size() == 3) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(toString(data.get(1)), null);
         } else {
           throw new IllegalArgumentException(
               "'fromAssetImage' Expected exactly 3 arguments, got: " + data.size());
@@ -70,11 +80,36 @@ class Convert {
     }
   }
 
+  @SuppressWarnings("deprecation")
+  private static BitmapDescriptor getBitmapFromAsset(String assetName, String packageName) {
+    final BitmapDescriptorCache.Key key =
+        BitmapDescriptorCache.Key.forAsset(assetName, packageName);
+    BitmapDescriptor descriptor = bitmapDescriptorCache.get(key);
+    if (descriptor == null) {
+      final String lookupKey =
+          packageName == null
+              ? FlutterMain.getLookupKeyForAsset(assetName)
+              : FlutterMain.getLookupKeyForAsset(assetName, packageName);
+      descriptor = BitmapDescriptorFactory.fromAsset(lookupKey);
+      bitmapDescriptorCache.put(key, descriptor, ASSET_DESCRIPTOR_SIZE_BYTES);
+    }
+    return descriptor;
+  }
+
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
     if (data.size() == 2) {
+      final byte[] bytes = (byte[]) data.get(1);
+      final BitmapDescriptorCache.Key key = BitmapDescriptorCache.Key.forBytes(bytes);
+      final BitmapDescriptor cached = bitmapDescriptorCache.get(key);
+      if (cached != null) {
+        return cached;
+      }
       try {
-        Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        Bitmap bitmap = toBitmap(bytes);
+        BitmapDescriptor descriptor = BitmapDescriptorFactory.fromBitmap(bitmap);
+        // The key keeps the encoded bytes alive alongside the decoded bitmap.
+        bitmapDescriptorCache.put(key, descriptor, bitmap.getByteCount() + bytes.length);
+        return descriptor;
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -239,7 +274,7 @@ class Convert {
     return data;
   }
 
-  private static LatLngBounds toLatLngBounds(Object o) {
+  static LatLngBounds toLatLngBounds(Object o) {
     if (o == null) {
       return null;
     }
@@ -345,6 +380,14 @@ class Convert {
     if (trackCameraPosition != null) {
       sink.setTrackCameraPosition(toBoolean(trackCameraPosition));
     }
+    final Object cameraMoveThrottle = data.get("cameraMoveThrottle");
+    if (cameraMoveThrottle != null) {
+      sink.setCameraMoveThrottle(toCameraMoveThrottle(cameraMoveThrottle));
+    }
+    final Object shapeCullingEnabled = data.get("shapeCullingEnabled");
+    if (shapeCullingEnabled != null) {
+      sink.setShapeCullingEnabled(toBoolean(shapeCullingEnabled));
+    }
     final Object zoomGesturesEnabled = data.get("zoomGesturesEnabled");
     if (zoomGesturesEnabled != null) {
       sink.setZoomGesturesEnabled(toBoolean(zoomGesturesEnabled));
@@ -379,6 +422,68 @@ class Convert {
     }
   }
 
+  /**
+   * Interprets the optional arguments of {@code map#takeSnapshot}.
+   *
+   * <p>The region is given in logical pixels, and converted to physical pixels using {@code
+   * density}.
+   *
+   * @throws IllegalArgumentException if the format is unknown, the quality is outside of [0, 100],
+   *     the scale is outside of (0, 1], or the region has a negative origin or an empty size
+   */
+  static SnapshotEncoder toSnapshotEncoder(Object o, float density) {
+    if (o == null) {
+      return SnapshotEncoder.DEFAULT;
+    }
+    final Map<?, ?> data = toMap(o);
+    final Object format = data.get("format");
+    final Object quality = data.get("quality");
+    final Object scale = data.get("scale");
+    final Object region = data.get("region");
+    Rect regionRect = null;
+    if (region != null) {
+      final Map<?, ?> regionData = toMap(region);
+      final int left = toPixels(regionData.get("x"), density);
+      final int top = toPixels(regionData.get("y"), density);
+      final int width = toPixels(regionData.get("width"), density);
+      final int height = toPixels(regionData.get("height"), density);
+      if (left < 0 || top < 0 || width <= 0 || height <= 0) {
+        throw new IllegalArgumentException(
+            "Snapshot region must have a non-negative origin and a non-empty size, got: "
+                + regionData);
+      }
+      regionRect = new Rect(left, top, left + width, top + height);
+    }
+    final int qualityValue = quality != null ? toInt(quality) : 100;
+    if (qualityValue < 0 || qualityValue > 100) {
+      throw new IllegalArgumentException(
+          "Snapshot quality must be in [0, 100], got: " + qualityValue);
+    }
+    return new SnapshotEncoder(
+        format != null ? toString(format) : "png",
+        qualityValue,
+        scale != null ? toFloat(scale) : 1,
+        regionRect);
+  }
+
+  /** Missing fields default to zero, which disables the corresponding threshold. */
+  private static CameraMoveThrottle toCameraMoveThrottle(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final Object minIntervalMillis = data.get("minIntervalMillis");
+    final Object frameAligned = data.get("frameAligned");
+    final Object targetThresholdMeters = data.get("targetThresholdMeters");
+    final Object zoomThreshold = data.get("zoomThreshold");
+    final Object bearingThreshold = data.get("bearingThreshold");
+    final Object tiltThreshold = data.get("tiltThreshold");
+    return new CameraMoveThrottle(
+        minIntervalMillis != null ? toInt(minIntervalMillis) : 0,
+        frameAligned != null && toBoolean(frameAligned),
+        targetThresholdMeters != null ? toDouble(targetThresholdMeters) : 0,
+        zoomThreshold != null ? toFloat(zoomThreshold) : 0,
+        bearingThreshold != null ? toFloat(bearingThreshold) : 0,
+        tiltThreshold != null ? toFloat(tiltThreshold) : 0);
+  }
+
   /** Returns the dartMarkerId of the interpreted marker. */
   static String interpretMarkerOptions(Object o, MarkerOptionsSink sink) {
     final Map<?, ?> data = toMap(o);
@@ -535,6 +640,10 @@ class Convert {
     if (zIndex != null) {
       sink.setZIndex(toFloat(zIndex));
     }
+    final Object simplificationTolerance = data.get("simplificationTolerance");
+    if (simplificationTolerance != null) {
+      sink.setSimplificationTolerance(toFloat(simplificationTolerance));
+    }
     final Object points = data.get("points");
     if (points != null) {
       sink.setPoints(toPoints(points));
@@ -593,8 +702,21 @@ class Convert {
     }
   }
 
+  /**
+   * Converts a list of points, which is either a list of {@code [lat, lng]} lists, a packed {@code
+   * [lat0, lng0, lat1, lng1, ...]} array, or a string in the encoded polyline format.
+   *
+   * <p>The packed and encoded forms avoid boxing every coordinate in the message codec, and are
+   * decoded in a single pass.
+   */
   @VisibleForTesting
   static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      return toPointsFromPacked((double[]) o);
+    }
+    if (o instanceof String) {
+      return toPointsFromEncodedPolyline((String) o);
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
@@ -605,6 +727,59 @@ class Convert {
     return points;
   }
 
+  private static List<LatLng> toPointsFromPacked(double[] data) {
+    if (data.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points should have an even number of coordinates, got: " + data.length);
+    }
+    final List<LatLng> points = new ArrayList<>(data.length / 2);
+    for (int i = 0; i < data.length; i += 2) {
+      points.add(new LatLng(data[i], data[i + 1]));
+    }
+    return points;
+  }
+
+  /**
+   * Decodes a polyline encoded with a precision of 5 decimal places.
+   *
+   * <p>See https://developers.google.com/maps/documentation/utilities/polylinealgorithm.
+   */
+  private static List<LatLng> toPointsFromEncodedPolyline(String encoded) {
+    // Every coordinate takes at least one character per axis.
+    final List<LatLng> points = new ArrayList<>(encoded.length() / 2);
+    final int length = encoded.length();
+    int index = 0;
+    int latitude = 0;
+    int longitude = 0;
+    while (index < length) {
+      for (int axis = 0; axis < 2; axis++) {
+        int result = 0;
+        int shift = 0;
+        int b;
+        do {
+          if (index >= length) {
+            throw new IllegalArgumentException("Truncated encoded polyline: " + encoded);
+          }
+          b = encoded.charAt(index++) - 63;
+          if (b < 0 || b > 63) {
+            throw new IllegalArgumentException(
+                "Invalid character in encoded polyline at " + (index - 1) + ": " + encoded);
+          }
+          result |= (b & 0x1f) << shift;
+          shift += 5;
+        } while (b >= 0x20);
+        final int delta = (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+        if (axis == 0) {
+          latitude += delta;
+        } else {
+          longitude += delta;
+        }
+      }
+      points.add(new LatLng(latitude * 1e-5, longitude * 1e-5));
+    }
+    return points;
+  }
+
   private static List<List<LatLng>> toHoles(Object o) {
     final List<?> data = toList(o);
     final List<List<LatLng>> holes = new ArrayList<>(data.size());
@@ -689,6 +864,62 @@ class Convert {
     }
   }
 
+  static String interpretHeatmapOptions(Map<String, ?> data, HeatmapOptionsSink sink) {
+    final Object points = data.get("data");
+    if (points != null) {
+      if (!(points instanceof double[])) {
+        throw new IllegalArgumentException(
+            "Heatmap data must be a Float64List of latitude, longitude and weight triples");
+      }
+      sink.setData((double[]) points);
+    }
+    final Object radius = data.get("radius");
+    if (radius != null) {
+      sink.setRadius(toInt(radius));
+    }
+    final Object opacity = data.get("opacity");
+    if (opacity != null) {
+      sink.setOpacity(toDouble(opacity));
+    }
+    final Object gradient = data.get("gradient");
+    if (gradient != null) {
+      final Map<?, ?> gradientData = toMap(gradient);
+      final List<?> colors = toList(gradientData.get("colors"));
+      final List<?> startPoints = toList(gradientData.get("startPoints"));
+      final int[] colorValues = new int[colors.size()];
+      for (int i = 0; i < colorValues.length; i++) {
+        colorValues[i] = toInt(colors.get(i));
+      }
+      final float[] startPointValues = new float[startPoints.size()];
+      for (int i = 0; i < startPointValues.length; i++) {
+        startPointValues[i] = toFloat(startPoints.get(i));
+      }
+      sink.setGradient(colorValues, startPointValues);
+    }
+    final Object maxIntensity = data.get("maxIntensity");
+    if (maxIntensity != null) {
+      sink.setMaxIntensity(toDouble(maxIntensity));
+    }
+    final Object fadeIn = data.get("fadeIn");
+    if (fadeIn != null) {
+      sink.setFadeIn(toBoolean(fadeIn));
+    }
+    final Object zIndex = data.get("zIndex");
+    if (zIndex != null) {
+      sink.setZIndex(toFloat(zIndex));
+    }
+    final Object visible = data.get("visible");
+    if (visible != null) {
+      sink.setVisible(toBoolean(visible));
+    }
+    final String heatmapId = (String) data.get("heatmapId");
+    if (heatmapId == null) {
+      throw new IllegalArgumentException("heatmapId was null");
+    } else {
+      return heatmapId;
+    }
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
@@ -6,6 +6,7 @@ package io.flutter.plugins.googlemaps;
 
 import android.content.Context;
 import android.graphics.Rect;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.LatLngBounds;
@@ -16,6 +17,8 @@ import java.util.Map;
 class GoogleMapBuilder implements GoogleMapOptionsSink {
   private final GoogleMapOptions options = new GoogleMapOptions();
   private boolean trackCameraPosition = false;
+  private CameraMoveThrottle cameraMoveThrottle;
+  private boolean shapeCullingEnabled = false;
   private boolean myLocationEnabled = false;
   private boolean myLocationButtonEnabled = false;
   private boolean indoorEnabled = true;
@@ -32,9 +35,11 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
       int id,
       Context context,
       BinaryMessenger binaryMessenger,
-      LifecycleProvider lifecycleProvider) {
+      LifecycleProvider lifecycleProvider,
+      @Nullable MapViewPool mapViewPool) {
     final GoogleMapController controller =
-        new GoogleMapController(id, context, binaryMessenger, lifecycleProvider, options);
+        new GoogleMapController(
+            id, context, binaryMessenger, lifecycleProvider, options, mapViewPool);
     controller.init();
     controller.setMyLocationEnabled(myLocationEnabled);
     controller.setMyLocationButtonEnabled(myLocationButtonEnabled);
@@ -42,6 +47,8 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     controller.setTrafficEnabled(trafficEnabled);
     controller.setBuildingsEnabled(buildingsEnabled);
     controller.setTrackCameraPosition(trackCameraPosition);
+    controller.setCameraMoveThrottle(cameraMoveThrottle);
+    controller.setShapeCullingEnabled(shapeCullingEnabled);
     controller.setInitialMarkers(initialMarkers);
     controller.setInitialPolygons(initialPolygons);
     controller.setInitialPolylines(initialPolylines);
@@ -95,6 +102,16 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     this.trackCameraPosition = trackCameraPosition;
   }
 
+  @Override
+  public void setCameraMoveThrottle(CameraMoveThrottle cameraMoveThrottle) {
+    this.cameraMoveThrottle = cameraMoveThrottle;
+  }
+
+  @Override
+  public void setShapeCullingEnabled(boolean shapeCullingEnabled) {
+    this.shapeCullingEnabled = shapeCullingEnabled;
+  }
+
   @Override
   public void setRotateGesturesEnabled(boolean rotateGesturesEnabled) {
     options.rotateGesturesEnabled(rotateGesturesEnabled);
@@ -11,6 +11,8 @@ import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.view.Choreographer;
 import android.view.View;
@@ -39,12 +41,14 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /** Controller of a single GoogleMaps MapView instance. */
 final class GoogleMapController
@@ -57,12 +61,26 @@ final class GoogleMapController
         PlatformView {
 
   private static final String TAG = "GoogleMapController";
+  // How much of the viewport size, on each side, stays drawn around the viewport when culling.
+  private static final double CULLING_MARGIN_RATIO = 0.25;
+  private static final String PACKED_MARKER_POSITIONS_ERROR =
+      "positions must hold a latitude and longitude, and rotations a rotation, per marker id";
   private final int id;
+  private final long createdNanos = System.nanoTime();
+  private long timeToMapReadyNanos = -1;
+  @Nullable private final MapViewPool mapViewPool;
+  // Whether mapView came from mapViewPool, already created and with its map initialized.
+  private final boolean mapViewFromPool;
   private final MethodChannel methodChannel;
   private final GoogleMapOptions options;
   @Nullable private MapView mapView;
   @Nullable private GoogleMap googleMap;
   private boolean trackCameraPosition = false;
+  @Nullable private CameraMoveThrottle cameraMoveThrottle;
+  private boolean shapeCullingEnabled = false;
+  @Nullable private CameraPosition lastSentCameraPosition;
+  private long lastSentCameraPositionNanos;
+  private boolean cameraMoveFramePending = false;
   private boolean myLocationEnabled = false;
   private boolean myLocationButtonEnabled = false;
   private boolean zoomControlsEnabled = true;
@@ -79,6 +97,10 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  private final HeatmapsController heatmapsController;
+  private final ClustersController clustersController;
+  private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor();
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -92,20 +114,37 @@ final class GoogleMapController
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider,
       GoogleMapOptions options) {
+    this(id, context, binaryMessenger, lifecycleProvider, options, null);
+  }
+
+  GoogleMapController(
+      int id,
+      Context context,
+      BinaryMessenger binaryMessenger,
+      LifecycleProvider lifecycleProvider,
+      GoogleMapOptions options,
+      @Nullable MapViewPool mapViewPool) {
     this.id = id;
     this.context = context;
     this.options = options;
-    this.mapView = new MapView(context, options);
+    this.mapViewPool = mapViewPool;
+    final MapViewPool.Entry pooledMapView =
+        mapViewPool != null ? mapViewPool.acquire(options) : null;
+    this.mapViewFromPool = pooledMapView != null;
+    this.mapView = mapViewFromPool ? pooledMapView.mapView : new MapView(context, options);
     this.density = context.getResources().getDisplayMetrics().density;
     methodChannel =
         new MethodChannel(binaryMessenger, "plugins.flutter.dev/google_maps_android_" + id);
     methodChannel.setMethodCallHandler(this);
     this.lifecycleProvider = lifecycleProvider;
-    this.markersController = new MarkersController(methodChannel);
+    this.markersController = new MarkersController(methodChannel, backgroundExecutor);
     this.polygonsController = new PolygonsController(methodChannel, density);
-    this.polylinesController = new PolylinesController(methodChannel, density);
+    this.polylinesController =
+        new PolylinesController(methodChannel, density, backgroundExecutor, mainHandler::post);
     this.circlesController = new CirclesController(methodChannel, density);
     this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.heatmapsController = new HeatmapsController();
+    this.clustersController = new ClustersController(methodChannel, backgroundExecutor, density);
   }
 
   @Override
@@ -189,7 +228,11 @@ final class GoogleMapController
 
   @Override
   public void onMapReady(GoogleMap googleMap) {
+    timeToMapReadyNanos = System.nanoTime() - createdNanos;
     this.googleMap = googleMap;
+    if (mapViewFromPool) {
+      MapViewPool.applyOptions(googleMap, options);
+    }
     this.googleMap.setIndoorEnabled(this.indoorEnabled);
     this.googleMap.setTrafficEnabled(this.trafficEnabled);
     this.googleMap.setBuildingsEnabled(this.buildingsEnabled);
@@ -205,6 +248,8 @@ final class GoogleMapController
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
     tileOverlaysController.setGoogleMap(googleMap);
+    heatmapsController.setGoogleMap(googleMap);
+    clustersController.setGoogleMap(googleMap);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
@@ -235,6 +280,18 @@ final class GoogleMapController
           result.success(Convert.cameraPositionToJson(getCameraPosition()));
           break;
         }
+      case "map#getTimeToMapReady":
+        {
+          final Map<String, Object> metrics = new HashMap<>(2);
+          metrics.put(
+              "timeToMapReadyMicros",
+              timeToMapReadyNanos < 0
+                  ? null
+                  : TimeUnit.NANOSECONDS.toMicros(timeToMapReadyNanos));
+          metrics.put("mapViewFromPool", mapViewFromPool);
+          result.success(metrics);
+          break;
+        }
       case "map#getVisibleRegion":
         {
           if (googleMap != null) {
@@ -277,16 +334,19 @@ final class GoogleMapController
       case "map#takeSnapshot":
         {
           if (googleMap != null) {
+            final SnapshotEncoder encoder;
+            try {
+              encoder = Convert.toSnapshotEncoder(call.arguments, density);
+            } catch (IllegalArgumentException e) {
+              result.error("Invalid snapshot options", e.getMessage(), null);
+              break;
+            }
             final MethodChannel.Result _result = result;
             googleMap.snapshot(
                 new SnapshotReadyCallback() {
                   @Override
                   public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
+                    encodeSnapshot(bitmap, encoder, _result);
                   }
                 });
           } else {
@@ -311,14 +371,55 @@ final class GoogleMapController
           break;
         }
       case "markers#update":
+        {
+          invalidateMapIfNeeded();
+          updateMarkers(call);
+          result.success(null);
+          break;
+        }
+      case "map#batchUpdate":
+        {
+          invalidateMapIfNeeded();
+          result.success(batchUpdate(call));
+          break;
+        }
+      case "markers#addBulk":
         {
           invalidateMapIfNeeded();
           List<Object> markersToAdd = call.argument("markersToAdd");
-          markersController.addMarkers(markersToAdd);
-          List<Object> markersToChange = call.argument("markersToChange");
-          markersController.changeMarkers(markersToChange);
-          List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
-          markersController.removeMarkers(markerIdsToRemove);
+          Boolean reportProgress = call.argument("reportProgress");
+          markersController.addMarkersInBulk(
+              markersToAdd, reportProgress != null && reportProgress, result);
+          break;
+        }
+      case "markers#updatePositions":
+        {
+          List<String> markerIds = call.argument("markerIds");
+          double[] positions = call.argument("positions");
+          double[] rotations = call.argument("rotations");
+          if (!isPackedMarkerPositions(markerIds, positions, rotations)) {
+            result.error("Invalid marker positions", PACKED_MARKER_POSITIONS_ERROR, null);
+            break;
+          }
+          invalidateMapIfNeeded();
+          markersController.updateMarkerPositions(markerIds, positions, rotations);
+          result.success(null);
+          break;
+        }
+      case "markers#animateTo":
+        {
+          List<String> markerIds = call.argument("markerIds");
+          double[] positions = call.argument("positions");
+          double[] rotations = call.argument("rotations");
+          Number durationMillis = call.argument("durationMillis");
+          if (!isPackedMarkerPositions(markerIds, positions, rotations)
+              || durationMillis == null) {
+            result.error("Invalid marker animation", PACKED_MARKER_POSITIONS_ERROR, null);
+            break;
+          }
+          invalidateMapIfNeeded();
+          markersController.animateMarkers(
+              markerIds, positions, rotations, durationMillis.longValue());
           result.success(null);
           break;
         }
@@ -340,39 +441,75 @@ final class GoogleMapController
           markersController.isInfoWindowShown((String) markerId, result);
           break;
         }
+      case "markers#nearest":
+        {
+          final LatLng point = Convert.toLatLng(call.argument("point"));
+          final Number count = call.argument("count");
+          result.success(
+              markersController.nearestMarkers(point, count == null ? 1 : count.intValue()));
+          break;
+        }
+      case "map#queryPoint":
+        {
+          final LatLng point = Convert.toLatLng(call.argument("point"));
+          final Number radius = call.argument("radius");
+          final Map<String, Object> hits = new HashMap<>(2);
+          hits.put(
+              "markerIds",
+              markersController.queryPoint(point, radius == null ? 0 : radius.doubleValue()));
+          hits.put("polygonIds", polygonsController.queryPoint(point));
+          result.success(hits);
+          break;
+        }
+      case "map#queryBounds":
+        {
+          final LatLngBounds bounds = Convert.toLatLngBounds(call.argument("bounds"));
+          final Map<String, Object> hits = new HashMap<>(2);
+          hits.put("markerIds", markersController.queryBounds(bounds));
+          hits.put("polygonIds", polygonsController.queryBounds(bounds));
+          result.success(hits);
+          break;
+        }
+      case "clusters#setItems":
+        {
+          invalidateMapIfNeeded();
+          List<String> ids = call.argument("ids");
+          double[] positions = call.argument("positions");
+          if (ids == null || positions == null) {
+            result.error("Invalid cluster items", "ids and positions must not be null", null);
+            break;
+          }
+          Number gridSize = call.argument("gridSize");
+          Number minClusterSize = call.argument("minClusterSize");
+          clustersController.setItems(ids, positions, gridSize, minClusterSize);
+          result.success(null);
+          break;
+        }
+      case "clusters#clear":
+        {
+          invalidateMapIfNeeded();
+          clustersController.clearItems();
+          result.success(null);
+          break;
+        }
       case "polygons#update":
         {
           invalidateMapIfNeeded();
-          List<Object> polygonsToAdd = call.argument("polygonsToAdd");
-          polygonsController.addPolygons(polygonsToAdd);
-          List<Object> polygonsToChange = call.argument("polygonsToChange");
-          polygonsController.changePolygons(polygonsToChange);
-          List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
-          polygonsController.removePolygons(polygonIdsToRemove);
+          updatePolygons(call);
           result.success(null);
           break;
         }
       case "polylines#update":
         {
           invalidateMapIfNeeded();
-          List<Object> polylinesToAdd = call.argument("polylinesToAdd");
-          polylinesController.addPolylines(polylinesToAdd);
-          List<Object> polylinesToChange = call.argument("polylinesToChange");
-          polylinesController.changePolylines(polylinesToChange);
-          List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
-          polylinesController.removePolylines(polylineIdsToRemove);
+          updatePolylines(call);
           result.success(null);
           break;
         }
       case "circles#update":
         {
           invalidateMapIfNeeded();
-          List<Object> circlesToAdd = call.argument("circlesToAdd");
-          circlesController.addCircles(circlesToAdd);
-          List<Object> circlesToChange = call.argument("circlesToChange");
-          circlesController.changeCircles(circlesToChange);
-          List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
-          circlesController.removeCircles(circleIdsToRemove);
+          updateCircles(call);
           result.success(null);
           break;
         }
@@ -470,12 +607,14 @@ final class GoogleMapController
       case "tileOverlays#update":
         {
           invalidateMapIfNeeded();
-          List<Map<String, ?>> tileOverlaysToAdd = call.argument("tileOverlaysToAdd");
-          tileOverlaysController.addTileOverlays(tileOverlaysToAdd);
-          List<Map<String, ?>> tileOverlaysToChange = call.argument("tileOverlaysToChange");
-          tileOverlaysController.changeTileOverlays(tileOverlaysToChange);
-          List<String> tileOverlaysToRemove = call.argument("tileOverlayIdsToRemove");
-          tileOverlaysController.removeTileOverlays(tileOverlaysToRemove);
+          updateTileOverlays(call);
+          result.success(null);
+          break;
+        }
+      case "heatmaps#update":
+        {
+          invalidateMapIfNeeded();
+          updateHeatmaps(call);
           result.success(null);
           break;
         }
@@ -487,6 +626,17 @@ final class GoogleMapController
           result.success(null);
           break;
         }
+      case "bitmapDescriptorCache#clear":
+        {
+          Convert.bitmapDescriptorCache.evictAll();
+          result.success(null);
+          break;
+        }
+      case "bitmapDescriptorCache#getStats":
+        {
+          result.success(Convert.bitmapDescriptorCache.getStats());
+          break;
+        }
       case "map#getTileOverlayInfo":
         {
           String tileOverlayId = call.argument("tileOverlayId");
@@ -498,6 +648,143 @@ final class GoogleMapController
     }
   }
 
+  /** Encodes {@code bitmap} on the background executor and completes {@code result} with it. */
+  private void encodeSnapshot(Bitmap bitmap, SnapshotEncoder encoder, MethodChannel.Result result) {
+    if (bitmap == null || disposed) {
+      result.error("Snapshot failure", "Unable to take snapshot", null);
+      return;
+    }
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            final byte[] bytes = encoder.encode(bitmap);
+            mainHandler.post(() -> result.success(bytes));
+          } catch (Exception e) {
+            mainHandler.post(() -> result.error("Snapshot failure", e.getMessage(), null));
+          }
+        });
+  }
+
+  private static boolean isPackedMarkerPositions(
+      List<String> markerIds, double[] positions, double[] rotations) {
+    return markerIds != null
+        && positions != null
+        && positions.length == 2 * markerIds.size()
+        && (rotations == null || rotations.length == markerIds.size());
+  }
+
+  private void updateMarkers(MethodCall call) {
+    List<Object> markersToAdd = call.argument("markersToAdd");
+    markersController.addMarkers(markersToAdd);
+    List<Object> markersToChange = call.argument("markersToChange");
+    markersController.changeMarkers(markersToChange);
+    List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
+    markersController.removeMarkers(markerIdsToRemove);
+  }
+
+  private void updatePolygons(MethodCall call) {
+    List<Object> polygonsToAdd = call.argument("polygonsToAdd");
+    polygonsController.addPolygons(polygonsToAdd);
+    List<Object> polygonsToChange = call.argument("polygonsToChange");
+    polygonsController.changePolygons(polygonsToChange);
+    List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
+    polygonsController.removePolygons(polygonIdsToRemove);
+  }
+
+  private void updatePolylines(MethodCall call) {
+    List<Object> polylinesToAdd = call.argument("polylinesToAdd");
+    polylinesController.addPolylines(polylinesToAdd);
+    List<Object> polylinesToChange = call.argument("polylinesToChange");
+    polylinesController.changePolylines(polylinesToChange);
+    List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
+    polylinesController.removePolylines(polylineIdsToRemove);
+  }
+
+  private void updateCircles(MethodCall call) {
+    List<Object> circlesToAdd = call.argument("circlesToAdd");
+    circlesController.addCircles(circlesToAdd);
+    List<Object> circlesToChange = call.argument("circlesToChange");
+    circlesController.changeCircles(circlesToChange);
+    List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
+    circlesController.removeCircles(circleIdsToRemove);
+  }
+
+  private void updateTileOverlays(MethodCall call) {
+    List<Map<String, ?>> tileOverlaysToAdd = call.argument("tileOverlaysToAdd");
+    tileOverlaysController.addTileOverlays(tileOverlaysToAdd);
+    List<Map<String, ?>> tileOverlaysToChange = call.argument("tileOverlaysToChange");
+    tileOverlaysController.changeTileOverlays(tileOverlaysToChange);
+    List<String> tileOverlaysToRemove = call.argument("tileOverlayIdsToRemove");
+    tileOverlaysController.removeTileOverlays(tileOverlaysToRemove);
+  }
+
+  private void updateHeatmaps(MethodCall call) {
+    List<Map<String, ?>> heatmapsToAdd = call.argument("heatmapsToAdd");
+    heatmapsController.addHeatmaps(heatmapsToAdd);
+    List<Map<String, ?>> heatmapsToChange = call.argument("heatmapsToChange");
+    heatmapsController.changeHeatmaps(heatmapsToChange);
+    List<String> heatmapIdsToRemove = call.argument("heatmapIdsToRemove");
+    heatmapsController.removeHeatmaps(heatmapIdsToRemove);
+  }
+
+  /**
+   * Applies the markers, polygons, polylines, circles, tile overlays and heatmaps updates in {@code
+   * call} in a single pass on the platform thread, so that they show up in the same frame.
+   *
+   * <p>{@code call} has the arguments of the individual update methods, and object types without
+   * any of them are skipped. Returns how long each type took to apply, in microseconds.
+   */
+  private Map<String, Object> batchUpdate(MethodCall call) {
+    final Map<String, Object> timings = new HashMap<>(8);
+    final long startNanos = System.nanoTime();
+    long lapNanos = startNanos;
+    if (call.hasArgument("markersToAdd")
+        || call.hasArgument("markersToChange")
+        || call.hasArgument("markerIdsToRemove")) {
+      updateMarkers(call);
+      lapNanos = putElapsedMicros(timings, "markers", lapNanos);
+    }
+    if (call.hasArgument("polygonsToAdd")
+        || call.hasArgument("polygonsToChange")
+        || call.hasArgument("polygonIdsToRemove")) {
+      updatePolygons(call);
+      lapNanos = putElapsedMicros(timings, "polygons", lapNanos);
+    }
+    if (call.hasArgument("polylinesToAdd")
+        || call.hasArgument("polylinesToChange")
+        || call.hasArgument("polylineIdsToRemove")) {
+      updatePolylines(call);
+      lapNanos = putElapsedMicros(timings, "polylines", lapNanos);
+    }
+    if (call.hasArgument("circlesToAdd")
+        || call.hasArgument("circlesToChange")
+        || call.hasArgument("circleIdsToRemove")) {
+      updateCircles(call);
+      lapNanos = putElapsedMicros(timings, "circles", lapNanos);
+    }
+    if (call.hasArgument("tileOverlaysToAdd")
+        || call.hasArgument("tileOverlaysToChange")
+        || call.hasArgument("tileOverlayIdsToRemove")) {
+      updateTileOverlays(call);
+      lapNanos = putElapsedMicros(timings, "tileOverlays", lapNanos);
+    }
+    if (call.hasArgument("heatmapsToAdd")
+        || call.hasArgument("heatmapsToChange")
+        || call.hasArgument("heatmapIdsToRemove")) {
+      updateHeatmaps(call);
+      putElapsedMicros(timings, "heatmaps", lapNanos);
+    }
+    putElapsedMicros(timings, "total", startNanos);
+    return timings;
+  }
+
+  /** Records the time since {@code sinceNanos} under {@code key}, and returns the current time. */
+  private static long putElapsedMicros(Map<String, Object> timings, String key, long sinceNanos) {
+    final long nowNanos = System.nanoTime();
+    timings.put(key + "Micros", TimeUnit.NANOSECONDS.toMicros(nowNanos - sinceNanos));
+    return nowNanos;
+  }
+
   @Override
   public void onMapClick(LatLng latLng) {
     final Map<String, Object> arguments = new HashMap<>(2);
@@ -530,19 +817,72 @@ final class GoogleMapController
     if (!trackCameraPosition) {
       return;
     }
+    if (cameraMoveThrottle == null) {
+      sendCameraMove(googleMap.getCameraPosition());
+    } else if (cameraMoveThrottle.frameAligned) {
+      // Coalesces every move reported during a frame into a single update.
+      if (cameraMoveFramePending) {
+        return;
+      }
+      cameraMoveFramePending = true;
+      postFrameCallback(
+          () -> {
+            cameraMoveFramePending = false;
+            if (!disposed && googleMap != null) {
+              sendThrottledCameraMove();
+            }
+          });
+    } else {
+      sendThrottledCameraMove();
+    }
+  }
+
+  private void sendThrottledCameraMove() {
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (cameraMoveThrottle.shouldSend(
+        lastSentCameraPosition, lastSentCameraPositionNanos, position, System.nanoTime())) {
+      sendCameraMove(position);
+    }
+  }
+
+  private void sendCameraMove(CameraPosition position) {
+    lastSentCameraPosition = position;
+    lastSentCameraPositionNanos = System.nanoTime();
     final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
+    arguments.put("position", Convert.cameraPositionToJson(position));
     methodChannel.invokeMethod("camera#onMove", arguments);
   }
 
   @Override
   public void onCameraIdle() {
+    if (trackCameraPosition && cameraMoveThrottle != null) {
+      // Makes sure Dart sees the final position, even if the last moves were throttled.
+      final CameraPosition position = googleMap.getCameraPosition();
+      if (!position.equals(lastSentCameraPosition)) {
+        sendCameraMove(position);
+      }
+    }
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
+    clustersController.onCameraIdle();
+    polylinesController.onCameraIdle(googleMap.getCameraPosition().zoom);
+    if (shapeCullingEnabled) {
+      cullShapes();
+    }
+  }
+
+  private void cullShapes() {
+    final LatLngBounds viewport =
+        BoundsIndex.expand(
+            googleMap.getProjection().getVisibleRegion().latLngBounds, CULLING_MARGIN_RATIO);
+    polygonsController.cull(viewport);
+    polylinesController.cull(viewport);
+    circlesController.cull(viewport);
   }
 
   @Override
   public boolean onMarkerClick(Marker marker) {
-    return markersController.onMarkerTap(marker.getId());
+    return markersController.onMarkerTap(marker.getId())
+        || clustersController.onMarkerTap(marker.getId());
   }
 
   @Override
@@ -582,6 +922,10 @@ final class GoogleMapController
     }
     disposed = true;
     methodChannel.setMethodCallHandler(null);
+    markersController.cancelBulkAdds();
+    markersController.cancelAnimations();
+    clustersController.clearItems();
+    backgroundExecutor.shutdown();
     setGoogleMapListener(null);
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
@@ -625,7 +969,7 @@ final class GoogleMapController
 
   @Override
   public void onCreate(@NonNull LifecycleOwner owner) {
-    if (disposed) {
+    if (disposed || mapViewFromPool) {
       return;
     }
     mapView.onCreate(null);
@@ -674,7 +1018,7 @@ final class GoogleMapController
 
   @Override
   public void onRestoreInstanceState(Bundle bundle) {
-    if (disposed) {
+    if (disposed || mapViewFromPool) {
       return;
     }
     mapView.onCreate(bundle);
@@ -715,6 +1059,22 @@ final class GoogleMapController
     this.trackCameraPosition = trackCameraPosition;
   }
 
+  @Override
+  public void setCameraMoveThrottle(CameraMoveThrottle cameraMoveThrottle) {
+    this.cameraMoveThrottle = cameraMoveThrottle;
+  }
+
+  @Override
+  public void setShapeCullingEnabled(boolean shapeCullingEnabled) {
+    this.shapeCullingEnabled = shapeCullingEnabled;
+    polygonsController.setCullingEnabled(shapeCullingEnabled);
+    polylinesController.setCullingEnabled(shapeCullingEnabled);
+    circlesController.setCullingEnabled(shapeCullingEnabled);
+    if (shapeCullingEnabled && googleMap != null) {
+      cullShapes();
+    }
+  }
+
   @Override
   public void setRotateGesturesEnabled(boolean rotateGesturesEnabled) {
     googleMap.getUiSettings().setRotateGesturesEnabled(rotateGesturesEnabled);
@@ -911,10 +1271,32 @@ final class GoogleMapController
     if (mapView == null) {
       return;
     }
-    mapView.onDestroy();
+    if (!releaseMapViewToPool()) {
+      mapView.onDestroy();
+    }
     mapView = null;
   }
 
+  /** Gives the map view back to the pool for another map to reuse, if there is room for it. */
+  private boolean releaseMapViewToPool() {
+    if (mapViewPool == null || googleMap == null) {
+      return false;
+    }
+    final Lifecycle lifecycle = lifecycleProvider.getLifecycle();
+    if (lifecycle == null) {
+      return false;
+    }
+    final Lifecycle.State state = lifecycle.getCurrentState();
+    if (state == Lifecycle.State.DESTROYED) {
+      return false;
+    }
+    return mapViewPool.release(
+        mapView,
+        googleMap,
+        state.isAtLeast(Lifecycle.State.STARTED),
+        state.isAtLeast(Lifecycle.State.RESUMED));
+  }
+
   public void setIndoorEnabled(boolean indoorEnabled) {
     this.indoorEnabled = indoorEnabled;
   }
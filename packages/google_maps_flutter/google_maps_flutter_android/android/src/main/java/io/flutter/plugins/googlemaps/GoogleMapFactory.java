@@ -18,6 +18,7 @@ public class GoogleMapFactory extends PlatformViewFactory {
   private final BinaryMessenger binaryMessenger;
   private final LifecycleProvider lifecycleProvider;
   private final GoogleMapInitializer googleMapInitializer;
+  private final MapViewPool mapViewPool = new MapViewPool();
 
   GoogleMapFactory(
       BinaryMessenger binaryMessenger, Context context, LifecycleProvider lifecycleProvider) {
@@ -25,7 +26,7 @@ public class GoogleMapFactory extends PlatformViewFactory {
 
     this.binaryMessenger = binaryMessenger;
     this.lifecycleProvider = lifecycleProvider;
-    this.googleMapInitializer = new GoogleMapInitializer(context, binaryMessenger);
+    this.googleMapInitializer = new GoogleMapInitializer(context, binaryMessenger, mapViewPool);
   }
 
   @SuppressWarnings("unchecked")
@@ -54,6 +55,10 @@ public class GoogleMapFactory extends PlatformViewFactory {
     if (params.containsKey("tileOverlaysToAdd")) {
       builder.setInitialTileOverlays((List<Map<String, ?>>) params.get("tileOverlaysToAdd"));
     }
-    return builder.build(id, context, binaryMessenger, lifecycleProvider);
+    return builder.build(id, context, binaryMessenger, lifecycleProvider, mapViewPool);
+  }
+
+  MapViewPool getMapViewPool() {
+    return mapViewPool;
   }
 }
@@ -20,9 +20,17 @@ final class GoogleMapInitializer
   private final Context context;
   private static MethodChannel.Result initializationResult;
   private boolean rendererInitialized = false;
+  private final MapViewPool mapViewPool;
+  // The pool size requested while the renderer was being initialized.
+  private int pendingMapViewPoolSize = 0;
 
   GoogleMapInitializer(Context context, BinaryMessenger binaryMessenger) {
+    this(context, binaryMessenger, new MapViewPool());
+  }
+
+  GoogleMapInitializer(Context context, BinaryMessenger binaryMessenger, MapViewPool mapViewPool) {
     this.context = context;
+    this.mapViewPool = mapViewPool;
 
     methodChannel =
         new MethodChannel(binaryMessenger, "plugins.flutter.dev/google_maps_android_initializer");
@@ -38,6 +46,18 @@ final class GoogleMapInitializer
           initializeWithPreferredRenderer(preferredRenderer, result);
           break;
         }
+      case "initializer#warmUpMapViews":
+        {
+          Integer count = call.argument("count");
+          warmUpMapViews(count == null ? 0 : count);
+          result.success(null);
+          break;
+        }
+      case "initializer#getMapViewPoolStats":
+        {
+          result.success(mapViewPool.getStats());
+          break;
+        }
       default:
         result.notImplemented();
     }
@@ -76,6 +96,24 @@ final class GoogleMapInitializer
     }
   }
 
+  /**
+   * Keeps up to {@code count} map views ready for new maps, or stops pooling them if {@code count}
+   * is 0.
+   *
+   * <p>When the renderer is being initialized, the map views are only created once it is, so that
+   * they use the preferred renderer.
+   */
+  private void warmUpMapViews(int count) {
+    if (count <= 0) {
+      pendingMapViewPoolSize = 0;
+      mapViewPool.clear();
+    } else if (initializationResult != null) {
+      pendingMapViewPoolSize = count;
+    } else {
+      mapViewPool.warmUp(context, count);
+    }
+  }
+
   /**
    * Initializes map renderer to with preferred renderer type.
    *
@@ -105,5 +143,9 @@ final class GoogleMapInitializer
       }
       initializationResult = null;
     }
+    if (pendingMapViewPoolSize > 0) {
+      mapViewPool.warmUp(context, pendingMapViewPoolSize);
+      pendingMapViewPoolSize = 0;
+    }
   }
 }
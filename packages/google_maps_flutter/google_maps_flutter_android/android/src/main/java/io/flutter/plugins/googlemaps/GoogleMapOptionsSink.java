@@ -30,6 +30,10 @@ interface GoogleMapOptionsSink {
 
   void setTrackCameraPosition(boolean trackCameraPosition);
 
+  void setCameraMoveThrottle(CameraMoveThrottle cameraMoveThrottle);
+
+  void setShapeCullingEnabled(boolean shapeCullingEnabled);
+
   void setZoomGesturesEnabled(boolean zoomGesturesEnabled);
 
   void setLiteModeEnabled(boolean liteModeEnabled);
@@ -9,6 +9,7 @@ import android.app.Application.ActivityLifecycleCallbacks;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.lifecycle.DefaultLifecycleObserver;
 import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.Lifecycle.Event;
 import androidx.lifecycle.LifecycleOwner;
@@ -27,6 +28,18 @@ import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
 public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   @Nullable private Lifecycle lifecycle;
+  @Nullable private MapViewPool mapViewPool;
+
+  // Clears the pool when the activity is destroyed, as its pooled map views belong to it.
+  private final DefaultLifecycleObserver mapViewPoolObserver =
+      new DefaultLifecycleObserver() {
+        @Override
+        public void onDestroy(@NonNull LifecycleOwner owner) {
+          if (mapViewPool != null) {
+            mapViewPool.setActivity(null);
+          }
+        }
+      };
 
   private static final String VIEW_TYPE = "plugins.flutter.dev/google_maps_android";
 
@@ -39,30 +52,33 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
       // We stop the registration process as this plugin is foreground only.
       return;
     }
+    final LifecycleProvider lifecycleProvider;
     if (activity instanceof LifecycleOwner) {
-      registrar
-          .platformViewRegistry()
-          .registerViewFactory(
-              VIEW_TYPE,
-              new GoogleMapFactory(
-                  registrar.messenger(),
-                  registrar.context(),
-                  new LifecycleProvider() {
-                    @Override
-                    public Lifecycle getLifecycle() {
-                      return ((LifecycleOwner) activity).getLifecycle();
-                    }
-                  }));
+      lifecycleProvider =
+          new LifecycleProvider() {
+            @Override
+            public Lifecycle getLifecycle() {
+              return ((LifecycleOwner) activity).getLifecycle();
+            }
+          };
     } else {
-      registrar
-          .platformViewRegistry()
-          .registerViewFactory(
-              VIEW_TYPE,
-              new GoogleMapFactory(
-                  registrar.messenger(),
-                  registrar.context(),
-                  new ProxyLifecycleProvider(activity)));
+      lifecycleProvider = new ProxyLifecycleProvider(activity);
     }
+    final GoogleMapFactory factory =
+        new GoogleMapFactory(registrar.messenger(), registrar.context(), lifecycleProvider);
+    final MapViewPool mapViewPool = factory.getMapViewPool();
+    mapViewPool.setActivity(activity);
+    lifecycleProvider
+        .getLifecycle()
+        .addObserver(
+            new DefaultLifecycleObserver() {
+              @Override
+              public void onDestroy(@NonNull LifecycleOwner owner) {
+                mapViewPool.clear();
+                mapViewPool.setActivity(null);
+              }
+            });
+    registrar.platformViewRegistry().registerViewFactory(VIEW_TYPE, factory);
   }
 
   public GoogleMapsPlugin() {}
@@ -71,35 +87,49 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onAttachedToEngine(FlutterPluginBinding binding) {
-    binding
-        .getPlatformViewRegistry()
-        .registerViewFactory(
-            VIEW_TYPE,
-            new GoogleMapFactory(
-                binding.getBinaryMessenger(),
-                binding.getApplicationContext(),
-                new LifecycleProvider() {
-                  @Nullable
-                  @Override
-                  public Lifecycle getLifecycle() {
-                    return lifecycle;
-                  }
-                }));
+    final GoogleMapFactory factory =
+        new GoogleMapFactory(
+            binding.getBinaryMessenger(),
+            binding.getApplicationContext(),
+            new LifecycleProvider() {
+              @Nullable
+              @Override
+              public Lifecycle getLifecycle() {
+                return lifecycle;
+              }
+            });
+    mapViewPool = factory.getMapViewPool();
+    binding.getPlatformViewRegistry().registerViewFactory(VIEW_TYPE, factory);
   }
 
   @Override
-  public void onDetachedFromEngine(FlutterPluginBinding binding) {}
+  public void onDetachedFromEngine(FlutterPluginBinding binding) {
+    if (mapViewPool != null) {
+      mapViewPool.clear();
+      mapViewPool = null;
+    }
+  }
 
   // ActivityAware
 
   @Override
   public void onAttachedToActivity(ActivityPluginBinding binding) {
     lifecycle = FlutterLifecycleAdapter.getActivityLifecycle(binding);
+    lifecycle.addObserver(mapViewPoolObserver);
+    if (mapViewPool != null) {
+      mapViewPool.setActivity(binding.getActivity());
+    }
   }
 
   @Override
   public void onDetachedFromActivity() {
+    if (lifecycle != null) {
+      lifecycle.removeObserver(mapViewPoolObserver);
+    }
     lifecycle = null;
+    if (mapViewPool != null) {
+      mapViewPool.setActivity(null);
+    }
   }
 
   @Override
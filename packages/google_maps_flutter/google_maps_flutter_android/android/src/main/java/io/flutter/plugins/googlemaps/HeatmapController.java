@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.TileOverlay;
+
+/** Controller of a single Heatmap on the map. */
+class HeatmapController implements HeatmapOptionsSink {
+
+  private final TileOverlay tileOverlay;
+  private final HeatmapTileProvider tileProvider;
+  private boolean tilesChanged = false;
+
+  HeatmapController(TileOverlay tileOverlay, HeatmapTileProvider tileProvider) {
+    this.tileOverlay = tileOverlay;
+    this.tileProvider = tileProvider;
+  }
+
+  void remove() {
+    tileOverlay.remove();
+  }
+
+  /** Makes the map fetch its tiles again if the tile options changed since the last call. */
+  void redrawIfNeeded() {
+    if (tilesChanged) {
+      tilesChanged = false;
+      tileOverlay.clearTileCache();
+    }
+  }
+
+  @Override
+  public void setData(double[] data) {
+    tileProvider.setData(data);
+    tilesChanged = true;
+  }
+
+  @Override
+  public void setRadius(int radius) {
+    tileProvider.setRadius(radius);
+    tilesChanged = true;
+  }
+
+  @Override
+  public void setOpacity(double opacity) {
+    tileProvider.setOpacity(opacity);
+    tilesChanged = true;
+  }
+
+  @Override
+  public void setGradient(int[] colors, float[] startPoints) {
+    tileProvider.setGradient(colors, startPoints);
+    tilesChanged = true;
+  }
+
+  @Override
+  public void setMaxIntensity(double maxIntensity) {
+    tileProvider.setMaxIntensity(maxIntensity);
+    tilesChanged = true;
+  }
+
+  @Override
+  public void setFadeIn(boolean fadeIn) {
+    tileOverlay.setFadeIn(fadeIn);
+  }
+
+  @Override
+  public void setZIndex(float zIndex) {
+    tileOverlay.setZIndex(zIndex);
+  }
+
+  @Override
+  public void setVisible(boolean visible) {
+    tileOverlay.setVisible(visible);
+  }
+}
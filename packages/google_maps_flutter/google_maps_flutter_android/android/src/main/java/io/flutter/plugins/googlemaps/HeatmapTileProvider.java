@@ -0,0 +1,450 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Draws heatmap tiles from weighted points, without going through Dart.
+ *
+ * <p>The Maps SDK calls {@link #getTile(int, int, int)} on its own background threads. Each tile is
+ * drawn by summing the weights of the nearby points into a pixel grid, blurring the grid with a
+ * Gaussian kernel and mapping the result onto the gradient. Drawn tiles are kept in a small cache,
+ * so that panning back over an area does not draw it again.
+ */
+final class HeatmapTileProvider implements TileProvider {
+
+  static final int TILE_SIZE = 256;
+  static final int DEFAULT_RADIUS = 20;
+  static final double DEFAULT_OPACITY = 0.7;
+  static final int[] DEFAULT_GRADIENT_COLORS = {0xff66e100, 0xffff0000};
+  static final float[] DEFAULT_GRADIENT_START_POINTS = {0.2f, 1f};
+
+  private static final int COLOR_MAP_SIZE = 256;
+  private static final int MAX_CACHED_TILES = 128;
+  private static final int MAX_ZOOM = 22;
+
+  private PointIndex points = new PointIndex(new double[0]);
+  private int radius = DEFAULT_RADIUS;
+  private double opacity = DEFAULT_OPACITY;
+  private int[] gradientColors = DEFAULT_GRADIENT_COLORS;
+  private float[] gradientStartPoints = DEFAULT_GRADIENT_START_POINTS;
+  /** The intensity drawn with the last gradient color, or 0 to pick one for each zoom level. */
+  private double maxIntensity = 0;
+
+  // Derived from the settings above, and rebuilt when they change.
+  private double[] kernel;
+  private int[] colorMap;
+
+  // Guarded by its own lock rather than this, as computing an entry scans every point.
+  private final double[] maxIntensityByZoom = new double[MAX_ZOOM + 1];
+  private int maxIntensityGeneration = -1;
+
+  private final LinkedHashMap<Long, Tile> tileCache = new LinkedHashMap<>(16, 0.75f, true);
+  /** Incremented on every change, so that tiles drawn with older settings are not cached. */
+  private int generation = 0;
+
+  HeatmapTileProvider() {
+    invalidate();
+  }
+
+  /** Sets the points to draw, as latitude, longitude and weight triples. */
+  synchronized void setData(double[] data) {
+    points = new PointIndex(data);
+    invalidate();
+  }
+
+  /** Sets the blur radius, in logical pixels. */
+  synchronized void setRadius(int radius) {
+    if (radius < 1) {
+      throw new IllegalArgumentException("Heatmap radius must be positive, got: " + radius);
+    }
+    this.radius = radius;
+    invalidate();
+  }
+
+  synchronized void setOpacity(double opacity) {
+    if (opacity < 0 || opacity > 1) {
+      throw new IllegalArgumentException("Heatmap opacity must be in [0, 1], got: " + opacity);
+    }
+    this.opacity = opacity;
+    invalidate();
+  }
+
+  /**
+   * Sets the gradient the intensities are mapped onto.
+   *
+   * @param colors the ARGB colors of the gradient.
+   * @param startPoints the fraction of the maximum intensity at which each color starts, in
+   *     increasing order.
+   */
+  synchronized void setGradient(int[] colors, float[] startPoints) {
+    if (colors.length == 0 || colors.length != startPoints.length) {
+      throw new IllegalArgumentException(
+          "Heatmap gradient needs as many start points as colors, and at least one");
+    }
+    for (int i = 0; i < startPoints.length; i++) {
+      final boolean increasing = i == 0 || startPoints[i] > startPoints[i - 1];
+      if (startPoints[i] <= 0 || startPoints[i] > 1 || !increasing) {
+        throw new IllegalArgumentException(
+            "Heatmap gradient start points must increase within (0, 1]");
+      }
+    }
+    this.gradientColors = colors;
+    this.gradientStartPoints = startPoints;
+    invalidate();
+  }
+
+  synchronized void setMaxIntensity(double maxIntensity) {
+    this.maxIntensity = maxIntensity;
+    invalidate();
+  }
+
+  private void invalidate() {
+    kernel = gaussianKernel(radius);
+    colorMap = colorMap(gradientColors, gradientStartPoints, opacity);
+    tileCache.clear();
+    generation++;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    final long key = ((long) zoom << 58) | ((long) x << 29) | y;
+    final PointIndex points;
+    final int radius;
+    final double[] kernel;
+    final int[] colorMap;
+    final double maxIntensity;
+    final int generation;
+    synchronized (this) {
+      final Tile cached = tileCache.get(key);
+      if (cached != null) {
+        return cached;
+      }
+      points = this.points;
+      radius = this.radius;
+      kernel = this.kernel;
+      colorMap = this.colorMap;
+      maxIntensity = this.maxIntensity;
+      generation = this.generation;
+    }
+    final double[] intensities = intensities(points, kernel, radius, x, y, zoom);
+    final Tile tile =
+        intensities == null
+            ? TileProvider.NO_TILE
+            : toTile(
+                colorize(
+                    intensities,
+                    colorMap,
+                    maxIntensity > 0
+                        ? maxIntensity
+                        : maxIntensityForZoom(points, radius, generation, zoom)));
+    synchronized (this) {
+      if (generation == this.generation) {
+        tileCache.put(key, tile);
+        final Iterator<Tile> iterator = tileCache.values().iterator();
+        while (tileCache.size() > MAX_CACHED_TILES && iterator.hasNext()) {
+          iterator.next();
+          iterator.remove();
+        }
+      }
+    }
+    return tile;
+  }
+
+  /**
+   * Picks the intensity drawn with the last gradient color at {@code zoom}, from the densest area
+   * of the radius size.
+   *
+   * <p>Each zoom level is computed once per {@code generation} of the settings, without holding the
+   * lock that tile cache lookups and updates need.
+   */
+  private double maxIntensityForZoom(PointIndex points, int radius, int generation, int zoom) {
+    final int level = Math.min(zoom, MAX_ZOOM);
+    synchronized (maxIntensityByZoom) {
+      if (generation < maxIntensityGeneration) {
+        // The settings changed while the tile was drawn, and it will not be cached.
+        return maxIntensity(points, radius, level);
+      }
+      if (generation > maxIntensityGeneration) {
+        Arrays.fill(maxIntensityByZoom, 0);
+        maxIntensityGeneration = generation;
+      }
+      if (maxIntensityByZoom[level] == 0) {
+        maxIntensityByZoom[level] = maxIntensity(points, radius, level);
+      }
+      return maxIntensityByZoom[level];
+    }
+  }
+
+  private static double maxIntensity(PointIndex points, int radius, int level) {
+    final double max = points.maxCellWeight(TILE_SIZE * Math.pow(2, level) / radius);
+    return max > 0 ? max : 1;
+  }
+
+  /**
+   * Returns the blurred intensity of each pixel of a tile, row by row, or null if the tile is
+   * empty.
+   */
+  @VisibleForTesting
+  static double[] intensities(
+      PointIndex points, double[] kernel, int radius, int x, int y, int zoom) {
+    final double worldSize = TILE_SIZE * Math.pow(2, zoom);
+    final double tileSize = TILE_SIZE / worldSize;
+    final double padding = radius / worldSize;
+    final double minX = x * tileSize - padding;
+    final double maxX = (x + 1) * tileSize + padding;
+    final double minY = y * tileSize - padding;
+    final double maxY = (y + 1) * tileSize + padding;
+
+    // Sums the weights into a grid that extends past the tile by the radius on every side.
+    final int gridSize = TILE_SIZE + 2 * radius;
+    final double[] grid = new double[gridSize * gridSize];
+    boolean empty = true;
+    // Points across the antimeridian are wrapped by one world width.
+    for (int offset = -1; offset <= 1; offset++) {
+      final double from = Math.max(0, minX - offset);
+      final double to = Math.min(1, maxX - offset);
+      if (from > to) {
+        continue;
+      }
+      for (int i = points.firstIndexAtOrAfter(from); i < points.size() && points.x[i] <= to; i++) {
+        final double pointY = points.y[i];
+        if (pointY < minY || pointY > maxY) {
+          continue;
+        }
+        final int column = (int) ((points.x[i] + offset - minX) * worldSize);
+        final int row = (int) ((pointY - minY) * worldSize);
+        if (column < 0 || column >= gridSize || row < 0 || row >= gridSize) {
+          continue;
+        }
+        grid[row * gridSize + column] += points.weight[i];
+        empty = false;
+      }
+    }
+    if (empty) {
+      return null;
+    }
+
+    // The kernel is separable, so blurs rows then columns, skipping empty cells.
+    final double[] rows = new double[gridSize * TILE_SIZE];
+    for (int row = 0; row < gridSize; row++) {
+      for (int column = 0; column < gridSize; column++) {
+        final double value = grid[row * gridSize + column];
+        if (value == 0) {
+          continue;
+        }
+        final int from = Math.max(radius, column - radius);
+        final int to = Math.min(radius + TILE_SIZE - 1, column + radius);
+        for (int target = from; target <= to; target++) {
+          rows[row * TILE_SIZE + target - radius] += value * kernel[target - column + radius];
+        }
+      }
+    }
+    final double[] result = new double[TILE_SIZE * TILE_SIZE];
+    for (int row = 0; row < gridSize; row++) {
+      final int from = Math.max(radius, row - radius);
+      final int to = Math.min(radius + TILE_SIZE - 1, row + radius);
+      for (int column = 0; column < TILE_SIZE; column++) {
+        final double value = rows[row * TILE_SIZE + column];
+        if (value == 0) {
+          continue;
+        }
+        for (int target = from; target <= to; target++) {
+          result[(target - radius) * TILE_SIZE + column] += value * kernel[target - row + radius];
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Returns a Gaussian kernel of {@code 2 * radius + 1} values, peaking at 1. */
+  @VisibleForTesting
+  static double[] gaussianKernel(int radius) {
+    final double sigma = radius / 3.0;
+    final double[] kernel = new double[2 * radius + 1];
+    for (int i = -radius; i <= radius; i++) {
+      kernel[i + radius] = Math.exp(-i * i / (2 * sigma * sigma));
+    }
+    return kernel;
+  }
+
+  /**
+   * Returns the colors for intensities from 0 to the maximum. Intensities below the first start
+   * point fade in from transparent.
+   */
+  @VisibleForTesting
+  static int[] colorMap(int[] colors, float[] startPoints, double opacity) {
+    final int[] colorMap = new int[COLOR_MAP_SIZE];
+    int segment = 0;
+    for (int i = 0; i < COLOR_MAP_SIZE; i++) {
+      final float fraction = (float) i / (COLOR_MAP_SIZE - 1);
+      while (segment < startPoints.length && fraction > startPoints[segment]) {
+        segment++;
+      }
+      final int color;
+      if (segment == 0) {
+        final int first = colors[0];
+        color = interpolate(first & 0x00ffffff, first, fraction / startPoints[0]);
+      } else if (segment == startPoints.length) {
+        color = colors[colors.length - 1];
+      } else {
+        final float start = startPoints[segment - 1];
+        color =
+            interpolate(
+                colors[segment - 1],
+                colors[segment],
+                (fraction - start) / (startPoints[segment] - start));
+      }
+      final int alpha = (int) Math.round((color >>> 24) * opacity);
+      colorMap[i] = (alpha << 24) | (color & 0x00ffffff);
+    }
+    return colorMap;
+  }
+
+  private static int interpolate(int from, int to, float fraction) {
+    int result = 0;
+    for (int shift = 0; shift < 32; shift += 8) {
+      final int a = (from >>> shift) & 0xff;
+      final int b = (to >>> shift) & 0xff;
+      result |= Math.round(a + (b - a) * fraction) << shift;
+    }
+    return result;
+  }
+
+  private static int[] colorize(double[] intensities, int[] colorMap, double maxIntensity) {
+    final int[] pixels = new int[intensities.length];
+    final int last = colorMap.length - 1;
+    for (int i = 0; i < intensities.length; i++) {
+      final double intensity = intensities[i];
+      if (intensity > 0) {
+        pixels[i] = colorMap[(int) Math.min(last, intensity / maxIntensity * last)];
+      }
+    }
+    return pixels;
+  }
+
+  private static Tile toTile(int[] pixels) {
+    final Bitmap bitmap =
+        Bitmap.createBitmap(pixels, TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
+    bitmap.recycle();
+    return new Tile(TILE_SIZE, TILE_SIZE, stream.toByteArray());
+  }
+
+  /** Weighted points in normalized Web Mercator coordinates, sorted by x. */
+  @VisibleForTesting
+  static final class PointIndex {
+    private static final int INDEX_BITS = 23;
+    private static final int MAX_POINTS = (1 << INDEX_BITS) - 1;
+    private static final double X_QUANTIZATION = 1L << 39;
+
+    final double[] x;
+    final double[] y;
+    final double[] weight;
+
+    /** @param data latitude, longitude and weight triples. */
+    PointIndex(double[] data) {
+      if (data.length % 3 != 0) {
+        throw new IllegalArgumentException(
+            "Heatmap data must hold latitude, longitude and weight triples, got "
+                + data.length
+                + " values");
+      }
+      final int count = data.length / 3;
+      if (count > MAX_POINTS) {
+        throw new IllegalArgumentException(
+            "Heatmap data can hold at most " + MAX_POINTS + " points, got " + count);
+      }
+      // Sorts primitive keys rather than boxed indices: x quantized to 40 bits, then the index.
+      final long[] keys = new long[count];
+      for (int i = 0; i < count; i++) {
+        final double pointX = ClusterAlgorithm.toX(data[3 * i + 1]);
+        keys[i] = ((long) (pointX * X_QUANTIZATION) << INDEX_BITS) | i;
+      }
+      Arrays.sort(keys);
+      x = new double[count];
+      y = new double[count];
+      weight = new double[count];
+      for (int i = 0; i < count; i++) {
+        final int index = (int) (keys[i] & MAX_POINTS);
+        x[i] = ClusterAlgorithm.toX(data[3 * index + 1]);
+        y[i] = ClusterAlgorithm.toY(data[3 * index]);
+        weight[i] = data[3 * index + 2];
+      }
+    }
+
+    int size() {
+      return x.length;
+    }
+
+    /**
+     * Returns the largest sum of weights in a cell of a grid with {@code cellsPerSide} cells on
+     * each side of the world.
+     *
+     * <p>Points are sorted by x, so each column of cells is a run of points, whose rows are found
+     * by sorting the run on primitive keys.
+     */
+    @VisibleForTesting
+    double maxCellWeight(double cellsPerSide) {
+      // Columns are computed from x quantized as in the constructor, so that they never decrease.
+      final double columnsPerQuantum = cellsPerSide / X_QUANTIZATION;
+      double max = 0;
+      long[] run = new long[16];
+      int start = 0;
+      while (start < x.length) {
+        final long column = (long) ((long) (x[start] * X_QUANTIZATION) * columnsPerQuantum);
+        int end = start + 1;
+        while (end < x.length
+            && (long) ((long) (x[end] * X_QUANTIZATION) * columnsPerQuantum) == column) {
+          end++;
+        }
+        final int length = end - start;
+        if (run.length < length) {
+          run = new long[Math.max(length, 2 * run.length)];
+        }
+        // Rows take at most 31 bits, as cellsPerSide is at most 2^30, then the index in the run.
+        for (int i = 0; i < length; i++) {
+          run[i] = ((long) (y[start + i] * cellsPerSide) << INDEX_BITS) | i;
+        }
+        Arrays.sort(run, 0, length);
+        long row = -1;
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+          if (run[i] >>> INDEX_BITS != row) {
+            row = run[i] >>> INDEX_BITS;
+            sum = 0;
+          }
+          sum += weight[start + (int) (run[i] & MAX_POINTS)];
+          max = Math.max(max, sum);
+        }
+        start = end;
+      }
+      return max;
+    }
+
+    int firstIndexAtOrAfter(double value) {
+      int low = 0;
+      int high = x.length;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (x[middle] < value) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+  }
+}
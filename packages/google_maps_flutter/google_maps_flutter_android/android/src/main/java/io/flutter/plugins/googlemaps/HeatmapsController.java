@@ -0,0 +1,88 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.TileOverlay;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heatmaps drawn natively from weighted points.
+ *
+ * <p>Each heatmap is a tile overlay whose tiles are drawn by a {@link HeatmapTileProvider}, so the
+ * points are only sent once instead of tile by tile as with {@link TileOverlaysController}.
+ */
+class HeatmapsController {
+
+  private final Map<String, HeatmapController> heatmapIdToController;
+  private GoogleMap googleMap;
+
+  HeatmapsController() {
+    this.heatmapIdToController = new HashMap<>();
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  void addHeatmaps(List<Map<String, ?>> heatmapsToAdd) {
+    if (heatmapsToAdd == null) {
+      return;
+    }
+    for (Map<String, ?> heatmapToAdd : heatmapsToAdd) {
+      addHeatmap(heatmapToAdd);
+    }
+  }
+
+  void changeHeatmaps(List<Map<String, ?>> heatmapsToChange) {
+    if (heatmapsToChange == null) {
+      return;
+    }
+    for (Map<String, ?> heatmapToChange : heatmapsToChange) {
+      changeHeatmap(heatmapToChange);
+    }
+  }
+
+  void removeHeatmaps(List<String> heatmapIdsToRemove) {
+    if (heatmapIdsToRemove == null) {
+      return;
+    }
+    for (String heatmapId : heatmapIdsToRemove) {
+      if (heatmapId == null) {
+        continue;
+      }
+      final HeatmapController heatmapController = heatmapIdToController.remove(heatmapId);
+      if (heatmapController != null) {
+        heatmapController.remove();
+      }
+    }
+  }
+
+  private void addHeatmap(Map<String, ?> heatmapOptions) {
+    if (heatmapOptions == null) {
+      return;
+    }
+    HeatmapBuilder heatmapBuilder = new HeatmapBuilder();
+    String heatmapId = Convert.interpretHeatmapOptions(heatmapOptions, heatmapBuilder);
+    TileOverlay tileOverlay = googleMap.addTileOverlay(heatmapBuilder.build());
+    HeatmapController heatmapController =
+        new HeatmapController(tileOverlay, heatmapBuilder.getTileProvider());
+    heatmapIdToController.put(heatmapId, heatmapController);
+  }
+
+  private void changeHeatmap(Map<String, ?> heatmapOptions) {
+    if (heatmapOptions == null) {
+      return;
+    }
+    String heatmapId = (String) heatmapOptions.get("heatmapId");
+    HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
+    if (heatmapController != null) {
+      Convert.interpretHeatmapOptions(heatmapOptions, heatmapController);
+      heatmapController.redrawIfNeeded();
+    }
+  }
+}
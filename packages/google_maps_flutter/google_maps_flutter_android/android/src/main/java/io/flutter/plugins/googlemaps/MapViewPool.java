@@ -0,0 +1,243 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.annotation.SuppressLint;
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.view.ViewGroup;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.CameraUpdateFactory;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.UiSettings;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of created {@link MapView}s whose {@link GoogleMap} is already initialized.
+ *
+ * <p>Creating a map view and waiting for its map takes hundreds of milliseconds. When the pool is
+ * warmed up, new map platform views take a ready map view from it, and disposed ones give theirs
+ * back after resetting it. The pool is empty, and never keeps map views, until {@link #warmUp} is
+ * called.
+ *
+ * <p>Map views that need options only settable at creation, such as lite mode, are never pooled.
+ * Neither are map views created for an activity other than the attached one, which they would
+ * otherwise keep alive after it is destroyed.
+ */
+final class MapViewPool {
+
+  /** A map view in the pool, and its map once it is ready. */
+  static final class Entry {
+    final MapView mapView;
+    @Nullable GoogleMap googleMap;
+
+    Entry(MapView mapView) {
+      this.mapView = mapView;
+    }
+  }
+
+  private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+  // The activity that the released map views may belong to.
+  @Nullable private Activity activity;
+  private int maxSize = 0;
+  private int warmingCount = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private int warmedCount = 0;
+  private long warmUpNanos = 0;
+
+  /**
+   * Creates map views until the pool holds {@code size} of them, and keeps up to {@code size}
+   * disposed map views from now on.
+   */
+  void warmUp(Context context, int size) {
+    maxSize = size;
+    while (entries.size() + warmingCount < maxSize) {
+      final long startNanos = System.nanoTime();
+      final Entry entry = new Entry(new MapView(context, new GoogleMapOptions()));
+      entry.mapView.onCreate(null);
+      warmingCount++;
+      entry.mapView.getMapAsync(
+          googleMap -> {
+            warmingCount--;
+            warmedCount++;
+            warmUpNanos += System.nanoTime() - startNanos;
+            entry.googleMap = googleMap;
+            if (entries.size() < maxSize) {
+              entries.add(entry);
+            } else {
+              entry.mapView.onDestroy();
+            }
+          });
+    }
+  }
+
+  /** Destroys every pooled map view, and stops pooling them. */
+  void clear() {
+    maxSize = 0;
+    destroyEntries();
+  }
+
+  /**
+   * Sets the activity that the map views of new maps are created for, or null once it is detached
+   * or destroyed.
+   *
+   * <p>The pooled map views are destroyed when the activity changes, as they may belong to the
+   * previous one. The pool keeps its size, and is filled again by the maps of the new activity.
+   */
+  void setActivity(@Nullable Activity activity) {
+    if (this.activity == activity) {
+      return;
+    }
+    this.activity = activity;
+    destroyEntries();
+  }
+
+  @VisibleForTesting
+  void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  private void destroyEntries() {
+    for (Entry entry : entries) {
+      entry.mapView.onDestroy();
+    }
+    entries.clear();
+  }
+
+  /** Returns a ready map view for a map with {@code options}, or null if there is none. */
+  @Nullable
+  Entry acquire(@Nullable GoogleMapOptions options) {
+    if (maxSize == 0) {
+      return null;
+    }
+    if (entries.isEmpty() || !canReuse(options)) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    return entries.poll();
+  }
+
+  /**
+   * Takes back the map view of a disposed map, after resetting its map. Returns false, leaving the
+   * map view untouched, if the pool is full or the map view belongs to an activity other than the
+   * attached one.
+   *
+   * @param started whether the map view was started, and so needs to be stopped first.
+   * @param resumed whether the map view was resumed, and so needs to be paused first.
+   */
+  @SuppressLint("MissingPermission")
+  boolean release(MapView mapView, GoogleMap googleMap, boolean started, boolean resumed) {
+    if (entries.size() >= maxSize || !canPool(mapView.getContext())) {
+      return false;
+    }
+    if (resumed) {
+      mapView.onPause();
+    }
+    if (started) {
+      mapView.onStop();
+    }
+    final ViewGroup parent = (ViewGroup) mapView.getParent();
+    if (parent != null) {
+      parent.removeView(mapView);
+    }
+    googleMap.clear();
+    googleMap.setOnMapLoadedCallback(null);
+    googleMap.setOnInfoWindowClickListener(null);
+    googleMap.setMapStyle(null);
+    googleMap.setPadding(0, 0, 0, 0);
+    googleMap.setMyLocationEnabled(false);
+    googleMap.setTrafficEnabled(false);
+    googleMap.setIndoorEnabled(true);
+    googleMap.setBuildingsEnabled(true);
+    googleMap.setContentDescription(null);
+    final Entry entry = new Entry(mapView);
+    entry.googleMap = googleMap;
+    entries.add(entry);
+    return true;
+  }
+
+  Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>(5);
+    stats.put("available", entries.size());
+    stats.put("maxSize", maxSize);
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    stats.put(
+        "averageWarmUpMicros",
+        warmedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(warmUpNanos) / warmedCount);
+    return stats;
+  }
+
+  // Map views created for the application context, such as warmed up ones, don't keep an activity.
+  private boolean canPool(@Nullable Context context) {
+    if (activity == null) {
+      return false;
+    }
+    final Activity owner = findActivity(context);
+    return owner == null || owner == activity;
+  }
+
+  @Nullable
+  private static Activity findActivity(@Nullable Context context) {
+    while (context instanceof ContextWrapper) {
+      if (context instanceof Activity) {
+        return (Activity) context;
+      }
+      context = ((ContextWrapper) context).getBaseContext();
+    }
+    return null;
+  }
+
+  private static boolean canReuse(@Nullable GoogleMapOptions options) {
+    if (options == null) {
+      return true;
+    }
+    return !Boolean.TRUE.equals(options.getLiteMode())
+        && !Boolean.TRUE.equals(options.getZOrderOnTop())
+        && options.getMapId() == null;
+  }
+
+  /**
+   * Applies the {@code options} a new map would have been created with to a pooled map, setting the
+   * SDK defaults for the options left unset.
+   */
+  static void applyOptions(GoogleMap googleMap, @Nullable GoogleMapOptions options) {
+    final GoogleMapOptions mapOptions = options != null ? options : new GoogleMapOptions();
+    if (mapOptions.getCamera() != null) {
+      googleMap.moveCamera(CameraUpdateFactory.newCameraPosition(mapOptions.getCamera()));
+    }
+    googleMap.setMapType(
+        mapOptions.getMapType() >= 0 ? mapOptions.getMapType() : GoogleMap.MAP_TYPE_NORMAL);
+    googleMap.setLatLngBoundsForCameraTarget(mapOptions.getLatLngBoundsForCameraTarget());
+    googleMap.resetMinMaxZoomPreference();
+    if (mapOptions.getMinZoomPreference() != null) {
+      googleMap.setMinZoomPreference(mapOptions.getMinZoomPreference());
+    }
+    if (mapOptions.getMaxZoomPreference() != null) {
+      googleMap.setMaxZoomPreference(mapOptions.getMaxZoomPreference());
+    }
+    final UiSettings uiSettings = googleMap.getUiSettings();
+    uiSettings.setCompassEnabled(orTrue(mapOptions.getCompassEnabled()));
+    uiSettings.setMapToolbarEnabled(orTrue(mapOptions.getMapToolbarEnabled()));
+    uiSettings.setRotateGesturesEnabled(orTrue(mapOptions.getRotateGesturesEnabled()));
+    uiSettings.setScrollGesturesEnabled(orTrue(mapOptions.getScrollGesturesEnabled()));
+    uiSettings.setTiltGesturesEnabled(orTrue(mapOptions.getTiltGesturesEnabled()));
+    uiSettings.setZoomGesturesEnabled(orTrue(mapOptions.getZoomGesturesEnabled()));
+    uiSettings.setZoomControlsEnabled(orTrue(mapOptions.getZoomControlsEnabled()));
+  }
+
+  private static boolean orTrue(@Nullable Boolean value) {
+    return value == null || value;
+  }
+}
@@ -4,9 +4,14 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /** Controller of a single Marker on the map. */
 class MarkerController implements MarkerOptionsSink {
@@ -14,11 +19,19 @@ class MarkerController implements MarkerOptionsSink {
   private final Marker marker;
   private final String googleMapsMarkerId;
   private boolean consumeTapEvents;
+  // The options last applied to the marker, as sent by Dart, by option name.
+  private final Map<Object, Object> appliedOptions = new HashMap<>();
+  // The position and rotation the marker is drawn at, including during animations.
+  @Nullable private LatLng position;
+  private float rotation;
+  @Nullable private Animation animation;
 
   MarkerController(Marker marker, boolean consumeTapEvents) {
     this.marker = marker;
     this.consumeTapEvents = consumeTapEvents;
     this.googleMapsMarkerId = marker.getId();
+    this.position = marker.getPosition();
+    this.rotation = marker.getRotation();
   }
 
   void remove() {
@@ -68,14 +81,125 @@ class MarkerController implements MarkerOptionsSink {
 
   @Override
   public void setPosition(LatLng position) {
+    animation = null;
+    this.position = position;
     marker.setPosition(position);
   }
 
   @Override
   public void setRotation(float rotation) {
+    if (animation != null) {
+      animation.animatesRotation = false;
+    }
+    this.rotation = rotation;
     marker.setRotation(rotation);
   }
 
+  @Nullable
+  LatLng getPosition() {
+    return position;
+  }
+
+  /**
+   * Starts moving the marker from where it is drawn to {@code target}, and rotating it to {@code
+   * targetRotation} if it is not null, over {@code durationNanos} from {@code startNanos}.
+   *
+   * <p>The marker only moves when {@link #stepAnimation} is called. Setting its position stops the
+   * animation, and setting its rotation stops animating the rotation.
+   */
+  void animateTo(
+      LatLng target, @Nullable Float targetRotation, long startNanos, long durationNanos) {
+    if (position == null || durationNanos <= 0) {
+      setPosition(target);
+      if (targetRotation != null) {
+        setRotation(targetRotation);
+      }
+      return;
+    }
+    animation =
+        new Animation(position, target, rotation, targetRotation, startNanos, durationNanos);
+  }
+
+  /**
+   * Draws the marker where its animation is at {@code frameTimeNanos}. Returns whether the
+   * animation is still running.
+   */
+  boolean stepAnimation(long frameTimeNanos) {
+    final Animation animation = this.animation;
+    if (animation == null) {
+      return false;
+    }
+    final double fraction =
+        Math.max(
+            0,
+            Math.min(
+                1, (frameTimeNanos - animation.startNanos) / (double) animation.durationNanos));
+    position =
+        new LatLng(
+            animation.fromLatitude + fraction * (animation.toLatitude - animation.fromLatitude),
+            animation.fromLongitude + fraction * (animation.toLongitude - animation.fromLongitude));
+    marker.setPosition(position);
+    if (animation.animatesRotation) {
+      rotation =
+          (float)
+              (animation.fromRotation
+                  + fraction * (animation.toRotation - animation.fromRotation));
+      marker.setRotation(rotation);
+    }
+    if (fraction >= 1) {
+      this.animation = null;
+      return false;
+    }
+    return true;
+  }
+
+  /** Stops the animation of the marker, leaving it where it is drawn. */
+  void cancelAnimation() {
+    animation = null;
+  }
+
+  /** Linear motion of a marker between two keyframes. */
+  private static final class Animation {
+    final double fromLatitude;
+    final double fromLongitude;
+    final double toLatitude;
+    // Unwrapped, so that the marker crosses the antimeridian rather than the whole world.
+    final double toLongitude;
+    final double fromRotation;
+    // Unwrapped, so that the marker turns the short way.
+    final double toRotation;
+    final long startNanos;
+    final long durationNanos;
+    boolean animatesRotation;
+
+    Animation(
+        LatLng from,
+        LatLng to,
+        float fromRotation,
+        @Nullable Float toRotation,
+        long startNanos,
+        long durationNanos) {
+      this.fromLatitude = from.latitude;
+      this.fromLongitude = from.longitude;
+      this.toLatitude = to.latitude;
+      this.toLongitude = from.longitude + shortestDelta(to.longitude - from.longitude);
+      this.fromRotation = fromRotation;
+      this.animatesRotation = toRotation != null;
+      this.toRotation =
+          toRotation == null
+              ? fromRotation
+              : fromRotation + shortestDelta(toRotation - fromRotation);
+      this.startNanos = startNanos;
+      this.durationNanos = durationNanos;
+    }
+
+    /** Returns {@code degrees} wrapped to [-180, 180). */
+    private static double shortestDelta(double degrees) {
+      final double wrapped = (degrees + 180) % 360;
+      return (wrapped < 0 ? wrapped + 360 : wrapped) - 180;
+    }
+  }
+
   @Override
   public void setVisible(boolean visible) {
     marker.setVisible(visible);
@@ -86,6 +210,80 @@ class MarkerController implements MarkerOptionsSink {
     marker.setZIndex(zIndex);
   }
 
+  /**
+   * Returns the options of {@code options} whose value differs from the one last applied to the
+   * marker, so that unchanged options, such as an icon that would be decoded again, are skipped.
+   */
+  Map<Object, Object> changedOptions(Map<?, ?> options) {
+    final Map<Object, Object> changed = new HashMap<>();
+    for (Map.Entry<?, ?> option : options.entrySet()) {
+      if (option.getValue() != null
+          && !sameOptionValue(appliedOptions.get(option.getKey()), option.getValue())) {
+        changed.put(option.getKey(), option.getValue());
+      }
+    }
+    return changed;
+  }
+
+  /** Records {@code options} as applied to the marker. */
+  void setAppliedOptions(Map<?, ?> options) {
+    for (Map.Entry<?, ?> option : options.entrySet()) {
+      if (option.getValue() != null) {
+        appliedOptions.put(option.getKey(), option.getValue());
+      }
+    }
+  }
+
+  /** Records a position that was applied, or dragged to, without going through the options. */
+  void setAppliedPosition(LatLng position) {
+    appliedOptions.put("position", Arrays.asList(position.latitude, position.longitude));
+  }
+
+  /** Records a rotation that was applied without going through the options. */
+  void setAppliedRotation(double rotation) {
+    appliedOptions.put("rotation", rotation);
+  }
+
+  private static boolean sameOptionValue(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof byte[] && b instanceof byte[]) {
+      return Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof List && b instanceof List) {
+      final List<?> listA = (List<?>) a;
+      final List<?> listB = (List<?>) b;
+      if (listA.size() != listB.size()) {
+        return false;
+      }
+      for (int i = 0; i < listA.size(); i++) {
+        if (!sameOptionValue(listA.get(i), listB.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      final Map<?, ?> mapA = (Map<?, ?>) a;
+      final Map<?, ?> mapB = (Map<?, ?>) b;
+      if (mapA.size() != mapB.size()) {
+        return false;
+      }
+      for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+        if (!mapB.containsKey(entry.getKey())
+            || !sameOptionValue(entry.getValue(), mapB.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return a.equals(b);
+  }
+
   String getGoogleMapsMarkerId() {
     return googleMapsMarkerId;
   }
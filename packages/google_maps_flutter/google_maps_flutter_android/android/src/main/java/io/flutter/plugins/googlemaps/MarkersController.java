@@ -4,26 +4,66 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 class MarkersController {
 
+  /**
+   * Time spent adding markers to the map per frame during a bulk add.
+   *
+   * <p>This is about half of a 60hz frame, leaving the rest of the frame to the map renderer and
+   * the rest of the UI.
+   */
+  private static final long BULK_ADD_FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
   private final Map<String, MarkerController> markerIdToController;
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
+  // Ids of markers submitted to a bulk add but not yet added to the map, including while their
+  // options are interpreted. Removing an id drops the marker from the bulk add.
+  private final Set<String> pendingBulkMarkerIds;
+  // Latest changes to markers in pendingBulkMarkerIds, applied once the markers are added.
+  private final Map<String, Object> pendingBulkMarkerChanges = new HashMap<>();
+  // Positions of the markers on the map, for spatial queries.
+  private final BoundsIndex positionIndex = new BoundsIndex();
   private final MethodChannel methodChannel;
+  private final Executor backgroundExecutor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  // Markers with a running animation, stepped on every frame until they arrive.
+  private final Map<String, MarkerController> animatingMarkers = new HashMap<>();
+  private final Choreographer.FrameCallback animationFrameCallback = this::stepAnimations;
+  private boolean animationFrameScheduled = false;
   private GoogleMap googleMap;
+  private int bulkAddGeneration = 0;
 
   MarkersController(MethodChannel methodChannel) {
+    this(methodChannel, Runnable::run);
+  }
+
+  MarkersController(MethodChannel methodChannel, Executor backgroundExecutor) {
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
+    this.pendingBulkMarkerIds = new HashSet<>();
     this.methodChannel = methodChannel;
+    this.backgroundExecutor = backgroundExecutor;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -38,6 +78,71 @@ class MarkersController {
     }
   }
 
+  /**
+   * Adds {@code markersToAdd} without blocking the platform thread for the whole batch.
+   *
+   * <p>Marker options are interpreted on the background executor, then the resulting markers are
+   * added to the map in chunks that fit in {@link #BULK_ADD_FRAME_BUDGET_NANOS} per frame. When
+   * {@code reportProgress} is set, a {@code markers#onBulkAddProgress} event is sent after each
+   * chunk. {@code result} completes with the number of added markers and timings in milliseconds
+   * once the last chunk has been added.
+   *
+   * <p>Markers removed before they are added, including while their options are interpreted, are
+   * skipped, and changes sent meanwhile are applied when they are added.
+   */
+  void addMarkersInBulk(
+      List<Object> markersToAdd, boolean reportProgress, MethodChannel.Result result) {
+    if (markersToAdd == null || markersToAdd.isEmpty()) {
+      result.success(bulkAddResultToJson(0, 0, 0));
+      return;
+    }
+    final long startNanos = System.nanoTime();
+    final int generation = bulkAddGeneration;
+    final List<Object> markers = new ArrayList<>(markersToAdd);
+    // Recorded before interpreting, so that removes and changes sent meanwhile are not lost.
+    final List<String> markerIds = new ArrayList<>(markers.size());
+    for (Object marker : markers) {
+      if (marker instanceof Map && getMarkerId(marker) != null) {
+        markerIds.add(getMarkerId(marker));
+      }
+    }
+    pendingBulkMarkerIds.addAll(markerIds);
+    backgroundExecutor.execute(
+        () -> {
+          final List<InterpretedMarker> interpretedMarkers;
+          try {
+            interpretedMarkers = interpretMarkers(markers);
+          } catch (Exception e) {
+            runOnMainThread(
+                () -> {
+                  if (generation == bulkAddGeneration) {
+                    pendingBulkMarkerIds.removeAll(markerIds);
+                    pendingBulkMarkerChanges.keySet().removeAll(markerIds);
+                  }
+                  result.error("Invalid marker", e.getMessage(), null);
+                });
+            return;
+          }
+          final long parseNanos = System.nanoTime() - startNanos;
+          runOnMainThread(
+              () -> {
+                if (generation != bulkAddGeneration) {
+                  result.error("Bulk add cancelled", "The map was disposed", null);
+                  return;
+                }
+                new BulkAdd(interpretedMarkers, generation, reportProgress, result, startNanos)
+                    .start(parseNanos);
+              });
+        });
+  }
+
+  /** Stops any bulk add in progress. Markers that were not added yet are dropped. */
+  void cancelBulkAdds() {
+    bulkAddGeneration++;
+    pendingBulkMarkerIds.clear();
+    pendingBulkMarkerChanges.clear();
+  }
+
   void changeMarkers(List<Object> markersToChange) {
     if (markersToChange != null) {
       for (Object markerToChange : markersToChange) {
@@ -46,6 +151,94 @@ class MarkersController {
     }
   }
 
+  /**
+   * Moves markers without interpreting their options, for markers that move every frame.
+   *
+   * <p>{@code positions} holds the latitude and longitude of each marker in {@code markerIds},
+   * packed as {@code [lat0, lng0, lat1, lng1, ...]}. {@code rotations}, if not null, holds the
+   * rotation of each marker. Unknown marker ids are ignored.
+   */
+  void updateMarkerPositions(
+      List<String> markerIds, double[] positions, @Nullable double[] rotations) {
+    for (int i = 0; i < markerIds.size(); i++) {
+      final String markerId = markerIds.get(i);
+      final MarkerController markerController = markerIdToController.get(markerId);
+      if (markerController == null) {
+        continue;
+      }
+      final LatLng position = new LatLng(positions[2 * i], positions[2 * i + 1]);
+      markerController.setPosition(position);
+      markerController.setAppliedPosition(position);
+      positionIndex.putPoint(markerId, position);
+      if (rotations != null) {
+        markerController.setRotation((float) rotations[i]);
+        markerController.setAppliedRotation(rotations[i]);
+      }
+    }
+  }
+
+  /**
+   * Animates markers to new positions, and rotations, over {@code durationMillis}, so that a
+   * single update per location fix draws smooth motion.
+   *
+   * <p>{@code positions} and {@code rotations} are packed as in {@link #updateMarkerPositions}.
+   * Markers that are already animating start from where they are drawn. Setting the position of a
+   * marker stops its animation.
+   */
+  void animateMarkers(
+      List<String> markerIds,
+      double[] positions,
+      @Nullable double[] rotations,
+      long durationMillis) {
+    final long startNanos = System.nanoTime();
+    final long durationNanos = TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    for (int i = 0; i < markerIds.size(); i++) {
+      final String markerId = markerIds.get(i);
+      final MarkerController markerController = markerIdToController.get(markerId);
+      if (markerController == null) {
+        continue;
+      }
+      final LatLng target = new LatLng(positions[2 * i], positions[2 * i + 1]);
+      final Float rotation = rotations == null ? null : (float) rotations[i];
+      markerController.animateTo(target, rotation, startNanos, durationNanos);
+      markerController.setAppliedPosition(target);
+      if (rotations != null) {
+        markerController.setAppliedRotation(rotations[i]);
+      }
+      animatingMarkers.put(markerId, markerController);
+    }
+    if (!animatingMarkers.isEmpty() && !animationFrameScheduled) {
+      animationFrameScheduled = true;
+      Choreographer.getInstance().postFrameCallback(animationFrameCallback);
+    }
+  }
+
+  /** Stops every marker animation, leaving the markers where they are drawn. */
+  void cancelAnimations() {
+    for (MarkerController markerController : animatingMarkers.values()) {
+      markerController.cancelAnimation();
+    }
+    animatingMarkers.clear();
+  }
+
+  private void stepAnimations(long frameTimeNanos) {
+    animationFrameScheduled = false;
+    final Iterator<Map.Entry<String, MarkerController>> iterator =
+        animatingMarkers.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, MarkerController> entry = iterator.next();
+      final MarkerController markerController = entry.getValue();
+      if (!markerController.stepAnimation(frameTimeNanos)) {
+        iterator.remove();
+      }
+      positionIndex.putPoint(entry.getKey(), markerController.getPosition());
+    }
+    if (!animatingMarkers.isEmpty()) {
+      animationFrameScheduled = true;
+      Choreographer.getInstance().postFrameCallback(animationFrameCallback);
+    }
+  }
+
   void removeMarkers(List<Object> markerIdsToRemove) {
     if (markerIdsToRemove == null) {
       return;
@@ -55,14 +248,39 @@ class MarkersController {
         continue;
       }
       String markerId = (String) rawMarkerId;
+      pendingBulkMarkerIds.remove(markerId);
+      pendingBulkMarkerChanges.remove(markerId);
+      animatingMarkers.remove(markerId);
       final MarkerController markerController = markerIdToController.remove(markerId);
       if (markerController != null) {
         markerController.remove();
+        positionIndex.remove(markerId);
         googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
       }
     }
   }
 
+  /** Returns the ids of the markers within {@code radiusMeters} of {@code point}. */
+  List<String> queryPoint(LatLng point, double radiusMeters) {
+    final List<String> markerIds = new ArrayList<>();
+    for (String markerId : positionIndex.query(BoundsIndex.around(point, radiusMeters))) {
+      if (positionIndex.distanceMeters(markerId, point) <= radiusMeters) {
+        markerIds.add(markerId);
+      }
+    }
+    return markerIds;
+  }
+
+  /** Returns the ids of the markers inside of {@code bounds}. */
+  List<String> queryBounds(LatLngBounds bounds) {
+    return new ArrayList<>(positionIndex.query(bounds));
+  }
+
+  /** Returns the ids of the {@code count} markers closest to {@code point}, closest first. */
+  List<String> nearestMarkers(LatLng point, int count) {
+    return new ArrayList<>(positionIndex.nearest(point, count));
+  }
+
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
@@ -110,6 +328,10 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    final MarkerController markerController = animatingMarkers.remove(markerId);
+    if (markerController != null) {
+      markerController.cancelAnimation();
+    }
     final Map<String, Object> data = new HashMap<>();
     data.put("markerId", markerId);
     data.put("position", Convert.latLngToJson(latLng));
@@ -132,6 +354,11 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    positionIndex.putPoint(markerId, latLng);
+    final MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController != null) {
+      markerController.setAppliedPosition(latLng);
+    }
     final Map<String, Object> data = new HashMap<>();
     data.put("markerId", markerId);
     data.put("position", Convert.latLngToJson(latLng));
@@ -153,14 +380,134 @@ class MarkersController {
     MarkerBuilder markerBuilder = new MarkerBuilder();
     String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
     MarkerOptions options = markerBuilder.build();
-    addMarker(markerId, options, markerBuilder.consumeTapEvents());
+    addMarker(markerId, options, markerBuilder.consumeTapEvents(), (Map<?, ?>) marker);
   }
 
-  private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
+  private void addMarker(
+      String markerId,
+      MarkerOptions markerOptions,
+      boolean consumeTapEvents,
+      Map<?, ?> appliedOptions) {
     final Marker marker = googleMap.addMarker(markerOptions);
     MarkerController controller = new MarkerController(marker, consumeTapEvents);
+    controller.setAppliedOptions(appliedOptions);
     markerIdToController.put(markerId, controller);
     googleMapsMarkerIdToDartMarkerId.put(marker.getId(), markerId);
+    positionIndex.putPoint(markerId, markerOptions.getPosition());
+  }
+
+  private void runOnMainThread(Runnable runnable) {
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      runnable.run();
+    } else {
+      mainHandler.post(runnable);
+    }
+  }
+
+  @VisibleForTesting
+  static List<InterpretedMarker> interpretMarkers(List<Object> markers) {
+    final List<InterpretedMarker> interpretedMarkers = new ArrayList<>(markers.size());
+    for (Object marker : markers) {
+      if (marker == null) {
+        continue;
+      }
+      MarkerBuilder markerBuilder = new MarkerBuilder();
+      String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
+      interpretedMarkers.add(
+          new InterpretedMarker(
+              markerId,
+              markerBuilder.build(),
+              markerBuilder.consumeTapEvents(),
+              (Map<?, ?>) marker));
+    }
+    return interpretedMarkers;
+  }
+
+  private static Map<String, Object> bulkAddResultToJson(
+      int added, long parseNanos, long totalNanos) {
+    final Map<String, Object> data = new HashMap<>(3);
+    data.put("added", added);
+    data.put("parseMillis", TimeUnit.NANOSECONDS.toMillis(parseNanos));
+    data.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+    return data;
+  }
+
+  /** Marker options that were interpreted ahead of being added to the map. */
+  @VisibleForTesting
+  static final class InterpretedMarker {
+    final String markerId;
+    final MarkerOptions options;
+    final boolean consumeTapEvents;
+    // The options as sent by Dart.
+    final Map<?, ?> data;
+
+    InterpretedMarker(
+        String markerId, MarkerOptions options, boolean consumeTapEvents, Map<?, ?> data) {
+      this.markerId = markerId;
+      this.options = options;
+      this.consumeTapEvents = consumeTapEvents;
+      this.data = data;
+    }
+  }
+
+  /** Adds interpreted markers to the map in frame-budgeted chunks. */
+  private final class BulkAdd implements Choreographer.FrameCallback {
+    private final List<InterpretedMarker> markers;
+    private final int generation;
+    private final boolean reportProgress;
+    private final MethodChannel.Result result;
+    private final long startNanos;
+    private long parseNanos;
+    private int nextIndex = 0;
+    private int added = 0;
+
+    BulkAdd(
+        List<InterpretedMarker> markers,
+        int generation,
+        boolean reportProgress,
+        MethodChannel.Result result,
+        long startNanos) {
+      this.markers = markers;
+      this.generation = generation;
+      this.reportProgress = reportProgress;
+      this.result = result;
+      this.startNanos = startNanos;
+    }
+
+    void start(long parseNanos) {
+      this.parseNanos = parseNanos;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      if (generation != bulkAddGeneration) {
+        result.error("Bulk add cancelled", "The map was disposed", null);
+        return;
+      }
+      final long chunkStartNanos = System.nanoTime();
+      while (nextIndex < markers.size()
+          && System.nanoTime() - chunkStartNanos < BULK_ADD_FRAME_BUDGET_NANOS) {
+        InterpretedMarker marker = markers.get(nextIndex++);
+        // Skip markers that were removed while waiting to be added.
+        if (pendingBulkMarkerIds.remove(marker.markerId)) {
+          addMarker(marker.markerId, marker.options, marker.consumeTapEvents, marker.data);
+          changeMarker(pendingBulkMarkerChanges.remove(marker.markerId));
+          added++;
+        }
+      }
+      if (reportProgress) {
+        final Map<String, Object> progress = new HashMap<>(2);
+        progress.put("added", nextIndex);
+        progress.put("total", markers.size());
+        methodChannel.invokeMethod("markers#onBulkAddProgress", progress);
+      }
+      if (nextIndex < markers.size()) {
+        Choreographer.getInstance().postFrameCallback(this);
+      } else {
+        result.success(bulkAddResultToJson(added, parseNanos, System.nanoTime() - startNanos));
+      }
+    }
   }
 
   private void changeMarker(Object marker) {
@@ -169,8 +516,24 @@ class MarkersController {
     }
     String markerId = getMarkerId(marker);
     MarkerController markerController = markerIdToController.get(markerId);
-    if (markerController != null) {
-      Convert.interpretMarkerOptions(marker, markerController);
+    if (markerController == null) {
+      // Changes sent before a bulk added marker reaches the map are applied once it does.
+      if (pendingBulkMarkerIds.contains(markerId)) {
+        pendingBulkMarkerChanges.put(markerId, marker);
+      }
+      return;
+    }
+    final Map<Object, Object> changedOptions =
+        markerController.changedOptions((Map<?, ?>) marker);
+    if (changedOptions.isEmpty()) {
+      return;
+    }
+    changedOptions.put("markerId", markerId);
+    Convert.interpretMarkerOptions(changedOptions, markerController);
+    markerController.setAppliedOptions(changedOptions);
+    final Object position = changedOptions.get("position");
+    if (position != null) {
+      positionIndex.putPoint(markerId, Convert.toLatLng(position));
     }
   }
 
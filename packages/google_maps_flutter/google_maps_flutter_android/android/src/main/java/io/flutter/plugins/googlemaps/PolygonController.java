@@ -14,6 +14,8 @@ class PolygonController implements PolygonOptionsSink {
   private final String googleMapsPolygonId;
   private final float density;
   private boolean consumeTapEvents;
+  private boolean visible = true;
+  private boolean culled = false;
 
   PolygonController(Polygon polygon, boolean consumeTapEvents, float density) {
     this.polygon = polygon;
@@ -58,7 +60,25 @@ class PolygonController implements PolygonOptionsSink {
 
   @Override
   public void setVisible(boolean visible) {
-    polygon.setVisible(visible);
+    this.visible = visible;
+    if (!culled) {
+      polygon.setVisible(visible);
+    }
+  }
+
+  /**
+   * Hides the polygon while it is outside of the viewport, without losing the visibility requested
+   * by Dart.
+   */
+  void setCulled(boolean culled) {
+    if (this.culled == culled) {
+      return;
+    }
+    if (culled) {
+      visible = polygon.isVisible();
+    }
+    this.culled = culled;
+    polygon.setVisible(visible && !culled);
   }
 
   @Override
@@ -71,6 +91,14 @@ class PolygonController implements PolygonOptionsSink {
     polygon.setZIndex(zIndex);
   }
 
+  List<LatLng> getPoints() {
+    return polygon.getPoints();
+  }
+
+  List<List<LatLng>> getHoles() {
+    return polygon.getHoles();
+  }
+
   String getGoogleMapsPolygonId() {
     return googleMapsPolygonId;
   }
@@ -0,0 +1,184 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.List;
+
+/**
+ * Hit tests against polygons, with their edges drawn as straight lines in Web Mercator as the map
+ * draws non-geodesic polygons.
+ *
+ * <p>Every edge goes the short way around the world, so polygons crossing the antimeridian are
+ * supported.
+ */
+final class PolygonHitTest {
+
+  // Shifts that bring a longitude next to the unwrapped longitudes of a ring.
+  private static final double[] LONGITUDE_SHIFTS = {0, -360, 360};
+
+  private PolygonHitTest() {}
+
+  /** Returns whether {@code point} is inside the polygon and outside of all of its holes. */
+  static boolean contains(List<LatLng> points, List<List<LatLng>> holes, LatLng point) {
+    final double y = ClusterAlgorithm.toY(point.latitude);
+    if (!ringContains(points, point.longitude, y)) {
+      return false;
+    }
+    if (holes != null) {
+      for (List<LatLng> hole : holes) {
+        if (ringContains(hole, point.longitude, y)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the polygon and {@code bounds} have any area in common. */
+  static boolean intersects(List<LatLng> points, List<List<LatLng>> holes, LatLngBounds bounds) {
+    // A corner of the bounds inside of the polygon.
+    if (contains(points, holes, bounds.southwest)) {
+      return true;
+    }
+    double width = bounds.northeast.longitude - bounds.southwest.longitude;
+    if (width < 0) {
+      // The bounds cross the antimeridian.
+      width += 360;
+    }
+    final double centerLongitude = bounds.southwest.longitude + width / 2;
+    final double minY = ClusterAlgorithm.toY(bounds.northeast.latitude);
+    final double maxY = ClusterAlgorithm.toY(bounds.southwest.latitude);
+    // A vertex of the polygon inside of the bounds, or an edge crossing them. This also checks the
+    // holes, whose boundary is part of the polygon's.
+    if (ringIntersects(points, centerLongitude, width / 2, minY, maxY)) {
+      return true;
+    }
+    if (holes != null) {
+      for (List<LatLng> hole : holes) {
+        if (ringIntersects(hole, centerLongitude, width / 2, minY, maxY)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Even-odd ray casting from {@code (longitude, y)} towards the east. */
+  private static boolean ringContains(List<LatLng> ring, double longitude, double y) {
+    final int count = ring.size();
+    if (count < 3) {
+      return false;
+    }
+    final double[] xs = unwrappedLongitudes(ring);
+    final double[] ys = mercatorYs(ring);
+    final double base = xs[0] + unwrap(longitude - xs[0]);
+    for (double shift : LONGITUDE_SHIFTS) {
+      final double x = base + shift;
+      boolean inside = false;
+      for (int i = 0, previous = count - 1; i < count; previous = i++) {
+        if ((ys[i] > y) != (ys[previous] > y)) {
+          final double crossingX =
+              xs[i] + (y - ys[i]) * (xs[previous] - xs[i]) / (ys[previous] - ys[i]);
+          if (crossingX > x) {
+            inside = !inside;
+          }
+        }
+      }
+      if (inside) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether a vertex of {@code ring} is inside of the rectangle, or one of its edges
+   * crosses the rectangle.
+   */
+  private static boolean ringIntersects(
+      List<LatLng> ring, double centerLongitude, double halfWidth, double minY, double maxY) {
+    final int count = ring.size();
+    if (count == 0) {
+      return false;
+    }
+    final double[] xs = unwrappedLongitudes(ring);
+    final double[] ys = mercatorYs(ring);
+    final double base = xs[0] + unwrap(centerLongitude - xs[0]);
+    for (double shift : LONGITUDE_SHIFTS) {
+      final double minX = base + shift - halfWidth;
+      final double maxX = base + shift + halfWidth;
+      for (int i = 0, previous = count - 1; i < count; previous = i++) {
+        if (xs[i] >= minX && xs[i] <= maxX && ys[i] >= minY && ys[i] <= maxY) {
+          return true;
+        }
+        if (segmentCrossesRectangle(
+            xs[previous], ys[previous], xs[i], ys[i], minX, minY, maxX, maxY)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Returns the longitudes of {@code ring}, each within 180 degrees of the previous one. */
+  private static double[] unwrappedLongitudes(List<LatLng> ring) {
+    final double[] xs = new double[ring.size()];
+    for (int i = 0; i < xs.length; i++) {
+      final double longitude = ring.get(i).longitude;
+      xs[i] = i == 0 ? longitude : xs[i - 1] + unwrap(longitude - xs[i - 1]);
+    }
+    return xs;
+  }
+
+  private static double[] mercatorYs(List<LatLng> ring) {
+    final double[] ys = new double[ring.size()];
+    for (int i = 0; i < ys.length; i++) {
+      ys[i] = ClusterAlgorithm.toY(ring.get(i).latitude);
+    }
+    return ys;
+  }
+
+  /** Liang-Barsky clipping of the segment against the rectangle. */
+  private static boolean segmentCrossesRectangle(
+      double x0,
+      double y0,
+      double x1,
+      double y1,
+      double minX,
+      double minY,
+      double maxX,
+      double maxY) {
+    final double dx = x1 - x0;
+    final double dy = y1 - y0;
+    final double[] p = {-dx, dx, -dy, dy};
+    final double[] q = {x0 - minX, maxX - x0, y0 - minY, maxY - y0};
+    double start = 0;
+    double end = 1;
+    for (int i = 0; i < 4; i++) {
+      if (p[i] == 0) {
+        if (q[i] < 0) {
+          return false;
+        }
+      } else {
+        final double t = q[i] / p[i];
+        if (p[i] < 0) {
+          start = Math.max(start, t);
+        } else {
+          end = Math.min(end, t);
+        }
+      }
+    }
+    return start <= end;
+  }
+
+  private static double unwrap(double longitudeDelta) {
+    if (longitudeDelta < -180) {
+      return longitudeDelta + 360;
+    }
+    return longitudeDelta >= 180 ? longitudeDelta - 360 : longitudeDelta;
+  }
+}
@@ -4,19 +4,28 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class PolygonsController {
 
   private final Map<String, PolygonController> polygonIdToController;
   private final Map<String, String> googleMapsPolygonIdToDartPolygonId;
   private final MethodChannel methodChannel;
+  // Bounding boxes of the polygons, for culling and spatial queries.
+  private final BoundsIndex boundsIndex = new BoundsIndex();
+  private boolean cullingEnabled = false;
+  @Nullable private LatLngBounds viewport;
   private final float density;
   private GoogleMap googleMap;
 
@@ -31,6 +40,63 @@ class PolygonsController {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Enables or disables hiding the polygons that are outside of the viewport. While enabled, the
+   * hidden polygons are updated with {@link #cull(LatLngBounds)}.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (!cullingEnabled) {
+      viewport = null;
+      for (PolygonController polygonController : polygonIdToController.values()) {
+        polygonController.setCulled(false);
+      }
+    }
+  }
+
+  /** Hides the polygons that do not intersect {@code viewport} and shows the others. */
+  void cull(LatLngBounds viewport) {
+    if (!cullingEnabled) {
+      return;
+    }
+    this.viewport = viewport;
+    final Set<String> visiblePolygonIds = boundsIndex.query(viewport);
+    for (Map.Entry<String, PolygonController> entry : polygonIdToController.entrySet()) {
+      entry.getValue().setCulled(!visiblePolygonIds.contains(entry.getKey()));
+    }
+  }
+
+  /** Returns the ids of the polygons containing {@code point}. */
+  List<String> queryPoint(LatLng point) {
+    final List<String> polygonIds = new ArrayList<>();
+    for (String polygonId : boundsIndex.query(new LatLngBounds(point, point))) {
+      final PolygonController polygonController = polygonIdToController.get(polygonId);
+      if (polygonController != null
+          && PolygonHitTest.contains(
+              polygonController.getPoints(), polygonController.getHoles(), point)) {
+        polygonIds.add(polygonId);
+      }
+    }
+    return polygonIds;
+  }
+
+  /** Returns the ids of the polygons that overlap {@code bounds}. */
+  List<String> queryBounds(LatLngBounds bounds) {
+    final List<String> polygonIds = new ArrayList<>();
+    for (String polygonId : boundsIndex.query(bounds)) {
+      final PolygonController polygonController = polygonIdToController.get(polygonId);
+      if (polygonController != null
+          && PolygonHitTest.intersects(
+              polygonController.getPoints(), polygonController.getHoles(), bounds)) {
+        polygonIds.add(polygonId);
+      }
+    }
+    return polygonIds;
+  }
+
   void addPolygons(List<Object> polygonsToAdd) {
     if (polygonsToAdd != null) {
       for (Object polygonToAdd : polygonsToAdd) {
@@ -59,6 +125,7 @@ class PolygonsController {
       final PolygonController polygonController = polygonIdToController.remove(polygonId);
       if (polygonController != null) {
         polygonController.remove();
+        boundsIndex.remove(polygonId);
         googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
       }
     }
@@ -93,6 +160,10 @@ class PolygonsController {
     PolygonController controller = new PolygonController(polygon, consumeTapEvents, density);
     polygonIdToController.put(polygonId, controller);
     googleMapsPolygonIdToDartPolygonId.put(polygon.getId(), polygonId);
+    boundsIndex.putPoints(polygonId, polygonOptions.getPoints());
+    if (cullingEnabled) {
+      updateCulled(polygonId, controller);
+    }
   }
 
   private void changePolygon(Object polygon) {
@@ -103,6 +174,18 @@ class PolygonsController {
     PolygonController polygonController = polygonIdToController.get(polygonId);
     if (polygonController != null) {
       Convert.interpretPolygonOptions(polygon, polygonController);
+      if (((Map<?, ?>) polygon).containsKey("points")) {
+        boundsIndex.putPoints(polygonId, polygonController.getPoints());
+        if (cullingEnabled) {
+          updateCulled(polygonId, polygonController);
+        }
+      }
+    }
+  }
+
+  private void updateCulled(String polygonId, PolygonController polygonController) {
+    if (viewport != null) {
+      polygonController.setCulled(!boundsIndex.intersects(polygonId, viewport));
     }
   }
 
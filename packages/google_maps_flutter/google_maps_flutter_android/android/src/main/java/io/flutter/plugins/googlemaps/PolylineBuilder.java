@@ -8,11 +8,14 @@ import com.google.android.gms.maps.model.Cap;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PatternItem;
 import com.google.android.gms.maps.model.PolylineOptions;
+import java.util.Collections;
 import java.util.List;
 
 class PolylineBuilder implements PolylineOptionsSink {
   private final PolylineOptions polylineOptions;
   private boolean consumeTapEvents;
+  private float simplificationTolerance;
+  private List<LatLng> points = Collections.emptyList();
   private final float density;
 
   PolylineBuilder(float density) {
@@ -20,14 +23,29 @@ class PolylineBuilder implements PolylineOptionsSink {
     this.density = density;
   }
 
+  /**
+   * Returns the options to add the polyline with. A polyline with a positive simplification
+   * tolerance is added without its points, which its controller draws once they are simplified.
+   */
   PolylineOptions build() {
+    if (simplificationTolerance <= 0 && polylineOptions.getPoints().isEmpty()) {
+      polylineOptions.addAll(points);
+    }
     return polylineOptions;
   }
 
+  List<LatLng> points() {
+    return points;
+  }
+
   boolean consumeTapEvents() {
     return consumeTapEvents;
   }
 
+  float simplificationTolerance() {
+    return simplificationTolerance;
+  }
+
   @Override
   public void setColor(int color) {
     polylineOptions.color(color);
@@ -50,7 +68,12 @@ class PolylineBuilder implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polylineOptions.addAll(points);
+    this.points = points;
+  }
+
+  @Override
+  public void setSimplificationTolerance(float simplificationTolerance) {
+    this.simplificationTolerance = simplificationTolerance;
   }
 
   @Override
@@ -4,27 +4,57 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.Cap;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PatternItem;
 import com.google.android.gms.maps.model.Polyline;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /** Controller of a single Polyline on the map. */
 class PolylineController implements PolylineOptionsSink {
   private final Polyline polyline;
   private final String googleMapsPolylineId;
   private boolean consumeTapEvents;
+  private boolean visible = true;
+  private boolean culled = false;
   private final float density;
+  private final Executor backgroundExecutor;
+  private final Executor mainExecutor;
+  @Nullable private PolylineSimplifier simplifier;
+  // Every point of a simplified polyline, which may not be drawn.
+  @Nullable private List<LatLng> points;
+  // Incremented whenever the points or tolerance change, so that stale simplifiers are dropped.
+  private int simplifierGeneration = 0;
+  private float simplificationTolerance = 0;
+  private float zoom = Float.NaN;
+  @Nullable private List<LatLng> drawnPoints;
 
   PolylineController(Polyline polyline, boolean consumeTapEvents, float density) {
+    this(polyline, consumeTapEvents, density, Runnable::run, Runnable::run);
+  }
+
+  /**
+   * Creates a controller that simplifies polylines on {@code backgroundExecutor}, and swaps in the
+   * simplified points on {@code mainExecutor}.
+   */
+  PolylineController(
+      Polyline polyline,
+      boolean consumeTapEvents,
+      float density,
+      Executor backgroundExecutor,
+      Executor mainExecutor) {
     this.polyline = polyline;
     this.consumeTapEvents = consumeTapEvents;
     this.density = density;
+    this.backgroundExecutor = backgroundExecutor;
+    this.mainExecutor = mainExecutor;
     this.googleMapsPolylineId = polyline.getId();
   }
 
   void remove() {
+    simplifierGeneration++;
     polyline.remove();
   }
 
@@ -61,7 +91,88 @@ class PolylineController implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polyline.setPoints(points);
+    if (simplificationTolerance > 0) {
+      // The previous line stays drawn until the new points are simplified.
+      this.points = points;
+      simplify(points);
+    } else {
+      polyline.setPoints(points);
+    }
+  }
+
+  /**
+   * Sets how far, in logical pixels, the drawn line may stray from the full one. A positive
+   * tolerance draws fewer points when zoomed out; zero draws every point.
+   */
+  @Override
+  public void setSimplificationTolerance(float simplificationTolerance) {
+    if (this.simplificationTolerance == simplificationTolerance) {
+      return;
+    }
+    this.simplificationTolerance = simplificationTolerance;
+    if (simplificationTolerance > 0) {
+      if (simplifier != null) {
+        updateSimplifiedPoints();
+      } else if (points == null) {
+        points = polyline.getPoints();
+        simplify(points);
+      }
+    } else if (points != null) {
+      simplifierGeneration++;
+      polyline.setPoints(points);
+      points = null;
+      simplifier = null;
+      drawnPoints = null;
+    }
+  }
+
+  /**
+   * Draws {@code points} simplified with {@code simplificationTolerance}, for a polyline that was
+   * added to the map without its points.
+   */
+  void setSimplifiedPoints(List<LatLng> points, float simplificationTolerance) {
+    this.simplificationTolerance = simplificationTolerance;
+    this.points = points;
+    simplify(points);
+  }
+
+  /**
+   * Runs the Douglas-Peucker pass over {@code points} on the background executor, which takes too
+   * long on the platform thread for long tracks.
+   */
+  private void simplify(List<LatLng> points) {
+    final int generation = ++simplifierGeneration;
+    backgroundExecutor.execute(
+        () -> {
+          final PolylineSimplifier newSimplifier = new PolylineSimplifier(points);
+          mainExecutor.execute(
+              () -> {
+                if (generation != simplifierGeneration) {
+                  return;
+                }
+                simplifier = newSimplifier;
+                updateSimplifiedPoints();
+              });
+        });
+  }
+
+  /** Swaps in the simplified points for the camera {@code zoom}, if they changed. */
+  void setZoom(float zoom) {
+    this.zoom = zoom;
+    if (simplifier != null) {
+      updateSimplifiedPoints();
+    }
+  }
+
+  private void updateSimplifiedPoints() {
+    final List<LatLng> points =
+        Float.isNaN(zoom)
+            ? simplifier.getPoints()
+            : simplifier.getPoints((int) Math.ceil(zoom), simplificationTolerance);
+    if (points != drawnPoints) {
+      drawnPoints = points;
+      polyline.setPoints(points);
+    }
   }
 
   @Override
@@ -71,7 +182,25 @@ class PolylineController implements PolylineOptionsSink {
 
   @Override
   public void setVisible(boolean visible) {
-    polyline.setVisible(visible);
+    this.visible = visible;
+    if (!culled) {
+      polyline.setVisible(visible);
+    }
+  }
+
+  /**
+   * Hides the polyline while it is outside of the viewport, without losing the visibility requested
+   * by Dart.
+   */
+  void setCulled(boolean culled) {
+    if (this.culled == culled) {
+      return;
+    }
+    if (culled) {
+      visible = polyline.isVisible();
+    }
+    this.culled = culled;
+    polyline.setVisible(visible && !culled);
   }
 
   @Override
@@ -84,6 +213,11 @@ class PolylineController implements PolylineOptionsSink {
     polyline.setZIndex(zIndex);
   }
 
+  /** Returns every point of the polyline, including the ones simplified away. */
+  List<LatLng> getPoints() {
+    return points != null ? points : polyline.getPoints();
+  }
+
   String getGoogleMapsPolylineId() {
     return googleMapsPolylineId;
   }
@@ -26,6 +26,8 @@ interface PolylineOptionsSink {
 
   void setPoints(List<LatLng> points);
 
+  void setSimplificationTolerance(float simplificationTolerance);
+
   void setStartCap(Cap startCap);
 
   void setVisible(boolean visible);
@@ -0,0 +1,166 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Douglas-Peucker simplification of a polyline for every zoom level.
+ *
+ * <p>The Douglas-Peucker pass runs once, in the constructor, and records for every point the
+ * largest tolerance at which it is still kept. The points for a zoom level are then picked with a
+ * single scan, and cached until the tolerance changes.
+ */
+final class PolylineSimplifier {
+
+  /** The zoom levels above this one reuse its points. */
+  private static final int MAX_ZOOM_LEVEL = 22;
+
+  private static final double TILE_SIZE = 256;
+
+  private final List<LatLng> points;
+  private final double[] x;
+  private final double[] y;
+  /** The tolerance, in normalized Web Mercator units, under which each point is kept. */
+  private final double[] significance;
+
+  @SuppressWarnings("unchecked")
+  private final List<LatLng>[] pointsByZoomLevel = new List[MAX_ZOOM_LEVEL + 1];
+
+  private float cachedTolerance = Float.NaN;
+
+  PolylineSimplifier(List<LatLng> points) {
+    this.points = points;
+    final int count = points.size();
+    x = new double[count];
+    y = new double[count];
+    for (int i = 0; i < count; i++) {
+      final LatLng point = points.get(i);
+      x[i] = ClusterAlgorithm.toX(point.longitude);
+      y[i] = ClusterAlgorithm.toY(point.latitude);
+    }
+    significance = new double[count];
+    computeSignificance();
+  }
+
+  /** Returns the points the polyline was created with. */
+  List<LatLng> getPoints() {
+    return points;
+  }
+
+  /**
+   * Returns the points to draw at {@code zoomLevel}, so that the drawn line is never more than
+   * {@code tolerance} logical pixels away from the full one.
+   */
+  List<LatLng> getPoints(int zoomLevel, float tolerance) {
+    if (tolerance != cachedTolerance) {
+      cachedTolerance = tolerance;
+      Arrays.fill(pointsByZoomLevel, null);
+    }
+    final int level = Math.max(0, Math.min(MAX_ZOOM_LEVEL, zoomLevel));
+    if (pointsByZoomLevel[level] == null) {
+      pointsByZoomLevel[level] = select(tolerance / (TILE_SIZE * Math.pow(2, level)));
+    }
+    return pointsByZoomLevel[level];
+  }
+
+  private List<LatLng> select(double threshold) {
+    int kept = 0;
+    for (double pointSignificance : significance) {
+      if (pointSignificance > threshold) {
+        kept++;
+      }
+    }
+    if (kept == points.size()) {
+      return points;
+    }
+    final List<LatLng> selected = new ArrayList<>(kept);
+    for (int i = 0; i < significance.length; i++) {
+      if (significance[i] > threshold) {
+        selected.add(points.get(i));
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Runs Douglas-Peucker with a tolerance of zero, iteratively so that long tracks cannot overflow
+   * the stack. A point is never more significant than the point that split its segment, so that
+   * the points kept at a tolerance always match a Douglas-Peucker pass with that tolerance.
+   */
+  private void computeSignificance() {
+    final int count = significance.length;
+    if (count == 0) {
+      return;
+    }
+    significance[0] = Double.POSITIVE_INFINITY;
+    significance[count - 1] = Double.POSITIVE_INFINITY;
+    if (count < 3) {
+      return;
+    }
+    // Segments still to split, as {first, last} index pairs, and the significance of their split
+    // point.
+    int[] stack = new int[64];
+    double[] stackSignificance = new double[32];
+    stack[0] = 0;
+    stack[1] = count - 1;
+    stackSignificance[0] = Double.POSITIVE_INFINITY;
+    int size = 1;
+    while (size > 0) {
+      size--;
+      final int first = stack[2 * size];
+      final int last = stack[2 * size + 1];
+      final double parentSignificance = stackSignificance[size];
+      double maxDistance = -1;
+      int split = -1;
+      for (int i = first + 1; i < last; i++) {
+        final double distance = segmentDistance(i, first, last);
+        if (distance > maxDistance) {
+          maxDistance = distance;
+          split = i;
+        }
+      }
+      if (split < 0) {
+        continue;
+      }
+      final double splitSignificance = Math.min(maxDistance, parentSignificance);
+      significance[split] = splitSignificance;
+      if (2 * (size + 2) > stack.length) {
+        stack = Arrays.copyOf(stack, stack.length * 2);
+        stackSignificance = Arrays.copyOf(stackSignificance, stackSignificance.length * 2);
+      }
+      if (split - first > 1) {
+        stack[2 * size] = first;
+        stack[2 * size + 1] = split;
+        stackSignificance[size] = splitSignificance;
+        size++;
+      }
+      if (last - split > 1) {
+        stack[2 * size] = split;
+        stack[2 * size + 1] = last;
+        stackSignificance[size] = splitSignificance;
+        size++;
+      }
+    }
+  }
+
+  /** Returns the distance from point {@code i} to the segment from {@code a} to {@code b}. */
+  private double segmentDistance(int i, int a, int b) {
+    final double dx = x[b] - x[a];
+    final double dy = y[b] - y[a];
+    final double lengthSquared = dx * dx + dy * dy;
+    double t = 0;
+    if (lengthSquared > 0) {
+      t = ((x[i] - x[a]) * dx + (y[i] - y[a]) * dy) / lengthSquared;
+      t = Math.max(0, Math.min(1, t));
+    }
+    final double px = x[a] + t * dx - x[i];
+    final double py = y[a] + t * dy - y[i];
+    return Math.sqrt(px * px + py * py);
+  }
+}
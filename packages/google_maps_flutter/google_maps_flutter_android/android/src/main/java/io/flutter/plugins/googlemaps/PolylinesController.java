@@ -4,33 +4,94 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 class PolylinesController {
 
   private final Map<String, PolylineController> polylineIdToController;
   private final Map<String, String> googleMapsPolylineIdToDartPolylineId;
   private final MethodChannel methodChannel;
+  private final BoundsIndex boundsIndex = new BoundsIndex();
+  private boolean cullingEnabled = false;
+  @Nullable private LatLngBounds viewport;
   private GoogleMap googleMap;
   private final float density;
+  private final Executor backgroundExecutor;
+  private final Executor mainExecutor;
 
   PolylinesController(MethodChannel methodChannel, float density) {
+    this(methodChannel, density, Runnable::run, Runnable::run);
+  }
+
+  PolylinesController(
+      MethodChannel methodChannel,
+      float density,
+      Executor backgroundExecutor,
+      Executor mainExecutor) {
     this.polylineIdToController = new HashMap<>();
     this.googleMapsPolylineIdToDartPolylineId = new HashMap<>();
     this.methodChannel = methodChannel;
     this.density = density;
+    this.backgroundExecutor = backgroundExecutor;
+    this.mainExecutor = mainExecutor;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Enables or disables hiding the polylines that are outside of the viewport. While enabled, the
+   * hidden polylines are updated with {@link #cull(LatLngBounds)}.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (cullingEnabled) {
+      for (Map.Entry<String, PolylineController> entry : polylineIdToController.entrySet()) {
+        boundsIndex.putPoints(entry.getKey(), entry.getValue().getPoints());
+      }
+    } else {
+      boundsIndex.clear();
+      viewport = null;
+      for (PolylineController polylineController : polylineIdToController.values()) {
+        polylineController.setCulled(false);
+      }
+    }
+  }
+
+  /** Updates the points drawn for simplified polylines. */
+  void onCameraIdle(float zoom) {
+    for (PolylineController polylineController : polylineIdToController.values()) {
+      polylineController.setZoom(zoom);
+    }
+  }
+
+  /** Hides the polylines that do not intersect {@code viewport} and shows the others. */
+  void cull(LatLngBounds viewport) {
+    if (!cullingEnabled) {
+      return;
+    }
+    this.viewport = viewport;
+    final Set<String> visiblePolylineIds = boundsIndex.query(viewport);
+    for (Map.Entry<String, PolylineController> entry : polylineIdToController.entrySet()) {
+      entry.getValue().setCulled(!visiblePolylineIds.contains(entry.getKey()));
+    }
+  }
+
   void addPolylines(List<Object> polylinesToAdd) {
     if (polylinesToAdd != null) {
       for (Object polylineToAdd : polylinesToAdd) {
@@ -59,6 +120,7 @@ class PolylinesController {
       final PolylineController polylineController = polylineIdToController.remove(polylineId);
       if (polylineController != null) {
         polylineController.remove();
+        boundsIndex.remove(polylineId);
         googleMapsPolylineIdToDartPolylineId.remove(polylineController.getGoogleMapsPolylineId());
       }
     }
@@ -84,15 +146,35 @@ class PolylinesController {
     PolylineBuilder polylineBuilder = new PolylineBuilder(density);
     String polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
     PolylineOptions options = polylineBuilder.build();
-    addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
+    addPolyline(
+        polylineId,
+        options,
+        polylineBuilder.points(),
+        polylineBuilder.consumeTapEvents(),
+        polylineBuilder.simplificationTolerance());
   }
 
   private void addPolyline(
-      String polylineId, PolylineOptions polylineOptions, boolean consumeTapEvents) {
+      String polylineId,
+      PolylineOptions polylineOptions,
+      List<LatLng> points,
+      boolean consumeTapEvents,
+      float simplificationTolerance) {
     final Polyline polyline = googleMap.addPolyline(polylineOptions);
-    PolylineController controller = new PolylineController(polyline, consumeTapEvents, density);
+    PolylineController controller =
+        new PolylineController(
+            polyline, consumeTapEvents, density, backgroundExecutor, mainExecutor);
+    if (simplificationTolerance > 0) {
+      // The polyline was added without points, so the full line is never drawn.
+      controller.setZoom(googleMap.getCameraPosition().zoom);
+      controller.setSimplifiedPoints(points, simplificationTolerance);
+    }
     polylineIdToController.put(polylineId, controller);
     googleMapsPolylineIdToDartPolylineId.put(polyline.getId(), polylineId);
+    if (cullingEnabled) {
+      boundsIndex.putPoints(polylineId, points);
+      updateCulled(polylineId, controller);
+    }
   }
 
   private void changePolyline(Object polyline) {
@@ -102,7 +184,20 @@ class PolylinesController {
     String polylineId = getPolylineId(polyline);
     PolylineController polylineController = polylineIdToController.get(polylineId);
     if (polylineController != null) {
+      if (((Map<?, ?>) polyline).containsKey("simplificationTolerance")) {
+        polylineController.setZoom(googleMap.getCameraPosition().zoom);
+      }
       Convert.interpretPolylineOptions(polyline, polylineController);
+      if (cullingEnabled && ((Map<?, ?>) polyline).containsKey("points")) {
+        boundsIndex.putPoints(polylineId, polylineController.getPoints());
+        updateCulled(polylineId, polylineController);
+      }
+    }
+  }
+
+  private void updateCulled(String polylineId, PolylineController polylineController) {
+    if (viewport != null) {
+      polylineController.setCulled(!boundsIndex.intersects(polylineId, viewport));
     }
   }
 
@@ -0,0 +1,120 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Rect;
+import android.os.Build;
+import androidx.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Crops, scales and encodes map snapshots.
+ *
+ * <p>Encoding is slow for full resolution snapshots, so {@link #encode(Bitmap)} is meant to run off
+ * the platform thread.
+ */
+final class SnapshotEncoder {
+
+  /** Encodes the full snapshot as a lossless PNG, matching the behavior without options. */
+  static final SnapshotEncoder DEFAULT = new SnapshotEncoder("png", 100, 1, null);
+
+  private final String format;
+  private final int quality;
+  private final float scale;
+  @Nullable private final Rect region;
+
+  /**
+   * @param format one of "png", "jpeg" or "webp".
+   * @param quality the compression quality, from 0 to 100. Ignored for PNG.
+   * @param scale the factor applied to the snapshot size, in (0, 1].
+   * @param region the part of the snapshot to keep, in physical pixels, or null for all of it.
+   */
+  SnapshotEncoder(String format, int quality, float scale, @Nullable Rect region) {
+    if (!format.equals("png") && !format.equals("jpeg") && !format.equals("webp")) {
+      throw new IllegalArgumentException("Unsupported snapshot format: " + format);
+    }
+    if (quality < 0 || quality > 100) {
+      throw new IllegalArgumentException("Snapshot quality must be in [0, 100], got: " + quality);
+    }
+    if (scale <= 0 || scale > 1) {
+      throw new IllegalArgumentException("Snapshot scale must be in (0, 1], got: " + scale);
+    }
+    this.format = format;
+    this.quality = quality;
+    this.scale = scale;
+    this.region = region;
+  }
+
+  /** Returns the encoded snapshot. Recycles {@code snapshot}. */
+  byte[] encode(Bitmap snapshot) {
+    Bitmap bitmap = snapshot;
+    if (region != null) {
+      final Rect bounds = new Rect(region);
+      if (!bounds.intersect(0, 0, bitmap.getWidth(), bitmap.getHeight())) {
+        bitmap.recycle();
+        throw new IllegalArgumentException("Snapshot region is outside of the map");
+      }
+      bitmap =
+          replace(
+              bitmap,
+              Bitmap.createBitmap(
+                  bitmap, bounds.left, bounds.top, bounds.width(), bounds.height()));
+    }
+    if (scale < 1) {
+      final int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+      final int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+      bitmap = replace(bitmap, Bitmap.createScaledBitmap(bitmap, width, height, true));
+    }
+    final ExposedByteArrayOutputStream stream =
+        new ExposedByteArrayOutputStream(estimateEncodedSize(bitmap));
+    bitmap.compress(compressFormat(), quality, stream);
+    bitmap.recycle();
+    return stream.toEncodedBytes();
+  }
+
+  private static Bitmap replace(Bitmap previous, Bitmap next) {
+    if (next != previous) {
+      previous.recycle();
+    }
+    return next;
+  }
+
+  @SuppressWarnings("deprecation")
+  private Bitmap.CompressFormat compressFormat() {
+    switch (format) {
+      case "jpeg":
+        return Bitmap.CompressFormat.JPEG;
+      case "webp":
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+          return quality == 100
+              ? Bitmap.CompressFormat.WEBP_LOSSLESS
+              : Bitmap.CompressFormat.WEBP_LOSSY;
+        }
+        return Bitmap.CompressFormat.WEBP;
+      default:
+        return Bitmap.CompressFormat.PNG;
+    }
+  }
+
+  /** A rough guess of the encoded size, so that the output buffer rarely needs to grow. */
+  private int estimateEncodedSize(Bitmap bitmap) {
+    final int pixels = bitmap.getWidth() * bitmap.getHeight();
+    // Map tiles are mostly flat colors, which compress well even losslessly.
+    return format.equals("png") ? pixels : pixels / 4;
+  }
+
+  /** Skips the final copy when the encoded bytes exactly fill the buffer. */
+  private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    ExposedByteArrayOutputStream(int size) {
+      super(size);
+    }
+
+    byte[] toEncodedBytes() {
+      return count == buf.length ? buf : Arrays.copyOf(buf, count);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+
+  @Test
+  public void get_ReturnsDescriptorForEqualBytes() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1000);
+    final BitmapDescriptor descriptor = mock(BitmapDescriptor.class);
+
+    cache.put(BitmapDescriptorCache.Key.forBytes(new byte[] {1, 2, 3}), descriptor, 10);
+
+    assertSame(descriptor, cache.get(BitmapDescriptorCache.Key.forBytes(new byte[] {1, 2, 3})));
+    assertNull(cache.get(BitmapDescriptorCache.Key.forBytes(new byte[] {1, 2, 4})));
+    assertEquals(1L, cache.getStats().get("hits"));
+    assertEquals(1L, cache.getStats().get("misses"));
+  }
+
+  @Test
+  public void get_DistinguishesAssetsByPackage() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1000);
+    final BitmapDescriptor descriptor = mock(BitmapDescriptor.class);
+
+    cache.put(BitmapDescriptorCache.Key.forAsset("icon.png", null), descriptor, 10);
+
+    assertSame(descriptor, cache.get(BitmapDescriptorCache.Key.forAsset("icon.png", null)));
+    assertNull(cache.get(BitmapDescriptorCache.Key.forAsset("icon.png", "package")));
+  }
+
+  @Test
+  public void put_EvictsLeastRecentlyUsedDescriptorsOverTheBound() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100);
+    final BitmapDescriptorCache.Key first = BitmapDescriptorCache.Key.forBytes(new byte[] {1});
+    final BitmapDescriptorCache.Key second = BitmapDescriptorCache.Key.forBytes(new byte[] {2});
+    final BitmapDescriptorCache.Key third = BitmapDescriptorCache.Key.forBytes(new byte[] {3});
+
+    cache.put(first, mock(BitmapDescriptor.class), 40);
+    cache.put(second, mock(BitmapDescriptor.class), 40);
+    // Makes `second` the least recently used entry.
+    cache.get(first);
+    cache.put(third, mock(BitmapDescriptor.class), 40);
+
+    assertNull(cache.get(second));
+    assertEquals(80, cache.size());
+  }
+
+  @Test
+  public void put_IgnoresDescriptorsLargerThanTheBound() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100);
+    final BitmapDescriptorCache.Key key = BitmapDescriptorCache.Key.forBytes(new byte[] {1});
+
+    cache.put(key, mock(BitmapDescriptor.class), 101);
+
+    assertNull(cache.get(key));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void evictAll_EmptiesTheCache() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100);
+    final BitmapDescriptorCache.Key key = BitmapDescriptorCache.Key.forAsset("icon.png", null);
+    cache.put(key, mock(BitmapDescriptor.class), 10);
+
+    cache.evictAll();
+
+    assertNull(cache.get(key));
+    assertEquals(0, cache.size());
+  }
+}
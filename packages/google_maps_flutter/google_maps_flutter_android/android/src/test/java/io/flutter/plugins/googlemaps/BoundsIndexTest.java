@@ -0,0 +1,141 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import org.junit.Test;
+
+public class BoundsIndexTest {
+
+  @Test
+  public void query_ReturnsBoxesIntersectingTheBounds() {
+    final BoundsIndex index = new BoundsIndex();
+    index.putPoints("inside", Arrays.asList(new LatLng(1, 1), new LatLng(1.5, 1.2)));
+    index.putPoints("crossing", Arrays.asList(new LatLng(1.9, 1.9), new LatLng(3, 3)));
+    index.putPoints("outside", Arrays.asList(new LatLng(10, 10), new LatLng(11, 11)));
+
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2));
+
+    assertEquals(new HashSet<>(Arrays.asList("inside", "crossing")), index.query(bounds));
+    assertTrue(index.intersects("crossing", bounds));
+    assertFalse(index.intersects("outside", bounds));
+  }
+
+  @Test
+  public void query_FindsBoxesLargerThanTheGrid() {
+    final BoundsIndex index = new BoundsIndex();
+    index.putPoints("route", Arrays.asList(new LatLng(-40, -60), new LatLng(40, 60)));
+
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(0, 0), new LatLng(0.01, 0.01));
+
+    assertEquals(Collections.singleton("route"), index.query(bounds));
+  }
+
+  @Test
+  public void query_HandlesBoundsCrossingTheAntimeridian() {
+    final BoundsIndex index = new BoundsIndex();
+    index.putCircle("east", new LatLng(0, 179.5), 1000);
+    index.putCircle("west", new LatLng(0, -179.5), 1000);
+    index.putCircle("far", new LatLng(0, 0), 1000);
+
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-1, 179), new LatLng(1, -179));
+
+    assertEquals(new HashSet<>(Arrays.asList("east", "west")), index.query(bounds));
+  }
+
+  @Test
+  public void putCircle_WrapsCirclesAroundTheAntimeridian() {
+    final BoundsIndex index = new BoundsIndex();
+    // About 0.9 degrees of longitude on each side of the center, at the equator.
+    index.putCircle("circle", new LatLng(0, 179.5), 100000);
+
+    final LatLngBounds westOfAntimeridian =
+        new LatLngBounds(new LatLng(-1, -179.8), new LatLng(1, -179.5));
+    final LatLngBounds beyondTheCircle =
+        new LatLngBounds(new LatLng(-1, -179), new LatLng(1, -178));
+
+    assertEquals(Collections.singleton("circle"), index.query(westOfAntimeridian));
+    assertTrue(index.intersects("circle", westOfAntimeridian));
+    assertTrue(index.query(beyondTheCircle).isEmpty());
+    assertEquals(0, index.distanceMeters("circle", new LatLng(0, -179.8)), 0);
+
+    index.remove("circle");
+    assertTrue(index.query(westOfAntimeridian).isEmpty());
+  }
+
+  @Test
+  public void put_MovesExistingBoxes() {
+    final BoundsIndex index = new BoundsIndex();
+    index.put("shape", 0, 0, 1, 1);
+    index.put("shape", 20, 20, 21, 21);
+
+    assertEquals(1, index.size());
+    assertTrue(index.query(new LatLngBounds(new LatLng(0, 0), new LatLng(1, 1))).isEmpty());
+    assertEquals(
+        Collections.singleton("shape"),
+        index.query(new LatLngBounds(new LatLng(20, 20), new LatLng(21, 21))));
+  }
+
+  @Test
+  public void remove_DropsTheBox() {
+    final BoundsIndex index = new BoundsIndex();
+    index.put("shape", 0, 0, 1, 1);
+    index.remove("shape");
+
+    assertEquals(0, index.size());
+    assertTrue(index.query(new LatLngBounds(new LatLng(0, 0), new LatLng(1, 1))).isEmpty());
+  }
+
+  @Test
+  public void expand_GrowsBoundsAndWrapsLongitudes() {
+    final LatLngBounds bounds =
+        BoundsIndex.expand(new LatLngBounds(new LatLng(0, 170), new LatLng(10, 178)), 0.5);
+
+    assertEquals(-5, bounds.southwest.latitude, 1e-9);
+    assertEquals(15, bounds.northeast.latitude, 1e-9);
+    assertEquals(166, bounds.southwest.longitude, 1e-9);
+    assertEquals(-178, bounds.northeast.longitude, 1e-9);
+  }
+
+  @Test
+  public void nearest_ReturnsTheClosestBoxesFirst() {
+    final BoundsIndex index = new BoundsIndex();
+    index.putPoint("far", new LatLng(10, 10));
+    index.putPoint("near", new LatLng(0.01, 0.01));
+    index.putPoint("nearer", new LatLng(0, 0.001));
+    index.putPoint("antipode", new LatLng(0, 180));
+
+    assertEquals(
+        Arrays.asList("nearer", "near", "far"), index.nearest(new LatLng(0, 0), 3));
+    assertEquals(4, index.nearest(new LatLng(0, 0), 10).size());
+  }
+
+  @Test
+  public void nearest_FindsBoxesAcrossTheAntimeridian() {
+    final BoundsIndex index = new BoundsIndex();
+    index.putPoint("west", new LatLng(0, -179.9));
+    index.putPoint("east", new LatLng(0, 170));
+
+    assertEquals(Collections.singletonList("west"), index.nearest(new LatLng(0, 179.9), 1));
+  }
+
+  @Test
+  public void around_ContainsTheWholeRadius() {
+    final LatLngBounds bounds = BoundsIndex.around(new LatLng(60, 0), 111195);
+
+    assertEquals(59, bounds.southwest.latitude, 1e-3);
+    assertEquals(61, bounds.northeast.latitude, 1e-3);
+    assertTrue(bounds.northeast.longitude >= 2);
+    assertTrue(bounds.southwest.longitude <= -2);
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class CameraMoveThrottleTest {
+
+  private static final CameraPosition POSITION = new CameraPosition(new LatLng(10, 10), 12, 0, 0);
+
+  @Test
+  public void shouldSend_AlwaysSendsTheFirstPosition() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(1000, false, 1000, 1, 10, 10);
+
+    assertTrue(throttle.shouldSend(null, 0, POSITION, 0));
+  }
+
+  @Test
+  public void shouldSend_WaitsForTheMinimumInterval() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(100, false, 0, 0, 0, 0);
+    final CameraPosition moved = new CameraPosition(new LatLng(11, 10), 12, 0, 0);
+
+    assertFalse(throttle.shouldSend(POSITION, 0, moved, TimeUnit.MILLISECONDS.toNanos(99)));
+    assertTrue(throttle.shouldSend(POSITION, 0, moved, TimeUnit.MILLISECONDS.toNanos(100)));
+  }
+
+  @Test
+  public void shouldSend_IgnoresUnchangedPositions() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(0, false, 0, 0, 0, 0);
+
+    assertFalse(throttle.shouldSend(POSITION, 0, POSITION, TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  @Test
+  public void shouldSend_AppliesTargetThreshold() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(0, false, 100, 0, 0, 0);
+    // About 55 and 111 meters north of POSITION.
+    final CameraPosition nearby = new CameraPosition(new LatLng(10.0005, 10), 12, 0, 0);
+    final CameraPosition farther = new CameraPosition(new LatLng(10.001, 10), 12, 0, 0);
+
+    assertFalse(throttle.shouldSend(POSITION, 0, nearby, 1));
+    assertTrue(throttle.shouldSend(POSITION, 0, farther, 1));
+  }
+
+  @Test
+  public void shouldSend_AppliesZoomThreshold() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(0, false, 0, 0.5f, 0, 0);
+
+    assertFalse(
+        throttle.shouldSend(POSITION, 0, new CameraPosition(new LatLng(10, 10), 12.4f, 0, 0), 1));
+    assertTrue(
+        throttle.shouldSend(POSITION, 0, new CameraPosition(new LatLng(10, 10), 12.5f, 0, 0), 1));
+  }
+
+  @Test
+  public void shouldSend_ComparesBearingsAcrossNorth() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(0, false, 0, 0, 5, 0);
+    final CameraPosition from = new CameraPosition(new LatLng(10, 10), 12, 0, 358);
+
+    assertFalse(
+        throttle.shouldSend(from, 0, new CameraPosition(new LatLng(10, 10), 12, 0, 2), 1));
+    assertTrue(
+        throttle.shouldSend(from, 0, new CameraPosition(new LatLng(10, 10), 12, 0, 4), 1));
+  }
+}
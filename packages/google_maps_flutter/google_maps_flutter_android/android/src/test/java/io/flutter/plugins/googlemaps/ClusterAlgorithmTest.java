@@ -0,0 +1,93 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class ClusterAlgorithmTest {
+
+  private static final LatLngBounds WORLD =
+      new LatLngBounds(new LatLng(-85, -179.9), new LatLng(85, 179.9));
+
+  @Test
+  public void cluster_GroupsNearbyPointsAtLowZoom() {
+    final ClusterAlgorithm algorithm =
+        new ClusterAlgorithm(
+            Arrays.asList("a", "b", "c"), new double[] {10.0, 10.0, 10.001, 10.001, -40, 120});
+
+    final List<ClusterAlgorithm.Cluster> clusters = algorithm.cluster(3, WORLD, 60, 2);
+
+    assertEquals(2, clusters.size());
+    final Set<Integer> sizes = new HashSet<>();
+    for (ClusterAlgorithm.Cluster cluster : clusters) {
+      sizes.add(cluster.size());
+    }
+    assertEquals(new HashSet<>(Arrays.asList(1, 2)), sizes);
+  }
+
+  @Test
+  public void cluster_SplitsPointsAtHighZoom() {
+    final ClusterAlgorithm algorithm =
+        new ClusterAlgorithm(Arrays.asList("a", "b"), new double[] {10.0, 10.0, 10.01, 10.01});
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(9.9, 9.9), new LatLng(10.1, 10.1));
+
+    final List<ClusterAlgorithm.Cluster> clusters = algorithm.cluster(18, bounds, 60, 2);
+
+    assertEquals(2, clusters.size());
+    for (ClusterAlgorithm.Cluster cluster : clusters) {
+      assertEquals(1, cluster.size());
+      assertEquals("item/" + cluster.itemIds[0], cluster.key);
+    }
+  }
+
+  @Test
+  public void cluster_IgnoresPointsOutsideTheVisibleRegion() {
+    final ClusterAlgorithm algorithm =
+        new ClusterAlgorithm(Arrays.asList("inside", "outside"), new double[] {1, 1, 50, 50});
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2));
+
+    final List<ClusterAlgorithm.Cluster> clusters = algorithm.cluster(10, bounds, 60, 2);
+
+    assertEquals(1, clusters.size());
+    assertEquals("inside", clusters.get(0).itemIds[0]);
+  }
+
+  @Test
+  public void cluster_HandlesRegionsCrossingTheAntimeridian() {
+    final ClusterAlgorithm algorithm =
+        new ClusterAlgorithm(
+            Arrays.asList("east", "west", "far"), new double[] {0, 179.5, 0, -179.5, 0, 0});
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-1, 179), new LatLng(1, -179));
+
+    final List<ClusterAlgorithm.Cluster> clusters = algorithm.cluster(12, bounds, 60, 2);
+
+    final Set<String> ids = new HashSet<>();
+    for (ClusterAlgorithm.Cluster cluster : clusters) {
+      ids.addAll(Arrays.asList(cluster.itemIds));
+    }
+    assertEquals(new HashSet<>(Arrays.asList("east", "west")), ids);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_RejectsMismatchedPositions() {
+    new ClusterAlgorithm(Arrays.asList("a", "b"), new double[] {1, 1});
+  }
+
+  @Test
+  public void labelFor_BucketsLargeClusters() {
+    assertEquals("7", ClustersController.labelFor(7));
+    assertEquals("10+", ClustersController.labelFor(10));
+    assertEquals("50+", ClustersController.labelFor(99));
+    assertEquals("1000+", ClustersController.labelFor(25000));
+  }
+}
@@ -0,0 +1,432 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.Cap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.PatternItem;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Throughput and allocation benchmarks of the {@link Convert} functions on the map update path.
+ *
+ * <p>Payloads are encoded and decoded with the {@link StandardMessageCodec}, so that they have the
+ * same shape as the ones received from Dart, and are interpreted into sinks that only consume the
+ * values. Each benchmark prints the time and allocations per operation on every run, and only
+ * asserts on results that don't depend on the machine, such as the decoded points. The benchmarks
+ * are skipped unless the {@code googlemaps.benchmark} system property is set:
+ *
+ * <pre>
+ * ./gradlew testDebugUnitTest --tests '*ConvertBenchmark' -Dgooglemaps.benchmark=true
+ * </pre>
+ */
+public class ConvertBenchmark {
+  private static final long WARM_UP_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long MEASURE_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  private static final int MARKER_COUNT = 2000;
+  private static final int POLYLINE_POINT_COUNT = 10000;
+  private static final int POLYGON_POINT_COUNT = 5000;
+
+  private static final BlackholeSink sink = new BlackholeSink();
+
+  @BeforeClass
+  public static void onlyWhenRequested() {
+    Assume.assumeTrue(Boolean.getBoolean("googlemaps.benchmark"));
+  }
+
+  @Test
+  public void interpretMarkerOptions() {
+    final List<?> markers = (List<?>) decoded(markers(MARKER_COUNT));
+    measure(
+        "interpretMarkerOptions x" + MARKER_COUNT,
+        () -> {
+          for (Object marker : markers) {
+            Convert.interpretMarkerOptions(marker, sink);
+          }
+        });
+  }
+
+  @Test
+  public void toPointsFromLists() {
+    measureToPoints("lists", pointLists(track(POLYLINE_POINT_COUNT)));
+  }
+
+  @Test
+  public void toPointsFromPacked() {
+    final double[] track = track(POLYLINE_POINT_COUNT);
+    measureToPoints("lists", pointLists(track));
+    measureToPoints("packed", track);
+    assertEquals(Convert.toPoints(decoded(pointLists(track))), Convert.toPoints(decoded(track)));
+  }
+
+  @Test
+  public void toPointsFromEncodedPolyline() {
+    final double[] track = track(POLYLINE_POINT_COUNT);
+    measureToPoints("encoded", encodedPolyline(track));
+    // The encoded polyline format keeps 5 decimal places.
+    final List<LatLng> points = Convert.toPoints(decoded(encodedPolyline(track)));
+    assertEquals(POLYLINE_POINT_COUNT, points.size());
+    for (int i = 0; i < POLYLINE_POINT_COUNT; i++) {
+      assertEquals(track[2 * i], points.get(i).latitude, 1e-5);
+      assertEquals(track[2 * i + 1], points.get(i).longitude, 1e-5);
+    }
+  }
+
+  @Test
+  public void interpretPolylineOptions() {
+    final Map<String, Object> polyline = new HashMap<>();
+    polyline.put("polylineId", "route");
+    polyline.put("color", 0xff2196f3);
+    polyline.put("width", 4);
+    polyline.put("geodesic", false);
+    polyline.put("jointType", 2);
+    polyline.put("visible", true);
+    polyline.put("zIndex", 1.0);
+    polyline.put("consumeTapEvents", true);
+    polyline.put("points", pointLists(track(POLYLINE_POINT_COUNT)));
+    final Object decoded = decoded(polyline);
+    measure(
+        "interpretPolylineOptions x" + POLYLINE_POINT_COUNT,
+        () -> Convert.interpretPolylineOptions(decoded, sink));
+  }
+
+  @Test
+  public void interpretPolygonOptions() {
+    final Map<String, Object> polygon = new HashMap<>();
+    polygon.put("polygonId", "area");
+    polygon.put("fillColor", 0x552196f3);
+    polygon.put("strokeColor", 0xff2196f3);
+    polygon.put("strokeWidth", 2);
+    polygon.put("geodesic", false);
+    polygon.put("visible", true);
+    polygon.put("zIndex", 0.0);
+    polygon.put("consumeTapEvents", false);
+    polygon.put("points", pointLists(track(POLYGON_POINT_COUNT)));
+    polygon.put(
+        "holes",
+        Arrays.asList(pointLists(track(POLYGON_POINT_COUNT / 10)), pointLists(track(100))));
+    final Object decoded = decoded(polygon);
+    measure(
+        "interpretPolygonOptions x" + POLYGON_POINT_COUNT,
+        () -> Convert.interpretPolygonOptions(decoded, sink));
+  }
+
+  @Test
+  public void toCameraPosition() {
+    // toCameraUpdate needs an initialized maps SDK, so this measures the parsing part of a
+    // newCameraPosition update.
+    final Map<String, Object> position = new HashMap<>();
+    position.put("bearing", 30.0);
+    position.put("target", Arrays.asList(37.4219983, -122.084));
+    position.put("tilt", 45.0);
+    position.put("zoom", 15.5);
+    final Object decoded = decoded(position);
+    measure("toCameraPosition", () -> sink.setPosition(Convert.toCameraPosition(decoded).target));
+  }
+
+  /** The throughput and allocations of an operation, measured over {@link #MEASURE_NANOS}. */
+  private static final class Measurement {
+    final String name;
+    final long operations;
+    final long elapsedNanos;
+    // The bytes allocated by all the operations, or -1 if the JVM can't tell.
+    final long allocatedBytes;
+
+    Measurement(String name, long operations, long elapsedNanos, long allocatedBytes) {
+      this.name = name;
+      this.operations = operations;
+      this.elapsedNanos = elapsedNanos;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%s (%.1f ops/s, %d ns/op, %s B/op allocated)",
+          name,
+          operations / (elapsedNanos / 1e9),
+          elapsedNanos / operations,
+          allocatedBytes < 0 ? "?" : String.valueOf(allocatedBytes / operations));
+    }
+  }
+
+  private static void measureToPoints(String format, Object points) {
+    final Object decoded = decoded(points);
+    measure(
+        "toPoints " + format + " x" + POLYLINE_POINT_COUNT,
+        () -> sink.setPoints(Convert.toPoints(decoded)));
+  }
+
+  /** Measures {@code operation} and prints the result. */
+  private static void measure(String name, Runnable operation) {
+    runFor(operation, WARM_UP_NANOS);
+    final long startBytes = allocatedBytes();
+    final long startNanos = System.nanoTime();
+    final long operations = runFor(operation, MEASURE_NANOS);
+    final long elapsedNanos = System.nanoTime() - startNanos;
+    System.out.println(
+        new Measurement(
+            name, operations, elapsedNanos, startBytes < 0 ? -1 : allocatedBytes() - startBytes));
+  }
+
+  private static long runFor(Runnable operation, long durationNanos) {
+    final long startNanos = System.nanoTime();
+    long operations = 0;
+    do {
+      operation.run();
+      operations++;
+    } while (System.nanoTime() - startNanos < durationNanos);
+    return operations;
+  }
+
+  /** Returns the bytes allocated by the current thread so far, or -1 if the JVM can't tell. */
+  private static long allocatedBytes() {
+    final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean allocationBean =
+          (com.sun.management.ThreadMXBean) bean;
+      if (allocationBean.isThreadAllocatedMemorySupported()) {
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  /** Returns {@code message} as it is received from Dart. */
+  private static Object decoded(Object message) {
+    final ByteBuffer encoded = StandardMessageCodec.INSTANCE.encodeMessage(message);
+    encoded.rewind();
+    return StandardMessageCodec.INSTANCE.decodeMessage(encoded);
+  }
+
+  private static List<Object> markers(int count) {
+    final Random random = new Random(42);
+    final List<Object> markers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final Map<String, Object> marker = new HashMap<>();
+      marker.put("markerId", "marker_" + i);
+      marker.put("alpha", 1.0);
+      marker.put("anchor", Arrays.asList(0.5, 1.0));
+      marker.put("consumeTapEvents", false);
+      marker.put("draggable", false);
+      marker.put("flat", false);
+      final Map<String, Object> infoWindow = new HashMap<>();
+      infoWindow.put("title", "Marker " + i);
+      infoWindow.put("snippet", "*");
+      infoWindow.put("anchor", Arrays.asList(0.5, 0.0));
+      marker.put("infoWindow", infoWindow);
+      marker.put("position", Arrays.asList(37 + random.nextDouble(), -122 + random.nextDouble()));
+      marker.put("rotation", 0.0);
+      marker.put("visible", true);
+      marker.put("zIndex", 0.0);
+      markers.add(marker);
+    }
+    return markers;
+  }
+
+  /** Returns a random walk of {@code count} points, like a recorded GPS track. */
+  private static double[] track(int count) {
+    final Random random = new Random(7);
+    final double[] points = new double[2 * count];
+    double latitude = 37.42;
+    double longitude = -122.08;
+    for (int i = 0; i < count; i++) {
+      latitude += (random.nextDouble() - 0.5) * 1e-3;
+      longitude += (random.nextDouble() - 0.5) * 1e-3;
+      points[2 * i] = latitude;
+      points[2 * i + 1] = longitude;
+    }
+    return points;
+  }
+
+  private static List<Object> pointLists(double[] packed) {
+    final List<Object> points = new ArrayList<>(packed.length / 2);
+    for (int i = 0; i < packed.length; i += 2) {
+      points.add(Arrays.asList(packed[i], packed[i + 1]));
+    }
+    return points;
+  }
+
+  private static String encodedPolyline(double[] packed) {
+    final StringBuilder encoded = new StringBuilder();
+    long previousLatitude = 0;
+    long previousLongitude = 0;
+    for (int i = 0; i < packed.length; i += 2) {
+      final long latitude = Math.round(packed[i] * 1e5);
+      final long longitude = Math.round(packed[i + 1] * 1e5);
+      encodeValue(latitude - previousLatitude, encoded);
+      encodeValue(longitude - previousLongitude, encoded);
+      previousLatitude = latitude;
+      previousLongitude = longitude;
+    }
+    return encoded.toString();
+  }
+
+  private static void encodeValue(long value, StringBuilder encoded) {
+    long shifted = value < 0 ? ~(value << 1) : value << 1;
+    while (shifted >= 0x20) {
+      encoded.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+      shifted >>= 5;
+    }
+    encoded.append((char) (shifted + 63));
+  }
+
+  /** Sink that only consumes what it receives, so that the parsing can't be optimized away. */
+  private static final class BlackholeSink
+      implements MarkerOptionsSink, PolylineOptionsSink, PolygonOptionsSink {
+    long consumed;
+
+    private void consume(Object value) {
+      consumed += value == null ? 1 : value.hashCode() & 1;
+    }
+
+    private void consume(double value) {
+      consumed += (long) value & 1;
+    }
+
+    @Override
+    public void setAlpha(float alpha) {
+      consume(alpha);
+    }
+
+    @Override
+    public void setAnchor(float u, float v) {
+      consume(u + v);
+    }
+
+    @Override
+    public void setConsumeTapEvents(boolean consumeTapEvents) {
+      consume(consumeTapEvents ? 1 : 0);
+    }
+
+    @Override
+    public void setDraggable(boolean draggable) {
+      consume(draggable ? 1 : 0);
+    }
+
+    @Override
+    public void setFlat(boolean flat) {
+      consume(flat ? 1 : 0);
+    }
+
+    @Override
+    public void setIcon(BitmapDescriptor bitmapDescriptor) {
+      consume(bitmapDescriptor);
+    }
+
+    @Override
+    public void setInfoWindowAnchor(float u, float v) {
+      consume(u + v);
+    }
+
+    @Override
+    public void setInfoWindowText(String title, String snippet) {
+      consume(title);
+    }
+
+    @Override
+    public void setPosition(LatLng position) {
+      consume(position.latitude);
+    }
+
+    @Override
+    public void setRotation(float rotation) {
+      consume(rotation);
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+      consume(visible ? 1 : 0);
+    }
+
+    @Override
+    public void setZIndex(float zIndex) {
+      consume(zIndex);
+    }
+
+    @Override
+    public void setColor(int color) {
+      consume(color);
+    }
+
+    @Override
+    public void setEndCap(Cap endCap) {
+      consume(endCap);
+    }
+
+    @Override
+    public void setGeodesic(boolean geodesic) {
+      consume(geodesic ? 1 : 0);
+    }
+
+    @Override
+    public void setJointType(int jointType) {
+      consume(jointType);
+    }
+
+    @Override
+    public void setPattern(List<PatternItem> pattern) {
+      consume(pattern);
+    }
+
+    @Override
+    public void setPoints(List<LatLng> points) {
+      consume(points.size());
+    }
+
+    @Override
+    public void setSimplificationTolerance(float simplificationTolerance) {
+      consume(simplificationTolerance);
+    }
+
+    @Override
+    public void setStartCap(Cap startCap) {
+      consume(startCap);
+    }
+
+    @Override
+    public void setWidth(float width) {
+      consume(width);
+    }
+
+    @Override
+    public void setFillColor(int color) {
+      consume(color);
+    }
+
+    @Override
+    public void setStrokeColor(int color) {
+      consume(color);
+    }
+
+    @Override
+    public void setHoles(List<List<LatLng>> holes) {
+      consume(holes.size());
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+      consume(width);
+    }
+  }
+}
@@ -6,7 +6,9 @@ package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.LatLng;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -26,4 +28,94 @@ public class ConvertTest {
     Assert.assertEquals(latitude, latLng.latitude, 1e-15);
     Assert.assertEquals(longitude, latLng.longitude, 1e-15);
   }
+
+  @Test
+  public void ConvertToPointsConvertsPackedPoints() {
+    double[] packed = {43.03725568057, -87.90466904649, 1.5, 2.5};
+    List<LatLng> latLngs = Convert.toPoints(packed);
+    Assert.assertEquals(2, latLngs.size());
+    Assert.assertEquals(43.03725568057, latLngs.get(0).latitude, 1e-15);
+    Assert.assertEquals(-87.90466904649, latLngs.get(0).longitude, 1e-15);
+    Assert.assertEquals(1.5, latLngs.get(1).latitude, 1e-15);
+    Assert.assertEquals(2.5, latLngs.get(1).longitude, 1e-15);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToPointsRejectsOddPackedPoints() {
+    Convert.toPoints(new double[] {1.0, 2.0, 3.0});
+  }
+
+  @Test
+  public void ConvertToPointsDecodesEncodedPolylines() {
+    List<LatLng> latLngs = Convert.toPoints("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    Assert.assertEquals(3, latLngs.size());
+    Assert.assertEquals(38.5, latLngs.get(0).latitude, 1e-9);
+    Assert.assertEquals(-120.2, latLngs.get(0).longitude, 1e-9);
+    Assert.assertEquals(40.7, latLngs.get(1).latitude, 1e-9);
+    Assert.assertEquals(-120.95, latLngs.get(1).longitude, 1e-9);
+    Assert.assertEquals(43.252, latLngs.get(2).latitude, 1e-9);
+    Assert.assertEquals(-126.453, latLngs.get(2).longitude, 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToPointsRejectsInvalidEncodedPolylineCharacters() {
+    Convert.toPoints("_p~iF~ps|U _ulLnnqC");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToPointsRejectsTruncatedEncodedPolylines() {
+    Convert.toPoints("_p~iF");
+  }
+
+  @Test
+  public void ConvertToSnapshotEncoderDefaultsToPng() {
+    Assert.assertSame(SnapshotEncoder.DEFAULT, Convert.toSnapshotEncoder(null, 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToSnapshotEncoderRejectsUnknownFormats() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("format", "gif");
+    Convert.toSnapshotEncoder(options, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToSnapshotEncoderRejectsInvalidQualities() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("format", "jpeg");
+    options.put("quality", 101);
+    Convert.toSnapshotEncoder(options, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToSnapshotEncoderRejectsNegativeRegionOrigins() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("region", snapshotRegion(-10, 0, 100, 100));
+    Convert.toSnapshotEncoder(options, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToSnapshotEncoderRejectsEmptyRegions() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("region", snapshotRegion(0, 0, 100, 0));
+    Convert.toSnapshotEncoder(options, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToSnapshotEncoderRejectsInvalidScales() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("format", "jpeg");
+    options.put("scale", 0.0);
+    Convert.toSnapshotEncoder(options, 1);
+  }
+
+  private static Map<String, Object> snapshotRegion(
+      double x, double y, double width, double height) {
+    Map<String, Object> region = new HashMap<>();
+    region.put("x", x);
+    region.put("y", y);
+    region.put("width", width);
+    region.put("height", height);
+    return region;
+  }
 }
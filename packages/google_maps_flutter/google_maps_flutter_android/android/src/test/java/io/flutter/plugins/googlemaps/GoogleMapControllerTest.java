@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -21,7 +22,9 @@ import com.google.android.gms.maps.MapView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -79,7 +82,8 @@ public class GoogleMapControllerTest {
       "circles#update",
       "map#setStyle",
       "tileOverlays#update",
-      "tileOverlays#clearTileCache"
+      "tileOverlays#clearTileCache",
+      "map#batchUpdate"
     };
 
     for (String methodName : methodsThatTriggerInvalidation) {
@@ -130,6 +134,47 @@ public class GoogleMapControllerTest {
     verify(mapView).invalidate();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void BatchUpdateReportsTimingsOfAppliedObjectTypes() {
+    googleMapController.onMapReady(mockGoogleMap);
+
+    final HashMap<String, Object> arguments = new HashMap<>();
+    arguments.put("markerIdsToRemove", Collections.emptyList());
+    arguments.put("circleIdsToRemove", Collections.emptyList());
+    arguments.put("heatmapIdsToRemove", Collections.emptyList());
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+    googleMapController.onMethodCall(new MethodCall("map#batchUpdate", arguments), result);
+
+    ArgumentCaptor<Object> timings = ArgumentCaptor.forClass(Object.class);
+    verify(result).success(timings.capture());
+    final Map<String, Object> timingsMap = (Map<String, Object>) timings.getValue();
+    assertTrue(timingsMap.containsKey("markersMicros"));
+    assertTrue(timingsMap.containsKey("circlesMicros"));
+    assertTrue(timingsMap.containsKey("heatmapsMicros"));
+    assertTrue(timingsMap.containsKey("totalMicros"));
+    assertFalse(timingsMap.containsKey("polygonsMicros"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void GetTimeToMapReadyReportsWhenTheMapIsReady() {
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+    googleMapController.onMethodCall(
+        new MethodCall("map#getTimeToMapReady", new HashMap<String, Object>()), result);
+    googleMapController.onMapReady(mockGoogleMap);
+    googleMapController.onMethodCall(
+        new MethodCall("map#getTimeToMapReady", new HashMap<String, Object>()), result);
+
+    ArgumentCaptor<Object> metrics = ArgumentCaptor.forClass(Object.class);
+    verify(result, times(2)).success(metrics.capture());
+    final Map<String, Object> before = (Map<String, Object>) metrics.getAllValues().get(0);
+    final Map<String, Object> after = (Map<String, Object>) metrics.getAllValues().get(1);
+    assertNull(before.get("timeToMapReadyMicros"));
+    assertNotNull(after.get("timeToMapReadyMicros"));
+    assertFalse((Boolean) after.get("mapViewFromPool"));
+  }
+
   @Test
   public void MethodCalledAfterControllerIsDestroyed() throws InterruptedException {
     googleMapController.onMapReady(mockGoogleMap);
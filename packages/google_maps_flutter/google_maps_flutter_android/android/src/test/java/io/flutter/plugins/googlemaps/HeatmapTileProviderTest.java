@@ -0,0 +1,89 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HeatmapTileProviderTest {
+
+  private static final int SIZE = HeatmapTileProvider.TILE_SIZE;
+
+  @Test
+  public void pointIndex_SortsPointsByLongitude() {
+    final HeatmapTileProvider.PointIndex index =
+        new HeatmapTileProvider.PointIndex(new double[] {0, 90, 1, 10, -90, 2, -10, 0, 3});
+
+    assertEquals(3, index.size());
+    assertEquals(2, index.weight[0], 0);
+    assertEquals(3, index.weight[1], 0);
+    assertEquals(1, index.weight[2], 0);
+    assertEquals(1, index.firstIndexAtOrAfter(0.5));
+    assertEquals(3, index.firstIndexAtOrAfter(0.9));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void pointIndex_RejectsIncompleteTriples() {
+    new HeatmapTileProvider.PointIndex(new double[] {0, 0, 1, 10});
+  }
+
+  @Test
+  public void pointIndex_MaxCellWeightSumsPointsInTheSameCell() {
+    final HeatmapTileProvider.PointIndex index =
+        new HeatmapTileProvider.PointIndex(
+            new double[] {0.1, 10.2, 1, 0.2, 10.7, 2, 0.1, 11.5, 2.5});
+
+    // At one cell per world, every point is in the same cell.
+    assertEquals(5.5, index.maxCellWeight(1), 0);
+    // At about one cell per degree, only the first two points share a cell.
+    assertEquals(3, index.maxCellWeight(360), 0);
+    // At 2^30 cells per side, no points share a cell.
+    assertEquals(2.5, index.maxCellWeight(1 << 30), 0);
+  }
+
+  @Test
+  public void intensities_PeakAtThePoint() {
+    // The center of the world, which is the top left corner of tile (1, 1) at zoom 1.
+    final HeatmapTileProvider.PointIndex index =
+        new HeatmapTileProvider.PointIndex(new double[] {0, 0, 1});
+    final int radius = 10;
+    final double[] kernel = HeatmapTileProvider.gaussianKernel(radius);
+
+    final double[] intensities = HeatmapTileProvider.intensities(index, kernel, radius, 1, 1, 1);
+
+    assertEquals(1, intensities[0], 1e-9);
+    assertTrue(intensities[1] < intensities[0]);
+    assertTrue(intensities[SIZE] < intensities[0]);
+    assertEquals(0, intensities[radius + 1], 0);
+  }
+
+  @Test
+  public void intensities_IncludePointsJustOutsideTheTile() {
+    final HeatmapTileProvider.PointIndex index =
+        new HeatmapTileProvider.PointIndex(new double[] {0, 0, 1});
+    final int radius = 10;
+    final double[] kernel = HeatmapTileProvider.gaussianKernel(radius);
+
+    // Tile (0, 1) at zoom 1 ends where the point is.
+    final double[] intensities = HeatmapTileProvider.intensities(index, kernel, radius, 0, 1, 1);
+
+    assertTrue(intensities[SIZE - 1] > 0);
+    assertNull(HeatmapTileProvider.intensities(index, kernel, radius, 0, 0, 3));
+  }
+
+  @Test
+  public void colorMap_FadesInFromTransparent() {
+    final int[] colorMap =
+        HeatmapTileProvider.colorMap(
+            new int[] {0xff00ff00, 0xffff0000}, new float[] {0.5f, 1f}, 0.5);
+
+    assertEquals(0, colorMap[0] >>> 24);
+    assertEquals(0x00ff00, colorMap[127] & 0x00ffffff);
+    assertEquals(0x80ff0000, colorMap[colorMap.length - 1]);
+  }
+}
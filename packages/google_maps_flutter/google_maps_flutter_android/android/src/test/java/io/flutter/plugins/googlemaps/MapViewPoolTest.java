@@ -0,0 +1,96 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.UiSettings;
+import java.util.Map;
+import org.junit.Test;
+
+public class MapViewPoolTest {
+
+  @Test
+  public void acquire_ReturnsNullUntilWarmedUp() {
+    final MapViewPool pool = new MapViewPool();
+
+    assertNull(pool.acquire(new GoogleMapOptions()));
+
+    final Map<String, Object> stats = pool.getStats();
+    assertEquals(0, stats.get("available"));
+    assertEquals(0L, stats.get("misses"));
+  }
+
+  @Test
+  public void release_KeepsNothingUntilWarmedUp() {
+    final MapViewPool pool = new MapViewPool();
+    final MapView mapView = mock(MapView.class);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+
+    assertFalse(pool.release(mapView, googleMap, true, true));
+    verifyNoInteractions(mapView);
+    verifyNoInteractions(googleMap);
+  }
+
+  @Test
+  public void release_KeepsOnlyMapViewsOfTheAttachedActivity() {
+    final MapViewPool pool = new MapViewPool();
+    pool.setMaxSize(2);
+    final Activity activity = mock(Activity.class);
+    pool.setActivity(activity);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+
+    final MapView otherActivityMapView = mock(MapView.class);
+    when(otherActivityMapView.getContext()).thenReturn(mock(Activity.class));
+    assertFalse(pool.release(otherActivityMapView, googleMap, true, true));
+    verifyNoInteractions(googleMap);
+
+    final MapView mapView = mock(MapView.class);
+    when(mapView.getContext()).thenReturn(activity);
+    assertTrue(pool.release(mapView, googleMap, true, true));
+    assertEquals(1, pool.getStats().get("available"));
+  }
+
+  @Test
+  public void setActivity_DestroysPooledMapViews() {
+    final MapViewPool pool = new MapViewPool();
+    pool.setMaxSize(1);
+    final Activity activity = mock(Activity.class);
+    pool.setActivity(activity);
+    final MapView mapView = mock(MapView.class);
+    when(mapView.getContext()).thenReturn(activity);
+    assertTrue(pool.release(mapView, mock(GoogleMap.class), false, false));
+
+    pool.setActivity(null);
+
+    verify(mapView).onDestroy();
+    assertEquals(0, pool.getStats().get("available"));
+    assertFalse(pool.release(mapView, mock(GoogleMap.class), false, false));
+  }
+
+  @Test
+  public void applyOptions_SetsDefaultsForUnsetOptions() {
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    final UiSettings uiSettings = mock(UiSettings.class);
+    when(googleMap.getUiSettings()).thenReturn(uiSettings);
+
+    MapViewPool.applyOptions(googleMap, new GoogleMapOptions().zoomGesturesEnabled(false));
+
+    verify(googleMap).resetMinMaxZoomPreference();
+    verify(uiSettings).setZoomGesturesEnabled(false);
+    verify(uiSettings).setCompassEnabled(true);
+  }
+}
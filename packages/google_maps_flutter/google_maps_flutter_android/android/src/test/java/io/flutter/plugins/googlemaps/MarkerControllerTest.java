@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Marker;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class MarkerControllerTest {
+
+  @Test
+  public void stepAnimation_InterpolatesPositionAndRotation() {
+    final Marker marker = mock(Marker.class);
+    when(marker.getPosition()).thenReturn(new LatLng(0, 0));
+    when(marker.getRotation()).thenReturn(350f);
+    final MarkerController controller = new MarkerController(marker, false);
+    final long second = TimeUnit.SECONDS.toNanos(1);
+
+    controller.animateTo(new LatLng(10, 20), 10f, 0, second);
+
+    assertTrue(controller.stepAnimation(second / 2));
+    Mockito.verify(marker).setPosition(new LatLng(5, 10));
+    // Turns the short way, through north.
+    Mockito.verify(marker).setRotation(360f);
+
+    assertFalse(controller.stepAnimation(second));
+    Mockito.verify(marker).setPosition(new LatLng(10, 20));
+    assertEquals(new LatLng(10, 20), controller.getPosition());
+    assertFalse(controller.stepAnimation(2 * second));
+  }
+
+  @Test
+  public void stepAnimation_CrossesTheAntimeridian() {
+    final Marker marker = mock(Marker.class);
+    when(marker.getPosition()).thenReturn(new LatLng(0, 170));
+    final MarkerController controller = new MarkerController(marker, false);
+
+    controller.animateTo(new LatLng(0, -170), null, 0, 100);
+    controller.stepAnimation(50);
+
+    Mockito.verify(marker).setPosition(new LatLng(0, 180));
+    Mockito.verify(marker, Mockito.never()).setRotation(Mockito.anyFloat());
+  }
+
+  @Test
+  public void setPosition_StopsTheAnimation() {
+    final Marker marker = mock(Marker.class);
+    when(marker.getPosition()).thenReturn(new LatLng(0, 0));
+    final MarkerController controller = new MarkerController(marker, false);
+
+    controller.animateTo(new LatLng(10, 10), null, 0, 100);
+    controller.setPosition(new LatLng(-1, -1));
+
+    assertFalse(controller.stepAnimation(50));
+    Mockito.verify(marker, Mockito.never()).setPosition(new LatLng(5, 5));
+  }
+}
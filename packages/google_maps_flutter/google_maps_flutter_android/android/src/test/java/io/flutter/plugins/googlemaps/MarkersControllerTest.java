@@ -9,8 +9,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import android.os.Build;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.BinaryMessenger;
@@ -18,12 +20,21 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodCodec;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
 
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
 public class MarkersControllerTest {
 
   @Test
@@ -124,4 +135,177 @@ public class MarkersControllerTest {
     data.put("position", points);
     Mockito.verify(methodChannel).invokeMethod("marker#onDrag", data);
   }
+
+  @Test
+  public void interpretMarkers_SkipsNullMarkersAndKeepsOrder() {
+    final Map<String, Object> first = new HashMap<>();
+    first.put("markerId", "first");
+    first.put("consumeTapEvents", true);
+    final Map<String, Object> second = new HashMap<>();
+    second.put("markerId", "second");
+
+    final List<MarkersController.InterpretedMarker> interpretedMarkers =
+        MarkersController.interpretMarkers(Arrays.<Object>asList(first, null, second));
+
+    Assert.assertEquals(2, interpretedMarkers.size());
+    Assert.assertEquals("first", interpretedMarkers.get(0).markerId);
+    Assert.assertTrue(interpretedMarkers.get(0).consumeTapEvents);
+    Assert.assertEquals("second", interpretedMarkers.get(1).markerId);
+    Assert.assertFalse(interpretedMarkers.get(1).consumeTapEvents);
+  }
+
+  @Test
+  public void controller_AddMarkersInBulkCompletesImmediatelyWhenEmpty() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    controller.addMarkersInBulk(new ArrayList<>(), true, result);
+
+    final Map<String, Object> data = new HashMap<>();
+    data.put("added", 0);
+    data.put("parseMillis", 0L);
+    data.put("totalMillis", 0L);
+    Mockito.verify(result).success(data);
+  }
+
+  @Test
+  public void controller_AppliesChangesSentDuringBulkAdd() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    controller.addMarkersInBulk(Arrays.<Object>asList(markerAt("car", 0, 0)), false, result);
+    controller.changeMarkers(Arrays.<Object>asList(markerAt("car", 1, 2)));
+    Mockito.verify(googleMap, Mockito.never()).addMarker(any(MarkerOptions.class));
+    ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+
+    Mockito.verify(googleMap).addMarker(any(MarkerOptions.class));
+    Mockito.verify(marker).setPosition(new LatLng(1, 2));
+    Mockito.verify(result).success(any());
+    Assert.assertEquals(
+        Collections.singletonList("car"), controller.nearestMarkers(new LatLng(1, 2), 1));
+  }
+
+  @Test
+  public void controller_AppliesRemovesAndChangesSentWhileBulkAddIsInterpreted() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    // Interprets the markers when the test runs the pending tasks.
+    final List<Runnable> backgroundTasks = new ArrayList<>();
+    final MarkersController controller = new MarkersController(methodChannel, backgroundTasks::add);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    controller.addMarkersInBulk(
+        Arrays.<Object>asList(markerAt("car", 0, 0), markerAt("bike", 0, 0)), false, result);
+    controller.removeMarkers(Arrays.<Object>asList("car"));
+    controller.changeMarkers(Arrays.<Object>asList(markerAt("bike", 1, 2)));
+    for (Runnable task : backgroundTasks) {
+      task.run();
+    }
+    ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+
+    Mockito.verify(googleMap, Mockito.times(1)).addMarker(any(MarkerOptions.class));
+    Mockito.verify(marker).setPosition(new LatLng(1, 2));
+    final ArgumentCaptor<Object> resultCaptor = ArgumentCaptor.forClass(Object.class);
+    Mockito.verify(result).success(resultCaptor.capture());
+    Assert.assertEquals(1, ((Map<?, ?>) resultCaptor.getValue()).get("added"));
+    Assert.assertEquals(
+        Collections.singletonList("bike"), controller.nearestMarkers(new LatLng(0, 0), 5));
+  }
+
+  @Test
+  public void controller_QueriesMarkerPositions() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    controller.addMarkers(
+        Arrays.<Object>asList(
+            markerAt("home", 0, 0), markerAt("shop", 0, 0.005), markerAt("office", 1, 1)));
+
+    Assert.assertEquals(
+        Arrays.asList("home", "shop"), controller.nearestMarkers(new LatLng(0, 0.001), 2));
+    Assert.assertEquals(
+        Collections.singletonList("home"), controller.queryPoint(new LatLng(0, 0.001), 200));
+    Assert.assertEquals(
+        Collections.singletonList("office"),
+        controller.queryBounds(new LatLngBounds(new LatLng(0.5, 0.5), new LatLng(2, 2))));
+
+    final Map<String, Object> move = markerAt("office", 0, 0.002);
+    controller.changeMarkers(Arrays.<Object>asList(move));
+    controller.removeMarkers(Arrays.<Object>asList("home"));
+
+    Assert.assertEquals(
+        Arrays.asList("office", "shop"), controller.nearestMarkers(new LatLng(0, 0.001), 5));
+  }
+
+  @Test
+  public void controller_ChangeMarkersOnlyAppliesChangedOptions() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> options = markerAt("car", 1, 1);
+    options.put("alpha", 0.5);
+    controller.addMarkers(Arrays.<Object>asList(options));
+
+    final Map<String, Object> moved = markerAt("car", 1, 2);
+    moved.put("alpha", 0.5);
+    controller.changeMarkers(Arrays.<Object>asList(moved));
+    controller.changeMarkers(Arrays.<Object>asList(moved));
+
+    Mockito.verify(marker, Mockito.times(1)).setPosition(new LatLng(1, 2));
+    Mockito.verify(marker, Mockito.never()).setAlpha(Mockito.anyFloat());
+  }
+
+  @Test
+  public void controller_UpdateMarkerPositionsMovesMarkers() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    controller.addMarkers(Arrays.<Object>asList(markerAt("car", 0, 0)));
+
+    controller.updateMarkerPositions(
+        Arrays.asList("car", "unknown"), new double[] {3, 4, 5, 6}, new double[] {90, 180});
+
+    Mockito.verify(marker).setPosition(new LatLng(3, 4));
+    Mockito.verify(marker).setRotation(90f);
+    Assert.assertEquals(
+        Collections.singletonList("car"), controller.nearestMarkers(new LatLng(3, 4), 1));
+
+    // Dart sending the position it had before moves the marker back.
+    controller.changeMarkers(Arrays.<Object>asList(markerAt("car", 0, 0)));
+
+    Mockito.verify(marker).setPosition(new LatLng(0, 0));
+  }
+
+  private static Map<String, Object> markerAt(String markerId, double latitude, double longitude) {
+    final Map<String, Object> marker = new HashMap<>();
+    marker.put("markerId", markerId);
+    marker.put("position", Arrays.asList(latitude, longitude));
+    return marker;
+  }
 }
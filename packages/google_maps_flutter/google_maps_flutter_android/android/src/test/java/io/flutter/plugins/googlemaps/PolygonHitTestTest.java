@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class PolygonHitTestTest {
+  private static final List<LatLng> SQUARE =
+      Arrays.asList(new LatLng(0, 0), new LatLng(0, 10), new LatLng(10, 10), new LatLng(10, 0));
+  private static final List<List<LatLng>> HOLES =
+      Collections.singletonList(
+          Arrays.asList(new LatLng(4, 4), new LatLng(4, 6), new LatLng(6, 6), new LatLng(6, 4)));
+
+  @Test
+  public void contains_ExcludesHoles() {
+    assertTrue(PolygonHitTest.contains(SQUARE, HOLES, new LatLng(2, 2)));
+    assertFalse(PolygonHitTest.contains(SQUARE, HOLES, new LatLng(5, 5)));
+    assertFalse(PolygonHitTest.contains(SQUARE, HOLES, new LatLng(12, 5)));
+  }
+
+  @Test
+  public void contains_HandlesPolygonsCrossingTheAntimeridian() {
+    final List<LatLng> polygon =
+        Arrays.asList(
+            new LatLng(-1, 179), new LatLng(-1, -179), new LatLng(1, -179), new LatLng(1, 179));
+
+    assertTrue(PolygonHitTest.contains(polygon, null, new LatLng(0, 179.5)));
+    assertTrue(PolygonHitTest.contains(polygon, null, new LatLng(0, -179.5)));
+    assertFalse(PolygonHitTest.contains(polygon, null, new LatLng(0, 0)));
+  }
+
+  @Test
+  public void intersects_DetectsOverlaps() {
+    // Inside of the polygon.
+    assertTrue(PolygonHitTest.intersects(SQUARE, HOLES, bounds(1, 1, 2, 2)));
+    // Containing the polygon.
+    assertTrue(PolygonHitTest.intersects(SQUARE, HOLES, bounds(-1, -1, 11, 11)));
+    // Crossing an edge, without vertices on either side.
+    assertTrue(PolygonHitTest.intersects(SQUARE, HOLES, bounds(-1, 4, 11, 5)));
+    // Overlapping the hole's boundary.
+    assertTrue(PolygonHitTest.intersects(SQUARE, HOLES, bounds(4.5, 3, 5, 4.5)));
+  }
+
+  @Test
+  public void intersects_IgnoresBoundsInHolesOrOutside() {
+    assertFalse(PolygonHitTest.intersects(SQUARE, HOLES, bounds(4.5, 4.5, 5.5, 5.5)));
+    assertFalse(PolygonHitTest.intersects(SQUARE, HOLES, bounds(20, 20, 21, 21)));
+  }
+
+  private static LatLngBounds bounds(
+      double south, double west, double north, double east) {
+    return new LatLngBounds(new LatLng(south, west), new LatLng(north, east));
+  }
+}
@@ -5,8 +5,12 @@
 package io.flutter.plugins.googlemaps;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PolylineOptions;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 
 public class PolylineBuilderTest {
@@ -24,4 +28,20 @@ public class PolylineBuilderTest {
 
     assertEquals(density * strokeWidth, width);
   }
+
+  @Test
+  public void simplificationTolerance_OmitsPointsFromOptions() {
+    final List<LatLng> points = Arrays.asList(new LatLng(0, 0), new LatLng(0, 1));
+
+    final PolylineBuilder simplified = new PolylineBuilder(1);
+    simplified.setPoints(points);
+    simplified.setSimplificationTolerance(1);
+    final PolylineBuilder unsimplified = new PolylineBuilder(1);
+    unsimplified.setPoints(points);
+
+    assertTrue(simplified.build().getPoints().isEmpty());
+    assertEquals(points, simplified.points());
+    assertEquals(points, unsimplified.build().getPoints());
+    assertEquals(points, unsimplified.build().getPoints());
+  }
 }
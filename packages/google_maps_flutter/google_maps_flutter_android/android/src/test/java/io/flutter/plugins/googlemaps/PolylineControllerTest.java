@@ -4,11 +4,18 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 
 import com.google.android.gms.internal.maps.zzag;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -26,4 +33,72 @@ public class PolylineControllerTest {
 
     Mockito.verify(polyline).setWidth(density * strokeWidth);
   }
+
+  @Test
+  public void controller_CullingKeepsRequestedVisibility() {
+    final zzag z = mock(zzag.class);
+    final Polyline polyline = spy(new Polyline(z));
+    Mockito.doReturn(true).when(polyline).isVisible();
+    final PolylineController controller = new PolylineController(polyline, false, 1);
+
+    controller.setCulled(true);
+    Mockito.verify(polyline).setVisible(false);
+
+    controller.setVisible(true);
+    Mockito.verify(polyline, never()).setVisible(true);
+
+    controller.setCulled(false);
+    Mockito.verify(polyline).setVisible(true);
+  }
+
+  @Test
+  public void controller_SimplifiesOnTheBackgroundExecutor() {
+    final zzag z = mock(zzag.class);
+    final Polyline polyline = spy(new Polyline(z));
+    final List<LatLng> previousPoints = Arrays.asList(new LatLng(1, 1), new LatLng(1, 2));
+    Mockito.doReturn(previousPoints).when(polyline).getPoints();
+    final List<Runnable> backgroundTasks = new ArrayList<>();
+    final PolylineController controller =
+        new PolylineController(polyline, false, 1, backgroundTasks::add, Runnable::run);
+    controller.setZoom(10);
+
+    controller.setSimplificationTolerance(1);
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 1), new LatLng(0, 2));
+    controller.setPoints(points);
+
+    Mockito.verify(polyline, never()).setPoints(any());
+    assertEquals(points, controller.getPoints());
+    assertEquals(2, backgroundTasks.size());
+
+    // The simplification of the previous points is stale by the time it completes.
+    for (Runnable task : backgroundTasks) {
+      task.run();
+    }
+    Mockito.verify(polyline).setPoints(Arrays.asList(new LatLng(0, 0), new LatLng(0, 2)));
+    Mockito.verify(polyline, Mockito.times(1)).setPoints(any());
+  }
+
+  @Test
+  public void controller_DrawsOnlySimplifiedPointsOfAddedPolylines() {
+    final zzag z = mock(zzag.class);
+    final Polyline polyline = spy(new Polyline(z));
+    final List<Runnable> backgroundTasks = new ArrayList<>();
+    final PolylineController controller =
+        new PolylineController(polyline, false, 1, backgroundTasks::add, Runnable::run);
+    controller.setZoom(10);
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 1), new LatLng(0, 2));
+
+    controller.setSimplifiedPoints(points, 1);
+
+    Mockito.verify(polyline, never()).getPoints();
+    Mockito.verify(polyline, never()).setPoints(any());
+    assertEquals(points, controller.getPoints());
+    assertEquals(1, backgroundTasks.size());
+
+    backgroundTasks.get(0).run();
+    Mockito.verify(polyline).setPoints(Arrays.asList(new LatLng(0, 0), new LatLng(0, 2)));
+    Mockito.verify(polyline, never()).getPoints();
+  }
 }
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class PolylineSimplifierTest {
+
+  @Test
+  public void getPoints_DropsCollinearPoints() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      points.add(new LatLng(0, i * 0.01));
+    }
+    final PolylineSimplifier simplifier = new PolylineSimplifier(points);
+
+    assertEquals(Arrays.asList(points.get(0), points.get(100)), simplifier.getPoints(20, 1));
+  }
+
+  @Test
+  public void getPoints_KeepsCornersVisibleAtTheZoomLevel() {
+    final LatLng start = new LatLng(0, 0);
+    final LatLng corner = new LatLng(1, 1);
+    final LatLng end = new LatLng(0, 2);
+    final PolylineSimplifier simplifier =
+        new PolylineSimplifier(Arrays.asList(start, corner, end));
+
+    // Less than a pixel high at zoom 0, so it is dropped.
+    assertEquals(Arrays.asList(start, end), simplifier.getPoints(0, 1));
+    assertEquals(Arrays.asList(start, corner, end), simplifier.getPoints(10, 1));
+  }
+
+  @Test
+  public void getPoints_ReturnsTheOriginalListWhenNothingIsDropped() {
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(10, 10), new LatLng(0, 20), new LatLng(10, 30));
+    final PolylineSimplifier simplifier = new PolylineSimplifier(points);
+
+    assertSame(points, simplifier.getPoints(15, 1));
+  }
+
+  @Test
+  public void getPoints_AddsDetailAsTheZoomGrows() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      points.add(new LatLng(Math.sin(i * 0.1) * 0.5 + (i % 7) * 0.001, i * 0.01));
+    }
+    final PolylineSimplifier simplifier = new PolylineSimplifier(points);
+
+    int previousSize = 0;
+    for (int zoom = 0; zoom <= 22; zoom++) {
+      final List<LatLng> simplified = simplifier.getPoints(zoom, 1);
+      assertEquals(points.get(0), simplified.get(0));
+      assertEquals(points.get(points.size() - 1), simplified.get(simplified.size() - 1));
+      assertTrue(simplified.size() >= previousSize);
+      previousSize = simplified.size();
+    }
+    assertEquals(points.size(), previousSize);
+  }
+}
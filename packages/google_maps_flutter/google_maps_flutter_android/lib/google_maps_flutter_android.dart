@@ -2,4 +2,6 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+export 'src/android_map_types.dart';
 export 'src/google_maps_flutter_android.dart';
+export 'src/heatmap.dart';
@@ -0,0 +1,286 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show Rect;
+
+import 'package:flutter/foundation.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// How `GoogleMapsFlutterAndroid` sends the points of polylines and polygons.
+enum PointsEncoding {
+  /// Each point is a list of its latitude and longitude.
+  lists,
+
+  /// The latitudes and longitudes of all the points are packed in a single
+  /// `Float64List`.
+  packed,
+
+  /// The points are sent as an encoded polyline string, with the coordinates
+  /// rounded to 5 decimal places.
+  encodedPolyline,
+}
+
+/// An event sent after each chunk of markers added by
+/// `GoogleMapsFlutterAndroid.addMarkersInBulk` when progress is reported.
+///
+/// The value is the number of markers processed so far.
+class BulkAddProgressEvent extends MapEvent<int> {
+  /// Builds a BulkAddProgressEvent event.
+  ///
+  /// `mapId` is the id of the map that sent the event.
+  /// `added` is the number of markers processed so far, out of `total`.
+  BulkAddProgressEvent(int mapId, int added, this.total) : super(mapId, added);
+
+  /// The number of markers in the bulk add.
+  final int total;
+}
+
+/// The outcome of `GoogleMapsFlutterAndroid.addMarkersInBulk`.
+@immutable
+class BulkAddResult {
+  /// Creates a [BulkAddResult].
+  const BulkAddResult({
+    required this.added,
+    required this.parseDuration,
+    required this.totalDuration,
+  });
+
+  /// Creates a [BulkAddResult] from the map sent by the platform.
+  factory BulkAddResult.fromJson(Map<String, Object?> json) {
+    return BulkAddResult(
+      added: json['added']! as int,
+      parseDuration: Duration(milliseconds: json['parseMillis']! as int),
+      totalDuration: Duration(milliseconds: json['totalMillis']! as int),
+    );
+  }
+
+  /// The number of markers added to the map.
+  ///
+  /// Markers removed before they were added are not counted.
+  final int added;
+
+  /// The time spent interpreting the marker options, off the platform thread.
+  final Duration parseDuration;
+
+  /// The time until the last marker was added to the map.
+  final Duration totalDuration;
+}
+
+/// An event sent when a cluster drawn from the items of
+/// `GoogleMapsFlutterAndroid.setClusterItems` is tapped.
+///
+/// The value is the position of the tapped cluster.
+class ClusterTapEvent extends MapEvent<LatLng> {
+  /// Builds a ClusterTapEvent event.
+  ///
+  /// `mapId` is the id of the map that sent the event.
+  /// `position` is the position of the cluster, which contains `itemIds`.
+  ClusterTapEvent(int mapId, LatLng position, this.itemIds)
+      : super(mapId, position);
+
+  /// The ids of the items in the cluster.
+  ///
+  /// A single item is reported as a cluster of one item.
+  final List<String> itemIds;
+}
+
+/// Limits the camera moves sent to `GoogleMapsFlutterAndroid.onCameraMove`
+/// while the camera moves.
+///
+/// A move is sent when it is at least [minInterval] after the last one sent,
+/// and the camera moved past any of the thresholds. The default throttle sends
+/// every move that differs from the last one sent.
+@immutable
+class CameraMoveThrottle {
+  /// Creates a [CameraMoveThrottle].
+  const CameraMoveThrottle({
+    this.minInterval = Duration.zero,
+    this.frameAligned = false,
+    this.targetThresholdMeters = 0,
+    this.zoomThreshold = 0,
+    this.bearingThreshold = 0,
+    this.tiltThreshold = 0,
+  });
+
+  /// The minimum time between two moves sent to Dart.
+  final Duration minInterval;
+
+  /// Whether moves are coalesced so that at most one is sent per frame.
+  final bool frameAligned;
+
+  /// The distance the camera target must move before a move is sent.
+  final double targetThresholdMeters;
+
+  /// The zoom change before a move is sent.
+  final double zoomThreshold;
+
+  /// The bearing change, in degrees, before a move is sent.
+  final double bearingThreshold;
+
+  /// The tilt change, in degrees, before a move is sent.
+  final double tiltThreshold;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() {
+    return <String, Object>{
+      'minIntervalMillis': minInterval.inMilliseconds,
+      'frameAligned': frameAligned,
+      'targetThresholdMeters': targetThresholdMeters,
+      'zoomThreshold': zoomThreshold,
+      'bearingThreshold': bearingThreshold,
+      'tiltThreshold': tiltThreshold,
+    };
+  }
+}
+
+/// The state of the icon cache, as reported by
+/// `GoogleMapsFlutterAndroid.getBitmapDescriptorCacheStats`.
+@immutable
+class BitmapDescriptorCacheStats {
+  /// Creates a [BitmapDescriptorCacheStats].
+  const BitmapDescriptorCacheStats({
+    required this.entries,
+    required this.sizeBytes,
+    required this.hits,
+    required this.misses,
+  });
+
+  /// Creates a [BitmapDescriptorCacheStats] from the map sent by the platform.
+  factory BitmapDescriptorCacheStats.fromJson(Map<String, Object?> json) {
+    return BitmapDescriptorCacheStats(
+      entries: json['entries']! as int,
+      sizeBytes: json['sizeBytes']! as int,
+      hits: json['hits']! as int,
+      misses: json['misses']! as int,
+    );
+  }
+
+  /// The number of cached icons.
+  final int entries;
+
+  /// The approximate size of the decoded icons.
+  final int sizeBytes;
+
+  /// The number of icons found in the cache.
+  final int hits;
+
+  /// The number of icons decoded because they were not in the cache.
+  final int misses;
+}
+
+/// How long a map took to be ready, as reported by
+/// `GoogleMapsFlutterAndroid.getTimeToMapReady`.
+@immutable
+class MapReadyTiming {
+  /// Creates a [MapReadyTiming].
+  const MapReadyTiming({
+    required this.timeToMapReady,
+    required this.mapViewFromPool,
+  });
+
+  /// Creates a [MapReadyTiming] from the map sent by the platform.
+  factory MapReadyTiming.fromJson(Map<String, Object?> json) {
+    final int? timeToMapReadyMicros = json['timeToMapReadyMicros'] as int?;
+    return MapReadyTiming(
+      timeToMapReady: timeToMapReadyMicros == null
+          ? null
+          : Duration(microseconds: timeToMapReadyMicros),
+      mapViewFromPool: json['mapViewFromPool']! as bool,
+    );
+  }
+
+  /// The time from the creation of the map view until its map was ready, or
+  /// null if the map is not ready yet.
+  final Duration? timeToMapReady;
+
+  /// Whether the map reused a map view warmed up by
+  /// `GoogleMapsFlutterAndroid.warmUpMapViews`.
+  final bool mapViewFromPool;
+}
+
+/// The markers and polygons found by `GoogleMapsFlutterAndroid.queryPoint` and
+/// `GoogleMapsFlutterAndroid.queryBounds`.
+@immutable
+class MapQueryResult {
+  /// Creates a [MapQueryResult].
+  const MapQueryResult({required this.markerIds, required this.polygonIds});
+
+  /// Creates a [MapQueryResult] from the map sent by the platform.
+  factory MapQueryResult.fromJson(Map<String, Object?> json) {
+    return MapQueryResult(
+      markerIds: (json['markerIds']! as List<Object?>)
+          .map((Object? id) => MarkerId(id! as String))
+          .toList(),
+      polygonIds: (json['polygonIds']! as List<Object?>)
+          .map((Object? id) => PolygonId(id! as String))
+          .toList(),
+    );
+  }
+
+  /// The ids of the markers found.
+  final List<MarkerId> markerIds;
+
+  /// The ids of the polygons found.
+  final List<PolygonId> polygonIds;
+}
+
+/// The image format of a snapshot taken by
+/// `GoogleMapsFlutterAndroid.takeSnapshot`.
+enum SnapshotFormat {
+  /// Lossless PNG.
+  png,
+
+  /// Lossy JPEG, without transparency.
+  jpeg,
+
+  /// WebP, lossless at a quality of 100 on Android 11 and above, and lossy
+  /// otherwise.
+  webp,
+}
+
+/// How `GoogleMapsFlutterAndroid.takeSnapshot` crops, scales and encodes a
+/// snapshot.
+///
+/// The snapshot is encoded off the platform thread.
+@immutable
+class SnapshotOptions {
+  /// Creates a [SnapshotOptions].
+  const SnapshotOptions({
+    this.format = SnapshotFormat.png,
+    this.quality = 100,
+    this.scale = 1,
+    this.region,
+  })  : assert(quality >= 0 && quality <= 100),
+        assert(scale > 0 && scale <= 1);
+
+  /// The image format of the snapshot.
+  final SnapshotFormat format;
+
+  /// The compression quality, from 0 to 100. Ignored for PNG.
+  final int quality;
+
+  /// The factor applied to the size of the snapshot, in (0, 1].
+  final double scale;
+
+  /// The part of the map to keep, in logical pixels from the top left corner
+  /// of the map, or null to keep all of it.
+  final Rect? region;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() {
+    final Rect? region = this.region;
+    return <String, Object>{
+      'format': describeEnum(format),
+      'quality': quality,
+      'scale': scale,
+      if (region != null)
+        'region': <String, Object>{
+          'x': region.left,
+          'y': region.top,
+          'width': region.width,
+          'height': region.height,
+        },
+    };
+  }
+}
@@ -15,7 +15,9 @@ import 'package:flutter/services.dart';
 import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'android_map_types.dart';
 import 'google_map_inspector_android.dart';
+import 'heatmap.dart';
 
 // TODO(stuartmorgan): Remove the dependency on platform interface toJson
 // methods. Channel serialization details should all be package-internal.
@@ -82,6 +84,9 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   final Map<int, Map<TileOverlayId, TileOverlay>> _tileOverlays =
       <int, Map<TileOverlayId, TileOverlay>>{};
 
+  // Keep a collection of mapId to the set of Heatmaps.
+  final Map<int, Set<Heatmap>> _heatmaps = <int, Set<Heatmap>>{};
+
   /// Returns the channel for [mapId], creating it if it doesn't already exist.
   @visibleForTesting
   MethodChannel ensureChannelInitialized(int mapId) {
@@ -184,6 +189,16 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<MapLongPressEvent>();
   }
 
+  /// The progress of [addMarkersInBulk] calls made with `reportProgress`.
+  Stream<BulkAddProgressEvent> onBulkAddProgress({required int mapId}) {
+    return _events(mapId).whereType<BulkAddProgressEvent>();
+  }
+
+  /// Taps on the clusters drawn for [setClusterItems].
+  Stream<ClusterTapEvent> onClusterTap({required int mapId}) {
+    return _events(mapId).whereType<ClusterTapEvent>();
+  }
+
   Future<dynamic> _handleMethodCall(MethodCall call, int mapId) async {
     switch (call.method) {
       case 'camera#onMoveStarted':
@@ -272,6 +287,22 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           LatLng.fromJson(arguments['position'])!,
         ));
         break;
+      case 'markers#onBulkAddProgress':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        _mapEventStreamController.add(BulkAddProgressEvent(
+          mapId,
+          arguments['added']! as int,
+          arguments['total']! as int,
+        ));
+        break;
+      case 'cluster#onTap':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        _mapEventStreamController.add(ClusterTapEvent(
+          mapId,
+          LatLng.fromJson(arguments['position'])!,
+          (arguments['itemIds']! as List<Object?>).cast<String>(),
+        ));
+        break;
       case 'tileOverlay#getTile':
         final Map<String, Object?> arguments = _getArgumentDictionary(call);
         final Map<TileOverlayId, TileOverlay>? tileOverlaysForThisMap =
@@ -316,6 +347,37 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Limits the camera moves sent to [onCameraMove] with [throttle].
+  ///
+  /// Moves are only sent for maps that track the camera position. Throttles
+  /// can also be set when the map is created, under the `cameraMoveThrottle`
+  /// key of the map options.
+  Future<void> setCameraMoveThrottle(
+    CameraMoveThrottle throttle, {
+    required int mapId,
+  }) {
+    return updateMapOptions(
+      <String, dynamic>{'cameraMoveThrottle': throttle.toJson()},
+      mapId: mapId,
+    );
+  }
+
+  /// Sets whether polylines, polygons and circles outside of the viewport are
+  /// hidden.
+  ///
+  /// Shapes are shown or hidden when the camera becomes idle, with a margin
+  /// around the viewport. Culling can also be enabled when the map is created,
+  /// with the `shapeCullingEnabled` key of the map options.
+  Future<void> setShapeCullingEnabled(
+    bool enabled, {
+    required int mapId,
+  }) {
+    return updateMapOptions(
+      <String, dynamic>{'shapeCullingEnabled': enabled},
+      mapId: mapId,
+    );
+  }
+
   @override
   Future<void> updateMarkers(
     MarkerUpdates markerUpdates, {
@@ -328,6 +390,124 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Adds [markers] without blocking the platform thread for the whole batch.
+  ///
+  /// The marker options are interpreted off the platform thread, then the
+  /// markers are added to the map over several frames. When [reportProgress]
+  /// is set, [onBulkAddProgress] receives an event after each frame.
+  ///
+  /// The added markers are part of the map's markers from then on: later
+  /// [updateMarkers] calls change or remove them, including before they are
+  /// drawn.
+  Future<BulkAddResult> addMarkersInBulk(
+    Set<Marker> markers, {
+    required int mapId,
+    bool reportProgress = false,
+  }) async {
+    final Map<String, Object?> result = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('markers#addBulk', <String, Object>{
+      'markersToAdd': serializeMarkerSet(markers),
+      'reportProgress': reportProgress,
+    }))!;
+    return BulkAddResult.fromJson(result);
+  }
+
+  /// Moves markers to [positions] without sending their other options, for
+  /// markers that move every frame.
+  ///
+  /// When [rotations] is set, it must hold the new rotation of every marker in
+  /// [positions]. Unknown marker ids are ignored. A later [updateMarkers] call
+  /// that changes the position or rotation of a marker overrides these.
+  Future<void> updateMarkerPositions(
+    Map<MarkerId, LatLng> positions, {
+    required int mapId,
+    Map<MarkerId, double>? rotations,
+  }) {
+    return _channel(mapId).invokeMethod<void>('markers#updatePositions',
+        _packMarkerPositions(positions, rotations));
+  }
+
+  /// Animates markers to [positions], and [rotations] when set, over
+  /// [duration], so that a single update per location fix draws smooth
+  /// motion.
+  ///
+  /// The animation runs on the platform, one step per frame. Markers that are
+  /// already animating start from where they are drawn, and setting the
+  /// position of a marker stops its animation.
+  Future<void> animateMarkers(
+    Map<MarkerId, LatLng> positions, {
+    required int mapId,
+    required Duration duration,
+    Map<MarkerId, double>? rotations,
+  }) {
+    return _channel(mapId).invokeMethod<void>('markers#animateTo',
+        <String, Object?>{
+      ..._packMarkerPositions(positions, rotations),
+      'durationMillis': duration.inMilliseconds,
+    });
+  }
+
+  // Packs the positions and rotations of markers into the arrays read by
+  // markers#updatePositions and markers#animateTo.
+  static Map<String, Object?> _packMarkerPositions(
+    Map<MarkerId, LatLng> positions,
+    Map<MarkerId, double>? rotations,
+  ) {
+    assert(rotations == null || positions.keys.every(rotations.containsKey));
+    final List<String> markerIds = <String>[];
+    final Float64List packedPositions = Float64List(positions.length * 2);
+    final Float64List? packedRotations =
+        rotations == null ? null : Float64List(positions.length);
+    int i = 0;
+    for (final MapEntry<MarkerId, LatLng> entry in positions.entries) {
+      markerIds.add(entry.key.value);
+      packedPositions[2 * i] = entry.value.latitude;
+      packedPositions[2 * i + 1] = entry.value.longitude;
+      packedRotations?[i] = rotations![entry.key]!;
+      i++;
+    }
+    return <String, Object?>{
+      'markerIds': markerIds,
+      'positions': packedPositions,
+      'rotations': packedRotations,
+    };
+  }
+
+  /// Draws [items], keyed by their ids, as clusters.
+  ///
+  /// Only the clusters within the visible region are drawn, as markers, and
+  /// they are recomputed off the platform thread when the camera becomes idle.
+  /// Items are clustered in square cells of [gridSize] logical pixels, and
+  /// cells with fewer than [minClusterSize] items are drawn as single items.
+  ///
+  /// The items replace those of previous calls. Taps are sent to
+  /// [onClusterTap].
+  Future<void> setClusterItems(
+    Map<String, LatLng> items, {
+    required int mapId,
+    double? gridSize,
+    int? minClusterSize,
+  }) {
+    final Float64List positions = Float64List(items.length * 2);
+    int i = 0;
+    for (final LatLng position in items.values) {
+      positions[i++] = position.latitude;
+      positions[i++] = position.longitude;
+    }
+    return _channel(mapId)
+        .invokeMethod<void>('clusters#setItems', <String, Object?>{
+      'ids': items.keys.toList(),
+      'positions': positions,
+      'gridSize': gridSize,
+      'minClusterSize': minClusterSize,
+    });
+  }
+
+  /// Removes the clusters drawn for [setClusterItems].
+  Future<void> clearClusterItems({required int mapId}) {
+    return _channel(mapId).invokeMethod<void>('clusters#clear');
+  }
+
   @override
   Future<void> updatePolygons(
     PolygonUpdates polygonUpdates, {
@@ -336,7 +516,7 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     assert(polygonUpdates != null);
     return _channel(mapId).invokeMethod<void>(
       'polygons#update',
-      polygonUpdates.toJson(),
+      _encodeShapeUpdates(polygonUpdates.toJson()),
     );
   }
 
@@ -348,10 +528,119 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     assert(polylineUpdates != null);
     return _channel(mapId).invokeMethod<void>(
       'polylines#update',
-      polylineUpdates.toJson(),
+      _encodeShapeUpdates(polylineUpdates.toJson()),
     );
   }
 
+  /// Replaces the points of the polygons or polylines in [updates] with their
+  /// [pointsEncoding].
+  Map<String, Object> _encodeShapeUpdates(Object updates) {
+    final Map<String, Object> encodedUpdates =
+        Map<String, Object>.of(updates as Map<String, Object>);
+    for (final String key in <String>[
+      'polygonsToAdd',
+      'polygonsToChange',
+      'polylinesToAdd',
+      'polylinesToChange',
+    ]) {
+      final Object? shapes = encodedUpdates[key];
+      if (shapes != null) {
+        encodedUpdates[key] = _encodeShapes(shapes);
+      }
+    }
+    return encodedUpdates;
+  }
+
+  /// Replaces the points and holes of the serialized polygons or polylines in
+  /// [shapes] with their [pointsEncoding].
+  List<Object> _encodeShapes(Object shapes) {
+    return (shapes as List<Object>).map<Object>((Object shape) {
+      final Map<String, Object> encodedShape =
+          Map<String, Object>.of(shape as Map<String, Object>);
+      final Object? points = encodedShape['points'];
+      if (points != null) {
+        encodedShape['points'] = _encodePoints(points as List<Object?>);
+      }
+      final Object? holes = encodedShape['holes'];
+      if (holes != null) {
+        encodedShape['holes'] = (holes as List<Object?>)
+            .map((Object? hole) => _encodePoints(hole! as List<Object?>))
+            .toList();
+      }
+      return encodedShape;
+    }).toList();
+  }
+
+  /// Encodes serialized `[latitude, longitude]` points with [pointsEncoding].
+  Object _encodePoints(List<Object?> points) {
+    switch (pointsEncoding) {
+      case PointsEncoding.lists:
+        return points;
+      case PointsEncoding.packed:
+        final Float64List packed = Float64List(points.length * 2);
+        for (int i = 0; i < points.length; i++) {
+          final List<Object?> point = points[i]! as List<Object?>;
+          packed[2 * i] = point[0]! as double;
+          packed[2 * i + 1] = point[1]! as double;
+        }
+        return packed;
+      case PointsEncoding.encodedPolyline:
+        return encodePolyline(points);
+    }
+  }
+
+  /// Encodes serialized `[latitude, longitude]` points in the encoded
+  /// polyline format, rounding the coordinates to 5 decimal places.
+  ///
+  /// See https://developers.google.com/maps/documentation/utilities/polylinealgorithm.
+  @visibleForTesting
+  static String encodePolyline(List<Object?> points) {
+    final StringBuffer encoded = StringBuffer();
+    int previousLatitude = 0;
+    int previousLongitude = 0;
+    for (final Object? rawPoint in points) {
+      final List<Object?> point = rawPoint! as List<Object?>;
+      final int latitude = ((point[0]! as double) * 1e5).round();
+      final int longitude = ((point[1]! as double) * 1e5).round();
+      _encodePolylineValue(latitude - previousLatitude, encoded);
+      _encodePolylineValue(longitude - previousLongitude, encoded);
+      previousLatitude = latitude;
+      previousLongitude = longitude;
+    }
+    return encoded.toString();
+  }
+
+  static void _encodePolylineValue(int value, StringBuffer encoded) {
+    int shifted = value < 0 ? ~(value << 1) : value << 1;
+    while (shifted >= 0x20) {
+      encoded.writeCharCode((0x20 | (shifted & 0x1f)) + 63);
+      shifted >>= 5;
+    }
+    encoded.writeCharCode(shifted + 63);
+  }
+
+  /// Sets how far, in logical pixels, the drawn line of the polyline with
+  /// [polylineId] may stray from the full one.
+  ///
+  /// A positive [tolerance] draws fewer points when zoomed out, simplifying the
+  /// line off the platform thread; zero draws every point. The tolerance is
+  /// kept when the polyline is updated, and ignored for unknown polylines.
+  Future<void> setPolylineSimplificationTolerance(
+    PolylineId polylineId,
+    double tolerance, {
+    required int mapId,
+  }) {
+    return _channel(mapId)
+        .invokeMethod<void>('polylines#update', <String, Object>{
+      'polylinesToChange': <Object>[
+        <String, Object>{
+          'polylineId': polylineId.value,
+          'simplificationTolerance': tolerance,
+        },
+      ],
+    });
+  }
+
   @override
   Future<void> updateCircles(
     CircleUpdates circleUpdates, {
@@ -368,6 +657,17 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   Future<void> updateTileOverlays({
     required Set<TileOverlay> newTileOverlays,
     required int mapId,
+  }) {
+    return _channel(mapId).invokeMethod<void>(
+      'tileOverlays#update',
+      _updateTileOverlays(newTileOverlays, mapId: mapId).toJson(),
+    );
+  }
+
+  /// Replaces the tile overlays of [mapId], returning the changes to send.
+  _TileOverlayUpdates _updateTileOverlays(
+    Set<TileOverlay> newTileOverlays, {
+    required int mapId,
   }) {
     final Map<TileOverlayId, TileOverlay>? currentTileOverlays =
         _tileOverlays[mapId];
@@ -377,12 +677,75 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     final _TileOverlayUpdates updates =
         _TileOverlayUpdates.from(previousSet, newTileOverlays);
     _tileOverlays[mapId] = keyTileOverlayId(newTileOverlays);
+    return updates;
+  }
+
+  /// Replaces the heatmaps of [mapId] with [newHeatmaps].
+  ///
+  /// Only the heatmaps that were added, changed or removed are sent.
+  Future<void> updateHeatmaps(
+    Set<Heatmap> newHeatmaps, {
+    required int mapId,
+  }) {
     return _channel(mapId).invokeMethod<void>(
-      'tileOverlays#update',
-      updates.toJson(),
+      'heatmaps#update',
+      _updateHeatmaps(newHeatmaps, mapId: mapId).toJson(),
     );
   }
 
+  /// Replaces the heatmaps of [mapId], returning the changes to send.
+  _HeatmapUpdates _updateHeatmaps(
+    Set<Heatmap> newHeatmaps, {
+    required int mapId,
+  }) {
+    final _HeatmapUpdates updates = _HeatmapUpdates.from(
+        _heatmaps[mapId] ?? <Heatmap>{}, newHeatmaps);
+    _heatmaps[mapId] = Set<Heatmap>.of(newHeatmaps);
+    return updates;
+  }
+
+  /// Applies the given marker, polygon, polyline, circle, tile overlay and
+  /// heatmap updates in a single platform call, so that they show up in the
+  /// same frame.
+  ///
+  /// Object types without updates are skipped. Returns how long each type
+  /// took to apply on the platform thread, keyed by `markers`, `polygons`,
+  /// `polylines`, `circles`, `tileOverlays` and `heatmaps`, and the `total`
+  /// time.
+  Future<Map<String, Duration>> batchUpdate({
+    required int mapId,
+    MarkerUpdates? markerUpdates,
+    PolygonUpdates? polygonUpdates,
+    PolylineUpdates? polylineUpdates,
+    CircleUpdates? circleUpdates,
+    Set<TileOverlay>? newTileOverlays,
+    Set<Heatmap>? newHeatmaps,
+  }) async {
+    final Map<String, Object> updates = <String, Object>{
+      if (markerUpdates != null)
+        ...markerUpdates.toJson() as Map<String, Object>,
+      if (polygonUpdates != null)
+        ..._encodeShapeUpdates(polygonUpdates.toJson()),
+      if (polylineUpdates != null)
+        ..._encodeShapeUpdates(polylineUpdates.toJson()),
+      if (circleUpdates != null)
+        ...circleUpdates.toJson() as Map<String, Object>,
+      if (newTileOverlays != null)
+        ..._updateTileOverlays(newTileOverlays, mapId: mapId).toJson()
+            as Map<String, Object>,
+      if (newHeatmaps != null)
+        ..._updateHeatmaps(newHeatmaps, mapId: mapId).toJson()
+            as Map<String, Object>,
+    };
+    final Map<String, Object?> timings = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('map#batchUpdate', updates))!;
+    return <String, Duration>{
+      for (final MapEntry<String, Object?> timing in timings.entries)
+        timing.key.replaceFirst('Micros', ''):
+            Duration(microseconds: timing.value! as int),
+    };
+  }
+
   @override
   Future<void> clearTileCache(
     TileOverlayId tileOverlayId, {
@@ -440,6 +803,50 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return LatLngBounds(northeast: northeast, southwest: southwest);
   }
 
+  /// Returns the markers within [radiusMeters] of [point], and the polygons
+  /// containing [point].
+  ///
+  /// The query is answered from an index of the map's objects kept on the
+  /// platform, without sending the objects back to Dart.
+  Future<MapQueryResult> queryPoint(
+    LatLng point, {
+    required int mapId,
+    double radiusMeters = 0,
+  }) async {
+    final Map<String, Object?> result = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('map#queryPoint', <String, Object>{
+      'point': point.toJson(),
+      'radius': radiusMeters,
+    }))!;
+    return MapQueryResult.fromJson(result);
+  }
+
+  /// Returns the markers inside of [bounds], and the polygons overlapping it.
+  Future<MapQueryResult> queryBounds(
+    LatLngBounds bounds, {
+    required int mapId,
+  }) async {
+    final Map<String, Object?> result = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('map#queryBounds', <String, Object>{
+      'bounds': bounds.toJson(),
+    }))!;
+    return MapQueryResult.fromJson(result);
+  }
+
+  /// Returns the [count] markers closest to [point], closest first.
+  Future<List<MarkerId>> nearestMarkers(
+    LatLng point, {
+    required int mapId,
+    int count = 1,
+  }) async {
+    final List<String> markerIds = (await _channel(mapId)
+        .invokeListMethod<String>('markers#nearest', <String, Object>{
+      'point': point.toJson(),
+      'count': count,
+    }))!;
+    return markerIds.map((String id) => MarkerId(id)).toList();
+  }
+
   @override
   Future<ScreenCoordinate> getScreenCoordinate(
     LatLng latLng, {
@@ -501,11 +908,16 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return (await _channel(mapId).invokeMethod<double>('map#getZoomLevel'))!;
   }
 
+  /// Takes a snapshot of the map.
+  ///
+  /// Without [options], the whole map is encoded as a PNG at full resolution.
   @override
   Future<Uint8List?> takeSnapshot({
     required int mapId,
+    SnapshotOptions? options,
   }) {
-    return _channel(mapId).invokeMethod<Uint8List>('map#takeSnapshot');
+    return _channel(mapId)
+        .invokeMethod<Uint8List>('map#takeSnapshot', options?.toJson());
   }
 
   /// Set [GoogleMapsFlutterPlatform] to use [AndroidViewSurface] to build the
@@ -517,6 +929,13 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Currently defaults to true, but the default is subject to change.
   bool useAndroidViewSurface = true;
 
+  /// How the points of polylines and polygons are sent to the platform.
+  ///
+  /// Defaults to [PointsEncoding.packed], which sends every coordinate without
+  /// boxing it. [PointsEncoding.encodedPolyline] sends smaller messages for
+  /// long lines, but rounds the coordinates to 5 decimal places.
+  PointsEncoding pointsEncoding = PointsEncoding.packed;
+
   /// Requests Google Map Renderer with [AndroidMapRenderer] type.
   ///
   /// See https://pub.dev/packages/google_maps_flutter_android#map-renderer
@@ -563,6 +982,47 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     }
   }
 
+  /// Keeps up to [count] map views ready for new maps, or stops keeping them
+  /// if [count] is 0.
+  ///
+  /// Creating the map view of a map and waiting for it takes hundreds of
+  /// milliseconds, which new maps skip when they take a map view from the
+  /// pool. The map views of disposed maps are reset and kept for the next
+  /// maps. Maps with options that can only be set at creation, such as lite
+  /// mode, never use the pool.
+  ///
+  /// When called while [initializeWithRenderer] is pending, the map views are
+  /// created once the renderer is initialized.
+  Future<void> warmUpMapViews(int count) {
+    return _initializerChannel.invokeMethod<void>(
+        'initializer#warmUpMapViews', <String, Object>{'count': count});
+  }
+
+  /// Returns how long the map took to be ready, and whether it reused a map
+  /// view from [warmUpMapViews].
+  Future<MapReadyTiming> getTimeToMapReady({required int mapId}) async {
+    final Map<String, Object?> result = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('map#getTimeToMapReady'))!;
+    return MapReadyTiming.fromJson(result);
+  }
+
+  /// Drops the marker and cap icons cached by content, which are shared by
+  /// every map.
+  ///
+  /// Icons already drawn are not affected, and are decoded again the next time
+  /// they are used.
+  Future<void> clearBitmapDescriptorCache({required int mapId}) {
+    return _channel(mapId).invokeMethod<void>('bitmapDescriptorCache#clear');
+  }
+
+  /// Returns the size and hit rate of the icon cache shared by every map.
+  Future<BitmapDescriptorCacheStats> getBitmapDescriptorCacheStats(
+      {required int mapId}) async {
+    final Map<String, Object?> result = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>('bitmapDescriptorCache#getStats'))!;
+    return BitmapDescriptorCacheStats.fromJson(result);
+  }
+
   Widget _buildView(
     int creationId,
     PlatformViewCreatedCallback onPlatformViewCreated, {
@@ -575,8 +1035,9 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           widgetConfiguration.initialCameraPosition.toMap(),
       'options': mapOptions,
       'markersToAdd': serializeMarkerSet(mapObjects.markers),
-      'polygonsToAdd': serializePolygonSet(mapObjects.polygons),
-      'polylinesToAdd': serializePolylineSet(mapObjects.polylines),
+      'polygonsToAdd': _encodeShapes(serializePolygonSet(mapObjects.polygons)),
+      'polylinesToAdd':
+          _encodeShapes(serializePolylineSet(mapObjects.polylines)),
       'circlesToAdd': serializeCircleSet(mapObjects.circles),
       'tileOverlaysToAdd': serializeTileOverlaySet(mapObjects.tileOverlays),
     };
@@ -773,6 +1234,13 @@ class _TileOverlayUpdates extends MapsObjectUpdates<TileOverlay> {
   Set<TileOverlay> get tileOverlaysToChange => objectsToChange;
 }
 
+/// Update specification for a set of [Heatmap]s.
+class _HeatmapUpdates extends MapsObjectUpdates<Heatmap> {
+  /// Computes [_HeatmapUpdates] given previous and current [Heatmap]s.
+  _HeatmapUpdates.from(Set<Heatmap> previous, Set<Heatmap> current)
+      : super.from(previous, current, objectName: 'heatmap');
+}
+
 /// Thrown to indicate that a platform interaction failed to initialize renderer.
 class AndroidMapRendererException implements Exception {
   /// Creates a [AndroidMapRendererException] with an optional human-readable
@@ -0,0 +1,193 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+import 'dart:ui' show Color;
+
+import 'package:flutter/foundation.dart' show immutable, listEquals;
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// Uniquely identifies a [Heatmap] among the heatmaps of a map.
+@immutable
+class HeatmapId extends MapsObjectId<Heatmap> {
+  /// Creates an immutable identifier for a [Heatmap].
+  const HeatmapId(String value) : super(value);
+}
+
+/// A point of a [Heatmap], with the weight it adds to the heatmap intensity.
+@immutable
+class WeightedLatLng {
+  /// Creates a [WeightedLatLng].
+  const WeightedLatLng(this.point, {this.weight = 1});
+
+  /// The location of the point.
+  final LatLng point;
+
+  /// The intensity the point adds to the heatmap.
+  final double weight;
+
+  @override
+  bool operator ==(Object other) {
+    return other is WeightedLatLng &&
+        point == other.point &&
+        weight == other.weight;
+  }
+
+  @override
+  int get hashCode => Object.hash(point, weight);
+}
+
+/// The colors that the intensities of a [Heatmap] are drawn with.
+@immutable
+class HeatmapGradient {
+  /// Creates a [HeatmapGradient].
+  ///
+  /// Each color starts at the fraction of the maximum intensity in
+  /// [startPoints], which must increase within (0, 1]. Intensities below the
+  /// first start point fade in from transparent.
+  const HeatmapGradient(this.colors, this.startPoints)
+      : assert(colors.length == startPoints.length);
+
+  /// The colors of the gradient.
+  final List<Color> colors;
+
+  /// The fraction of the maximum intensity at which each color starts.
+  final List<double> startPoints;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() {
+    return <String, Object>{
+      'colors': colors.map((Color color) => color.value).toList(),
+      'startPoints': startPoints,
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    return other is HeatmapGradient &&
+        listEquals(colors, other.colors) &&
+        listEquals(startPoints, other.startPoints);
+  }
+
+  @override
+  int get hashCode =>
+      Object.hash(Object.hashAll(colors), Object.hashAll(startPoints));
+}
+
+/// A heatmap drawn natively from weighted points.
+///
+/// Tiles are drawn on the platform from the points, which are only sent when
+/// the heatmap is added or changed.
+@immutable
+class Heatmap implements MapsObject<Heatmap> {
+  /// Creates a [Heatmap].
+  const Heatmap({
+    required this.heatmapId,
+    this.data = const <WeightedLatLng>[],
+    this.radius = 20,
+    this.opacity = 0.7,
+    this.gradient = defaultGradient,
+    this.maxIntensity,
+    this.fadeIn = true,
+    this.zIndex = 0,
+    this.visible = true,
+  });
+
+  /// The gradient of heatmaps that do not set one, from green to red.
+  static const HeatmapGradient defaultGradient = HeatmapGradient(
+    <Color>[Color(0xff66e100), Color(0xffff0000)],
+    <double>[0.2, 1],
+  );
+
+  /// Uniquely identifies the heatmap.
+  final HeatmapId heatmapId;
+
+  @override
+  HeatmapId get mapsId => heatmapId;
+
+  /// The points of the heatmap.
+  final List<WeightedLatLng> data;
+
+  /// The radius of the blur around each point, in logical pixels.
+  final int radius;
+
+  /// The opacity of the heatmap, from 0 to 1.
+  final double opacity;
+
+  /// The colors that intensities are drawn with.
+  final HeatmapGradient gradient;
+
+  /// The intensity drawn with the last color of the gradient.
+  ///
+  /// When null, it is picked for each zoom level from the densest area of the
+  /// heatmap.
+  final double? maxIntensity;
+
+  /// Whether tiles fade in when they are drawn.
+  final bool fadeIn;
+
+  /// The order of the heatmap among the other overlays of the map.
+  final double zIndex;
+
+  /// Whether the heatmap is drawn.
+  final bool visible;
+
+  @override
+  Heatmap clone() {
+    return Heatmap(
+      heatmapId: heatmapId,
+      data: List<WeightedLatLng>.of(data),
+      radius: radius,
+      opacity: opacity,
+      gradient: gradient,
+      maxIntensity: maxIntensity,
+      fadeIn: fadeIn,
+      zIndex: zIndex,
+      visible: visible,
+    );
+  }
+
+  @override
+  Object toJson() {
+    // The points are sent as packed latitude, longitude and weight triples.
+    final Float64List packedData = Float64List(data.length * 3);
+    for (int i = 0; i < data.length; i++) {
+      packedData[3 * i] = data[i].point.latitude;
+      packedData[3 * i + 1] = data[i].point.longitude;
+      packedData[3 * i + 2] = data[i].weight;
+    }
+    return <String, Object>{
+      'heatmapId': heatmapId.value,
+      'data': packedData,
+      'radius': radius,
+      'opacity': opacity,
+      'gradient': gradient.toJson(),
+      // Zero picks the maximum intensity for each zoom level.
+      'maxIntensity': maxIntensity ?? 0,
+      'fadeIn': fadeIn,
+      'zIndex': zIndex,
+      'visible': visible,
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) {
+      return true;
+    }
+    return other is Heatmap &&
+        heatmapId == other.heatmapId &&
+        radius == other.radius &&
+        opacity == other.opacity &&
+        gradient == other.gradient &&
+        maxIntensity == other.maxIntensity &&
+        fadeIn == other.fadeIn &&
+        zIndex == other.zIndex &&
+        visible == other.visible &&
+        listEquals(data, other.data);
+  }
+
+  @override
+  int get hashCode => heatmapId.hashCode;
+}
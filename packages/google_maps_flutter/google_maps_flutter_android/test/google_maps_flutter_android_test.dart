@@ -128,6 +128,607 @@ void main() {
         equals('drag-end-marker'));
   });
 
+  test('addMarkersInBulk sends markers and reads the result', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return <String, Object>{'added': 1, 'parseMillis': 2, 'totalMillis': 5};
+    });
+
+    final BulkAddResult result = await maps.addMarkersInBulk(
+        <Marker>{const Marker(markerId: MarkerId('a'))},
+        mapId: mapId,
+        reportProgress: true);
+
+    expect(log, <String>['markers#addBulk']);
+    expect(arguments['reportProgress'], true);
+    expect((arguments['markersToAdd'] as List<dynamic>).single['markerId'],
+        'a');
+    expect(result.added, 1);
+    expect(result.parseDuration, const Duration(milliseconds: 2));
+    expect(result.totalDuration, const Duration(milliseconds: 5));
+  });
+
+  test('bulk add progress is sent to the progress stream', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.ensureChannelInitialized(mapId);
+    final StreamQueue<BulkAddProgressEvent> progressStream =
+        StreamQueue<BulkAddProgressEvent>(maps.onBulkAddProgress(mapId: mapId));
+
+    await sendPlatformMessage(mapId, 'markers#onBulkAddProgress',
+        <dynamic, dynamic>{'added': 10, 'total': 40});
+
+    final BulkAddProgressEvent event = await progressStream.next;
+    expect(event.value, 10);
+    expect(event.total, 40);
+  });
+
+  test('setClusterItems sends packed item positions', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.setClusterItems(<String, LatLng>{
+      'a': const LatLng(1, 2),
+      'b': const LatLng(3, 4),
+    }, mapId: mapId, gridSize: 80);
+
+    expect(log, <String>['clusters#setItems']);
+    expect(arguments['ids'], <String>['a', 'b']);
+    expect(arguments['positions'], <double>[1, 2, 3, 4]);
+    expect(arguments['gridSize'], 80);
+    expect(arguments['minClusterSize'], isNull);
+  });
+
+  test('cluster taps are sent to the cluster tap stream', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.ensureChannelInitialized(mapId);
+    final StreamQueue<ClusterTapEvent> clusterTapStream =
+        StreamQueue<ClusterTapEvent>(maps.onClusterTap(mapId: mapId));
+
+    await sendPlatformMessage(mapId, 'cluster#onTap', <dynamic, dynamic>{
+      'position': <double>[1.0, 2.0],
+      'itemIds': <String>['a', 'b'],
+      'count': 2,
+    });
+
+    final ClusterTapEvent event = await clusterTapStream.next;
+    expect(event.value, const LatLng(1, 2));
+    expect(event.itemIds, <String>['a', 'b']);
+  });
+
+  test('setCameraMoveThrottle updates the map options', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.setCameraMoveThrottle(
+        const CameraMoveThrottle(
+            minInterval: Duration(milliseconds: 100), zoomThreshold: 0.5),
+        mapId: mapId);
+
+    expect(log, <String>['map#update']);
+    expect(arguments['options'], <String, Object>{
+      'cameraMoveThrottle': <String, Object>{
+        'minIntervalMillis': 100,
+        'frameAligned': false,
+        'targetThresholdMeters': 0.0,
+        'zoomThreshold': 0.5,
+        'bearingThreshold': 0.0,
+        'tiltThreshold': 0.0,
+      },
+    });
+  });
+
+  test('setShapeCullingEnabled updates the map options', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.setShapeCullingEnabled(true, mapId: mapId);
+
+    expect(log, <String>['map#update']);
+    expect(arguments['options'], <String, Object>{'shapeCullingEnabled': true});
+  });
+
+  test('setPolylineSimplificationTolerance changes only the tolerance',
+      () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.setPolylineSimplificationTolerance(const PolylineId('track'), 2,
+        mapId: mapId);
+
+    expect(log, <String>['polylines#update']);
+    expect(arguments, <String, Object>{
+      'polylinesToChange': <Object>[
+        <String, Object>{
+          'polylineId': 'track',
+          'simplificationTolerance': 2.0,
+        },
+      ],
+    });
+  });
+
+  test('batchUpdate sends every update in one call', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return <String, Object>{
+        'markersMicros': 120,
+        'heatmapsMicros': 20,
+        'totalMicros': 150,
+      };
+    });
+
+    final Map<String, Duration> timings = await maps.batchUpdate(
+      mapId: mapId,
+      markerUpdates: MarkerUpdates.from(
+          <Marker>{}, <Marker>{const Marker(markerId: MarkerId('a'))}),
+      newTileOverlays: <TileOverlay>{
+        const TileOverlay(tileOverlayId: TileOverlayId('tiles')),
+      },
+      newHeatmaps: <Heatmap>{const Heatmap(heatmapId: HeatmapId('crowds'))},
+    );
+
+    expect(log, <String>['map#batchUpdate']);
+    expect((arguments['markersToAdd'] as List<dynamic>).single['markerId'],
+        'a');
+    expect(
+        (arguments['tileOverlaysToAdd'] as List<dynamic>)
+            .single['tileOverlayId'],
+        'tiles');
+    expect(
+        (arguments['heatmapsToAdd'] as List<dynamic>).single['heatmapId'],
+        'crowds');
+    expect(arguments.containsKey('polygonsToAdd'), isFalse);
+    expect(timings, <String, Duration>{
+      'markers': const Duration(microseconds: 120),
+      'heatmaps': const Duration(microseconds: 20),
+      'total': const Duration(microseconds: 150),
+    });
+  });
+
+  test('updatePolygons sends packed points and holes', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.updatePolygons(
+        PolygonUpdates.from(<Polygon>{}, <Polygon>{
+          const Polygon(
+            polygonId: PolygonId('park'),
+            points: <LatLng>[LatLng(1, 2), LatLng(3, 4), LatLng(5, 6)],
+            holes: <List<LatLng>>[
+              <LatLng>[LatLng(2, 3), LatLng(3, 4), LatLng(2, 4)],
+            ],
+          ),
+        }),
+        mapId: mapId);
+
+    expect(log, <String>['polygons#update']);
+    final Map<dynamic, dynamic> polygon =
+        (arguments['polygonsToAdd'] as List<dynamic>).single
+            as Map<dynamic, dynamic>;
+    expect(polygon['points'], <double>[1, 2, 3, 4, 5, 6]);
+    expect(polygon['holes'], <List<double>>[
+      <double>[2, 3, 3, 4, 2, 4],
+    ]);
+  });
+
+  test('updatePolylines sends encoded polylines when requested', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid()
+      ..pointsEncoding = PointsEncoding.encodedPolyline;
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.updatePolylines(
+        PolylineUpdates.from(<Polyline>{}, <Polyline>{
+          const Polyline(
+            polylineId: PolylineId('route'),
+            points: <LatLng>[
+              LatLng(38.5, -120.2),
+              LatLng(40.7, -120.95),
+              LatLng(43.252, -126.453),
+            ],
+          ),
+        }),
+        mapId: mapId);
+
+    expect(
+        ((arguments['polylinesToAdd'] as List<dynamic>).single
+            as Map<dynamic, dynamic>)['points'],
+        '_p~iF~ps|U_ulLnnqC_mqNvxq`@');
+  });
+
+  test('updatePolylines sends point lists when requested', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid()
+      ..pointsEncoding = PointsEncoding.lists;
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.updatePolylines(
+        PolylineUpdates.from(<Polyline>{}, <Polyline>{
+          const Polyline(
+            polylineId: PolylineId('route'),
+            points: <LatLng>[LatLng(1, 2)],
+          ),
+        }),
+        mapId: mapId);
+
+    expect(
+        ((arguments['polylinesToAdd'] as List<dynamic>).single
+            as Map<dynamic, dynamic>)['points'],
+        <List<double>>[
+          <double>[1, 2]
+        ]);
+  });
+
+  test('updateHeatmaps only sends the heatmaps that changed', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<Map<dynamic, dynamic>> updates = <Map<dynamic, dynamic>>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      updates.add(methodCall.arguments as Map<dynamic, dynamic>);
+      return null;
+    });
+    const Heatmap crowds = Heatmap(
+      heatmapId: HeatmapId('crowds'),
+      data: <WeightedLatLng>[WeightedLatLng(LatLng(1, 2), weight: 3)],
+    );
+    const Heatmap traffic = Heatmap(heatmapId: HeatmapId('traffic'));
+
+    await maps.updateHeatmaps(<Heatmap>{crowds, traffic}, mapId: mapId);
+    await maps.updateHeatmaps(<Heatmap>{
+      const Heatmap(
+        heatmapId: HeatmapId('crowds'),
+        data: <WeightedLatLng>[WeightedLatLng(LatLng(1, 2), weight: 3)],
+        radius: 30,
+      ),
+    }, mapId: mapId);
+
+    expect(log, <String>['heatmaps#update', 'heatmaps#update']);
+    final List<dynamic> added = updates[0]['heatmapsToAdd'] as List<dynamic>;
+    expect(added, hasLength(2));
+    final Map<dynamic, dynamic> addedCrowds = added.firstWhere(
+            (dynamic heatmap) => heatmap['heatmapId'] == 'crowds')
+        as Map<dynamic, dynamic>;
+    expect(addedCrowds['data'], <double>[1, 2, 3]);
+    expect(addedCrowds['maxIntensity'], 0);
+    final List<dynamic> changed =
+        updates[1]['heatmapsToChange'] as List<dynamic>;
+    expect(changed.single['radius'], 30);
+    expect(updates[1]['heatmapsToAdd'], isEmpty);
+    expect(updates[1]['heatmapIdsToRemove'], <String>['traffic']);
+  });
+
+  test('warmUpMapViews sends the pool size to the initializer', () async {
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    const MethodChannel initializerChannel =
+        MethodChannel('plugins.flutter.dev/google_maps_android_initializer');
+    late MethodCall call;
+    _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+        .defaultBinaryMessenger
+        .setMockMethodCallHandler(
+      initializerChannel,
+      (MethodCall methodCall) async {
+        call = methodCall;
+        return null;
+      },
+    );
+
+    await maps.warmUpMapViews(3);
+
+    expect(call.method, 'initializer#warmUpMapViews');
+    expect(call.arguments, <String, Object>{'count': 3});
+  });
+
+  test('getTimeToMapReady reads the map timing', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      return <String, Object?>{
+        'timeToMapReadyMicros': 1500,
+        'mapViewFromPool': true,
+      };
+    });
+
+    final MapReadyTiming timing = await maps.getTimeToMapReady(mapId: mapId);
+
+    expect(log, <String>['map#getTimeToMapReady']);
+    expect(timing.timeToMapReady, const Duration(microseconds: 1500));
+    expect(timing.mapViewFromPool, true);
+  });
+
+  test('getTimeToMapReady reads a map that is not ready yet', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      return <String, Object?>{
+        'timeToMapReadyMicros': null,
+        'mapViewFromPool': false,
+      };
+    });
+
+    final MapReadyTiming timing = await maps.getTimeToMapReady(mapId: mapId);
+
+    expect(timing.timeToMapReady, isNull);
+    expect(timing.mapViewFromPool, false);
+  });
+
+  test('clearBitmapDescriptorCache clears the icon cache', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      return null;
+    });
+
+    await maps.clearBitmapDescriptorCache(mapId: mapId);
+
+    expect(log, <String>['bitmapDescriptorCache#clear']);
+  });
+
+  test('getBitmapDescriptorCacheStats reads the icon cache stats', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      return <String, Object>{
+        'entries': 2,
+        'sizeBytes': 4096,
+        'hits': 10,
+        'misses': 2,
+      };
+    });
+
+    final BitmapDescriptorCacheStats stats =
+        await maps.getBitmapDescriptorCacheStats(mapId: mapId);
+
+    expect(log, <String>['bitmapDescriptorCache#getStats']);
+    expect(stats.entries, 2);
+    expect(stats.sizeBytes, 4096);
+    expect(stats.hits, 10);
+    expect(stats.misses, 2);
+  });
+
+  test('takeSnapshot sends no options by default', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Object? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments;
+      return null;
+    });
+
+    await maps.takeSnapshot(mapId: mapId);
+
+    expect(log, <String>['map#takeSnapshot']);
+    expect(arguments, isNull);
+  });
+
+  test('takeSnapshot sends the format, quality, scale and region', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Object? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments;
+      return null;
+    });
+
+    await maps.takeSnapshot(
+      mapId: mapId,
+      options: const SnapshotOptions(
+        format: SnapshotFormat.jpeg,
+        quality: 80,
+        scale: 0.5,
+        region: Rect.fromLTWH(10, 20, 100, 50),
+      ),
+    );
+
+    expect(arguments, <String, Object>{
+      'format': 'jpeg',
+      'quality': 80,
+      'scale': 0.5,
+      'region': <String, Object>{
+        'x': 10.0,
+        'y': 20.0,
+        'width': 100.0,
+        'height': 50.0,
+      },
+    });
+  });
+
+  test('queryPoint sends the point and radius and reads the hits', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return <String, Object>{
+        'markerIds': <String>['m1', 'm2'],
+        'polygonIds': <String>['p1'],
+      };
+    });
+
+    final MapQueryResult result = await maps.queryPoint(const LatLng(1, 2),
+        mapId: mapId, radiusMeters: 50);
+
+    expect(log, <String>['map#queryPoint']);
+    expect(arguments['point'], <double>[1, 2]);
+    expect(arguments['radius'], 50);
+    expect(result.markerIds,
+        const <MarkerId>[MarkerId('m1'), MarkerId('m2')]);
+    expect(result.polygonIds, const <PolygonId>[PolygonId('p1')]);
+  });
+
+  test('queryBounds sends the bounds and reads the hits', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return <String, Object>{
+        'markerIds': <String>[],
+        'polygonIds': <String>['p1'],
+      };
+    });
+
+    final MapQueryResult result = await maps.queryBounds(
+        LatLngBounds(
+            southwest: const LatLng(1, 2), northeast: const LatLng(3, 4)),
+        mapId: mapId);
+
+    expect(log, <String>['map#queryBounds']);
+    expect(arguments['bounds'], <Object>[
+      <double>[1, 2],
+      <double>[3, 4],
+    ]);
+    expect(result.markerIds, isEmpty);
+    expect(result.polygonIds, const <PolygonId>[PolygonId('p1')]);
+  });
+
+  test('nearestMarkers reads the closest markers in order', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return <String>['near', 'far'];
+    });
+
+    final List<MarkerId> markerIds =
+        await maps.nearestMarkers(const LatLng(1, 2), mapId: mapId, count: 2);
+
+    expect(log, <String>['markers#nearest']);
+    expect(arguments['point'], <double>[1, 2]);
+    expect(arguments['count'], 2);
+    expect(markerIds, const <MarkerId>[MarkerId('near'), MarkerId('far')]);
+  });
+
+  test('updateMarkerPositions sends packed positions and rotations', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.updateMarkerPositions(
+      const <MarkerId, LatLng>{
+        MarkerId('a'): LatLng(1, 2),
+        MarkerId('b'): LatLng(3, 4),
+      },
+      mapId: mapId,
+      rotations: const <MarkerId, double>{
+        MarkerId('b'): 90,
+        MarkerId('a'): 45,
+      },
+    );
+
+    expect(log, <String>['markers#updatePositions']);
+    expect(arguments['markerIds'], <String>['a', 'b']);
+    expect(arguments['positions'], <double>[1, 2, 3, 4]);
+    expect(arguments['rotations'], <double>[45, 90]);
+  });
+
+  test('updateMarkerPositions sends no rotations when they are not set',
+      () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.updateMarkerPositions(
+        const <MarkerId, LatLng>{MarkerId('a'): LatLng(1, 2)},
+        mapId: mapId);
+
+    expect(arguments['positions'], <double>[1, 2]);
+    expect(arguments['rotations'], isNull);
+  });
+
+  test('animateMarkers sends packed positions and the duration', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return null;
+    });
+
+    await maps.animateMarkers(
+      const <MarkerId, LatLng>{MarkerId('a'): LatLng(1, 2)},
+      mapId: mapId,
+      duration: const Duration(seconds: 1),
+      rotations: const <MarkerId, double>{MarkerId('a'): 30},
+    );
+
+    expect(log, <String>['markers#animateTo']);
+    expect(arguments['markerIds'], <String>['a']);
+    expect(arguments['positions'], <double>[1, 2]);
+    expect(arguments['rotations'], <double>[30]);
+    expect(arguments['durationMillis'], 1000);
+  });
+
   test(
     'Does not use PlatformViewLink when using TLHC',
     () async {
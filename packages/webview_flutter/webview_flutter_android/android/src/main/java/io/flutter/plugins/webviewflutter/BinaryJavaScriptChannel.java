@@ -0,0 +1,125 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.annotation.SuppressLint;
+import android.net.Uri;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Added as a web message listener to the WebView for any binary JavaScript channel that the Dart
+ * code sets up.
+ *
+ * <p>Exposes an object named after the channel to JavaScript. Its `postMessage` method takes an
+ * `ArrayBuffer`, which reaches Dart as bytes without being encoded as a string. Messages sent from
+ * Dart are received by the `onmessage` handler of the object as `ArrayBuffer`s.
+ */
+@SuppressLint("RequiresFeature")
+public class BinaryJavaScriptChannel implements WebViewCompat.WebMessageListener {
+  final String channelName;
+  final Set<String> allowedOriginRules;
+  private final BinaryJavaScriptChannelFlutterApiImpl flutterApi;
+
+  // The proxy of the main frame that last posted a message, used to reply to the page.
+  @Nullable private JavaScriptReplyProxy replyProxy;
+
+  /**
+   * Creates a {@link BinaryJavaScriptChannel} that passes the messages it receives to Dart.
+   *
+   * @param flutterApi the Flutter Api to which JS messages are sent
+   * @param channelName name of the object exposed to JavaScript
+   * @param allowedOriginRules origins of the frames the object is exposed to
+   */
+  public BinaryJavaScriptChannel(
+      @NonNull BinaryJavaScriptChannelFlutterApiImpl flutterApi,
+      @NonNull String channelName,
+      @NonNull List<String> allowedOriginRules) {
+    this.flutterApi = flutterApi;
+    this.channelName = channelName;
+    this.allowedOriginRules = new HashSet<>(allowedOriginRules);
+  }
+
+  /**
+   * Whether binary messages can be exchanged with JavaScript by the WebView of this device.
+   *
+   * <p>Both web message listeners and `ArrayBuffer` web messages have to be supported.
+   */
+  public static boolean isSupported() {
+    return WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER)
+        && WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_ARRAY_BUFFER);
+  }
+
+  /** Exposes this channel to the JavaScript of {@code webView}. */
+  public void addToWebView(@NonNull WebView webView) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException(
+          "Binary JavaScript channels are not supported by the WebView of this device.");
+    }
+    WebViewCompat.addWebMessageListener(webView, channelName, allowedOriginRules, this);
+    if (webView instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      ((WebViewHostApiImpl.WebViewPlatformView) webView).webMessageListenerNames.add(channelName);
+    }
+  }
+
+  /** Removes this channel from the JavaScript of {@code webView}. */
+  public void removeFromWebView(@NonNull WebView webView) {
+    if (isSupported()) {
+      WebViewCompat.removeWebMessageListener(webView, channelName);
+    }
+    if (webView instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      final WebViewHostApiImpl.WebViewPlatformView platformView =
+          (WebViewHostApiImpl.WebViewPlatformView) webView;
+      platformView.webMessageListenerNames.remove(channelName);
+    }
+    replyProxy = null;
+  }
+
+  /**
+   * Sends {@code message} to the `onmessage` handler of the page.
+   *
+   * <p>The page has to post a message to this channel first, so that the WebView knows which frame
+   * the reply goes to.
+   */
+  public void postMessage(@NonNull byte[] message) {
+    if (replyProxy == null) {
+      throw new IllegalStateException(
+          "The page hasn't posted a message to the " + channelName + " channel yet.");
+    }
+    replyProxy.postMessage(message);
+  }
+
+  @Override
+  public void onPostMessage(
+      @NonNull WebView view,
+      @NonNull WebMessageCompat message,
+      @NonNull Uri sourceOrigin,
+      boolean isMainFrame,
+      @NonNull JavaScriptReplyProxy replyProxy) {
+    if (isMainFrame) {
+      this.replyProxy = replyProxy;
+    }
+    flutterApi.postMessage(this, toBytes(message), reply -> {});
+  }
+
+  /** Returns the payload of {@code message}, with strings encoded as UTF-8. */
+  @NonNull
+  static byte[] toBytes(@NonNull WebMessageCompat message) {
+    if (message.getType() == WebMessageCompat.TYPE_ARRAY_BUFFER) {
+      return message.getArrayBuffer();
+    }
+    final String data = message.getData();
+    return data == null ? new byte[0] : data.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,40 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.BinaryJavaScriptChannelFlutterApi;
+
+/**
+ * Flutter Api implementation for {@link BinaryJavaScriptChannel}.
+ *
+ * <p>Passes arguments of callbacks methods from a {@link BinaryJavaScriptChannel} to Dart.
+ */
+public class BinaryJavaScriptChannelFlutterApiImpl extends BinaryJavaScriptChannelFlutterApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a Flutter api that sends messages to Dart.
+   *
+   * @param binaryMessenger Handles sending messages to Dart.
+   * @param instanceManager Maintains instances stored to communicate with Dart objects.
+   */
+  public BinaryJavaScriptChannelFlutterApiImpl(
+      BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
+    super(binaryMessenger);
+    this.instanceManager = instanceManager;
+  }
+
+  /** Passes a message received by a {@link BinaryJavaScriptChannel} to Dart. */
+  public void postMessage(
+      BinaryJavaScriptChannel binaryJavaScriptChannel, byte[] messageArg, Reply<Void> callback) {
+    final Long identifier =
+        instanceManager.getIdentifierForStrongReference(binaryJavaScriptChannel);
+    if (identifier == null) {
+      throw new IllegalStateException("Could not find identifier for BinaryJavaScriptChannel.");
+    }
+    super.postMessage(identifier, messageArg, callback);
+  }
+}
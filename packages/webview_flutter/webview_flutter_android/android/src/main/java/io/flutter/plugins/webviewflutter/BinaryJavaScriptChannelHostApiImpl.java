@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.BinaryJavaScriptChannelHostApi;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Host api implementation for {@link BinaryJavaScriptChannel}.
+ *
+ * <p>Handles creating {@link BinaryJavaScriptChannel}s that intercommunicate with a paired Dart
+ * object.
+ */
+public class BinaryJavaScriptChannelHostApiImpl implements BinaryJavaScriptChannelHostApi {
+  private final InstanceManager instanceManager;
+  private final BinaryJavaScriptChannelCreator binaryJavaScriptChannelCreator;
+  private final BinaryJavaScriptChannelFlutterApiImpl flutterApi;
+
+  /**
+   * Handles creating {@link BinaryJavaScriptChannel}s for a {@link
+   * BinaryJavaScriptChannelHostApiImpl}.
+   */
+  public static class BinaryJavaScriptChannelCreator {
+    /**
+     * Creates a {@link BinaryJavaScriptChannel}.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param channelName name of the object exposed to JavaScript
+     * @param allowedOriginRules origins of the frames the object is exposed to
+     * @return the created {@link BinaryJavaScriptChannel}
+     */
+    public BinaryJavaScriptChannel createBinaryJavaScriptChannel(
+        BinaryJavaScriptChannelFlutterApiImpl flutterApi,
+        String channelName,
+        List<String> allowedOriginRules) {
+      return new BinaryJavaScriptChannel(flutterApi, channelName, allowedOriginRules);
+    }
+
+    /** Whether binary messages can be exchanged with JavaScript on this device. */
+    public boolean isSupported() {
+      return BinaryJavaScriptChannel.isSupported();
+    }
+  }
+
+  /**
+   * Creates a host API that handles creating {@link BinaryJavaScriptChannel}s.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param binaryJavaScriptChannelCreator handles creating {@link BinaryJavaScriptChannel}s
+   * @param flutterApi handles sending messages to Dart
+   */
+  public BinaryJavaScriptChannelHostApiImpl(
+      InstanceManager instanceManager,
+      BinaryJavaScriptChannelCreator binaryJavaScriptChannelCreator,
+      BinaryJavaScriptChannelFlutterApiImpl flutterApi) {
+    this.instanceManager = instanceManager;
+    this.binaryJavaScriptChannelCreator = binaryJavaScriptChannelCreator;
+    this.flutterApi = flutterApi;
+  }
+
+  @NonNull
+  @Override
+  public Boolean isSupported() {
+    return binaryJavaScriptChannelCreator.isSupported();
+  }
+
+  @Override
+  public void create(
+      @NonNull Long instanceId,
+      @NonNull String channelName,
+      @NonNull List<String> allowedOriginRules) {
+    final BinaryJavaScriptChannel channel =
+        binaryJavaScriptChannelCreator.createBinaryJavaScriptChannel(
+            flutterApi, channelName, allowedOriginRules);
+    instanceManager.addDartCreatedInstance(channel, instanceId);
+  }
+
+  @Override
+  public void addToWebView(@NonNull Long instanceId, @NonNull Long webViewInstanceId) {
+    getChannel(instanceId).addToWebView(getWebView(webViewInstanceId));
+  }
+
+  @Override
+  public void removeFromWebView(@NonNull Long instanceId, @NonNull Long webViewInstanceId) {
+    getChannel(instanceId).removeFromWebView(getWebView(webViewInstanceId));
+  }
+
+  @Override
+  public void postMessage(@NonNull Long instanceId, @NonNull byte[] message) {
+    getChannel(instanceId).postMessage(message);
+  }
+
+  private BinaryJavaScriptChannel getChannel(Long instanceId) {
+    return Objects.requireNonNull(instanceManager.getInstance(instanceId));
+  }
+
+  private WebView getWebView(Long instanceId) {
+    return Objects.requireNonNull(instanceManager.getInstance(instanceId));
+  }
+}
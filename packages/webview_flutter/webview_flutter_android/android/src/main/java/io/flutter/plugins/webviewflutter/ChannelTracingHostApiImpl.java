@@ -0,0 +1,40 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.ChannelTracingHostApi;
+import java.util.List;
+import java.util.Map;
+
+/** Host api implementation for {@link TracingBinaryMessenger}. */
+public class ChannelTracingHostApiImpl implements ChannelTracingHostApi {
+  private final TracingBinaryMessenger tracingBinaryMessenger;
+
+  /**
+   * Creates a host API that controls the tracing of the channels of the plugin.
+   *
+   * @param tracingBinaryMessenger the messenger used by the traced channels
+   */
+  public ChannelTracingHostApiImpl(@NonNull TracingBinaryMessenger tracingBinaryMessenger) {
+    this.tracingBinaryMessenger = tracingBinaryMessenger;
+  }
+
+  @Override
+  public void setEnabled(@NonNull Boolean enabled) {
+    tracingBinaryMessenger.setEnabled(enabled);
+  }
+
+  @NonNull
+  @Override
+  public List<Map<String, Object>> getStats() {
+    return tracingBinaryMessenger.getStats();
+  }
+
+  @Override
+  public void reset() {
+    tracingBinaryMessenger.reset();
+  }
+}
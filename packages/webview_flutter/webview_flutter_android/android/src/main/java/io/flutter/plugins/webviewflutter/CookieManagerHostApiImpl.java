@@ -6,6 +6,11 @@ package io.flutter.plugins.webviewflutter;
 
 import android.os.Build;
 import android.webkit.CookieManager;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 class CookieManagerHostApiImpl implements GeneratedAndroidWebView.CookieManagerHostApi {
   @Override
@@ -26,4 +31,37 @@ class CookieManagerHostApiImpl implements GeneratedAndroidWebView.CookieManagerH
   public void setCookie(String url, String value) {
     CookieManager.getInstance().setCookie(url, value);
   }
+
+  /**
+   * Sets every cookie of {@code cookies}, keyed by URL, and writes them to persistent storage once.
+   *
+   * @return the time it took in microseconds, including the write to storage
+   */
+  @NonNull
+  @Override
+  public Long setCookies(@NonNull Map<String, List<String>> cookies) {
+    final long startNanos = System.nanoTime();
+    final CookieManager cookieManager = CookieManager.getInstance();
+    for (Map.Entry<String, List<String>> entry : cookies.entrySet()) {
+      for (String value : entry.getValue()) {
+        cookieManager.setCookie(entry.getKey(), value);
+      }
+    }
+    // Below Android L, cookies are written to storage periodically by the CookieSyncManager.
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      cookieManager.flush();
+    }
+    return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, String> getCookies(@NonNull List<String> urls) {
+    final CookieManager cookieManager = CookieManager.getInstance();
+    final Map<String, String> cookies = new HashMap<>();
+    for (String url : urls) {
+      cookies.put(url, cookieManager.getCookie(url));
+    }
+    return cookies;
+  }
 }
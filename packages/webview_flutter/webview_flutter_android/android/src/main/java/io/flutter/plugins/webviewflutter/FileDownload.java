@@ -0,0 +1,367 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downloads a URL to a file, so that files offered by a page don't have to be downloaded again
+ * through Dart.
+ *
+ * <p>The response is streamed from the connection to the file with a {@link FileChannel}, on a
+ * background thread. The request carries the cookies the WebView would send to the URL, and the
+ * cookies set by the response are stored for the WebView.
+ *
+ * <p>The data is written to the file path with a {@code .part} suffix, which is moved to the file
+ * path once the download completes. When a download is started again after it failed or was
+ * cancelled, the data already written is kept and the rest is requested with a {@code Range}
+ * header. The {@code ETag}, or else the {@code Last-Modified} date, of the response that started
+ * the data is kept next to it with a {@code .validator} suffix and sent as an {@code If-Range}
+ * header, so that the server sends the whole file again if it changed. The download starts over
+ * if the server doesn't support ranges, or didn't send a validator.
+ *
+ * <p>Progress is sent to Dart at most once per progress interval.
+ */
+public class FileDownload {
+  static final String PARTIAL_SUFFIX = ".part";
+  static final String VALIDATOR_SUFFIX = ".validator";
+
+  // How much is written to the file between two checks for cancellation and progress.
+  private static final long CHUNK_SIZE_BYTES = 64 * 1024;
+
+  private static final Pattern CONTENT_RANGE_START = Pattern.compile("bytes\\s+(\\d+)-");
+
+  private final FileDownloadFlutterApiImpl flutterApi;
+  private final WebResourceInterceptor.NetworkProxy networkProxy;
+  private final Executor executor;
+  private final Handler platformThreadHandler;
+  private final String url;
+  @Nullable private final String userAgent;
+  private final File file;
+  private final long progressIntervalNanos;
+
+  // Only accessed on the platform thread. Null when the download isn't running.
+  @Nullable private Attempt currentAttempt;
+
+  // Held while data is written, so that an attempt started right after another one was cancelled
+  // waits for it to stop writing.
+  private final Object fileLock = new Object();
+
+  /** A run of the download, from {@link #start} to its completion, error or cancellation. */
+  private static final class Attempt {
+    // Written on the platform thread, read on the download thread.
+    volatile boolean cancelled = false;
+    @Nullable volatile HttpURLConnection connection;
+  }
+
+  /**
+   * Creates a {@link FileDownload} that sends its progress to Dart.
+   *
+   * @param flutterApi handles sending messages to Dart
+   * @param networkProxy handles the network and cookie calls
+   * @param executor runs the downloads
+   * @param platformThreadHandler handles making callbacks on the platform thread
+   * @param url the http or https URL to download
+   * @param userAgent the {@code User-Agent} header of the request, or null for the default one
+   * @param file where the downloaded data is written
+   * @param progressIntervalMillis the minimum time between two progress callbacks
+   */
+  public FileDownload(
+      @NonNull FileDownloadFlutterApiImpl flutterApi,
+      @NonNull WebResourceInterceptor.NetworkProxy networkProxy,
+      @NonNull Executor executor,
+      @NonNull Handler platformThreadHandler,
+      @NonNull String url,
+      @Nullable String userAgent,
+      @NonNull File file,
+      long progressIntervalMillis) {
+    this.flutterApi = flutterApi;
+    this.networkProxy = networkProxy;
+    this.executor = executor;
+    this.platformThreadHandler = platformThreadHandler;
+    this.url = url;
+    this.userAgent = userAgent;
+    this.file = file;
+    this.progressIntervalNanos = TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis);
+  }
+
+  /**
+   * Starts downloading the URL, resuming from the data written by a previous attempt if any.
+   *
+   * @throws IllegalStateException if the download is already running
+   */
+  public void start() {
+    if (currentAttempt != null) {
+      throw new IllegalStateException("The download of " + url + " is already running.");
+    }
+    final Attempt attempt = new Attempt();
+    currentAttempt = attempt;
+    executor.execute(() -> download(attempt));
+  }
+
+  /**
+   * Stops the download, keeping the data written so far so that it can be resumed.
+   *
+   * <p>No more callbacks are sent to Dart until the download is started again.
+   */
+  public void cancel() {
+    final Attempt attempt = currentAttempt;
+    if (attempt == null) {
+      return;
+    }
+    currentAttempt = null;
+    attempt.cancelled = true;
+    final HttpURLConnection connection = attempt.connection;
+    if (connection != null) {
+      // Unblocks the read from the connection.
+      connection.disconnect();
+    }
+  }
+
+  private void download(Attempt attempt) {
+    try {
+      final long receivedBytes;
+      synchronized (fileLock) {
+        receivedBytes = transfer(attempt);
+      }
+      postUnlessCancelled(
+          attempt,
+          () -> {
+            currentAttempt = null;
+            flutterApi.onComplete(this, receivedBytes, reply -> {});
+          });
+    } catch (IOException | RuntimeException exception) {
+      final String description =
+          exception.getMessage() != null ? exception.getMessage() : exception.toString();
+      postUnlessCancelled(
+          attempt,
+          () -> {
+            currentAttempt = null;
+            flutterApi.onError(this, description, reply -> {});
+          });
+    }
+  }
+
+  /** Downloads the URL to the file, and returns the size of the file. */
+  private long transfer(Attempt attempt) throws IOException {
+    final File partialFile = new File(file.getPath() + PARTIAL_SUFFIX);
+    final File validatorFile = new File(partialFile.getPath() + VALIDATOR_SUFFIX);
+    final File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create the directory " + directory + ".");
+    }
+
+    // Data written without a validator can't be checked against the file on the server.
+    final String validator = readValidator(validatorFile);
+    long offset = validator != null ? partialFile.length() : 0;
+    final HttpURLConnection connection = networkProxy.openConnection(url);
+    attempt.connection = connection;
+    try {
+      if (attempt.cancelled) {
+        throw new IOException("The download of " + url + " was cancelled.");
+      }
+      if (userAgent != null) {
+        connection.setRequestProperty("User-Agent", userAgent);
+      }
+      final String cookie = networkProxy.getCookie(url);
+      if (cookie != null && !cookie.isEmpty()) {
+        connection.setRequestProperty("Cookie", cookie);
+      }
+      // Keeps the byte ranges of the file, which a compressed response would change.
+      connection.setRequestProperty("Accept-Encoding", "identity");
+      if (offset > 0) {
+        connection.setRequestProperty("Range", "bytes=" + offset + "-");
+        connection.setRequestProperty("If-Range", validator);
+      }
+
+      final int statusCode = connection.getResponseCode();
+      storeCookies(connection);
+      final boolean resumed =
+          statusCode == HttpURLConnection.HTTP_PARTIAL
+              && offset > 0
+              && contentRangeStart(connection) == offset;
+      if (!resumed) {
+        if (statusCode != HttpURLConnection.HTTP_OK) {
+          if (statusCode == 416) {
+            // The data written doesn't match the file on the server anymore.
+            //noinspection ResultOfMethodCallIgnored
+            partialFile.delete();
+            //noinspection ResultOfMethodCallIgnored
+            validatorFile.delete();
+          }
+          throw new IOException("Unexpected response code " + statusCode + " for " + url + ".");
+        }
+        // The server sends the whole file when it changed since the validator was saved.
+        offset = 0;
+        writeValidator(validatorFile, validator(connection));
+      }
+
+      final long contentLength = contentLength(connection);
+      final long totalBytes = contentLength < 0 ? -1 : offset + contentLength;
+      final long receivedBytes;
+      try (RandomAccessFile output = new RandomAccessFile(partialFile, "rw");
+          FileChannel fileChannel = output.getChannel();
+          ReadableByteChannel input = Channels.newChannel(connection.getInputStream())) {
+        fileChannel.truncate(offset);
+        receivedBytes = copy(attempt, input, fileChannel, offset, totalBytes);
+      }
+
+      if (totalBytes >= 0 && receivedBytes != totalBytes) {
+        throw new IOException(
+            "The connection closed after " + receivedBytes + " of " + totalBytes + " bytes.");
+      }
+      if (file.exists() && !file.delete()) {
+        throw new IOException("Unable to replace " + file + ".");
+      }
+      if (!partialFile.renameTo(file)) {
+        throw new IOException("Unable to move the download to " + file + ".");
+      }
+      //noinspection ResultOfMethodCallIgnored
+      validatorFile.delete();
+      return receivedBytes;
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  /** Copies {@code input} to {@code output} from {@code position}, and returns the end position. */
+  private long copy(
+      Attempt attempt,
+      ReadableByteChannel input,
+      FileChannel output,
+      long position,
+      long totalBytes)
+      throws IOException {
+    sendProgress(attempt, position, totalBytes);
+    long lastProgressNanos = System.nanoTime();
+    long transferred;
+    while ((transferred = output.transferFrom(input, position, CHUNK_SIZE_BYTES)) > 0) {
+      position += transferred;
+      if (attempt.cancelled) {
+        throw new IOException("The download of " + url + " was cancelled.");
+      }
+      final long nowNanos = System.nanoTime();
+      if (nowNanos - lastProgressNanos >= progressIntervalNanos) {
+        lastProgressNanos = nowNanos;
+        sendProgress(attempt, position, totalBytes);
+      }
+    }
+    return position;
+  }
+
+  private void sendProgress(Attempt attempt, long receivedBytes, long totalBytes) {
+    postUnlessCancelled(
+        attempt, () -> flutterApi.onProgress(this, receivedBytes, totalBytes, reply -> {}));
+  }
+
+  /** Runs {@code runnable} on the platform thread, unless {@code attempt} is cancelled by then. */
+  private void postUnlessCancelled(Attempt attempt, Runnable runnable) {
+    platformThreadHandler.post(
+        () -> {
+          // Checked on the platform thread, so nothing is sent after cancel returns.
+          if (!attempt.cancelled) {
+            runnable.run();
+          }
+        });
+  }
+
+  private void storeCookies(HttpURLConnection connection) {
+    final Map<String, List<String>> headerFields = connection.getHeaderFields();
+    if (headerFields == null) {
+      return;
+    }
+    for (Map.Entry<String, List<String>> header : headerFields.entrySet()) {
+      if ("Set-Cookie".equalsIgnoreCase(header.getKey())) {
+        for (String value : header.getValue()) {
+          networkProxy.setCookie(url, value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the validator of the response to send as an {@code If-Range} header, or null if the
+   * response has none that {@code If-Range} accepts.
+   */
+  @Nullable
+  private static String validator(HttpURLConnection connection) {
+    final String entityTag = connection.getHeaderField("ETag");
+    // Weak entity tags can't be used in If-Range.
+    if (entityTag != null && !entityTag.trim().startsWith("W/")) {
+      return entityTag.trim();
+    }
+    final String lastModified = connection.getHeaderField("Last-Modified");
+    return lastModified != null ? lastModified.trim() : null;
+  }
+
+  @Nullable
+  private static String readValidator(File validatorFile) throws IOException {
+    if (!validatorFile.isFile()) {
+      return null;
+    }
+    // java.nio.file.Files requires API 26.
+    try (RandomAccessFile input = new RandomAccessFile(validatorFile, "r")) {
+      final byte[] bytes = new byte[(int) input.length()];
+      input.readFully(bytes);
+      final String validator = new String(bytes, StandardCharsets.UTF_8);
+      return validator.isEmpty() ? null : validator;
+    }
+  }
+
+  private static void writeValidator(File validatorFile, @Nullable String validator)
+      throws IOException {
+    if (validator == null) {
+      if (validatorFile.exists() && !validatorFile.delete()) {
+        throw new IOException("Unable to delete " + validatorFile + ".");
+      }
+      return;
+    }
+    try (OutputStream output = new FileOutputStream(validatorFile)) {
+      output.write(validator.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /** Returns the {@code Content-Length} of the response, or -1 if it is unknown. */
+  private static long contentLength(HttpURLConnection connection) {
+    // HttpURLConnection.getContentLengthLong requires API 24.
+    final String value = connection.getHeaderField("Content-Length");
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  /** Returns the first byte of a partial response, or -1 if it is unknown. */
+  private static long contentRangeStart(HttpURLConnection connection) {
+    final String value = connection.getHeaderField("Content-Range");
+    if (value == null) {
+      return -1;
+    }
+    final Matcher matcher = CONTENT_RANGE_START.matcher(value.trim());
+    return matcher.lookingAt() ? Long.parseLong(matcher.group(1)) : -1;
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FileDownloadFlutterApi;
+
+/**
+ * Flutter Api implementation for {@link FileDownload}.
+ *
+ * <p>Passes the progress of a {@link FileDownload} to Dart. Callbacks of downloads that are no
+ * longer in the {@link InstanceManager}, including every download once the manager is closed, are
+ * dropped.
+ */
+public class FileDownloadFlutterApiImpl extends FileDownloadFlutterApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a Flutter api that sends messages to Dart.
+   *
+   * @param binaryMessenger handles sending messages to Dart
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public FileDownloadFlutterApiImpl(
+      BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
+    super(binaryMessenger);
+    this.instanceManager = instanceManager;
+  }
+
+  /** Passes the number of bytes downloaded so far to Dart. */
+  public void onProgress(
+      FileDownload fileDownload, long receivedBytes, long totalBytes, Reply<Void> callback) {
+    final Long identifier = getIdentifierForDownload(fileDownload);
+    if (identifier != null) {
+      onProgress(identifier, receivedBytes, totalBytes, callback);
+    }
+  }
+
+  /** Tells Dart that the download completed. */
+  public void onComplete(FileDownload fileDownload, long receivedBytes, Reply<Void> callback) {
+    final Long identifier = getIdentifierForDownload(fileDownload);
+    if (identifier != null) {
+      onComplete(identifier, receivedBytes, callback);
+    }
+  }
+
+  /** Tells Dart that the download failed. */
+  public void onError(FileDownload fileDownload, String description, Reply<Void> callback) {
+    final Long identifier = getIdentifierForDownload(fileDownload);
+    if (identifier != null) {
+      onError(identifier, description, callback);
+    }
+  }
+
+  @Nullable
+  private Long getIdentifierForDownload(FileDownload fileDownload) {
+    // The manager is closed when the plugin is detached while downloads are still running.
+    if (instanceManager.isClosed()) {
+      return null;
+    }
+    return instanceManager.getIdentifierForStrongReference(fileDownload);
+  }
+}
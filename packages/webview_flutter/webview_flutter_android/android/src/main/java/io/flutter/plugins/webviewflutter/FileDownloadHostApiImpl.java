@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FileDownloadHostApi;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Host api implementation for {@link FileDownload}.
+ *
+ * <p>Handles creating {@link FileDownload}s that intercommunicate with a paired Dart object.
+ */
+public class FileDownloadHostApiImpl implements FileDownloadHostApi {
+  private final InstanceManager instanceManager;
+  private final FileDownloadCreator fileDownloadCreator;
+  private final FileDownloadFlutterApiImpl flutterApi;
+  private final Executor executor;
+  private final Handler platformThreadHandler;
+
+  // Only accessed on the platform thread. Weak, so that downloads disposed in Dart can be released.
+  private final Set<FileDownload> fileDownloads =
+      Collections.newSetFromMap(new WeakHashMap<FileDownload, Boolean>());
+
+  /** Handles creating {@link FileDownload}s for a {@link FileDownloadHostApiImpl}. */
+  public static class FileDownloadCreator {
+    /**
+     * Creates a {@link FileDownload}.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param executor runs the downloads
+     * @param platformThreadHandler handles making callbacks on the platform thread
+     * @param url the http or https URL to download
+     * @param userAgent the {@code User-Agent} header of the request, or null for the default one
+     * @param file where the downloaded data is written
+     * @param progressIntervalMillis the minimum time between two progress callbacks
+     * @return the created {@link FileDownload}
+     */
+    public FileDownload createFileDownload(
+        FileDownloadFlutterApiImpl flutterApi,
+        Executor executor,
+        Handler platformThreadHandler,
+        String url,
+        @Nullable String userAgent,
+        File file,
+        long progressIntervalMillis) {
+      return new FileDownload(
+          flutterApi,
+          new WebResourceInterceptor.NetworkProxy(),
+          executor,
+          platformThreadHandler,
+          url,
+          userAgent,
+          file,
+          progressIntervalMillis);
+    }
+  }
+
+  /**
+   * Creates a host API that handles creating {@link FileDownload}s.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param fileDownloadCreator handles creating {@link FileDownload}s
+   * @param flutterApi handles sending messages to Dart
+   * @param executor runs the downloads
+   * @param platformThreadHandler handles making callbacks on the platform thread
+   */
+  public FileDownloadHostApiImpl(
+      InstanceManager instanceManager,
+      FileDownloadCreator fileDownloadCreator,
+      FileDownloadFlutterApiImpl flutterApi,
+      Executor executor,
+      Handler platformThreadHandler) {
+    this.instanceManager = instanceManager;
+    this.fileDownloadCreator = fileDownloadCreator;
+    this.flutterApi = flutterApi;
+    this.executor = executor;
+    this.platformThreadHandler = platformThreadHandler;
+  }
+
+  @Override
+  public void create(
+      @NonNull Long instanceId,
+      @NonNull String url,
+      @Nullable String userAgent,
+      @NonNull String filePath,
+      @NonNull Long progressIntervalMillis) {
+    final FileDownload fileDownload =
+        fileDownloadCreator.createFileDownload(
+            flutterApi,
+            executor,
+            platformThreadHandler,
+            url,
+            userAgent,
+            new File(filePath),
+            progressIntervalMillis);
+    instanceManager.addDartCreatedInstance(fileDownload, instanceId);
+    fileDownloads.add(fileDownload);
+  }
+
+  @Override
+  public void start(@NonNull Long instanceId) {
+    getFileDownload(instanceId).start();
+  }
+
+  @Override
+  public void cancel(@NonNull Long instanceId) {
+    getFileDownload(instanceId).cancel();
+  }
+
+  /**
+   * Cancels every download created by this API, keeping their data so that they can be resumed.
+   *
+   * <p>Called when the plugin is detached from the engine.
+   */
+  public void cancelAll() {
+    for (FileDownload fileDownload : new ArrayList<>(fileDownloads)) {
+      fileDownload.cancel();
+    }
+  }
+
+  private FileDownload getFileDownload(Long instanceId) {
+    return Objects.requireNonNull(instanceManager.getInstance(instanceId));
+  }
+}
@@ -421,6 +421,80 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class JavaScriptResultData {
+    private @Nullable String result;
+
+    public @Nullable String getResult() {
+      return result;
+    }
+
+    public void setResult(@Nullable String setterArg) {
+      this.result = setterArg;
+    }
+
+    private @NonNull Long elapsedMicros;
+
+    public @NonNull Long getElapsedMicros() {
+      return elapsedMicros;
+    }
+
+    public void setElapsedMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"elapsedMicros\" is null.");
+      }
+      this.elapsedMicros = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private JavaScriptResultData() {}
+
+    public static final class Builder {
+      private @Nullable String result;
+
+      public @NonNull Builder setResult(@Nullable String setterArg) {
+        this.result = setterArg;
+        return this;
+      }
+
+      private @Nullable Long elapsedMicros;
+
+      public @NonNull Builder setElapsedMicros(@NonNull Long setterArg) {
+        this.elapsedMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull JavaScriptResultData build() {
+        JavaScriptResultData pigeonReturn = new JavaScriptResultData();
+        pigeonReturn.setResult(result);
+        pigeonReturn.setElapsedMicros(elapsedMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(result);
+      toListResult.add(elapsedMicros);
+      return toListResult;
+    }
+
+    static @NonNull JavaScriptResultData fromList(@NonNull ArrayList<Object> list) {
+      JavaScriptResultData pigeonResult = new JavaScriptResultData();
+      Object result = list.get(0);
+      pigeonResult.setResult((String) result);
+      Object elapsedMicros = list.get(1);
+      pigeonResult.setElapsedMicros(
+          (elapsedMicros == null)
+              ? null
+              : ((elapsedMicros instanceof Integer)
+                  ? (Integer) elapsedMicros
+                  : (Long) elapsedMicros));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     void success(T result);
 
@@ -514,6 +588,10 @@ public class GeneratedAndroidWebView {
 
     void setCookie(@NonNull String url, @NonNull String value);
 
+    Long setCookies(@NonNull Map<String, List<String>> cookies);
+
+    Map<String, String> getCookies(@NonNull List<String> urls);
+
     /** The codec used by CookieManagerHostApi. */
     static MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -588,6 +666,60 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.setCookies", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Map<String, List<String>> cookiesArg = (Map<String, List<String>>) args.get(0);
+                  if (cookiesArg == null) {
+                    throw new NullPointerException("cookiesArg unexpectedly null.");
+                  }
+                  Long output = api.setCookies(cookiesArg);
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.getCookies", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  List<String> urlsArg = (List<String>) args.get(0);
+                  if (urlsArg == null) {
+                    throw new NullPointerException("urlsArg unexpectedly null.");
+                  }
+                  Map<String, String> output = api.getCookies(urlsArg);
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -600,6 +732,9 @@ public class GeneratedAndroidWebView {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
+          return JavaScriptResultData.fromList((ArrayList<Object>) readValue(buffer));
+
+        case (byte) 129:
           return WebViewPoint.fromList((ArrayList<Object>) readValue(buffer));
 
         default:
@@ -609,8 +744,11 @@ public class GeneratedAndroidWebView {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof WebViewPoint) {
+      if (value instanceof JavaScriptResultData) {
         stream.write(128);
+        writeValue(stream, ((JavaScriptResultData) value).toList());
+      } else if (value instanceof WebViewPoint) {
+        stream.write(129);
         writeValue(stream, ((WebViewPoint) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -661,6 +799,11 @@ public class GeneratedAndroidWebView {
     void evaluateJavascript(
         @NonNull Long instanceId, @NonNull String javascriptString, Result<String> result);
 
+    void evaluateJavascriptBatch(
+        @NonNull Long instanceId,
+        @NonNull List<String> scripts,
+        Result<List<JavaScriptResultData>> result);
+
     @Nullable
     String getTitle(@NonNull Long instanceId);
 
@@ -1130,6 +1273,53 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  List<String> scriptsArg = (List<String>) args.get(1);
+                  if (scriptsArg == null) {
+                    throw new NullPointerException("scriptsArg unexpectedly null.");
+                  }
+                  Result<List<JavaScriptResultData>> resultCallback =
+                      new Result<List<JavaScriptResultData>>() {
+                        public void success(List<JavaScriptResultData> result) {
+                          wrapped.add(0, result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          ArrayList<Object> wrappedError = wrapError(error);
+                          reply.reply(wrappedError);
+                        }
+                      };
+
+                  api.evaluateJavascriptBatch(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      scriptsArg,
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  reply.reply(wrappedError);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2041,6 +2231,11 @@ public class GeneratedAndroidWebView {
   public interface JavaScriptChannelHostApi {
     void create(@NonNull Long instanceId, @NonNull String channelName);
 
+    void setBatching(
+        @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long maxBatchSize);
+
+    Map<String, Long> getQueueStats(@NonNull Long instanceId);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2082,6 +2277,76 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  Number maxBatchSizeArg = (Number) args.get(2);
+                  if (maxBatchSizeArg == null) {
+                    throw new NullPointerException("maxBatchSizeArg unexpectedly null.");
+                  }
+                  api.setBatching(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (maxBatchSizeArg == null) ? null : maxBatchSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Map<String, Long> output =
+                      api.getQueueStats((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2113,6 +2378,20 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void postMessages(
+        @NonNull Long instanceIdArg, @NonNull List<String> messagesArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebViewClientHostApi {
@@ -2121,6 +2400,13 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForShouldOverrideUrlLoading(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setSubscribedEvents(
+        @NonNull Long instanceId,
+        @NonNull Boolean pageStarted,
+        @NonNull Boolean pageFinished,
+        @NonNull Boolean receivedError,
+        @NonNull Boolean loadingRequest);
+
     /** The codec used by WebViewClientHostApi. */
     static MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2191,6 +2477,56 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean pageStartedArg = (Boolean) args.get(1);
+                  if (pageStartedArg == null) {
+                    throw new NullPointerException("pageStartedArg unexpectedly null.");
+                  }
+                  Boolean pageFinishedArg = (Boolean) args.get(2);
+                  if (pageFinishedArg == null) {
+                    throw new NullPointerException("pageFinishedArg unexpectedly null.");
+                  }
+                  Boolean receivedErrorArg = (Boolean) args.get(3);
+                  if (receivedErrorArg == null) {
+                    throw new NullPointerException("receivedErrorArg unexpectedly null.");
+                  }
+                  Boolean loadingRequestArg = (Boolean) args.get(4);
+                  if (loadingRequestArg == null) {
+                    throw new NullPointerException("loadingRequestArg unexpectedly null.");
+                  }
+                  api.setSubscribedEvents(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      pageStartedArg,
+                      pageFinishedArg,
+                      receivedErrorArg,
+                      loadingRequestArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -2445,6 +2781,9 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForOnShowFileChooser(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setProgressChangedEvents(
+        @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long minProgressDelta);
+
     /** The codec used by WebChromeClientHostApi. */
     static MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2515,30 +2854,70 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface FlutterAssetManagerHostApi {
-    @NonNull
-    List<String> list(@NonNull String path);
-
-    @NonNull
-    String getAssetFilePathByName(@NonNull String name);
-
-    /** The codec used by FlutterAssetManagerHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
-    }
-    /**
-     * Sets up an instance of `FlutterAssetManagerHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, FlutterAssetManagerHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.FlutterAssetManagerHostApi.list", getCodec());
-        if (api != null) {
+                binaryMessenger,
+                "dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  Number minProgressDeltaArg = (Number) args.get(2);
+                  if (minProgressDeltaArg == null) {
+                    throw new NullPointerException("minProgressDeltaArg unexpectedly null.");
+                  }
+                  api.setProgressChangedEvents(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (minProgressDeltaArg == null) ? null : minProgressDeltaArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface FlutterAssetManagerHostApi {
+    @NonNull
+    List<String> list(@NonNull String path);
+
+    @NonNull
+    String getAssetFilePathByName(@NonNull String name);
+
+    /** The codec used by FlutterAssetManagerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `FlutterAssetManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, FlutterAssetManagerHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.FlutterAssetManagerHostApi.list", getCodec());
+        if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList wrapped = new ArrayList<>();
@@ -2786,6 +3165,878 @@ public class GeneratedAndroidWebView {
           });
     }
   }
+  /**
+   * Handles methods calls to the native Java WebResourceInterceptor class.
+   *
+   * <p>Serves the requests of a WebViewClient from the Flutter assets, or from an on-disk HTTP
+   * cache.
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface WebResourceInterceptorHostApi {
+    void create(@NonNull Long instanceId);
+
+    void addAssetPrefix(
+        @NonNull Long instanceId, @NonNull String urlPrefix, @NonNull String assetDirectory);
+
+    void addCachedPrefix(@NonNull Long instanceId, @NonNull String urlPrefix);
+
+    void attachToWebViewClient(@NonNull Long instanceId, @NonNull Long webViewClientInstanceId);
+
+    void setCacheMaxSize(@NonNull Long maxSizeBytes, Result<Void> result);
+
+    void clearCache(Result<Void> result);
+
+    void getStats(@NonNull Long instanceId, Result<Map<String, Long>> result);
+
+    /** The codec used by WebResourceInterceptorHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `WebResourceInterceptorHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebResourceInterceptorHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.create",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlPrefixArg = (String) args.get(1);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  String assetDirectoryArg = (String) args.get(2);
+                  if (assetDirectoryArg == null) {
+                    throw new NullPointerException("assetDirectoryArg unexpectedly null.");
+                  }
+                  api.addAssetPrefix(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      urlPrefixArg,
+                      assetDirectoryArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.addCachedPrefix",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlPrefixArg = (String) args.get(1);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  api.addCachedPrefix(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), urlPrefixArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.attachToWebViewClient",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number webViewClientInstanceIdArg = (Number) args.get(1);
+                  if (webViewClientInstanceIdArg == null) {
+                    throw new NullPointerException("webViewClientInstanceIdArg unexpectedly null.");
+                  }
+                  api.attachToWebViewClient(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (webViewClientInstanceIdArg == null)
+                          ? null
+                          : webViewClientInstanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number maxSizeBytesArg = (Number) args.get(0);
+                  if (maxSizeBytesArg == null) {
+                    throw new NullPointerException("maxSizeBytesArg unexpectedly null.");
+                  }
+                  Result<Void> resultCallback =
+                      new Result<Void>() {
+                        public void success(Void result) {
+                          wrapped.add(0, null);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          ArrayList<Object> wrappedError = wrapError(error);
+                          reply.reply(wrappedError);
+                        }
+                      };
+
+                  api.setCacheMaxSize(
+                      (maxSizeBytesArg == null) ? null : maxSizeBytesArg.longValue(),
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  reply.reply(wrappedError);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  Result<Void> resultCallback =
+                      new Result<Void>() {
+                        public void success(Void result) {
+                          wrapped.add(0, null);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          ArrayList<Object> wrappedError = wrapError(error);
+                          reply.reply(wrappedError);
+                        }
+                      };
+
+                  api.clearCache(resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  reply.reply(wrappedError);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Result<Map<String, Long>> resultCallback =
+                      new Result<Map<String, Long>>() {
+                        public void success(Map<String, Long> result) {
+                          wrapped.add(0, result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          ArrayList<Object> wrappedError = wrapError(error);
+                          reply.reply(wrappedError);
+                        }
+                      };
+
+                  api.getStats(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  reply.reply(wrappedError);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /**
+   * Handles methods calls to the native Java BinaryJavaScriptChannel class.
+   *
+   * <p>Exchanges binary messages with JavaScript through a WebMessageListener.
+   *
+   * <p>See
+   * https://developer.android.com/reference/androidx/webkit/WebViewCompat#addWebMessageListener(android.webkit.WebView,java.lang.String,java.util.Set%3Cjava.lang.String%3E,androidx.webkit.WebViewCompat.WebMessageListener).
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface BinaryJavaScriptChannelHostApi {
+    Boolean isSupported();
+
+    void create(
+        @NonNull Long instanceId,
+        @NonNull String channelName,
+        @NonNull List<String> allowedOriginRules);
+
+    void addToWebView(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
+
+    void removeFromWebView(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
+
+    void postMessage(@NonNull Long instanceId, @NonNull byte[] message);
+
+    /** The codec used by BinaryJavaScriptChannelHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `BinaryJavaScriptChannelHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, BinaryJavaScriptChannelHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.isSupported",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  Boolean output = api.isSupported();
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String channelNameArg = (String) args.get(1);
+                  if (channelNameArg == null) {
+                    throw new NullPointerException("channelNameArg unexpectedly null.");
+                  }
+                  List<String> allowedOriginRulesArg = (List<String>) args.get(2);
+                  if (allowedOriginRulesArg == null) {
+                    throw new NullPointerException("allowedOriginRulesArg unexpectedly null.");
+                  }
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      channelNameArg,
+                      allowedOriginRulesArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.addToWebView",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number webViewInstanceIdArg = (Number) args.get(1);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  api.addToWebView(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.removeFromWebView",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number webViewInstanceIdArg = (Number) args.get(1);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  api.removeFromWebView(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  byte[] messageArg = (byte[]) args.get(1);
+                  if (messageArg == null) {
+                    throw new NullPointerException("messageArg unexpectedly null.");
+                  }
+                  api.postMessage(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), messageArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class BinaryJavaScriptChannelFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public BinaryJavaScriptChannelFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by BinaryJavaScriptChannelFlutterApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+
+    public void postMessage(
+        @NonNull Long instanceIdArg, @NonNull byte[] messageArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.BinaryJavaScriptChannelFlutterApi.postMessage",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+  /**
+   * Handles methods calls to the native Java WebViewPool class.
+   *
+   * <p>Keeps WebViews using hybrid composition that are created ahead of time.
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface WebViewPoolHostApi {
+    void setMaxSize(@NonNull Long maxSize);
+
+    Map<String, Long> getStats();
+
+    /** The codec used by WebViewPoolHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `WebViewPoolHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewPoolHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number maxSizeArg = (Number) args.get(0);
+                  if (maxSizeArg == null) {
+                    throw new NullPointerException("maxSizeArg unexpectedly null.");
+                  }
+                  api.setMaxSize((maxSizeArg == null) ? null : maxSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.getStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  Map<String, Long> output = api.getStats();
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /**
+   * Handles methods calls to the native Java FileDownload class.
+   *
+   * <p>Downloads a URL to a file on a background thread, with the cookies of the WebView.
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface FileDownloadHostApi {
+    void create(
+        @NonNull Long instanceId,
+        @NonNull String url,
+        @Nullable String userAgent,
+        @NonNull String filePath,
+        @NonNull Long progressIntervalMillis);
+
+    void start(@NonNull Long instanceId);
+
+    void cancel(@NonNull Long instanceId);
+
+    /** The codec used by FileDownloadHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `FileDownloadHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, FileDownloadHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.FileDownloadHostApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlArg = (String) args.get(1);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  String userAgentArg = (String) args.get(2);
+                  String filePathArg = (String) args.get(3);
+                  if (filePathArg == null) {
+                    throw new NullPointerException("filePathArg unexpectedly null.");
+                  }
+                  Number progressIntervalMillisArg = (Number) args.get(4);
+                  if (progressIntervalMillisArg == null) {
+                    throw new NullPointerException("progressIntervalMillisArg unexpectedly null.");
+                  }
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      urlArg,
+                      userAgentArg,
+                      filePathArg,
+                      (progressIntervalMillisArg == null)
+                          ? null
+                          : progressIntervalMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.FileDownloadHostApi.start", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.start((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.FileDownloadHostApi.cancel", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.cancel((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class FileDownloadFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public FileDownloadFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by FileDownloadFlutterApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+
+    public void onProgress(
+        @NonNull Long instanceIdArg,
+        @NonNull Long receivedBytesArg,
+        @NonNull Long totalBytesArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.FileDownloadFlutterApi.onProgress", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, receivedBytesArg, totalBytesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onComplete(
+        @NonNull Long instanceIdArg, @NonNull Long receivedBytesArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.FileDownloadFlutterApi.onComplete", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, receivedBytesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onError(
+        @NonNull Long instanceIdArg, @NonNull String descriptionArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.FileDownloadFlutterApi.onError", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, descriptionArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+  /**
+   * Records the traffic of the platform channels of the plugin.
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface ChannelTracingHostApi {
+    void setEnabled(@NonNull Boolean enabled);
+
+    List<Map<String, Object>> getStats();
+
+    void reset();
+
+    /** The codec used by ChannelTracingHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Sets up an instance of `ChannelTracingHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, ChannelTracingHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ChannelTracingHostApi.setEnabled", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Boolean enabledArg = (Boolean) args.get(0);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setEnabled(enabledArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ChannelTracingHostApi.getStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  List<Map<String, Object>> output = api.getStats();
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ChannelTracingHostApi.reset", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  api.reset();
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
 
   @NonNull
   private static ArrayList<Object> wrapError(@NonNull Throwable exception) {
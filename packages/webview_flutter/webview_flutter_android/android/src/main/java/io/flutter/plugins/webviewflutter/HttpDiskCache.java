@@ -0,0 +1,471 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Size-bounded on-disk cache of HTTP responses, evicting the least recently used ones first.
+ *
+ * <p>Each response is stored as a body file and a metadata file, both named after the SHA-256 of
+ * its URL. Bodies are written to a temporary file while they are read from the network, and moved
+ * into place once they are complete, so a body being read is never partially overwritten.
+ */
+class HttpDiskCache {
+  private static final String BODY_SUFFIX = ".body";
+  private static final String METADATA_SUFFIX = ".meta";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final String HEADER_PREFIX = "header.";
+
+  /** A cached response. */
+  static final class Entry {
+    final String url;
+    final File body;
+    final String mimeType;
+    @Nullable final String encoding;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    final long expiresAtMillis;
+    final Map<String, String> headers;
+
+    Entry(
+        String url,
+        File body,
+        String mimeType,
+        @Nullable String encoding,
+        @Nullable String etag,
+        @Nullable String lastModified,
+        long expiresAtMillis,
+        Map<String, String> headers) {
+      this.url = url;
+      this.body = body;
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.expiresAtMillis = expiresAtMillis;
+      this.headers = headers;
+    }
+
+    /** Whether the response can be served without revalidating it with the server. */
+    boolean isFresh(long nowMillis) {
+      return nowMillis < expiresAtMillis;
+    }
+  }
+
+  private final File directory;
+  private long maxSizeBytes;
+  // The total size of the bodies in the cache, or -1 until the directory is first scanned.
+  private long sizeBytes = -1;
+
+  /**
+   * Creates a cache storing its files in {@code directory}, which is created when the first
+   * response is stored.
+   */
+  HttpDiskCache(@NonNull File directory, long maxSizeBytes) {
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /** Returns the cached response for {@code url}, or null if there is none. */
+  @Nullable
+  synchronized Entry get(@NonNull String url) {
+    final String key = keyFor(url);
+    final File body = new File(directory, key + BODY_SUFFIX);
+    final Properties metadata = readMetadata(new File(directory, key + METADATA_SUFFIX));
+    if (metadata == null || !url.equals(metadata.getProperty("url")) || !body.isFile()) {
+      return null;
+    }
+    // Marks the response as recently used.
+    //noinspection ResultOfMethodCallIgnored
+    body.setLastModified(System.currentTimeMillis());
+    return toEntry(body, metadata);
+  }
+
+  /**
+   * Stores the response read from {@code data}, replacing any response cached for the same url.
+   *
+   * @return the stored response, or null if it is larger than the cache or couldn't be written.
+   * @throws IOException if {@code data} couldn't be read.
+   */
+  @Nullable
+  Entry put(
+      @NonNull String url,
+      @NonNull InputStream data,
+      @NonNull String mimeType,
+      @Nullable String encoding,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      long expiresAtMillis,
+      @NonNull Map<String, String> headers)
+      throws IOException {
+    try (CachingInputStream stream =
+        cacheWhileReading(
+            url, data, mimeType, encoding, etag, lastModified, expiresAtMillis, headers)) {
+      final byte[] buffer = new byte[8192];
+      //noinspection StatementWithEmptyBody
+      while (stream.read(buffer) != -1) {}
+      return stream.getStoredEntry();
+    }
+  }
+
+  /**
+   * Returns a stream reading the response from {@code data}, which stores the response once it is
+   * read to the end, replacing any response cached for the same url.
+   *
+   * <p>Responses larger than the cache, or that can't be written, are still read from the returned
+   * stream, but aren't stored. Neither are responses whose stream is closed before their end.
+   */
+  @NonNull
+  CachingInputStream cacheWhileReading(
+      @NonNull String url,
+      @NonNull InputStream data,
+      @NonNull String mimeType,
+      @Nullable String encoding,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      long expiresAtMillis,
+      @NonNull Map<String, String> headers) {
+    final Properties metadata = new Properties();
+    metadata.setProperty("url", url);
+    metadata.setProperty("mimeType", mimeType);
+    metadata.setProperty("expiresAt", Long.toString(expiresAtMillis));
+    setIfNotNull(metadata, "encoding", encoding);
+    setIfNotNull(metadata, "etag", etag);
+    setIfNotNull(metadata, "lastModified", lastModified);
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      metadata.setProperty(HEADER_PREFIX + header.getKey(), header.getValue());
+    }
+    return new CachingInputStream(url, data, metadata, getMaxSize());
+  }
+
+  /**
+   * Stream of a response being read, whose body is written to a temporary file as it goes and
+   * moved into the cache once it is complete.
+   */
+  final class CachingInputStream extends FilterInputStream {
+    private final String url;
+    private final Properties metadata;
+    private final long maxSizeBytes;
+    @Nullable private File temporaryBody;
+    @Nullable private OutputStream output;
+    private long writtenBytes = 0;
+    @Nullable private Entry storedEntry;
+
+    private CachingInputStream(
+        String url, InputStream data, Properties metadata, long maxSizeBytes) {
+      super(data);
+      this.url = url;
+      this.metadata = metadata;
+      this.maxSizeBytes = maxSizeBytes;
+      try {
+        temporaryBody = createTemporaryFile();
+        output = new FileOutputStream(temporaryBody);
+      } catch (IOException exception) {
+        abandon();
+      }
+    }
+
+    /** Returns the stored response, or null until it is read to the end and stored. */
+    @Nullable
+    Entry getStoredEntry() {
+      return storedEntry;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int value = super.read();
+      if (value == -1) {
+        commit();
+      } else {
+        write(new byte[] {(byte) value}, 0, 1);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      final int read = super.read(buffer, offset, length);
+      if (read == -1) {
+        commit();
+      } else {
+        write(buffer, offset, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+      // The skipped bytes are never written, so the body can't be stored.
+      abandon();
+      return super.skip(count);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        abandon();
+      }
+    }
+
+    private void write(byte[] buffer, int offset, int length) {
+      if (output == null) {
+        return;
+      }
+      if (writtenBytes + length > maxSizeBytes) {
+        abandon();
+        return;
+      }
+      try {
+        output.write(buffer, offset, length);
+        writtenBytes += length;
+      } catch (IOException exception) {
+        abandon();
+      }
+    }
+
+    private void commit() {
+      if (output == null) {
+        return;
+      }
+      try {
+        output.close();
+        output = null;
+        storedEntry = store(url, temporaryBody, metadata);
+      } catch (IOException exception) {
+        // The response was served, and is fetched again the next time it is requested.
+      } finally {
+        abandon();
+      }
+    }
+
+    /** Stops writing the body, which won't be stored. */
+    private void abandon() {
+      if (output != null) {
+        try {
+          output.close();
+        } catch (IOException exception) {
+          // The temporary file is deleted anyway.
+        }
+        output = null;
+      }
+      if (temporaryBody != null) {
+        //noinspection ResultOfMethodCallIgnored
+        temporaryBody.delete();
+        temporaryBody = null;
+      }
+    }
+  }
+
+  /** Moves a complete body into the cache, or returns null if it is larger than the cache. */
+  @Nullable
+  private synchronized Entry store(String url, File temporaryBody, Properties metadata)
+      throws IOException {
+    final long size = temporaryBody.length();
+    if (size > maxSizeBytes) {
+      return null;
+    }
+    final String key = keyFor(url);
+    final File body = new File(directory, key + BODY_SUFFIX);
+    ensureSizeKnown();
+    if (body.isFile()) {
+      sizeBytes -= body.length();
+    }
+    writeMetadata(new File(directory, key + METADATA_SUFFIX), metadata);
+    if (!temporaryBody.renameTo(body)) {
+      throw new IOException("Unable to move the cached response for " + url + " in place.");
+    }
+    sizeBytes += size;
+    trimToSize(maxSizeBytes, body);
+    return toEntry(body, metadata);
+  }
+
+  /** Updates when the cached response expires, after the server confirmed it is unchanged. */
+  @NonNull
+  synchronized Entry refresh(@NonNull Entry entry, long expiresAtMillis) {
+    final File metadataFile =
+        new File(directory, entry.body.getName().replace(BODY_SUFFIX, METADATA_SUFFIX));
+    final Properties metadata = readMetadata(metadataFile);
+    if (metadata == null) {
+      return entry;
+    }
+    metadata.setProperty("expiresAt", Long.toString(expiresAtMillis));
+    try {
+      writeMetadata(metadataFile, metadata);
+    } catch (IOException exception) {
+      // The response stays cached, and is revalidated again the next time it is requested.
+      return entry;
+    }
+    return toEntry(entry.body, metadata);
+  }
+
+  /** Sets the maximum total size of the cached bodies, evicting responses if needed. */
+  synchronized void setMaxSize(long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+    ensureSizeKnown();
+    trimToSize(maxSizeBytes, null);
+  }
+
+  /** Returns the maximum total size of the cached bodies. */
+  synchronized long getMaxSize() {
+    return maxSizeBytes;
+  }
+
+  /** Removes every cached response. */
+  synchronized void clear() {
+    ensureSizeKnown();
+    trimToSize(0, null);
+  }
+
+  /** Returns the total size of the cached bodies. */
+  synchronized long getSize() {
+    ensureSizeKnown();
+    return sizeBytes;
+  }
+
+  private File createTemporaryFile() throws IOException {
+    synchronized (this) {
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("Unable to create the cache directory " + directory + ".");
+      }
+    }
+    return File.createTempFile("response", TEMPORARY_SUFFIX, directory);
+  }
+
+  private void ensureSizeKnown() {
+    if (sizeBytes >= 0) {
+      return;
+    }
+    sizeBytes = 0;
+    for (File body : listBodies()) {
+      sizeBytes += body.length();
+    }
+  }
+
+  /** Evicts the least recently used responses, other than {@code kept}, down to the target size. */
+  private void trimToSize(long targetSizeBytes, @Nullable File kept) {
+    if (sizeBytes <= targetSizeBytes) {
+      return;
+    }
+    final List<File> bodies = listBodies();
+    final Map<File, Long> lastUsed = new HashMap<>(bodies.size());
+    for (File body : bodies) {
+      lastUsed.put(body, body.lastModified());
+    }
+    Collections.sort(
+        bodies, (first, second) -> Long.compare(lastUsed.get(first), lastUsed.get(second)));
+    for (File body : bodies) {
+      if (sizeBytes <= targetSizeBytes) {
+        break;
+      }
+      if (body.equals(kept)) {
+        continue;
+      }
+      final long size = body.length();
+      final File metadata =
+          new File(directory, body.getName().replace(BODY_SUFFIX, METADATA_SUFFIX));
+      //noinspection ResultOfMethodCallIgnored
+      metadata.delete();
+      if (body.delete()) {
+        sizeBytes -= size;
+      }
+    }
+  }
+
+  private List<File> listBodies() {
+    final File[] bodies = directory.listFiles((dir, name) -> name.endsWith(BODY_SUFFIX));
+    return bodies == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(bodies));
+  }
+
+  private static Entry toEntry(File body, Properties metadata) {
+    final Map<String, String> headers = new HashMap<>();
+    for (String name : metadata.stringPropertyNames()) {
+      if (name.startsWith(HEADER_PREFIX)) {
+        headers.put(name.substring(HEADER_PREFIX.length()), metadata.getProperty(name));
+      }
+    }
+    long expiresAtMillis;
+    try {
+      expiresAtMillis = Long.parseLong(metadata.getProperty("expiresAt", "0"));
+    } catch (NumberFormatException exception) {
+      expiresAtMillis = 0;
+    }
+    return new Entry(
+        metadata.getProperty("url"),
+        body,
+        metadata.getProperty("mimeType", "application/octet-stream"),
+        metadata.getProperty("encoding"),
+        metadata.getProperty("etag"),
+        metadata.getProperty("lastModified"),
+        expiresAtMillis,
+        headers);
+  }
+
+  @Nullable
+  private static Properties readMetadata(File file) {
+    if (!file.isFile()) {
+      return null;
+    }
+    final Properties metadata = new Properties();
+    try (InputStream input = new FileInputStream(file)) {
+      metadata.load(input);
+    } catch (IOException | IllegalArgumentException exception) {
+      return null;
+    }
+    return metadata;
+  }
+
+  private static void writeMetadata(File file, Properties metadata) throws IOException {
+    try (OutputStream output = new FileOutputStream(file)) {
+      metadata.store(output, null);
+    }
+  }
+
+  private static void setIfNotNull(Properties properties, String key, @Nullable String value) {
+    if (value != null) {
+      properties.setProperty(key, value);
+    }
+  }
+
+  private static String keyFor(String url) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException exception) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(exception);
+    }
+    final StringBuilder key = new StringBuilder(digest.length * 2);
+    for (byte value : digest) {
+      key.append(String.format("%02x", value));
+    }
+    return key.toString();
+  }
+}
@@ -7,11 +7,17 @@ package io.flutter.plugins.webviewflutter;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.WeakHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Maintains instances used to communicate with the corresponding objects in Dart.
@@ -20,6 +26,7 @@ import java.util.WeakHashMap;
  * an InstanceManager with the same identifier.
  *
  * <p>When an instance is added with an identifier, either can be used to retrieve the other.
+ * Instances are compared by identity.
  *
  * <p>Added instances are added as a weak reference and a strong reference. When the strong
  * reference is removed with `{@link #remove(long)}` and the weak reference is deallocated, the
@@ -27,6 +34,11 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>The manager can be used from any thread, as callbacks from the WebView can arrive on other
+ * threads than the platform thread. Retrieving instances and identifiers doesn't lock. Deallocated
+ * instances are released as soon as a cleaner thread is notified of them, and the
+ * `finalizationListener` is always called on the main thread.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -35,7 +47,7 @@ public class InstanceManager {
   // Host uses identifiers >= 2^16 and Dart is expected to use values n where,
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
-  private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 30000;
+  private static final int INITIAL_DART_CREATED_CAPACITY = 64;
   private static final String TAG = "InstanceManager";
   private static final String CLOSED_WARNING = "Method was called while the manager was closed.";
 
@@ -44,19 +56,89 @@ public class InstanceManager {
     void onFinalize(long identifier);
   }
 
-  private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  /** Weak reference to an added instance, equal to the other references to the same instance. */
+  private static final class InstanceReference extends WeakReference<Object> {
+    private static final AtomicReferenceFieldUpdater<InstanceReference, Object> STRONG_INSTANCE =
+        AtomicReferenceFieldUpdater.newUpdater(
+            InstanceReference.class, Object.class, "strongInstance");
+
+    final long identifier;
+    private final int hashCode;
+    // Keeps the instance alive until it is removed with InstanceManager.remove.
+    volatile Object strongInstance;
+
+    InstanceReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+      this.hashCode = System.identityHashCode(instance);
+      this.strongInstance = instance;
+    }
+
+    @Nullable
+    Object removeStrongInstance() {
+      return STRONG_INSTANCE.getAndSet(this, null);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      final Object instance = get();
+      if (instance == null) {
+        return false;
+      } else if (other instanceof InstanceReference) {
+        return instance == ((InstanceReference) other).get();
+      } else if (other instanceof InstanceKey) {
+        return instance == ((InstanceKey) other).instance;
+      }
+      return false;
+    }
+  }
+
+  /** Looks up the {@link InstanceReference} of an instance without creating a reference. */
+  private static final class InstanceKey {
+    final Object instance;
+
+    InstanceKey(Object instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(instance);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof InstanceReference && ((InstanceReference) other).get() == instance;
+    }
+  }
+
+  // Both keyed and valued by the references, so that an instance can be looked up with an
+  // InstanceKey.
+  private final ConcurrentHashMap<Object, InstanceReference> identifiers =
+      new ConcurrentHashMap<>();
+  // Indexed by identifier. Dart creates identifiers in [0, 2^16), so this stays dense.
+  private volatile AtomicReferenceArray<InstanceReference> dartCreatedInstances =
+      new AtomicReferenceArray<>(INITIAL_DART_CREATED_CAPACITY);
+  private final ConcurrentHashMap<Long, InstanceReference> hostCreatedInstances =
+      new ConcurrentHashMap<>();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
+  private final Thread cleaner = new Thread(this::releaseFinalizedInstancesUntilClosed);
 
   private final Handler handler = new Handler(Looper.getMainLooper());
 
   private final FinalizationListener finalizationListener;
 
-  private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean isClosed = false;
+  private final AtomicLong nextIdentifier = new AtomicLong(MIN_HOST_CREATED_IDENTIFIER);
+  private volatile boolean isClosed = false;
 
   /**
    * Instantiate a new manager.
@@ -67,13 +149,15 @@ public class InstanceManager {
    * @return a new `InstanceManager`.
    */
   public static InstanceManager open(FinalizationListener finalizationListener) {
-    return new InstanceManager(finalizationListener);
+    final InstanceManager instanceManager = new InstanceManager(finalizationListener);
+    instanceManager.cleaner.start();
+    return instanceManager;
   }
 
   private InstanceManager(FinalizationListener finalizationListener) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    cleaner.setName(TAG + "Cleaner");
+    cleaner.setDaemon(true);
   }
 
   /**
@@ -91,7 +175,8 @@ public class InstanceManager {
       Log.w(TAG, CLOSED_WARNING);
       return null;
     }
-    return (T) strongInstances.remove(identifier);
+    final InstanceReference reference = getReference(identifier);
+    return reference == null ? null : (T) reference.removeStrongInstance();
   }
 
   /**
@@ -110,11 +195,13 @@ public class InstanceManager {
       Log.w(TAG, CLOSED_WARNING);
       return null;
     }
-    final Long identifier = identifiers.get(instance);
-    if (identifier != null) {
-      strongInstances.put(identifier, instance);
+    final InstanceReference reference = identifiers.get(new InstanceKey(instance));
+    // The reference may have been replaced at its identifier since it was looked up.
+    if (reference == null || getReference(reference.identifier) != reference) {
+      return null;
     }
-    return identifier;
+    reference.strongInstance = instance;
+    return reference.identifier;
   }
 
   /**
@@ -148,7 +235,7 @@ public class InstanceManager {
       Log.w(TAG, CLOSED_WARNING);
       return -1;
     }
-    final long identifier = nextIdentifier++;
+    final long identifier = nextIdentifier.getAndIncrement();
     addInstance(instance, identifier);
     return identifier;
   }
@@ -167,11 +254,12 @@ public class InstanceManager {
       Log.w(TAG, CLOSED_WARNING);
       return null;
     }
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
-    if (instance != null) {
-      return instance.get();
+    final InstanceReference reference = getReference(identifier);
+    if (reference == null) {
+      return null;
     }
-    return (T) strongInstances.get(identifier);
+    final Object strongInstance = reference.strongInstance;
+    return (T) (strongInstance != null ? strongInstance : reference.get());
   }
 
   /**
@@ -186,7 +274,7 @@ public class InstanceManager {
       Log.w(TAG, CLOSED_WARNING);
       return false;
     }
-    return identifiers.containsKey(instance);
+    return identifiers.containsKey(new InstanceKey(instance));
   }
 
   /**
@@ -195,12 +283,13 @@ public class InstanceManager {
    * <p>Methods called after this one will be ignored and log a warning.
    */
   public void close() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
-    isClosed = true;
-    identifiers.clear();
-    weakInstances.clear();
-    strongInstances.clear();
-    weakReferencesToIdentifiers.clear();
+    synchronized (this) {
+      isClosed = true;
+      identifiers.clear();
+      dartCreatedInstances = new AtomicReferenceArray<>(0);
+      hostCreatedInstances.clear();
+    }
+    cleaner.interrupt();
   }
 
   /**
@@ -212,28 +301,138 @@ public class InstanceManager {
     return isClosed;
   }
 
-  private void releaseAllFinalizedInstances() {
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+  // Returns null for identifiers that were never added, including negative ones and Dart created
+  // identifiers past the end of the array.
+  @Nullable
+  private InstanceReference getReference(long identifier) {
+    if (identifier < 0) {
+      return null;
+    } else if (identifier < MIN_HOST_CREATED_IDENTIFIER) {
+      final AtomicReferenceArray<InstanceReference> instances = dartCreatedInstances;
+      return identifier < instances.length() ? instances.get((int) identifier) : null;
+    }
+    return hostCreatedInstances.get(identifier);
+  }
+
+  // Must be called while holding the lock of this manager, like every method changing the
+  // references.
+  private void setReference(long identifier, @NonNull InstanceReference reference) {
+    if (identifier < MIN_HOST_CREATED_IDENTIFIER) {
+      AtomicReferenceArray<InstanceReference> instances = dartCreatedInstances;
+      if (identifier >= instances.length()) {
+        int capacity = instances.length();
+        while (capacity <= identifier) {
+          capacity *= 2;
+        }
+        final AtomicReferenceArray<InstanceReference> grown =
+            new AtomicReferenceArray<>(Math.min(capacity, (int) MIN_HOST_CREATED_IDENTIFIER));
+        for (int i = 0; i < instances.length(); i++) {
+          grown.set(i, instances.get(i));
+        }
+        dartCreatedInstances = instances = grown;
       }
+      instances.set((int) identifier, reference);
+    } else {
+      hostCreatedInstances.put(identifier, reference);
+    }
+  }
+
+  /** Removes {@code reference} from its identifier, unless it has since been replaced. */
+  private boolean removeReference(@NonNull InstanceReference reference) {
+    final long identifier = reference.identifier;
+    if (identifier < MIN_HOST_CREATED_IDENTIFIER) {
+      final AtomicReferenceArray<InstanceReference> instances = dartCreatedInstances;
+      return identifier < instances.length()
+          && instances.compareAndSet((int) identifier, reference, null);
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    return hostCreatedInstances.remove(identifier, reference);
   }
 
   private void addInstance(Object instance, long identifier) {
     if (identifier < 0) {
       throw new IllegalArgumentException("Identifier must be >= 0.");
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
-    identifiers.put(instance, identifier);
-    weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
-    strongInstances.put(identifier, instance);
+    final List<Long> finalizedIdentifiers;
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+      finalizedIdentifiers = releaseFinalizedInstances();
+
+      // Replaced references are cleared, so they are never reported as finalized.
+      final InstanceReference previousReference = getReference(identifier);
+      if (previousReference != null) {
+        identifiers.remove(previousReference);
+        previousReference.clear();
+      }
+      final InstanceReference previousIdentifier = identifiers.remove(new InstanceKey(instance));
+      if (previousIdentifier != null) {
+        removeReference(previousIdentifier);
+        previousIdentifier.clear();
+      }
+
+      final InstanceReference reference =
+          new InstanceReference(instance, identifier, referenceQueue);
+      identifiers.put(reference, reference);
+      setReference(identifier, reference);
+    }
+    notifyFinalized(finalizedIdentifiers);
+  }
+
+  /** Releases the deallocated instances, and returns their identifiers. */
+  private List<Long> releaseFinalizedInstances() {
+    final List<Long> finalizedIdentifiers = new ArrayList<>();
+    Reference<?> reference;
+    while ((reference = referenceQueue.poll()) != null) {
+      releaseFinalizedInstance((InstanceReference) reference, finalizedIdentifiers);
+    }
+    return finalizedIdentifiers;
+  }
+
+  private void releaseFinalizedInstance(
+      InstanceReference reference, List<Long> finalizedIdentifiers) {
+    identifiers.remove(reference);
+    if (removeReference(reference)) {
+      finalizedIdentifiers.add(reference.identifier);
+    }
+  }
+
+  private void releaseFinalizedInstancesUntilClosed() {
+    try {
+      while (!isClosed) {
+        final InstanceReference reference = (InstanceReference) referenceQueue.remove();
+        final List<Long> finalizedIdentifiers = new ArrayList<>();
+        synchronized (this) {
+          if (isClosed) {
+            return;
+          }
+          releaseFinalizedInstance(reference, finalizedIdentifiers);
+          finalizedIdentifiers.addAll(releaseFinalizedInstances());
+        }
+        notifyFinalized(finalizedIdentifiers);
+      }
+    } catch (InterruptedException exception) {
+      // The manager was closed.
+    }
+  }
+
+  private void notifyFinalized(List<Long> finalizedIdentifiers) {
+    if (finalizedIdentifiers.isEmpty()) {
+      return;
+    }
+    final Runnable notify =
+        () -> {
+          if (isClosed) {
+            return;
+          }
+          for (long identifier : finalizedIdentifiers) {
+            finalizationListener.onFinalize(identifier);
+          }
+        };
+    if (handler.getLooper() == Looper.myLooper()) {
+      notify.run();
+    } else {
+      handler.post(notify);
+    }
   }
 }
@@ -5,6 +5,7 @@
 package io.flutter.plugins.webviewflutter;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * A pigeon Host API implementation that handles creating {@link Object}s and invoking its static
@@ -15,6 +16,7 @@ import androidx.annotation.NonNull;
  */
 public class JavaObjectHostApiImpl implements GeneratedAndroidWebView.JavaObjectHostApi {
   private final InstanceManager instanceManager;
+  @Nullable private final WebViewPool webViewPool;
 
   /**
    * Constructs a {@link JavaObjectHostApiImpl}.
@@ -22,14 +24,33 @@ public class JavaObjectHostApiImpl implements GeneratedAndroidWebView.JavaObject
    * @param instanceManager maintains instances stored to communicate with Dart objects
    */
   public JavaObjectHostApiImpl(InstanceManager instanceManager) {
+    this(instanceManager, null);
+  }
+
+  /**
+   * Constructs a {@link JavaObjectHostApiImpl}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewPool recycles the disposed {@link WebViewHostApiImpl.WebViewPlatformView}s
+   */
+  public JavaObjectHostApiImpl(
+      InstanceManager instanceManager, @Nullable WebViewPool webViewPool) {
     this.instanceManager = instanceManager;
+    this.webViewPool = webViewPool;
   }
 
   @Override
   public void dispose(@NonNull Long identifier) {
     final Object instance = instanceManager.getInstance(identifier);
     if (instance instanceof WebViewHostApiImpl.WebViewPlatformView) {
-      ((WebViewHostApiImpl.WebViewPlatformView) instance).destroy();
+      final WebViewHostApiImpl.WebViewPlatformView webView =
+          (WebViewHostApiImpl.WebViewPlatformView) instance;
+      if (webViewPool == null || !webViewPool.recycle(webView)) {
+        webView.destroy();
+      }
+    } else if (instance instanceof FileDownload) {
+      // Nothing could receive the progress of the download anymore.
+      ((FileDownload) instance).cancel();
     }
     instanceManager.remove(identifier);
   }
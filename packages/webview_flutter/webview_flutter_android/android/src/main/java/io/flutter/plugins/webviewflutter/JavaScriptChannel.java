@@ -8,6 +8,15 @@ import android.os.Handler;
 import android.os.Looper;
 import android.webkit.JavascriptInterface;
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
@@ -15,12 +24,36 @@ import androidx.annotation.NonNull;
  *
  * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
  * code.
+ *
+ * <p>When batching is enabled, messages are queued instead, and sent to Dart together once per
+ * frame, or as soon as {@code maxBatchSize} messages are queued. Messages are always delivered in
+ * the order JavaScript posted them.
  */
 public class JavaScriptChannel {
+  /** How long queued messages wait for more messages, about one frame. */
+  @VisibleForTesting static final long BATCH_INTERVAL_MILLIS = 16;
+
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   private final JavaScriptChannelFlutterApiImpl flutterApi;
 
+  // Held while checking whether to queue a message, and while disabling batching and sending the
+  // queued messages, so that no message is queued after them.
+  private final Object batchingLock = new Object();
+  // Written on the platform thread, read on the JavaScript thread, both with batchingLock held.
+  private boolean batchingEnabled = false;
+  private int maxBatchSize = 1;
+
+  private final ConcurrentLinkedQueue<String> queuedMessages = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  // Whether a flush was posted for a full batch, so that it is posted once until it runs.
+  private final AtomicBoolean fullBatchFlushPosted = new AtomicBoolean();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+  private final AtomicLong messageCount = new AtomicLong();
+  private final AtomicLong batchCount = new AtomicLong();
+  private final Runnable flushRunnable = this::flushQueuedMessages;
+
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
    *
@@ -41,6 +74,14 @@ public class JavaScriptChannel {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(final String message) {
+    messageCount.incrementAndGet();
+    synchronized (batchingLock) {
+      if (batchingEnabled) {
+        queueMessage(message);
+        return;
+      }
+    }
+
     final Runnable postMessageRunnable =
         () -> {
           flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
@@ -52,4 +93,79 @@ public class JavaScriptChannel {
       platformThreadHandler.post(postMessageRunnable);
     }
   }
+
+  /**
+   * Enables or disables batching of the messages sent to Dart.
+   *
+   * <p>Must be called on the platform thread. Messages queued when batching is disabled are sent
+   * right away, before any message JavaScript posts afterwards.
+   *
+   * @param enabled whether messages are sent to Dart in batches
+   * @param maxBatchSize the number of queued messages that are sent without waiting for the next
+   *     frame
+   */
+  public void setBatching(boolean enabled, int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be at least 1, got " + maxBatchSize);
+    }
+    synchronized (batchingLock) {
+      this.maxBatchSize = maxBatchSize;
+      batchingEnabled = enabled;
+      if (!enabled) {
+        // Sent before releasing the lock, so they reach Dart before any message sent directly.
+        flushQueuedMessages();
+      }
+    }
+  }
+
+  /** Returns the message queue metrics of this channel. */
+  @NonNull
+  public Map<String, Long> getQueueStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("queueDepth", (long) queueDepth.get());
+    stats.put("maxQueueDepth", (long) maxQueueDepth.get());
+    stats.put("messages", messageCount.get());
+    stats.put("batches", batchCount.get());
+    return stats;
+  }
+
+  private void queueMessage(String message) {
+    queuedMessages.add(message);
+    final int depth = queueDepth.incrementAndGet();
+    int max;
+    while (depth > (max = maxQueueDepth.get())) {
+      if (maxQueueDepth.compareAndSet(max, depth)) {
+        break;
+      }
+    }
+
+    if (flushScheduled.compareAndSet(false, true)) {
+      platformThreadHandler.postDelayed(flushRunnable, BATCH_INTERVAL_MILLIS);
+    }
+    if (depth >= maxBatchSize && fullBatchFlushPosted.compareAndSet(false, true)) {
+      // A full batch doesn't wait for the next frame.
+      platformThreadHandler.post(flushRunnable);
+    }
+  }
+
+  /** Sends every queued message to Dart as one batch. Called on the platform thread. */
+  @VisibleForTesting
+  void flushQueuedMessages() {
+    // Cleared before draining, so a message queued while draining schedules its own flush.
+    platformThreadHandler.removeCallbacks(flushRunnable);
+    flushScheduled.set(false);
+    fullBatchFlushPosted.set(false);
+
+    final List<String> messages = new ArrayList<>(Math.max(queueDepth.get(), 1));
+    String message;
+    while ((message = queuedMessages.poll()) != null) {
+      messages.add(message);
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+    queueDepth.addAndGet(-messages.size());
+    batchCount.incrementAndGet();
+    flutterApi.postMessages(this, messages, reply -> {});
+  }
 }
@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.List;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
@@ -33,6 +34,12 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(getIdentifierForJavaScriptChannel(javaScriptChannel), messageArg, callback);
   }
 
+  /** Passes a batch of messages queued by a {@link JavaScriptChannel} to Dart, in order. */
+  public void postMessages(
+      JavaScriptChannel javaScriptChannel, List<String> messagesArg, Reply<Void> callback) {
+    super.postMessages(getIdentifierForJavaScriptChannel(javaScriptChannel), messagesArg, callback);
+  }
+
   private long getIdentifierForJavaScriptChannel(JavaScriptChannel javaScriptChannel) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(javaScriptChannel);
     if (identifier == null) {
@@ -5,7 +5,10 @@
 package io.flutter.plugins.webviewflutter;
 
 import android.os.Handler;
+import androidx.annotation.NonNull;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Host api implementation for {@link JavaScriptChannel}.
@@ -72,4 +75,20 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void setBatching(
+      @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long maxBatchSize) {
+    getJavaScriptChannel(instanceId).setBatching(enabled, maxBatchSize.intValue());
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getQueueStats(@NonNull Long instanceId) {
+    return getJavaScriptChannel(instanceId).getQueueStats();
+  }
+
+  private JavaScriptChannel getJavaScriptChannel(Long instanceId) {
+    return Objects.requireNonNull(instanceManager.getInstance(instanceId));
+  }
 }
@@ -0,0 +1,201 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link BinaryMessenger} that records the traffic of every channel set up with it, once tracing
+ * is enabled.
+ *
+ * <p>For each channel, it counts the messages and their payload sizes in both directions, and
+ * measures the time until the reply: the execution time of the handler for the messages of host
+ * APIs, and the round trip to Dart for the messages of Flutter APIs.
+ *
+ * <p>The counters are updated without locks, from any thread. Tracing is disabled by default, and
+ * only costs a volatile read per message while disabled.
+ */
+public class TracingBinaryMessenger implements BinaryMessenger {
+  private final BinaryMessenger binaryMessenger;
+  private final ConcurrentHashMap<String, ChannelStats> channelStats = new ConcurrentHashMap<>();
+
+  private volatile boolean enabled = false;
+
+  /** The traffic of a single channel. */
+  static final class ChannelStats {
+    // Whether Dart sends the messages of the channel, as opposed to the platform.
+    final boolean isHostApi;
+    final AtomicLong calls = new AtomicLong();
+    final AtomicLong bytesFromDart = new AtomicLong();
+    final AtomicLong bytesToDart = new AtomicLong();
+    final AtomicLong totalTimeNanos = new AtomicLong();
+    final AtomicLong maxTimeNanos = new AtomicLong();
+
+    ChannelStats(boolean isHostApi) {
+      this.isHostApi = isHostApi;
+    }
+
+    void recordReply(long startNanos) {
+      final long elapsedNanos = System.nanoTime() - startNanos;
+      totalTimeNanos.addAndGet(elapsedNanos);
+      long maxNanos;
+      while (elapsedNanos > (maxNanos = maxTimeNanos.get())) {
+        if (maxTimeNanos.compareAndSet(maxNanos, elapsedNanos)) {
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates a {@link TracingBinaryMessenger} that passes every call to {@code binaryMessenger}.
+   *
+   * @param binaryMessenger the messenger sending and receiving the messages
+   */
+  public TracingBinaryMessenger(@NonNull BinaryMessenger binaryMessenger) {
+    this.binaryMessenger = binaryMessenger;
+  }
+
+  /** Starts or stops recording the traffic. The recorded traffic is kept when stopping. */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /** Forgets the recorded traffic. */
+  public void reset() {
+    channelStats.clear();
+  }
+
+  /**
+   * Returns the recorded traffic of each channel that received or sent a message.
+   *
+   * <p>Each map contains the `channel` name, whether it `isHostApi`, the number of `calls`, the
+   * `bytesFromDart` and `bytesToDart` of the messages and replies, and the `totalTimeMicros` and
+   * `maxTimeMicros` until the replies.
+   */
+  @NonNull
+  public List<Map<String, Object>> getStats() {
+    final List<Map<String, Object>> stats = new ArrayList<>();
+    for (Map.Entry<String, ChannelStats> entry : channelStats.entrySet()) {
+      final ChannelStats channel = entry.getValue();
+      final Map<String, Object> channelMap = new HashMap<>();
+      channelMap.put("channel", entry.getKey());
+      channelMap.put("isHostApi", channel.isHostApi);
+      channelMap.put("calls", channel.calls.get());
+      channelMap.put("bytesFromDart", channel.bytesFromDart.get());
+      channelMap.put("bytesToDart", channel.bytesToDart.get());
+      channelMap.put("totalTimeMicros", toMicros(channel.totalTimeNanos.get()));
+      channelMap.put("maxTimeMicros", toMicros(channel.maxTimeNanos.get()));
+      stats.add(channelMap);
+    }
+    return stats;
+  }
+
+  @Override
+  public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+    send(channel, message, null);
+  }
+
+  @Override
+  public void send(
+      @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+    if (!enabled) {
+      binaryMessenger.send(channel, message, callback);
+      return;
+    }
+    final ChannelStats stats = getChannelStats(channel, false);
+    stats.calls.incrementAndGet();
+    stats.bytesToDart.addAndGet(outgoingSize(message));
+    if (callback == null) {
+      // Dart doesn't reply to messages without a callback.
+      binaryMessenger.send(channel, message, null);
+      return;
+    }
+    final long startNanos = System.nanoTime();
+    binaryMessenger.send(
+        channel,
+        message,
+        reply -> {
+          stats.recordReply(startNanos);
+          stats.bytesFromDart.addAndGet(incomingSize(reply));
+          callback.reply(reply);
+        });
+  }
+
+  @Override
+  public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+    binaryMessenger.setMessageHandler(channel, handler == null ? null : trace(channel, handler));
+  }
+
+  @Override
+  public void setMessageHandler(
+      @NonNull String channel,
+      @Nullable BinaryMessageHandler handler,
+      @Nullable TaskQueue taskQueue) {
+    binaryMessenger.setMessageHandler(
+        channel, handler == null ? null : trace(channel, handler), taskQueue);
+  }
+
+  @NonNull
+  @Override
+  public TaskQueue makeBackgroundTaskQueue() {
+    return binaryMessenger.makeBackgroundTaskQueue();
+  }
+
+  private BinaryMessageHandler trace(String channel, BinaryMessageHandler handler) {
+    return (message, reply) -> {
+      if (!enabled) {
+        handler.onMessage(message, reply);
+        return;
+      }
+      final ChannelStats stats = getChannelStats(channel, true);
+      stats.calls.incrementAndGet();
+      stats.bytesFromDart.addAndGet(incomingSize(message));
+      final long startNanos = System.nanoTime();
+      handler.onMessage(
+          message,
+          replyMessage -> {
+            stats.recordReply(startNanos);
+            stats.bytesToDart.addAndGet(outgoingSize(replyMessage));
+            reply.reply(replyMessage);
+          });
+    };
+  }
+
+  private ChannelStats getChannelStats(String channel, boolean isHostApi) {
+    final ChannelStats stats = channelStats.get(channel);
+    if (stats != null) {
+      return stats;
+    }
+    // ConcurrentHashMap.computeIfAbsent requires API 24.
+    final ChannelStats newStats = new ChannelStats(isHostApi);
+    final ChannelStats existingStats = channelStats.putIfAbsent(channel, newStats);
+    return existingStats != null ? existingStats : newStats;
+  }
+
+  // Messages from Dart are read from their position to their limit.
+  private static long incomingSize(@Nullable ByteBuffer message) {
+    return message == null ? 0 : message.remaining();
+  }
+
+  // Messages encoded by a codec are sent up to their position, without being flipped.
+  private static long outgoingSize(@Nullable ByteBuffer message) {
+    return message == null ? 0 : message.position();
+  }
+
+  private static long toMicros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
@@ -35,6 +35,10 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
   public static class WebChromeClientImpl extends SecureWebChromeClient {
     private final WebChromeClientFlutterApiImpl flutterApi;
     private boolean returnValueForOnShowFileChooser = false;
+    private boolean progressChangedEnabled = true;
+    private int minProgressDelta = 0;
+    // The last progress sent to Dart, or -1 if none was sent since the events were enabled.
+    private int lastSentProgress = -1;
 
     /**
      * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
@@ -47,9 +51,21 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(WebView view, int progress) {
+      if (!progressChangedEnabled || !shouldSendProgress(progress)) {
+        return;
+      }
+      lastSentProgress = progress;
       flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
     }
 
+    private boolean shouldSendProgress(int progress) {
+      // A lower progress starts a new page load, and a completed load is always sent.
+      return lastSentProgress < 0
+          || progress < lastSentProgress
+          || progress - lastSentProgress >= minProgressDelta
+          || (progress == 100 && lastSentProgress != 100);
+    }
+
     @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
     @Override
     public boolean onShowFileChooser(
@@ -79,6 +95,22 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
     public void setReturnValueForOnShowFileChooser(boolean value) {
       returnValueForOnShowFileChooser = value;
     }
+
+    /**
+     * Sets which calls to {@link #onProgressChanged} are sent to Dart.
+     *
+     * @param enabled whether progress changes are sent to Dart
+     * @param minProgressDelta the change from the last sent progress required to send a progress
+     */
+    public void setProgressChangedEvents(boolean enabled, int minProgressDelta) {
+      if (minProgressDelta < 0) {
+        throw new IllegalArgumentException(
+            "minProgressDelta must not be negative, got " + minProgressDelta);
+      }
+      progressChangedEnabled = enabled;
+      this.minProgressDelta = minProgressDelta;
+      lastSentProgress = -1;
+    }
   }
 
   /**
@@ -205,4 +237,12 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
         Objects.requireNonNull(instanceManager.getInstance(instanceId));
     webChromeClient.setReturnValueForOnShowFileChooser(value);
   }
+
+  @Override
+  public void setProgressChangedEvents(
+      @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long minProgressDelta) {
+    final WebChromeClientImpl webChromeClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webChromeClient.setProgressChangedEvents(enabled, minProgressDelta.intValue());
+  }
 }
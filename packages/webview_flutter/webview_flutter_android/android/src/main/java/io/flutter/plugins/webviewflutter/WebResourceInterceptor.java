@@ -0,0 +1,517 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves requests of a {@link WebViewClient} from the Flutter assets, or from an {@link
+ * HttpDiskCache}, without going through the WebView's network stack.
+ *
+ * <p>Requests are intercepted in {@code WebViewClient.shouldInterceptRequest}, which is called on a
+ * background thread.
+ *
+ * <p>Only {@code GET} requests whose URL starts with one of the registered prefixes are served.
+ * Cached responses are served as long as they are fresh according to their {@code Cache-Control:
+ * max-age} or {@code Expires} header, and revalidated with their {@code ETag} or {@code
+ * Last-Modified} header afterwards. When the network is unavailable, stale responses are served.
+ * Responses are stored while the WebView reads them, unless they are larger than the cache.
+ *
+ * <p>Cached responses are keyed by their URL only, so responses with a {@code Vary} header, which
+ * depend on the request headers too, are not stored.
+ */
+public class WebResourceInterceptor {
+  private static final Map<String, String> MIME_TYPES = new HashMap<>();
+
+  static {
+    MIME_TYPES.put("css", "text/css");
+    MIME_TYPES.put("gif", "image/gif");
+    MIME_TYPES.put("htm", "text/html");
+    MIME_TYPES.put("html", "text/html");
+    MIME_TYPES.put("ico", "image/x-icon");
+    MIME_TYPES.put("jpeg", "image/jpeg");
+    MIME_TYPES.put("jpg", "image/jpeg");
+    MIME_TYPES.put("js", "text/javascript");
+    MIME_TYPES.put("json", "application/json");
+    MIME_TYPES.put("mjs", "text/javascript");
+    MIME_TYPES.put("png", "image/png");
+    MIME_TYPES.put("svg", "image/svg+xml");
+    MIME_TYPES.put("ttf", "font/ttf");
+    MIME_TYPES.put("txt", "text/plain");
+    MIME_TYPES.put("wasm", "application/wasm");
+    MIME_TYPES.put("webp", "image/webp");
+    MIME_TYPES.put("woff", "font/woff");
+    MIME_TYPES.put("woff2", "font/woff2");
+  }
+
+  // Headers that don't describe the body handed to the WebView, which is complete and decoded.
+  private static final String[] UNFORWARDED_HEADERS = {
+    "connection", "content-encoding", "content-length", "set-cookie", "transfer-encoding"
+  };
+
+  private final FlutterAssetManager flutterAssetManager;
+  @Nullable private final HttpDiskCache diskCache;
+  private final NetworkProxy networkProxy;
+
+  private final List<AssetPrefix> assetPrefixes = new CopyOnWriteArrayList<>();
+  private final List<String> cachedPrefixes = new CopyOnWriteArrayList<>();
+
+  private final AtomicLong assetHits = new AtomicLong();
+  private final AtomicLong assetMisses = new AtomicLong();
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong cacheMisses = new AtomicLong();
+  private final AtomicLong cacheRevalidations = new AtomicLong();
+  private final AtomicLong cacheStaleHits = new AtomicLong();
+
+  private static final class AssetPrefix {
+    final String urlPrefix;
+    final String assetDirectory;
+
+    AssetPrefix(String urlPrefix, String assetDirectory) {
+      this.urlPrefix = urlPrefix;
+      this.assetDirectory = assetDirectory;
+    }
+  }
+
+  /** A response served by a {@link WebResourceInterceptor}. */
+  static final class Resource {
+    final String mimeType;
+    @Nullable final String encoding;
+    final int statusCode;
+    final String reasonPhrase;
+    final Map<String, String> headers;
+    final InputStream data;
+
+    Resource(
+        String mimeType,
+        @Nullable String encoding,
+        int statusCode,
+        String reasonPhrase,
+        Map<String, String> headers,
+        InputStream data) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+      this.data = data;
+    }
+  }
+
+  /** Handles the network and cookie calls of a {@link WebResourceInterceptor}. */
+  public static class NetworkProxy {
+    /** Opens a connection to an http or https {@code url}. */
+    @NonNull
+    public HttpURLConnection openConnection(@NonNull String url) throws IOException {
+      return (HttpURLConnection) new URL(url).openConnection();
+    }
+
+    /** Returns the cookies the WebView would send to {@code url}. */
+    @Nullable
+    public String getCookie(@NonNull String url) {
+      return CookieManager.getInstance().getCookie(url);
+    }
+
+    /** Stores a cookie set by a response to {@code url}, for the WebView to use. */
+    public void setCookie(@NonNull String url, @NonNull String value) {
+      CookieManager.getInstance().setCookie(url, value);
+    }
+  }
+
+  /**
+   * Creates a {@link WebResourceInterceptor}.
+   *
+   * @param flutterAssetManager resolves and opens Flutter assets
+   * @param diskCache stores the responses of the cached prefixes, or null to not cache responses
+   * @param networkProxy handles the network and cookie calls
+   */
+  public WebResourceInterceptor(
+      @NonNull FlutterAssetManager flutterAssetManager,
+      @Nullable HttpDiskCache diskCache,
+      @NonNull NetworkProxy networkProxy) {
+    this.flutterAssetManager = flutterAssetManager;
+    this.diskCache = diskCache;
+    this.networkProxy = networkProxy;
+  }
+
+  /**
+   * Serves URLs starting with {@code urlPrefix} from the Flutter assets in {@code assetDirectory}.
+   *
+   * <p>For example, with the prefix {@code https://example.com/static/} and the directory {@code
+   * assets/web}, {@code https://example.com/static/app.js} is served from the asset {@code
+   * assets/web/app.js}. Requests for missing assets go to the network.
+   */
+  public void addAssetPrefix(@NonNull String urlPrefix, @NonNull String assetDirectory) {
+    assetPrefixes.add(new AssetPrefix(urlPrefix, assetDirectory));
+  }
+
+  /** Caches the responses of http and https URLs starting with {@code urlPrefix} on disk. */
+  public void addCachedPrefix(@NonNull String urlPrefix) {
+    final String scheme = urlPrefix.toLowerCase(Locale.US);
+    if (!scheme.startsWith("http://") && !scheme.startsWith("https://")) {
+      throw new IllegalArgumentException("Only http and https URLs can be cached: " + urlPrefix);
+    }
+    cachedPrefixes.add(urlPrefix);
+  }
+
+  /**
+   * Returns the response to {@code request}, or null to let the WebView load it.
+   *
+   * <p>This may block on disk and network IO, and must not be called on the main thread.
+   */
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  @Nullable
+  public WebResourceResponse intercept(@NonNull WebResourceRequest request) {
+    final Resource resource =
+        load(request.getMethod(), request.getUrl().toString(), request.getRequestHeaders());
+    if (resource == null) {
+      return null;
+    }
+    return new WebResourceResponse(
+        resource.mimeType,
+        resource.encoding,
+        resource.statusCode,
+        resource.reasonPhrase,
+        resource.headers,
+        resource.data);
+  }
+
+  /** Returns the counts of requests served by this interceptor, by source. */
+  @NonNull
+  public Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("assetHits", assetHits.get());
+    stats.put("assetMisses", assetMisses.get());
+    stats.put("cacheHits", cacheHits.get());
+    stats.put("cacheMisses", cacheMisses.get());
+    stats.put("cacheRevalidations", cacheRevalidations.get());
+    stats.put("cacheStaleHits", cacheStaleHits.get());
+    return stats;
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Resource load(
+      @NonNull String method, @NonNull String url, @Nullable Map<String, String> headers) {
+    if (!"GET".equalsIgnoreCase(method)) {
+      return null;
+    }
+    for (AssetPrefix prefix : assetPrefixes) {
+      if (url.startsWith(prefix.urlPrefix)) {
+        final Resource resource = loadAsset(prefix, url);
+        if (resource != null) {
+          assetHits.incrementAndGet();
+          return resource;
+        }
+        assetMisses.incrementAndGet();
+      }
+    }
+    if (diskCache != null) {
+      for (String prefix : cachedPrefixes) {
+        if (url.startsWith(prefix)) {
+          return loadCached(diskCache, url, headers);
+        }
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private Resource loadAsset(AssetPrefix prefix, String url) {
+    final String path = stripQueryAndFragment(url.substring(prefix.urlPrefix.length()));
+    if (path.isEmpty() || path.contains("..")) {
+      return null;
+    }
+    final String name =
+        prefix.assetDirectory.isEmpty() ? path : trimSlashes(prefix.assetDirectory) + "/" + path;
+    try {
+      final InputStream data =
+          flutterAssetManager.assetManager.open(flutterAssetManager.getAssetFilePathByName(name));
+      return new Resource(mimeTypeFor(path), null, 200, "OK", new HashMap<>(), data);
+    } catch (IOException exception) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private Resource loadCached(
+      HttpDiskCache diskCache, String url, @Nullable Map<String, String> headers) {
+    final HttpDiskCache.Entry entry = diskCache.get(url);
+    final long nowMillis = System.currentTimeMillis();
+    if (entry != null && entry.isFresh(nowMillis)) {
+      final Resource resource = fromEntry(entry);
+      if (resource != null) {
+        cacheHits.incrementAndGet();
+        return resource;
+      }
+    }
+
+    HttpURLConnection connection = null;
+    try {
+      connection = networkProxy.openConnection(url);
+      connection.setInstanceFollowRedirects(false);
+      if (headers != null) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      final String cookie = networkProxy.getCookie(url);
+      if (cookie != null && !cookie.isEmpty()) {
+        connection.setRequestProperty("Cookie", cookie);
+      }
+      if (entry != null) {
+        if (entry.etag != null) {
+          connection.setRequestProperty("If-None-Match", entry.etag);
+        }
+        if (entry.lastModified != null) {
+          connection.setRequestProperty("If-Modified-Since", entry.lastModified);
+        }
+      }
+
+      final int statusCode = connection.getResponseCode();
+      storeCookies(url, connection);
+      final String cacheControl = headerValue(connection, "Cache-Control");
+      final long expiresAtMillis = expiresAt(connection, cacheControl, nowMillis);
+
+      if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && entry != null) {
+        connection.disconnect();
+        final Resource resource = fromEntry(diskCache.refresh(entry, expiresAtMillis));
+        if (resource != null) {
+          cacheRevalidations.incrementAndGet();
+          return resource;
+        }
+        return null;
+      }
+
+      cacheMisses.incrementAndGet();
+      if (statusCode < 200 || (statusCode >= 300 && statusCode < 400) || statusCode > 599) {
+        // WebResourceResponse doesn't support redirects, so they aren't followed here and are left
+        // to the WebView, uncached.
+        connection.disconnect();
+        return null;
+      }
+
+      final String[] contentType = parseContentType(connection.getContentType(), url);
+      final Map<String, String> responseHeaders = forwardedHeaders(connection);
+      if (statusCode != HttpURLConnection.HTTP_OK
+          || (cacheControl != null && cacheControl.contains("no-store"))
+          || headerValue(connection, "Vary") != null
+          || contentLength(connection) > diskCache.getMaxSize()) {
+        return new Resource(
+            contentType[0],
+            contentType[1],
+            statusCode,
+            reasonPhrase(connection),
+            responseHeaders,
+            statusCode >= 400 ? errorStream(connection) : connection.getInputStream());
+      }
+
+      return new Resource(
+          contentType[0],
+          contentType[1],
+          statusCode,
+          reasonPhrase(connection),
+          responseHeaders,
+          diskCache.cacheWhileReading(
+              url,
+              connection.getInputStream(),
+              contentType[0],
+              contentType[1],
+              headerValue(connection, "ETag"),
+              headerValue(connection, "Last-Modified"),
+              expiresAtMillis,
+              responseHeaders));
+    } catch (IOException exception) {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      if (entry != null) {
+        final Resource resource = fromEntry(entry);
+        if (resource != null) {
+          cacheStaleHits.incrementAndGet();
+          return resource;
+        }
+      }
+      return null;
+    }
+  }
+
+  private void storeCookies(String url, HttpURLConnection connection) {
+    final Map<String, List<String>> headerFields = connection.getHeaderFields();
+    if (headerFields == null) {
+      return;
+    }
+    for (Map.Entry<String, List<String>> header : headerFields.entrySet()) {
+      if ("Set-Cookie".equalsIgnoreCase(header.getKey())) {
+        for (String value : header.getValue()) {
+          networkProxy.setCookie(url, value);
+        }
+      }
+    }
+  }
+
+  @Nullable
+  private static Resource fromEntry(HttpDiskCache.Entry entry) {
+    try {
+      return new Resource(
+          entry.mimeType,
+          entry.encoding,
+          200,
+          "OK",
+          new HashMap<>(entry.headers),
+          new FileInputStream(entry.body));
+    } catch (IOException exception) {
+      // The response was evicted after it was looked up.
+      return null;
+    }
+  }
+
+  private static long expiresAt(
+      HttpURLConnection connection, @Nullable String cacheControl, long nowMillis) {
+    if (cacheControl != null) {
+      for (String directive : cacheControl.split(",")) {
+        final String trimmed = directive.trim().toLowerCase(Locale.US);
+        if (trimmed.equals("no-cache")) {
+          return nowMillis;
+        }
+        if (trimmed.startsWith("max-age=")) {
+          try {
+            return nowMillis + Long.parseLong(trimmed.substring("max-age=".length())) * 1000;
+          } catch (NumberFormatException exception) {
+            return nowMillis;
+          }
+        }
+      }
+    }
+    // Without freshness information, the response is revalidated every time.
+    final long expiration = connection.getExpiration();
+    return expiration > 0 ? expiration : nowMillis;
+  }
+
+  private static Map<String, String> forwardedHeaders(HttpURLConnection connection) {
+    final Map<String, String> headers = new HashMap<>();
+    final Map<String, List<String>> headerFields = connection.getHeaderFields();
+    if (headerFields == null) {
+      return headers;
+    }
+    for (Map.Entry<String, List<String>> header : headerFields.entrySet()) {
+      // The status line is stored with a null name.
+      if (header.getKey() == null
+          || header.getValue().isEmpty()
+          || !isForwarded(header.getKey())) {
+        continue;
+      }
+      headers.put(header.getKey(), header.getValue().get(header.getValue().size() - 1));
+    }
+    return headers;
+  }
+
+  private static boolean isForwarded(String name) {
+    for (String unforwarded : UNFORWARDED_HEADERS) {
+      if (unforwarded.equalsIgnoreCase(name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static String headerValue(HttpURLConnection connection, String name) {
+    final String value = connection.getHeaderField(name);
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  /** Returns the {@code Content-Length} of the response, or -1 if it is unknown. */
+  private static long contentLength(HttpURLConnection connection) {
+    final String value = headerValue(connection, "Content-Length");
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  private static String reasonPhrase(HttpURLConnection connection) throws IOException {
+    final String message = connection.getResponseMessage();
+    // WebResourceResponse requires a non-empty reason phrase.
+    return message == null || message.trim().isEmpty() ? "Unknown" : message;
+  }
+
+  private static InputStream errorStream(HttpURLConnection connection) {
+    final InputStream stream = connection.getErrorStream();
+    return stream != null ? stream : new ByteArrayInputStream(new byte[0]);
+  }
+
+  /** Returns the mime type and charset of a {@code Content-Type} header. */
+  private static String[] parseContentType(@Nullable String contentType, String url) {
+    if (contentType == null || contentType.isEmpty()) {
+      return new String[] {mimeTypeFor(stripQueryAndFragment(url)), null};
+    }
+    final String[] parts = contentType.split(";");
+    String charset = null;
+    for (int i = 1; i < parts.length; i++) {
+      final String parameter = parts[i].trim();
+      if (parameter.toLowerCase(Locale.US).startsWith("charset=")) {
+        charset = parameter.substring("charset=".length()).replace("\"", "");
+      }
+    }
+    return new String[] {parts[0].trim(), charset};
+  }
+
+  private static String mimeTypeFor(String path) {
+    final int dot = path.lastIndexOf('.');
+    final String mimeType =
+        dot < 0 ? null : MIME_TYPES.get(path.substring(dot + 1).toLowerCase(Locale.US));
+    return mimeType != null ? mimeType : "application/octet-stream";
+  }
+
+  private static String stripQueryAndFragment(String url) {
+    int end = url.length();
+    final int query = url.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = url.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return url.substring(0, end);
+  }
+
+  private static String trimSlashes(String path) {
+    int start = 0;
+    int end = path.length();
+    while (start < end && path.charAt(start) == '/') {
+      start++;
+    }
+    while (end > start && path.charAt(end - 1) == '/') {
+      end--;
+    }
+    return path.substring(start, end);
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.os.Handler;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Host api implementation for {@link WebResourceInterceptor}.
+ *
+ * <p>Handles creating {@link WebResourceInterceptor}s that intercommunicate with a paired Dart
+ * object. Every interceptor shares the same {@link HttpDiskCache}, whose files are only read and
+ * written off the platform thread.
+ */
+public class WebResourceInterceptorHostApiImpl implements WebResourceInterceptorHostApi {
+  /** The maximum size of the cached responses, until Dart sets it. */
+  static final long DEFAULT_CACHE_MAX_SIZE_BYTES = 50L * 1024 * 1024;
+
+  private final InstanceManager instanceManager;
+  private final WebResourceInterceptorCreator webResourceInterceptorCreator;
+  private final FlutterAssetManager flutterAssetManager;
+  private final HttpDiskCache diskCache;
+  private final Executor ioExecutor;
+  private final Handler platformThreadHandler;
+
+  /**
+   * Handles creating {@link WebResourceInterceptor}s for a {@link
+   * WebResourceInterceptorHostApiImpl}.
+   */
+  public static class WebResourceInterceptorCreator {
+    /**
+     * Creates a {@link WebResourceInterceptor}.
+     *
+     * @param flutterAssetManager resolves and opens Flutter assets
+     * @param diskCache stores the responses of the cached prefixes
+     * @return the created {@link WebResourceInterceptor}
+     */
+    public WebResourceInterceptor createWebResourceInterceptor(
+        FlutterAssetManager flutterAssetManager, HttpDiskCache diskCache) {
+      return new WebResourceInterceptor(
+          flutterAssetManager, diskCache, new WebResourceInterceptor.NetworkProxy());
+    }
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebResourceInterceptor}s.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webResourceInterceptorCreator handles creating {@link WebResourceInterceptor}s
+   * @param flutterAssetManager resolves and opens Flutter assets
+   * @param cacheDirectory where the responses of the cached prefixes are stored
+   * @param ioExecutor runs the operations on the whole cache, such as clearing it
+   * @param platformThreadHandler handles replying to Dart on the platform thread
+   */
+  public WebResourceInterceptorHostApiImpl(
+      InstanceManager instanceManager,
+      WebResourceInterceptorCreator webResourceInterceptorCreator,
+      FlutterAssetManager flutterAssetManager,
+      File cacheDirectory,
+      Executor ioExecutor,
+      Handler platformThreadHandler) {
+    this(
+        instanceManager,
+        webResourceInterceptorCreator,
+        flutterAssetManager,
+        new HttpDiskCache(cacheDirectory, DEFAULT_CACHE_MAX_SIZE_BYTES),
+        ioExecutor,
+        platformThreadHandler);
+  }
+
+  WebResourceInterceptorHostApiImpl(
+      InstanceManager instanceManager,
+      WebResourceInterceptorCreator webResourceInterceptorCreator,
+      FlutterAssetManager flutterAssetManager,
+      HttpDiskCache diskCache,
+      Executor ioExecutor,
+      Handler platformThreadHandler) {
+    this.instanceManager = instanceManager;
+    this.webResourceInterceptorCreator = webResourceInterceptorCreator;
+    this.flutterAssetManager = flutterAssetManager;
+    this.diskCache = diskCache;
+    this.ioExecutor = ioExecutor;
+    this.platformThreadHandler = platformThreadHandler;
+  }
+
+  @Override
+  public void create(@NonNull Long instanceId) {
+    instanceManager.addDartCreatedInstance(
+        webResourceInterceptorCreator.createWebResourceInterceptor(flutterAssetManager, diskCache),
+        instanceId);
+  }
+
+  @Override
+  public void addAssetPrefix(
+      @NonNull Long instanceId, @NonNull String urlPrefix, @NonNull String assetDirectory) {
+    getInterceptor(instanceId).addAssetPrefix(urlPrefix, assetDirectory);
+  }
+
+  @Override
+  public void addCachedPrefix(@NonNull Long instanceId, @NonNull String urlPrefix) {
+    getInterceptor(instanceId).addCachedPrefix(urlPrefix);
+  }
+
+  @Override
+  public void attachToWebViewClient(
+      @NonNull Long instanceId, @NonNull Long webViewClientInstanceId) {
+    final WebResourceInterceptor interceptor = getInterceptor(instanceId);
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(webViewClientInstanceId));
+    if (webViewClient instanceof WebViewClientHostApiImpl.WebViewClientCompatImpl) {
+      ((WebViewClientHostApiImpl.WebViewClientCompatImpl) webViewClient)
+          .setWebResourceInterceptor(interceptor);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientHostApiImpl.WebViewClientImpl) {
+      ((WebViewClientHostApiImpl.WebViewClientImpl) webViewClient)
+          .setWebResourceInterceptor(interceptor);
+    } else {
+      throw new IllegalStateException(
+          "This WebViewClient doesn't support setting a WebResourceInterceptor.");
+    }
+  }
+
+  @Override
+  public void setCacheMaxSize(@NonNull Long maxSizeBytes, @NonNull Result<Void> result) {
+    runOnIoExecutor(
+        () -> {
+          // Shrinking the cache deletes the evicted files.
+          diskCache.setMaxSize(maxSizeBytes);
+          return null;
+        },
+        result);
+  }
+
+  @Override
+  public void clearCache(@NonNull Result<Void> result) {
+    runOnIoExecutor(
+        () -> {
+          diskCache.clear();
+          return null;
+        },
+        result);
+  }
+
+  @Override
+  public void getStats(@NonNull Long instanceId, @NonNull Result<Map<String, Long>> result) {
+    final WebResourceInterceptor interceptor = getInterceptor(instanceId);
+    runOnIoExecutor(
+        () -> {
+          final Map<String, Long> stats = interceptor.getStats();
+          stats.put("cacheSizeBytes", diskCache.getSize());
+          return stats;
+        },
+        result);
+  }
+
+  private <T> void runOnIoExecutor(Callable<T> operation, Result<T> result) {
+    ioExecutor.execute(
+        () -> {
+          try {
+            final T value = operation.call();
+            platformThreadHandler.post(() -> result.success(value));
+          } catch (Exception exception) {
+            platformThreadHandler.post(() -> result.error(exception));
+          }
+        });
+  }
+
+  private WebResourceInterceptor getInterceptor(Long instanceId) {
+    return Objects.requireNonNull(instanceManager.getInstance(instanceId));
+  }
+}
@@ -11,9 +11,11 @@ import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
@@ -34,6 +36,11 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientImpl extends WebViewClient {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private volatile WebResourceInterceptor webResourceInterceptor;
+    private boolean sendsPageStarted = true;
+    private boolean sendsPageFinished = true;
+    private boolean sendsReceivedError = true;
+    private boolean sendsLoadingRequests = true;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -46,38 +53,63 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      flutterApi.onPageStarted(this, view, url, reply -> {});
+      if (sendsPageStarted) {
+        flutterApi.onPageStarted(this, view, url, reply -> {});
+      }
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
-      flutterApi.onPageFinished(this, view, url, reply -> {});
+      if (sendsPageFinished) {
+        flutterApi.onPageFinished(this, view, url, reply -> {});
+      }
     }
 
     @Override
     public void onReceivedError(WebView view, WebResourceRequest request, WebResourceError error) {
-      flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      if (sendsReceivedError) {
+        flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      }
     }
 
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
-      flutterApi.onReceivedError(
-          this, view, (long) errorCode, description, failingUrl, reply -> {});
+      if (sendsReceivedError) {
+        flutterApi.onReceivedError(
+            this, view, (long) errorCode, description, failingUrl, reply -> {});
+      }
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, WebResourceRequest request) {
-      flutterApi.requestLoading(this, view, request, reply -> {});
+      // Dart loads the request itself when the WebView doesn't.
+      if (sendsLoadingRequests || returnValueForShouldOverrideUrlLoading) {
+        flutterApi.requestLoading(this, view, request, reply -> {});
+      }
       return returnValueForShouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      flutterApi.urlLoading(this, view, url, reply -> {});
+      if (sendsLoadingRequests || returnValueForShouldOverrideUrlLoading) {
+        flutterApi.urlLoading(this, view, url, reply -> {});
+      }
       return returnValueForShouldOverrideUrlLoading;
     }
 
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+      final WebResourceInterceptor interceptor = webResourceInterceptor;
+      if (interceptor != null) {
+        final WebResourceResponse response = interceptor.intercept(request);
+        if (response != null) {
+          return response;
+        }
+      }
+      return super.shouldInterceptRequest(view, request);
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -89,6 +121,27 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /**
+     * Sets which callbacks are sent to Dart.
+     *
+     * <p>Loading requests are always sent while {@link #shouldOverrideUrlLoading} returns true.
+     */
+    public void setSubscribedEvents(
+        boolean pageStarted, boolean pageFinished, boolean receivedError, boolean loadingRequest) {
+      sendsPageStarted = pageStarted;
+      sendsPageFinished = pageFinished;
+      sendsReceivedError = receivedError;
+      sendsLoadingRequests = loadingRequest;
+    }
+
+    /**
+     * Sets the interceptor that may serve requests in {@link #shouldInterceptRequest}, instead of
+     * the network.
+     */
+    public void setWebResourceInterceptor(@Nullable WebResourceInterceptor interceptor) {
+      webResourceInterceptor = interceptor;
+    }
   }
 
   /**
@@ -98,6 +151,11 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientCompatImpl extends WebViewClientCompat {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private volatile WebResourceInterceptor webResourceInterceptor;
+    private boolean sendsPageStarted = true;
+    private boolean sendsPageFinished = true;
+    private boolean sendsReceivedError = true;
+    private boolean sendsLoadingRequests = true;
 
     public WebViewClientCompatImpl(@NonNull WebViewClientFlutterApiImpl flutterApi) {
       this.flutterApi = flutterApi;
@@ -105,12 +163,16 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      flutterApi.onPageStarted(this, view, url, reply -> {});
+      if (sendsPageStarted) {
+        flutterApi.onPageStarted(this, view, url, reply -> {});
+      }
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
-      flutterApi.onPageFinished(this, view, url, reply -> {});
+      if (sendsPageFinished) {
+        flutterApi.onPageFinished(this, view, url, reply -> {});
+      }
     }
 
     // This method is only called when the WebViewFeature.RECEIVE_WEB_RESOURCE_ERROR feature is
@@ -122,30 +184,53 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceErrorCompat error) {
-      flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      if (sendsReceivedError) {
+        flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      }
     }
 
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
-      flutterApi.onReceivedError(
-          this, view, (long) errorCode, description, failingUrl, reply -> {});
+      if (sendsReceivedError) {
+        flutterApi.onReceivedError(
+            this, view, (long) errorCode, description, failingUrl, reply -> {});
+      }
     }
 
     @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     @Override
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
-      flutterApi.requestLoading(this, view, request, reply -> {});
+      // Dart loads the request itself when the WebView doesn't.
+      if (sendsLoadingRequests || returnValueForShouldOverrideUrlLoading) {
+        flutterApi.requestLoading(this, view, request, reply -> {});
+      }
       return returnValueForShouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      flutterApi.urlLoading(this, view, url, reply -> {});
+      if (sendsLoadingRequests || returnValueForShouldOverrideUrlLoading) {
+        flutterApi.urlLoading(this, view, url, reply -> {});
+      }
       return returnValueForShouldOverrideUrlLoading;
     }
 
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      final WebResourceInterceptor interceptor = webResourceInterceptor;
+      if (interceptor != null) {
+        final WebResourceResponse response = interceptor.intercept(request);
+        if (response != null) {
+          return response;
+        }
+      }
+      return super.shouldInterceptRequest(view, request);
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -157,6 +242,27 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /**
+     * Sets which callbacks are sent to Dart.
+     *
+     * <p>Loading requests are always sent while {@link #shouldOverrideUrlLoading} returns true.
+     */
+    public void setSubscribedEvents(
+        boolean pageStarted, boolean pageFinished, boolean receivedError, boolean loadingRequest) {
+      sendsPageStarted = pageStarted;
+      sendsPageFinished = pageFinished;
+      sendsReceivedError = receivedError;
+      sendsLoadingRequests = loadingRequest;
+    }
+
+    /**
+     * Sets the interceptor that may serve requests in {@link #shouldInterceptRequest}, instead of
+     * the network.
+     */
+    public void setWebResourceInterceptor(@Nullable WebResourceInterceptor interceptor) {
+      webResourceInterceptor = interceptor;
+    }
   }
 
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
@@ -221,4 +327,26 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
           "This WebViewClient doesn't support setting the returnValueForShouldOverrideUrlLoading.");
     }
   }
+
+  @Override
+  public void setSubscribedEvents(
+      @NonNull Long instanceId,
+      @NonNull Boolean pageStarted,
+      @NonNull Boolean pageFinished,
+      @NonNull Boolean receivedError,
+      @NonNull Boolean loadingRequest) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (webViewClient instanceof WebViewClientCompatImpl) {
+      ((WebViewClientCompatImpl) webViewClient)
+          .setSubscribedEvents(pageStarted, pageFinished, receivedError, loadingRequest);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientImpl) {
+      ((WebViewClientImpl) webViewClient)
+          .setSubscribedEvents(pageStarted, pageFinished, receivedError, loadingRequest);
+    } else {
+      throw new IllegalStateException(
+          "This WebViewClient doesn't support setting the subscribed events.");
+    }
+  }
 }
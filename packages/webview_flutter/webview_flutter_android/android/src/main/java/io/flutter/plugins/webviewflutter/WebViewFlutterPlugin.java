@@ -14,16 +14,24 @@ import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformViewRegistry;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.BinaryJavaScriptChannelHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.ChannelTracingHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FileDownloadHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FlutterAssetManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaObjectHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -38,6 +46,11 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
+  @Nullable private WebViewPool webViewPool;
+  // Reads and writes the files of the WebResourceInterceptor cache.
+  @Nullable private ExecutorService resourceCacheExecutor;
+  @Nullable private ExecutorService fileDownloadExecutor;
+  @Nullable private FileDownloadHostApiImpl fileDownloadHostApi;
 
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
@@ -73,11 +86,17 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
   }
 
   private void setUp(
-      BinaryMessenger binaryMessenger,
+      BinaryMessenger platformBinaryMessenger,
       PlatformViewRegistry viewRegistry,
       Context context,
       View containerView,
       FlutterAssetManager flutterAssetManager) {
+    // Every other API communicates through this messenger, so that its traffic can be traced.
+    final TracingBinaryMessenger binaryMessenger =
+        new TracingBinaryMessenger(platformBinaryMessenger);
+    ChannelTracingHostApi.setup(
+        platformBinaryMessenger, new ChannelTracingHostApiImpl(binaryMessenger));
+
     instanceManager =
         InstanceManager.open(
             identifier ->
@@ -87,13 +106,21 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
+    webViewPool =
+        new WebViewPool(
+            new WebViewHostApiImpl.WebViewProxy(),
+            binaryMessenger,
+            instanceManager,
+            context,
+            new WebViewPool.IdleScheduler());
     webViewHostApi =
         new WebViewHostApiImpl(
             instanceManager,
             binaryMessenger,
             new WebViewHostApiImpl.WebViewProxy(),
             context,
-            containerView);
+            containerView,
+            webViewPool);
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -101,7 +128,8 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             new JavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
             new Handler(context.getMainLooper()));
 
-    JavaObjectHostApi.setup(binaryMessenger, new JavaObjectHostApiImpl(instanceManager));
+    JavaObjectHostApi.setup(
+        binaryMessenger, new JavaObjectHostApiImpl(instanceManager, webViewPool));
     WebViewHostApi.setup(binaryMessenger, webViewHostApi);
     JavaScriptChannelHostApi.setup(binaryMessenger, javaScriptChannelHostApi);
     WebViewClientHostApi.setup(
@@ -132,6 +160,32 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     WebStorageHostApi.setup(
         binaryMessenger,
         new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator()));
+    resourceCacheExecutor = Executors.newSingleThreadExecutor();
+    WebResourceInterceptorHostApi.setup(
+        binaryMessenger,
+        new WebResourceInterceptorHostApiImpl(
+            instanceManager,
+            new WebResourceInterceptorHostApiImpl.WebResourceInterceptorCreator(),
+            flutterAssetManager,
+            new File(context.getCacheDir(), "webview_flutter_resources"),
+            resourceCacheExecutor,
+            new Handler(context.getMainLooper())));
+    BinaryJavaScriptChannelHostApi.setup(
+        binaryMessenger,
+        new BinaryJavaScriptChannelHostApiImpl(
+            instanceManager,
+            new BinaryJavaScriptChannelHostApiImpl.BinaryJavaScriptChannelCreator(),
+            new BinaryJavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager)));
+    WebViewPoolHostApi.setup(binaryMessenger, new WebViewPoolHostApiImpl(webViewPool));
+    fileDownloadExecutor = Executors.newCachedThreadPool();
+    fileDownloadHostApi =
+        new FileDownloadHostApiImpl(
+            instanceManager,
+            new FileDownloadHostApiImpl.FileDownloadCreator(),
+            new FileDownloadFlutterApiImpl(binaryMessenger, instanceManager),
+            fileDownloadExecutor,
+            new Handler(context.getMainLooper()));
+    FileDownloadHostApi.setup(binaryMessenger, fileDownloadHostApi);
   }
 
   @Override
@@ -148,6 +202,23 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (webViewPool != null) {
+      webViewPool.setMaxSize(0);
+      webViewPool = null;
+    }
+    if (resourceCacheExecutor != null) {
+      resourceCacheExecutor.shutdown();
+      resourceCacheExecutor = null;
+    }
+    if (fileDownloadHostApi != null) {
+      fileDownloadHostApi.cancelAll();
+      fileDownloadHostApi = null;
+    }
+    if (fileDownloadExecutor != null) {
+      // Interrupts the downloads that are still writing to their files.
+      fileDownloadExecutor.shutdownNow();
+      fileDownloadExecutor = null;
+    }
     if (instanceManager != null) {
       instanceManager.close();
       instanceManager = null;
@@ -14,11 +14,18 @@ import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.webkit.WebViewCompat;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Host api implementation for {@link WebView}.
@@ -31,6 +38,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   // Only used with WebView using virtual displays.
   @Nullable private final View containerView;
   private final BinaryMessenger binaryMessenger;
+  @Nullable private final WebViewPool webViewPool;
 
   private Context context;
 
@@ -80,6 +88,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   public static class WebViewPlatformView extends WebView implements PlatformView {
     private WebViewClient currentWebViewClient;
     private WebChromeClientHostApiImpl.SecureWebChromeClient currentWebChromeClient;
+    private final Set<String> javaScriptInterfaceNames = new HashSet<>();
+    // Added by BinaryJavaScriptChannel, as web message listeners can't be listed.
+    final Set<String> webMessageListenerNames = new HashSet<>();
 
     /**
      * Creates a {@link WebViewPlatformView}.
@@ -104,6 +115,31 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     @Override
     public void dispose() {}
 
+    @Override
+    public void addJavascriptInterface(Object object, String name) {
+      super.addJavascriptInterface(object, name);
+      javaScriptInterfaceNames.add(name);
+    }
+
+    @Override
+    public void removeJavascriptInterface(@NonNull String name) {
+      super.removeJavascriptInterface(name);
+      javaScriptInterfaceNames.remove(name);
+    }
+
+    /** Removes the JavaScript interfaces and web message listeners added to this WebView. */
+    @SuppressLint("RequiresFeature")
+    void removeJavaScriptChannels() {
+      for (String name : new ArrayList<>(javaScriptInterfaceNames)) {
+        removeJavascriptInterface(name);
+      }
+      // Only contains listeners added while they were supported.
+      for (String name : new ArrayList<>(webMessageListenerNames)) {
+        WebViewCompat.removeWebMessageListener(this, name);
+      }
+      webMessageListenerNames.clear();
+    }
+
     @Override
     public void setWebViewClient(WebViewClient webViewClient) {
       super.setWebViewClient(webViewClient);
@@ -208,6 +244,44 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     }
   }
 
+  /**
+   * Collects the results of scripts evaluated one after the other, and replies to Dart once the
+   * last one is done.
+   *
+   * <p>The time of a script is measured from the end of the previous one, or from the start of the
+   * batch for the first one, so it doesn't include the time spent waiting for earlier scripts.
+   */
+  private static class JavaScriptBatch {
+    private final List<JavaScriptResultData> results;
+    private final int size;
+    private final GeneratedAndroidWebView.Result<List<JavaScriptResultData>> result;
+    private long lastEndNanos;
+
+    JavaScriptBatch(
+        int size, @NonNull GeneratedAndroidWebView.Result<List<JavaScriptResultData>> result) {
+      this.results = new ArrayList<>(size);
+      this.size = size;
+      this.result = result;
+      lastEndNanos = System.nanoTime();
+      if (size == 0) {
+        result.success(results);
+      }
+    }
+
+    void onResult(@Nullable String value) {
+      final long endNanos = System.nanoTime();
+      results.add(
+          new JavaScriptResultData.Builder()
+              .setResult(value)
+              .setElapsedMicros(TimeUnit.NANOSECONDS.toMicros(endNanos - lastEndNanos))
+              .build());
+      lastEndNanos = endNanos;
+      if (results.size() == size) {
+        result.success(results);
+      }
+    }
+  }
+
   /**
    * Creates a host API that handles creating {@link WebView}s and invoking its methods.
    *
@@ -223,11 +297,32 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       WebViewProxy webViewProxy,
       Context context,
       @Nullable View containerView) {
+    this(instanceManager, binaryMessenger, webViewProxy, context, containerView, null);
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the webView
+   * @param webViewPool provides the {@link WebView}s using hybrid composition
+   */
+  public WebViewHostApiImpl(
+      InstanceManager instanceManager,
+      BinaryMessenger binaryMessenger,
+      WebViewProxy webViewProxy,
+      Context context,
+      @Nullable View containerView,
+      @Nullable WebViewPool webViewPool) {
     this.instanceManager = instanceManager;
     this.binaryMessenger = binaryMessenger;
     this.webViewProxy = webViewProxy;
     this.context = context;
     this.containerView = containerView;
+    this.webViewPool = webViewPool;
   }
 
   /**
@@ -237,10 +332,18 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    */
   public void setContext(Context context) {
     this.context = context;
+    if (webViewPool != null) {
+      webViewPool.setContext(context);
+    }
   }
 
   @Override
   public void create(Long instanceId, Boolean useHybridComposition) {
+    if (useHybridComposition && webViewPool != null) {
+      instanceManager.addDartCreatedInstance(webViewPool.obtain(), instanceId);
+      return;
+    }
+
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
@@ -335,6 +438,20 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptBatch(
+      Long instanceId,
+      List<String> scripts,
+      GeneratedAndroidWebView.Result<List<JavaScriptResultData>> result) {
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final JavaScriptBatch batch = new JavaScriptBatch(scripts.size(), result);
+    // The WebView evaluates the scripts in order and calls back in the same order, so they are
+    // all handed to it at once instead of waiting for each result.
+    for (String script : scripts) {
+      webView.evaluateJavascript(script, batch::onResult);
+    }
+  }
+
   @Override
   public String getTitle(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
@@ -0,0 +1,343 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.hardware.display.DisplayManager;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link WebViewPlatformView}s that are created ahead of time, so that creating a WebView
+ * from Dart doesn't have to wait for the WebView to be constructed.
+ *
+ * <p>The pool is disabled until {@link #setMaxSize} is called with a positive size. WebViews are
+ * then created one at a time, whenever the main thread is idle, until the pool is full. WebViews
+ * that are disposed by Dart are reset and returned to the pool if it has room for them.
+ *
+ * <p>Only WebViews using hybrid composition are pooled. All methods must be called on the main
+ * thread.
+ */
+public class WebViewPool {
+  private static final String BLANK_PAGE_URL = "about:blank";
+
+  private final WebViewHostApiImpl.WebViewProxy webViewProxy;
+  private final BinaryMessenger binaryMessenger;
+  private final InstanceManager instanceManager;
+  private final IdleScheduler idleScheduler;
+
+  private Context context;
+  private int maxSize = 0;
+  private boolean fillScheduled = false;
+
+  // WebViews ready to be handed out.
+  private final ArrayDeque<WebViewPlatformView> idleWebViews = new ArrayDeque<>();
+  // WebViews loading a blank page after being recycled. They are idle once it has loaded.
+  private final Map<WebViewPlatformView, Context> resettingWebViews = new HashMap<>();
+  // The context and default settings of every WebView created by this pool.
+  private final Map<WebViewPlatformView, PooledWebView> pooledWebViews = new WeakHashMap<>();
+
+  private long hits;
+  private long misses;
+  private long recycled;
+  private long webViewsCreated;
+  private long createTimeTotalNanos;
+  private long createTimeMaxNanos;
+  private long firstCreateTimeNanos;
+  private long obtainTimeTotalNanos;
+  private long lastObtainTimeNanos;
+
+  /** Runs tasks on the main thread once it has no pending messages. */
+  public static class IdleScheduler {
+    /**
+     * Runs {@code task} the next time the main thread is idle.
+     *
+     * @param task the task to run
+     */
+    public void runWhenIdle(@NonNull Runnable task) {
+      // Posting first wakes the looper up, so the idle handler also runs when it is already idle.
+      new Handler(Looper.getMainLooper())
+          .post(
+              () ->
+                  Looper.myQueue()
+                      .addIdleHandler(
+                          () -> {
+                            task.run();
+                            return false;
+                          }));
+    }
+  }
+
+  /** The state a pooled WebView is restored to when it is recycled. */
+  private static class PooledWebView {
+    final Context context;
+    final WebSettingsSnapshot settings;
+
+    PooledWebView(Context context, WebSettingsSnapshot settings) {
+      this.context = context;
+      this.settings = settings;
+    }
+  }
+
+  /** The {@link WebSettings} that can be changed from Dart. */
+  private static class WebSettingsSnapshot {
+    private final boolean domStorageEnabled;
+    private final boolean javaScriptCanOpenWindowsAutomatically;
+    private final boolean supportMultipleWindows;
+    private final boolean javaScriptEnabled;
+    private final String userAgentString;
+    private final boolean mediaPlaybackRequiresUserGesture;
+    private final boolean supportZoom;
+    private final boolean loadWithOverviewMode;
+    private final boolean useWideViewPort;
+    private final boolean displayZoomControls;
+    private final boolean builtInZoomControls;
+    private final boolean allowFileAccess;
+
+    WebSettingsSnapshot(WebSettings settings) {
+      domStorageEnabled = settings.getDomStorageEnabled();
+      javaScriptCanOpenWindowsAutomatically = settings.getJavaScriptCanOpenWindowsAutomatically();
+      supportMultipleWindows = settings.supportMultipleWindows();
+      javaScriptEnabled = settings.getJavaScriptEnabled();
+      userAgentString = settings.getUserAgentString();
+      mediaPlaybackRequiresUserGesture = settings.getMediaPlaybackRequiresUserGesture();
+      supportZoom = settings.supportZoom();
+      loadWithOverviewMode = settings.getLoadWithOverviewMode();
+      useWideViewPort = settings.getUseWideViewPort();
+      displayZoomControls = settings.getDisplayZoomControls();
+      builtInZoomControls = settings.getBuiltInZoomControls();
+      allowFileAccess = settings.getAllowFileAccess();
+    }
+
+    void restore(WebSettings settings) {
+      settings.setDomStorageEnabled(domStorageEnabled);
+      settings.setJavaScriptCanOpenWindowsAutomatically(javaScriptCanOpenWindowsAutomatically);
+      settings.setSupportMultipleWindows(supportMultipleWindows);
+      settings.setJavaScriptEnabled(javaScriptEnabled);
+      settings.setUserAgentString(userAgentString);
+      settings.setMediaPlaybackRequiresUserGesture(mediaPlaybackRequiresUserGesture);
+      settings.setSupportZoom(supportZoom);
+      settings.setLoadWithOverviewMode(loadWithOverviewMode);
+      settings.setUseWideViewPort(useWideViewPort);
+      settings.setDisplayZoomControls(displayZoomControls);
+      settings.setBuiltInZoomControls(builtInZoomControls);
+      settings.setAllowFileAccess(allowFileAccess);
+    }
+  }
+
+  /**
+   * Creates a disabled {@link WebViewPool}.
+   *
+   * @param webViewProxy handles creating {@link WebView}s
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param idleScheduler runs the creation of WebViews when the main thread is idle
+   */
+  public WebViewPool(
+      @NonNull WebViewHostApiImpl.WebViewProxy webViewProxy,
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull Context context,
+      @NonNull IdleScheduler idleScheduler) {
+    this.webViewProxy = webViewProxy;
+    this.binaryMessenger = binaryMessenger;
+    this.instanceManager = instanceManager;
+    this.context = context;
+    this.idleScheduler = idleScheduler;
+  }
+
+  /**
+   * Sets the number of WebViews kept in the pool.
+   *
+   * <p>A size of 0 disables the pool and destroys the WebViews it holds.
+   *
+   * @param maxSize the number of WebViews created ahead of time
+   */
+  public void setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must not be negative, got " + maxSize);
+    }
+    this.maxSize = maxSize;
+    while (idleWebViews.size() > maxSize) {
+      idleWebViews.removeLast().destroy();
+    }
+    scheduleFill();
+  }
+
+  /**
+   * Sets the context used to create WebViews.
+   *
+   * <p>Pooled WebViews created with a different context are destroyed, so that they don't keep it
+   * alive.
+   *
+   * @param context the new context
+   */
+  public void setContext(@NonNull Context context) {
+    if (context == this.context) {
+      return;
+    }
+    this.context = context;
+    for (WebViewPlatformView webView : idleWebViews) {
+      webView.destroy();
+    }
+    idleWebViews.clear();
+    scheduleFill();
+  }
+
+  /**
+   * Returns a pooled WebView, or a new one when the pool is empty.
+   *
+   * <p>The WebView has the state of a newly created WebView.
+   */
+  @NonNull
+  public WebViewPlatformView obtain() {
+    final long startNanos = System.nanoTime();
+    WebViewPlatformView webView = idleWebViews.poll();
+    if (webView != null) {
+      hits++;
+    } else {
+      misses++;
+      webView = createWebView();
+    }
+    lastObtainTimeNanos = System.nanoTime() - startNanos;
+    obtainTimeTotalNanos += lastObtainTimeNanos;
+    scheduleFill();
+    return webView;
+  }
+
+  /**
+   * Resets {@code webView} and returns it to the pool once it has loaded a blank page.
+   *
+   * <p>The WebView must no longer be used by Dart.
+   *
+   * @param webView a WebView returned by {@link #obtain}
+   * @return whether the WebView was recycled. Otherwise the caller should destroy it.
+   */
+  public boolean recycle(@NonNull WebViewPlatformView webView) {
+    final PooledWebView pooledWebView = pooledWebViews.get(webView);
+    if (pooledWebView == null
+        || pooledWebView.context != context
+        || idleWebViews.size() + resettingWebViews.size() >= maxSize) {
+      return false;
+    }
+    recycled++;
+    resettingWebViews.put(webView, pooledWebView.context);
+
+    final ViewParent parent = webView.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(webView);
+    }
+    webView.stopLoading();
+    webView.removeJavaScriptChannels();
+    webView.setDownloadListener(null);
+    webView.setWebChromeClient(new WebChromeClientHostApiImpl.SecureWebChromeClient());
+    webView.setBackgroundColor(Color.WHITE);
+    webView.scrollTo(0, 0);
+    pooledWebView.settings.restore(webView.getSettings());
+    webView.setWebViewClient(
+        new WebViewClient() {
+          @Override
+          public void onPageFinished(WebView view, String url) {
+            if (BLANK_PAGE_URL.equals(url)) {
+              onBlankPageLoaded(webView);
+            }
+          }
+        });
+    webView.loadUrl(BLANK_PAGE_URL);
+    return true;
+  }
+
+  /** Returns the metrics of the pool and of the creation of WebViews, in microseconds. */
+  @NonNull
+  public Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("poolSize", (long) idleWebViews.size());
+    stats.put("maxSize", (long) maxSize);
+    stats.put("hits", hits);
+    stats.put("misses", misses);
+    stats.put("recycled", recycled);
+    stats.put("webViewsCreated", webViewsCreated);
+    stats.put("createTimeTotalMicros", toMicros(createTimeTotalNanos));
+    stats.put("createTimeMaxMicros", toMicros(createTimeMaxNanos));
+    stats.put("firstCreateTimeMicros", toMicros(firstCreateTimeNanos));
+    stats.put("obtainTimeTotalMicros", toMicros(obtainTimeTotalNanos));
+    stats.put("lastObtainTimeMicros", toMicros(lastObtainTimeNanos));
+    return stats;
+  }
+
+  @VisibleForTesting
+  void onBlankPageLoaded(@NonNull WebViewPlatformView webView) {
+    final Context resetContext = resettingWebViews.remove(webView);
+    if (resetContext == null) {
+      return;
+    }
+    webView.clearHistory();
+    webView.setWebViewClient(new WebViewClient());
+    if (resetContext == context && idleWebViews.size() < maxSize) {
+      idleWebViews.add(webView);
+    } else {
+      webView.destroy();
+    }
+  }
+
+  private void scheduleFill() {
+    if (!fillScheduled && idleWebViews.size() + resettingWebViews.size() < maxSize) {
+      fillScheduled = true;
+      idleScheduler.runWhenIdle(this::fillOne);
+    }
+  }
+
+  // Creates a single WebView, so that input and frames are handled between two WebViews.
+  private void fillOne() {
+    fillScheduled = false;
+    if (idleWebViews.size() + resettingWebViews.size() < maxSize) {
+      idleWebViews.add(createWebView());
+      scheduleFill();
+    }
+  }
+
+  private WebViewPlatformView createWebView() {
+    final DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
+    final DisplayManager displayManager =
+        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+    displayListenerProxy.onPreWebViewInitialization(displayManager);
+
+    final long startNanos = System.nanoTime();
+    final WebViewPlatformView webView =
+        webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+    final long createTimeNanos = System.nanoTime() - startNanos;
+
+    displayListenerProxy.onPostWebViewInitialization(displayManager);
+
+    if (webViewsCreated++ == 0) {
+      firstCreateTimeNanos = createTimeNanos;
+    }
+    createTimeTotalNanos += createTimeNanos;
+    createTimeMaxNanos = Math.max(createTimeMaxNanos, createTimeNanos);
+    pooledWebViews.put(
+        webView, new PooledWebView(context, new WebSettingsSnapshot(webView.getSettings())));
+    return webView;
+  }
+
+  private static long toMicros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
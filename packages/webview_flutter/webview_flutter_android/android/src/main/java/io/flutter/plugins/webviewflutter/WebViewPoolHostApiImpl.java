@@ -0,0 +1,34 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import java.util.Map;
+
+/** Host api implementation for {@link WebViewPool}. */
+public class WebViewPoolHostApiImpl implements WebViewPoolHostApi {
+  private final WebViewPool webViewPool;
+
+  /**
+   * Creates a host API that configures a {@link WebViewPool}.
+   *
+   * @param webViewPool the pool providing the WebViews created from Dart
+   */
+  public WebViewPoolHostApiImpl(@NonNull WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  @Override
+  public void setMaxSize(@NonNull Long maxSize) {
+    webViewPool.setMaxSize(maxSize.intValue());
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getStats() {
+    return webViewPool.getStats();
+  }
+}
@@ -0,0 +1,256 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.BinaryJavaScriptChannelHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Throughput benchmarks of 1MB payloads exchanged between JavaScript and Dart, through a {@link
+ * BinaryJavaScriptChannel} and through a {@link JavaScriptChannel} carrying base64 strings.
+ *
+ * <p>Messages go through the generated Pigeon code and the {@link StandardMessageCodec}, and are
+ * decoded on the receiving side the way Dart decodes them, including the base64 decoding of the
+ * string payloads. The WebView itself is not part of the measurement, so the base64 encoding done
+ * by the page, and the parsing of the scripts evaluated by the WebView, come on top of the string
+ * results. Each benchmark prints the throughput and encoded size of both channels on every run, and
+ * only asserts that the binary channel sends fewer bytes than base64 strings, which doesn't depend
+ * on the machine. The benchmarks are skipped unless the {@code webviewflutter.benchmark} system
+ * property is set:
+ *
+ * <pre>
+ * ./gradlew testDebugUnitTest --tests '*BinaryJavaScriptChannelBenchmark' \
+ *     -Dwebviewflutter.benchmark=true
+ * </pre>
+ */
+public class BinaryJavaScriptChannelBenchmark {
+  private static final int WARM_UP_MESSAGES = 20;
+  private static final int MEASURED_MESSAGES = 100;
+
+  private static final int PAYLOAD_SIZE = 1024 * 1024;
+
+  private static byte[] payload;
+
+  private final RecordingBinaryMessenger binaryMessenger = new RecordingBinaryMessenger();
+  private InstanceManager instanceManager;
+
+  @BeforeClass
+  public static void onlyWhenRequested() {
+    Assume.assumeTrue(Boolean.getBoolean("webviewflutter.benchmark"));
+    payload = new byte[PAYLOAD_SIZE];
+    new Random(42).nextBytes(payload);
+  }
+
+  @Before
+  public void setUp() {
+    instanceManager = InstanceManager.open(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    instanceManager.close();
+  }
+
+  @Test
+  public void javaScriptToDart() {
+    final BinaryJavaScriptChannel binaryChannel =
+        new BinaryJavaScriptChannel(
+            new BinaryJavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
+            "binaryChannel",
+            Arrays.asList("*"));
+    instanceManager.addDartCreatedInstance(binaryChannel, 0L);
+    final WebView webView = mock(WebView.class);
+    final Uri origin = mock(Uri.class);
+    final JavaScriptReplyProxy replyProxy = stubOnlyMock(JavaScriptReplyProxy.class);
+    final Throughput binary =
+        measure(
+            "binary",
+            () -> {
+              binaryChannel.onPostMessage(
+                  webView, new WebMessageCompat(payload), origin, true, replyProxy);
+              consumeBytes((byte[]) binaryMessenger.lastArguments.get(1));
+            });
+
+    final JavaScriptChannel stringChannel =
+        new JavaScriptChannel(
+            new JavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
+            "stringChannel",
+            new Handler());
+    instanceManager.addDartCreatedInstance(stringChannel, 1L);
+    final String message = Base64.getEncoder().encodeToString(payload);
+    final Throughput base64 =
+        measure(
+            "base64",
+            () -> {
+              stringChannel.postMessage(message);
+              consumeBytes(
+                  Base64.getDecoder().decode((String) binaryMessenger.lastArguments.get(1)));
+            });
+
+    reportAndAssertFewerBytes(binary, base64);
+  }
+
+  @Test
+  public void dartToJavaScript() {
+    final BinaryJavaScriptChannelHostApiImpl binaryHostApi =
+        new BinaryJavaScriptChannelHostApiImpl(
+            instanceManager,
+            new BinaryJavaScriptChannelHostApiImpl.BinaryJavaScriptChannelCreator(),
+            new BinaryJavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager));
+    BinaryJavaScriptChannelHostApi.setup(binaryMessenger, binaryHostApi);
+    binaryHostApi.create(0L, "channel", Arrays.asList("*"));
+    final BinaryJavaScriptChannel channel = instanceManager.getInstance(0L);
+    channel.onPostMessage(
+        mock(WebView.class),
+        new WebMessageCompat(new byte[0]),
+        mock(Uri.class),
+        true,
+        stubOnlyMock(JavaScriptReplyProxy.class));
+    final Throughput binary =
+        measure(
+            "binary",
+            () ->
+                binaryMessenger.receive(
+                    "dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage",
+                    Arrays.asList(0L, payload)));
+
+    // The payload is sent to the page as the argument of a script, like
+    // `onMessage('<base64>')`, that is evaluated with WebView.evaluateJavascript.
+    WebViewHostApi.setup(binaryMessenger, stubOnlyMock(WebViewHostApi.class));
+    final Throughput base64 =
+        measure(
+            "base64",
+            () ->
+                binaryMessenger.receive(
+                    "dev.flutter.pigeon.WebViewHostApi.evaluateJavascript",
+                    Arrays.asList(
+                        0L, "onMessage('" + Base64.getEncoder().encodeToString(payload) + "')")));
+
+    reportAndAssertFewerBytes(binary, base64);
+  }
+
+  /** The time and encoded size of {@link #MEASURED_MESSAGES} messages. */
+  private static final class Throughput {
+    final String name;
+    final long elapsedNanos;
+    final long encodedBytes;
+
+    Throughput(String name, long elapsedNanos, long encodedBytes) {
+      this.name = name;
+      this.elapsedNanos = elapsedNanos;
+      this.encodedBytes = encodedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%s (%.1f MB/s of payload, %.3f ms/message, %d B/message)",
+          name,
+          MEASURED_MESSAGES * (double) PAYLOAD_SIZE / (elapsedNanos / 1e9) / (1 << 20),
+          elapsedNanos / 1e6 / MEASURED_MESSAGES,
+          encodedBytes / MEASURED_MESSAGES);
+    }
+  }
+
+  private Throughput measure(String name, Runnable sendMessage) {
+    for (int i = 0; i < WARM_UP_MESSAGES; i++) {
+      sendMessage.run();
+    }
+    binaryMessenger.encodedBytes = 0;
+    final long startNanos = System.nanoTime();
+    for (int i = 0; i < MEASURED_MESSAGES; i++) {
+      sendMessage.run();
+    }
+    return new Throughput(name, System.nanoTime() - startNanos, binaryMessenger.encodedBytes);
+  }
+
+  private static void reportAndAssertFewerBytes(Throughput binary, Throughput base64) {
+    final String results = binary + " vs " + base64;
+    System.out.println(results);
+    assertTrue(results, binary.encodedBytes < base64.encodedBytes);
+  }
+
+  private static void consumeBytes(byte[] received) {
+    if (received.length != PAYLOAD_SIZE) {
+      throw new AssertionError("Received " + received.length + " bytes.");
+    }
+  }
+
+  /** Creates a mock that doesn't retain the payloads it is called with. */
+  private static <T> T stubOnlyMock(Class<T> type) {
+    return mock(type, withSettings().stubOnly());
+  }
+
+  /**
+   * Encodes and decodes every message with the {@link StandardMessageCodec}, like the engine and
+   * Dart do.
+   */
+  private static final class RecordingBinaryMessenger implements BinaryMessenger {
+    private final Map<String, BinaryMessageHandler> handlers = new HashMap<>();
+
+    long encodedBytes;
+    List<Object> lastArguments = new ArrayList<>();
+
+    /** Sends {@code arguments} from Dart to the handler of {@code channel}. */
+    void receive(String channel, List<Object> arguments) {
+      final ByteBuffer message = encode(arguments);
+      handlers.get(channel).onMessage(message, reply -> {});
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+      send(channel, message, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void send(
+        @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+      encodedBytes += message.position();
+      message.rewind();
+      lastArguments = (List<Object>) StandardMessageCodec.INSTANCE.decodeMessage(message);
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+      handlers.put(channel, handler);
+    }
+
+    private ByteBuffer encode(List<Object> arguments) {
+      final ByteBuffer message = StandardMessageCodec.INSTANCE.encodeMessage(arguments);
+      encodedBytes += message.position();
+      message.rewind();
+      return message;
+    }
+  }
+}
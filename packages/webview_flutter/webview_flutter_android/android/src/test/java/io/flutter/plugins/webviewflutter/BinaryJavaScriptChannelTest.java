@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.net.Uri;
+import android.webkit.WebView;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class BinaryJavaScriptChannelTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryJavaScriptChannelFlutterApiImpl mockFlutterApi;
+
+  @Mock public WebView mockWebView;
+
+  @Mock public JavaScriptReplyProxy mockReplyProxy;
+
+  InstanceManager instanceManager;
+  BinaryJavaScriptChannelHostApiImpl hostApiImpl;
+  BinaryJavaScriptChannel binaryJavaScriptChannel;
+
+  @Before
+  public void setUp() {
+    instanceManager = InstanceManager.open(identifier -> {});
+
+    hostApiImpl =
+        new BinaryJavaScriptChannelHostApiImpl(
+            instanceManager,
+            new BinaryJavaScriptChannelHostApiImpl.BinaryJavaScriptChannelCreator(),
+            mockFlutterApi);
+    hostApiImpl.create(0L, "aChannelName", Collections.singletonList("https://example.com"));
+    binaryJavaScriptChannel = instanceManager.getInstance(0L);
+  }
+
+  @After
+  public void tearDown() {
+    instanceManager.close();
+  }
+
+  @Test
+  public void create() {
+    assertEquals("aChannelName", binaryJavaScriptChannel.channelName);
+    assertEquals(
+        Collections.singleton("https://example.com"), binaryJavaScriptChannel.allowedOriginRules);
+  }
+
+  @Test
+  public void onPostMessage_passesArrayBuffersToDart() {
+    final byte[] data = new byte[] {0, 1, 2, (byte) 255};
+
+    binaryJavaScriptChannel.onPostMessage(
+        mockWebView, new WebMessageCompat(data), mock(Uri.class), true, mockReplyProxy);
+
+    verify(mockFlutterApi).postMessage(eq(binaryJavaScriptChannel), aryEq(data), any());
+  }
+
+  @Test
+  public void toBytes_encodesStringsAsUtf8() {
+    assertArrayEquals(
+        "h\u00e9llo".getBytes(StandardCharsets.UTF_8),
+        BinaryJavaScriptChannel.toBytes(new WebMessageCompat("h\u00e9llo")));
+  }
+
+  @Test
+  public void postMessage_repliesToTheMainFrame() {
+    final JavaScriptReplyProxy subframeReplyProxy = mock(JavaScriptReplyProxy.class);
+    binaryJavaScriptChannel.onPostMessage(
+        mockWebView, new WebMessageCompat(new byte[0]), mock(Uri.class), true, mockReplyProxy);
+    binaryJavaScriptChannel.onPostMessage(
+        mockWebView, new WebMessageCompat(new byte[0]), mock(Uri.class), false, subframeReplyProxy);
+
+    final byte[] message = new byte[] {3, 4};
+    hostApiImpl.postMessage(0L, message);
+
+    verify(mockReplyProxy).postMessage(message);
+    verify(subframeReplyProxy, never()).postMessage(any(byte[].class));
+  }
+
+  @Test
+  public void postMessage_throwsBeforeThePagePostsAMessage() {
+    assertThrows(IllegalStateException.class, () -> hostApiImpl.postMessage(0L, new byte[] {1}));
+  }
+}
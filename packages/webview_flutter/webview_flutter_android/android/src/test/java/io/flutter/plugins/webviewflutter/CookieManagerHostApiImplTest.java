@@ -4,10 +4,13 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,9 +18,16 @@ import android.os.Build;
 import android.webkit.CookieManager;
 import android.webkit.ValueCallback;
 import io.flutter.plugins.webviewflutter.utils.TestUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 
 public class CookieManagerHostApiImplTest {
@@ -80,4 +90,50 @@ public class CookieManagerHostApiImplTest {
     verify(cookieManager).removeAllCookie();
     verify(result).success(true);
   }
+
+  @Test
+  public void setCookiesShouldFlushOnceAfterSettingEveryCookie() {
+    // Setup
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.LOLLIPOP);
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    final Map<String, List<String>> cookies = new LinkedHashMap<>();
+    cookies.put("https://flutter.dev", Arrays.asList("foo=bar", "baz=qux; path=/"));
+    cookies.put("https://dart.dev", Collections.singletonList("foo=bar"));
+    // Run
+    impl.setCookies(cookies);
+    // Verify
+    final InOrder inOrder = inOrder(cookieManager);
+    inOrder.verify(cookieManager).setCookie("https://flutter.dev", "foo=bar");
+    inOrder.verify(cookieManager).setCookie("https://flutter.dev", "baz=qux; path=/");
+    inOrder.verify(cookieManager).setCookie("https://dart.dev", "foo=bar");
+    inOrder.verify(cookieManager).flush();
+  }
+
+  @Test
+  public void setCookiesShouldNotFlushBelowAndroidL() {
+    // Setup
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.KITKAT_WATCH);
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    // Run
+    impl.setCookies(
+        Collections.singletonMap("https://flutter.dev", Collections.singletonList("foo=bar")));
+    // Verify
+    verify(cookieManager).setCookie("https://flutter.dev", "foo=bar");
+    verify(cookieManager, never()).flush();
+  }
+
+  @Test
+  public void getCookiesShouldReturnCookiesOfEveryUrl() {
+    // Setup
+    when(cookieManager.getCookie("https://flutter.dev")).thenReturn("foo=bar");
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    // Run
+    final Map<String, String> cookies =
+        impl.getCookies(Arrays.asList("https://flutter.dev", "https://dart.dev"));
+    // Verify
+    final Map<String, String> expected = new HashMap<>();
+    expected.put("https://flutter.dev", "foo=bar");
+    expected.put("https://dart.dev", null);
+    assertEquals(expected, cookies);
+  }
 }
@@ -0,0 +1,312 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class FileDownloadTest {
+  private static final String URL = "https://example.com/file.zip";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock FileDownloadFlutterApiImpl mockFlutterApi;
+
+  @Mock WebResourceInterceptor.NetworkProxy mockNetworkProxy;
+
+  @Mock HttpURLConnection mockConnection;
+
+  @Mock Handler mockHandler;
+
+  // Downloads run when the test runs them.
+  final List<Runnable> pendingDownloads = new ArrayList<>();
+
+  File file;
+  FileDownload fileDownload;
+
+  @Before
+  public void setUp() throws IOException {
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(mockConnection);
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    file = new File(temporaryFolder.getRoot(), "downloads/file.zip");
+    fileDownload =
+        new FileDownload(
+            mockFlutterApi,
+            mockNetworkProxy,
+            pendingDownloads::add,
+            mockHandler,
+            URL,
+            "userAgent",
+            file,
+            1000);
+  }
+
+  @Test
+  public void downloadsToFileWithWebViewCookies() throws IOException {
+    when(mockNetworkProxy.getCookie(URL)).thenReturn("session=1");
+    when(mockConnection.getHeaderFields())
+        .thenReturn(
+            Collections.singletonMap("Set-Cookie", Collections.singletonList("seen=true")));
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+
+    fileDownload.start();
+    runDownloads();
+
+    assertEquals("hello", read(file));
+    assertFalse(partialFile().exists());
+    verify(mockConnection).setRequestProperty("Cookie", "session=1");
+    verify(mockConnection).setRequestProperty("User-Agent", "userAgent");
+    verify(mockConnection, never()).setRequestProperty(eq("Range"), anyString());
+    verify(mockNetworkProxy).setCookie(URL, "seen=true");
+    verify(mockFlutterApi).onProgress(eq(fileDownload), eq(0L), eq(5L), any());
+    verify(mockFlutterApi).onComplete(eq(fileDownload), eq(5L), any());
+  }
+
+  @Test
+  public void resumesFromPartialData() throws IOException {
+    write(partialFile(), "hel");
+    write(validatorFile(), "\"v1\"");
+    respond(HttpURLConnection.HTTP_PARTIAL, "lo", "bytes 3-4/5");
+
+    fileDownload.start();
+    runDownloads();
+
+    verify(mockConnection).setRequestProperty("Range", "bytes=3-");
+    verify(mockConnection).setRequestProperty("If-Range", "\"v1\"");
+    assertEquals("hello", read(file));
+    assertFalse(validatorFile().exists());
+    verify(mockFlutterApi).onProgress(eq(fileDownload), eq(3L), eq(5L), any());
+    verify(mockFlutterApi).onComplete(eq(fileDownload), eq(5L), any());
+  }
+
+  @Test
+  public void startsOverWhenRangeIsIgnored() throws IOException {
+    write(partialFile(), "old");
+    write(validatorFile(), "\"v1\"");
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+
+    fileDownload.start();
+    runDownloads();
+
+    verify(mockConnection).setRequestProperty("If-Range", "\"v1\"");
+    assertEquals("hello", read(file));
+    verify(mockFlutterApi).onComplete(eq(fileDownload), eq(5L), any());
+  }
+
+  @Test
+  public void startsOverWithoutValidator() throws IOException {
+    write(partialFile(), "old");
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+
+    fileDownload.start();
+    runDownloads();
+
+    verify(mockConnection, never()).setRequestProperty(eq("Range"), anyString());
+    assertEquals("hello", read(file));
+    verify(mockFlutterApi).onComplete(eq(fileDownload), eq(5L), any());
+  }
+
+  @Test
+  public void keepsValidatorOfIncompleteDownloads() throws IOException {
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+    when(mockConnection.getHeaderField("Content-Length")).thenReturn("10");
+    when(mockConnection.getHeaderField("ETag")).thenReturn("\"v2\"");
+
+    fileDownload.start();
+    runDownloads();
+
+    assertEquals("\"v2\"", read(validatorFile()));
+  }
+
+  @Test
+  public void keepsLastModifiedDateForWeakEntityTags() throws IOException {
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+    when(mockConnection.getHeaderField("Content-Length")).thenReturn("10");
+    when(mockConnection.getHeaderField("ETag")).thenReturn("W/\"v2\"");
+    when(mockConnection.getHeaderField("Last-Modified"))
+        .thenReturn("Wed, 21 Oct 2015 07:28:00 GMT");
+
+    fileDownload.start();
+    runDownloads();
+
+    assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", read(validatorFile()));
+  }
+
+  @Test
+  public void keepsPartialDataOfIncompleteDownloads() throws IOException {
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+    when(mockConnection.getHeaderField("Content-Length")).thenReturn("10");
+
+    fileDownload.start();
+    runDownloads();
+
+    assertFalse(file.exists());
+    assertEquals("hello", read(partialFile()));
+    verify(mockFlutterApi).onError(eq(fileDownload), anyString(), any());
+    verify(mockFlutterApi, never()).onComplete(any(FileDownload.class), anyLong(), any());
+  }
+
+  @Test
+  public void reportsUnexpectedResponses() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
+
+    fileDownload.start();
+    runDownloads();
+
+    assertFalse(file.exists());
+    verify(mockFlutterApi).onError(eq(fileDownload), anyString(), any());
+  }
+
+  @Test
+  public void cancelStopsCallbacks() throws IOException {
+    respond(HttpURLConnection.HTTP_OK, "hello", null);
+
+    fileDownload.start();
+    fileDownload.cancel();
+    runDownloads();
+
+    assertFalse(file.exists());
+    verifyNoInteractions(mockFlutterApi);
+
+    // The download can be started again once cancelled.
+    fileDownload.start();
+    runDownloads();
+    assertTrue(file.exists());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void startThrowsWhileRunning() {
+    fileDownload.start();
+    fileDownload.start();
+  }
+
+  @Test
+  public void hostApiCancelsAllDownloads() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final FileDownload mockFileDownload = mock(FileDownload.class);
+    final FileDownloadHostApiImpl.FileDownloadCreator mockFileDownloadCreator =
+        mock(FileDownloadHostApiImpl.FileDownloadCreator.class);
+    when(mockFileDownloadCreator.createFileDownload(
+            any(), any(), any(), anyString(), any(), any(), anyLong()))
+        .thenReturn(mockFileDownload);
+    final FileDownloadHostApiImpl hostApi =
+        new FileDownloadHostApiImpl(
+            instanceManager,
+            mockFileDownloadCreator,
+            mockFlutterApi,
+            pendingDownloads::add,
+            mockHandler);
+
+    hostApi.create(0L, URL, null, file.getPath(), 1000L);
+    hostApi.cancelAll();
+
+    verify(mockFileDownload).cancel();
+    instanceManager.close();
+  }
+
+  @Test
+  public void flutterApiDropsCallbacksOnceTheManagerIsClosed() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final FileDownloadFlutterApiImpl flutterApi =
+        new FileDownloadFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    instanceManager.addDartCreatedInstance(fileDownload, 0L);
+    instanceManager.close();
+
+    flutterApi.onProgress(fileDownload, 3L, 5L, reply -> {});
+    flutterApi.onComplete(fileDownload, 5L, reply -> {});
+    flutterApi.onError(fileDownload, "error", reply -> {});
+
+    verifyNoInteractions(mockBinaryMessenger);
+  }
+
+  @Test
+  public void flutterApiDropsCallbacksOfUnknownDownloads() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final FileDownloadFlutterApiImpl flutterApi =
+        new FileDownloadFlutterApiImpl(mockBinaryMessenger, instanceManager);
+
+    flutterApi.onProgress(fileDownload, 3L, 5L, reply -> {});
+
+    verifyNoInteractions(mockBinaryMessenger);
+    instanceManager.close();
+  }
+
+  private void respond(int statusCode, String body, String contentRange) throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(statusCode);
+    when(mockConnection.getHeaderField("Content-Length"))
+        .thenReturn(String.valueOf(body.length()));
+    when(mockConnection.getHeaderField("Content-Range")).thenReturn(contentRange);
+    when(mockConnection.getInputStream())
+        .thenAnswer(invocation -> new ByteArrayInputStream(bytes(body)));
+  }
+
+  private void runDownloads() {
+    final List<Runnable> downloads = new ArrayList<>(pendingDownloads);
+    pendingDownloads.clear();
+    for (Runnable download : downloads) {
+      download.run();
+    }
+  }
+
+  private File partialFile() {
+    return new File(file.getPath() + FileDownload.PARTIAL_SUFFIX);
+  }
+
+  private File validatorFile() {
+    return new File(partialFile().getPath() + FileDownload.VALIDATOR_SUFFIX);
+  }
+
+  private static void write(File file, String data) throws IOException {
+    //noinspection ResultOfMethodCallIgnored
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), bytes(data));
+  }
+
+  private static String read(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] bytes(String data) {
+    return data.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -8,8 +8,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -99,6 +106,34 @@ public class InstanceManagerTest {
     assertNull(instanceManager.getInstance(0));
   }
 
+  @Test
+  public void getInstanceReturnsNullForUnknownIdentifiers() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    instanceManager.addDartCreatedInstance(new Object(), 0);
+
+    assertNull(instanceManager.getInstance(-1));
+    assertNull(instanceManager.getInstance(1));
+    assertNull(instanceManager.getInstance(65535));
+    assertNull(instanceManager.getInstance(65536));
+    assertNull(instanceManager.remove(-1));
+    assertNull(instanceManager.remove(65535));
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void getIdentifierForStrongReferenceReturnsNullForUnknownInstances() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.addDartCreatedInstance(new Object(), 0);
+
+    assertNull(instanceManager.getIdentifierForStrongReference(object));
+    assertNull(instanceManager.getIdentifierForStrongReference(new Object()));
+
+    instanceManager.close();
+  }
+
   @Test
   public void containsInstanceReturnsFalseWhenClosed() {
     final Object object = new Object();
@@ -108,4 +143,120 @@ public class InstanceManagerTest {
 
     assertFalse(instanceManager.containsInstance(object));
   }
+
+  @Test
+  public void addDartCreatedInstanceReplacesPreviousPairs() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+
+    final Object first = new Object();
+    final Object second = new Object();
+    instanceManager.addDartCreatedInstance(first, 0);
+    instanceManager.addDartCreatedInstance(second, 0);
+    instanceManager.addDartCreatedInstance(first, 70000);
+
+    assertSame(second, instanceManager.getInstance(0));
+    assertSame(first, instanceManager.getInstance(70000));
+    assertEquals((Long) 0L, instanceManager.getIdentifierForStrongReference(second));
+    assertEquals((Long) 70000L, instanceManager.getIdentifierForStrongReference(first));
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void finalizationListenerIsCalledWhenAnInstanceIsGarbageCollected()
+      throws InterruptedException {
+    final CountDownLatch finalized = new CountDownLatch(1);
+    final List<Long> finalizedIdentifiers = new ArrayList<>();
+    final InstanceManager instanceManager =
+        InstanceManager.open(
+            identifier -> {
+              finalizedIdentifiers.add(identifier);
+              finalized.countDown();
+            });
+
+    Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 5);
+    instanceManager.remove(5);
+
+    // To allow for object to be garbage collected.
+    //noinspection UnusedAssignment
+    object = null;
+
+    for (int i = 0; i < 50 && finalized.getCount() > 0; i++) {
+      Runtime.getRuntime().gc();
+      finalized.await(100, TimeUnit.MILLISECONDS);
+    }
+
+    assertEquals(0, finalized.getCount());
+    assertEquals(1, finalizedIdentifiers.size());
+    assertEquals(5L, (long) finalizedIdentifiers.get(0));
+    assertNull(instanceManager.getInstance(5));
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    final int threadCount = 8;
+    final int instancesPerThread = 2000;
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final CyclicBarrier start = new CyclicBarrier(threadCount);
+    final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      // Every thread uses its own range of Dart identifiers.
+      final long firstIdentifier = (long) t * instancesPerThread;
+      threads.add(
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  addAndRemoveInstances(instanceManager, firstIdentifier, instancesPerThread);
+                } catch (Throwable failure) {
+                  failures.add(failure);
+                }
+              }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(failures.toString(), failures.isEmpty());
+    // Instances that were not removed are still strongly referenced.
+    for (long identifier = 1; identifier < threadCount * instancesPerThread; identifier += 2) {
+      assertNotNull(instanceManager.getInstance(identifier));
+    }
+
+    instanceManager.close();
+  }
+
+  private static void addAndRemoveInstances(
+      InstanceManager instanceManager, long firstIdentifier, int count) {
+    for (int i = 0; i < count; i++) {
+      final long dartIdentifier = firstIdentifier + i;
+      final Object dartInstance = new Object();
+      instanceManager.addDartCreatedInstance(dartInstance, dartIdentifier);
+      final Object hostInstance = new Object();
+      final long hostIdentifier = instanceManager.addHostCreatedInstance(hostInstance);
+
+      assertSame(dartInstance, instanceManager.getInstance(dartIdentifier));
+      assertSame(hostInstance, instanceManager.getInstance(hostIdentifier));
+      assertEquals(
+          (Long) dartIdentifier, instanceManager.getIdentifierForStrongReference(dartInstance));
+      assertEquals(
+          (Long) hostIdentifier, instanceManager.getIdentifierForStrongReference(hostInstance));
+
+      if (i % 2 == 0) {
+        assertSame(dartInstance, instanceManager.remove(dartIdentifier));
+        assertSame(hostInstance, instanceManager.remove(hostIdentifier));
+      }
+      if (i % 100 == 0) {
+        Runtime.getRuntime().gc();
+      }
+    }
+  }
 }
@@ -4,12 +4,24 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.os.Handler;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -61,4 +73,111 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("A message post.");
     verify(mockFlutterApi).postMessage(eq(javaScriptChannel), eq("A message post."), any());
   }
+
+  @Test
+  public void postMessage_queuesMessagesWhileBatching() {
+    hostApiImpl.setBatching(0L, true, 10L);
+
+    javaScriptChannel.postMessage("first");
+    javaScriptChannel.postMessage("second");
+    verify(mockFlutterApi, never()).postMessage(any(), anyString(), any());
+
+    javaScriptChannel.flushQueuedMessages();
+    verify(mockFlutterApi)
+        .postMessages(eq(javaScriptChannel), eq(Arrays.asList("first", "second")), any());
+  }
+
+  @Test
+  public void postMessage_postsASingleFlushForFullBatches() {
+    final Handler mockHandler = mock(Handler.class);
+    final JavaScriptChannel channel = new JavaScriptChannel(mockFlutterApi, "channel", mockHandler);
+    channel.setBatching(true, 2);
+
+    for (int i = 0; i < 5; i++) {
+      channel.postMessage("message " + i);
+    }
+    verify(mockHandler, times(1)).post(any());
+
+    channel.flushQueuedMessages();
+    channel.postMessage("first");
+    channel.postMessage("second");
+    verify(mockHandler, times(2)).post(any());
+  }
+
+  @Test
+  public void setBatching_sendsQueuedMessagesWhenDisabled() {
+    hostApiImpl.setBatching(0L, true, 10L);
+    javaScriptChannel.postMessage("queued");
+
+    hostApiImpl.setBatching(0L, false, 10L);
+
+    verify(mockFlutterApi)
+        .postMessages(eq(javaScriptChannel), eq(Arrays.asList("queued")), any());
+  }
+
+  @Test
+  public void setBatching_keepsMessagesInOrderWhileJavaScriptPostsConcurrently()
+      throws InterruptedException {
+    final Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(
+            invocation -> {
+              received.add(invocation.getArgument(1));
+              return null;
+            })
+        .when(mockFlutterApi)
+        .postMessage(any(), anyString(), any());
+    doAnswer(
+            invocation -> {
+              received.addAll(invocation.getArgument(1));
+              return null;
+            })
+        .when(mockFlutterApi)
+        .postMessages(any(), any(), any());
+    final JavaScriptChannel channel = new JavaScriptChannel(mockFlutterApi, "channel", mockHandler);
+    channel.setBatching(true, 1000);
+
+    final int messageCount = 2000;
+    final Thread javaScriptThread =
+        new Thread(
+            () -> {
+              for (int i = 0; i < messageCount; i++) {
+                channel.postMessage(Integer.toString(i));
+              }
+            });
+    javaScriptThread.start();
+    while (channel.getQueueStats().get("messages") < messageCount / 2) {
+      Thread.yield();
+    }
+    channel.setBatching(false, 1);
+    javaScriptThread.join();
+
+    // The delayed flushes never run, so every message was sent when batching was disabled or
+    // directly afterwards.
+    assertEquals(messageCount, received.size());
+    for (int i = 0; i < messageCount; i++) {
+      assertEquals(Integer.toString(i), received.get(i));
+    }
+  }
+
+  @Test
+  public void getQueueStats() {
+    hostApiImpl.setBatching(0L, true, 10L);
+    javaScriptChannel.postMessage("first");
+    javaScriptChannel.postMessage("second");
+    javaScriptChannel.flushQueuedMessages();
+    javaScriptChannel.postMessage("third");
+
+    final Map<String, Long> stats = hostApiImpl.getQueueStats(0L);
+    assertEquals(1L, (long) stats.get("queueDepth"));
+    assertEquals(2L, (long) stats.get("maxQueueDepth"));
+    assertEquals(3L, (long) stats.get("messages"));
+    assertEquals(1L, (long) stats.get("batches"));
+  }
 }
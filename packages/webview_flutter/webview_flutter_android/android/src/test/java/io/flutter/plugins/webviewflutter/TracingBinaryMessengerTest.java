@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class TracingBinaryMessengerTest {
+  private static final String HOST_API_CHANNEL = "dev.flutter.pigeon.WebViewHostApi.loadUrl";
+  private static final String FLUTTER_API_CHANNEL =
+      "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock BinaryMessenger mockBinaryMessenger;
+
+  TracingBinaryMessenger tracingBinaryMessenger;
+
+  @Before
+  public void setUp() {
+    tracingBinaryMessenger = new TracingBinaryMessenger(mockBinaryMessenger);
+  }
+
+  @Test
+  public void doesNotRecordWhileDisabled() {
+    final BinaryMessenger.BinaryReply mockReply = mock(BinaryMessenger.BinaryReply.class);
+    final BinaryMessenger.BinaryMessageHandler handler = setUpHandler();
+
+    handler.onMessage(incomingMessage(10), mockReply);
+    tracingBinaryMessenger.send(FLUTTER_API_CHANNEL, outgoingMessage(4), reply -> {});
+
+    assertTrue(tracingBinaryMessenger.getStats().isEmpty());
+    verify(mockReply).reply(any());
+  }
+
+  @Test
+  public void recordsHostApiCalls() {
+    tracingBinaryMessenger.setEnabled(true);
+    final BinaryMessenger.BinaryReply mockReply = mock(BinaryMessenger.BinaryReply.class);
+    final BinaryMessenger.BinaryMessageHandler handler = setUpHandler();
+
+    handler.onMessage(incomingMessage(10), mockReply);
+    handler.onMessage(incomingMessage(6), mockReply);
+
+    final Map<String, Object> stats = getChannelStats(HOST_API_CHANNEL);
+    assertEquals(true, stats.get("isHostApi"));
+    assertEquals(2L, stats.get("calls"));
+    assertEquals(16L, stats.get("bytesFromDart"));
+    assertEquals(6L, stats.get("bytesToDart"));
+    assertTrue((Long) stats.get("maxTimeMicros") <= (Long) stats.get("totalTimeMicros"));
+  }
+
+  @Test
+  public void recordsFlutterApiCalls() {
+    tracingBinaryMessenger.setEnabled(true);
+    final BinaryMessenger.BinaryReply mockCallback = mock(BinaryMessenger.BinaryReply.class);
+
+    final ByteBuffer message = outgoingMessage(4);
+    tracingBinaryMessenger.send(FLUTTER_API_CHANNEL, message, mockCallback);
+
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> replyCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockBinaryMessenger).send(eq(FLUTTER_API_CHANNEL), eq(message), replyCaptor.capture());
+    final ByteBuffer reply = incomingMessage(2);
+    replyCaptor.getValue().reply(reply);
+    verify(mockCallback).reply(reply);
+
+    final Map<String, Object> stats = getChannelStats(FLUTTER_API_CHANNEL);
+    assertEquals(false, stats.get("isHostApi"));
+    assertEquals(1L, stats.get("calls"));
+    assertEquals(4L, stats.get("bytesToDart"));
+    assertEquals(2L, stats.get("bytesFromDart"));
+  }
+
+  @Test
+  public void sendsMessagesWithoutCallbackAsIs() {
+    tracingBinaryMessenger.setEnabled(true);
+
+    tracingBinaryMessenger.send(FLUTTER_API_CHANNEL, outgoingMessage(4));
+
+    verify(mockBinaryMessenger).send(eq(FLUTTER_API_CHANNEL), any(), isNull());
+    assertEquals(1L, getChannelStats(FLUTTER_API_CHANNEL).get("calls"));
+  }
+
+  @Test
+  public void resetForgetsRecordedTraffic() {
+    tracingBinaryMessenger.setEnabled(true);
+    tracingBinaryMessenger.send(FLUTTER_API_CHANNEL, outgoingMessage(4), reply -> {});
+
+    tracingBinaryMessenger.reset();
+
+    assertTrue(tracingBinaryMessenger.getStats().isEmpty());
+  }
+
+  @Test
+  public void hostApiSetsAndReadsTracing() {
+    final ChannelTracingHostApiImpl hostApi =
+        new ChannelTracingHostApiImpl(tracingBinaryMessenger);
+
+    hostApi.setEnabled(true);
+    tracingBinaryMessenger.send(FLUTTER_API_CHANNEL, outgoingMessage(4), reply -> {});
+    assertEquals(1, hostApi.getStats().size());
+
+    hostApi.reset();
+    assertTrue(hostApi.getStats().isEmpty());
+  }
+
+  // Sets up a handler for the host API channel that replies with a 3 byte message.
+  private BinaryMessenger.BinaryMessageHandler setUpHandler() {
+    final BinaryMessenger.BinaryMessageHandler handler =
+        (message, reply) -> {
+          assertNotNull(message);
+          reply.reply(outgoingMessage(3));
+        };
+    tracingBinaryMessenger.setMessageHandler(HOST_API_CHANNEL, handler);
+
+    final ArgumentCaptor<BinaryMessenger.BinaryMessageHandler> handlerCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryMessageHandler.class);
+    verify(mockBinaryMessenger).setMessageHandler(eq(HOST_API_CHANNEL), handlerCaptor.capture());
+    return handlerCaptor.getValue();
+  }
+
+  private Map<String, Object> getChannelStats(String channel) {
+    final List<Map<String, Object>> stats = tracingBinaryMessenger.getStats();
+    assertEquals(1, stats.size());
+    assertEquals(channel, stats.get(0).get("channel"));
+    return stats.get(0);
+  }
+
+  // Messages received from Dart are read from their position to their limit.
+  private static ByteBuffer incomingMessage(int size) {
+    return ByteBuffer.allocateDirect(size);
+  }
+
+  // Messages sent to Dart are written up to their position.
+  private static ByteBuffer outgoingMessage(int size) {
+    final ByteBuffer message = ByteBuffer.allocateDirect(size);
+    message.position(size);
+    return message;
+  }
+}
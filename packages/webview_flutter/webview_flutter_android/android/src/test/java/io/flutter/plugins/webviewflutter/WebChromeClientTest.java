@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +76,43 @@ public class WebChromeClientTest {
     verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(23L), any());
   }
 
+  @Test
+  public void setProgressChangedEventsThrottlesProgress() {
+    hostApiImpl.setProgressChangedEvents(2L, true, 10L);
+
+    for (int progress = 10; progress <= 100; progress++) {
+      webChromeClient.onProgressChanged(mockWebView, progress);
+    }
+    // A new page load.
+    webChromeClient.onProgressChanged(mockWebView, 5);
+
+    for (long progress : new long[] {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L, 5L}) {
+      verify(mockFlutterApi)
+          .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(progress), any());
+    }
+    verify(mockFlutterApi, times(11)).onProgressChanged(any(), any(), any(), any());
+  }
+
+  @Test
+  public void setProgressChangedEventsAlwaysSendsCompletedLoads() {
+    hostApiImpl.setProgressChangedEvents(2L, true, 50L);
+
+    webChromeClient.onProgressChanged(mockWebView, 70);
+    webChromeClient.onProgressChanged(mockWebView, 100);
+    webChromeClient.onProgressChanged(mockWebView, 100);
+
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(70L), any());
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(100L), any());
+  }
+
+  @Test
+  public void setProgressChangedEventsDisablesProgress() {
+    hostApiImpl.setProgressChangedEvents(2L, false, 1L);
+
+    webChromeClient.onProgressChanged(mockWebView, 100);
+    verify(mockFlutterApi, never()).onProgressChanged(any(), any(), any(), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
@@ -0,0 +1,326 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.res.AssetManager;
+import android.os.Handler;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebResourceInterceptorTest {
+  private static final String URL = "https://example.com/static/app.js";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock AssetManager mockAssetManager;
+
+  @Mock WebResourceInterceptor.NetworkProxy mockNetworkProxy;
+
+  @Mock Handler mockHandler;
+
+  FlutterAssetManager flutterAssetManager;
+  HttpDiskCache diskCache;
+  WebResourceInterceptor interceptor;
+
+  @Before
+  public void setUp() throws IOException {
+    flutterAssetManager =
+        new FlutterAssetManager(mockAssetManager) {
+          @Override
+          String getAssetFilePathByName(String name) {
+            return "flutter_assets/" + name;
+          }
+        };
+    diskCache = new HttpDiskCache(temporaryFolder.newFolder(), 1024);
+    interceptor = new WebResourceInterceptor(flutterAssetManager, diskCache, mockNetworkProxy);
+  }
+
+  @Test
+  public void load_servesAssets() throws IOException {
+    when(mockAssetManager.open("flutter_assets/assets/web/app.js"))
+        .thenReturn(new ByteArrayInputStream(bytes("asset")));
+    interceptor.addAssetPrefix("https://example.com/static/", "assets/web/");
+
+    final WebResourceInterceptor.Resource resource = interceptor.load("GET", URL + "?v=2", null);
+
+    assertNotNull(resource);
+    assertEquals("text/javascript", resource.mimeType);
+    assertEquals("asset", read(resource.data));
+    assertEquals(1L, (long) interceptor.getStats().get("assetHits"));
+  }
+
+  @Test
+  public void load_leavesMissingAssetsAndOtherMethodsToTheWebView() throws IOException {
+    when(mockAssetManager.open(anyString())).thenThrow(new IOException());
+    interceptor.addAssetPrefix("https://example.com/static/", "assets/web");
+
+    assertNull(interceptor.load("GET", URL, null));
+    assertNull(interceptor.load("POST", URL, null));
+    assertEquals(1L, (long) interceptor.getStats().get("assetMisses"));
+  }
+
+  @Test
+  public void load_servesFreshResponsesFromTheCache() throws IOException {
+    final HttpURLConnection connection =
+        mockConnection(200, "body", Collections.singletonMap("Cache-Control", "max-age=60"));
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(connection);
+    when(mockNetworkProxy.getCookie(URL)).thenReturn("session=1");
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertEquals("body", read(interceptor.load("GET", URL, null).data));
+    assertEquals("body", read(interceptor.load("GET", URL, null).data));
+
+    verify(mockNetworkProxy, times(1)).openConnection(URL);
+    verify(connection).setRequestProperty("Cookie", "session=1");
+    final Map<String, Long> stats = interceptor.getStats();
+    assertEquals(1L, (long) stats.get("cacheMisses"));
+    assertEquals(1L, (long) stats.get("cacheHits"));
+    assertEquals(4L, diskCache.getSize());
+  }
+
+  @Test
+  public void load_revalidatesStaleResponsesWithTheirETag() throws IOException {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Cache-Control", "no-cache");
+    headers.put("ETag", "\"v1\"");
+    final HttpURLConnection first = mockConnection(200, "body", headers);
+    final HttpURLConnection second = mockConnection(304, "", headers);
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(first, second);
+    interceptor.addCachedPrefix("https://example.com/");
+
+    read(interceptor.load("GET", URL, null).data);
+    final WebResourceInterceptor.Resource resource = interceptor.load("GET", URL, null);
+
+    verify(second).setRequestProperty("If-None-Match", "\"v1\"");
+    assertEquals("body", read(resource.data));
+    assertEquals(1L, (long) interceptor.getStats().get("cacheRevalidations"));
+  }
+
+  @Test
+  public void load_servesStaleResponsesWhenOffline() throws IOException {
+    final HttpURLConnection connection =
+        mockConnection(200, "body", Collections.singletonMap("Cache-Control", "no-cache"));
+    final HttpURLConnection offline = mock(HttpURLConnection.class);
+    when(offline.getResponseCode()).thenThrow(new IOException());
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(connection, offline);
+    interceptor.addCachedPrefix("https://example.com/");
+
+    read(interceptor.load("GET", URL, null).data);
+
+    assertEquals("body", read(interceptor.load("GET", URL, null).data));
+    assertEquals(1L, (long) interceptor.getStats().get("cacheStaleHits"));
+  }
+
+  @Test
+  public void load_doesNotStoreNoStoreResponses() throws IOException {
+    final HttpURLConnection connection =
+        mockConnection(200, "body", Collections.singletonMap("Cache-Control", "no-store"));
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(connection);
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertEquals("body", read(interceptor.load("GET", URL, null).data));
+    assertEquals(0L, diskCache.getSize());
+    verify(mockNetworkProxy, never()).setCookie(anyString(), anyString());
+  }
+
+  @Test
+  public void load_doesNotStoreResponsesThatVary() throws IOException {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Cache-Control", "max-age=60");
+    headers.put("Vary", "Accept-Language");
+    when(mockNetworkProxy.openConnection(URL))
+        .thenReturn(mockConnection(200, "en", headers), mockConnection(200, "fr", headers));
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertEquals("en", read(interceptor.load("GET", URL, null).data));
+    assertEquals("fr", read(interceptor.load("GET", URL, null).data));
+
+    assertEquals(0L, diskCache.getSize());
+    assertEquals(2L, (long) interceptor.getStats().get("cacheMisses"));
+  }
+
+  @Test
+  public void load_storesResponsesOnlyOnceTheWebViewReadThemToTheEnd() throws IOException {
+    when(mockNetworkProxy.openConnection(URL))
+        .thenReturn(
+            mockConnection(200, "body", Collections.singletonMap("Cache-Control", "max-age=60")));
+    interceptor.addCachedPrefix("https://example.com/");
+
+    final InputStream data = interceptor.load("GET", URL, null).data;
+    assertEquals('b', data.read());
+    assertEquals(0L, diskCache.getSize());
+    data.close();
+
+    assertEquals(0L, diskCache.getSize());
+    assertNull(diskCache.get(URL));
+  }
+
+  @Test
+  public void load_servesResponsesLargerThanTheCacheWithoutStoringThem() throws IOException {
+    final StringBuilder body = new StringBuilder();
+    for (int i = 0; i < 2048; i++) {
+      body.append(i % 10);
+    }
+    when(mockNetworkProxy.openConnection(URL))
+        .thenReturn(
+            mockConnection(
+                200, body.toString(), Collections.singletonMap("Cache-Control", "max-age=60")));
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertEquals(body.toString(), read(interceptor.load("GET", URL, null).data));
+
+    assertEquals(0L, diskCache.getSize());
+    assertEquals(0, temporaryFiles());
+  }
+
+  @Test
+  public void load_doesNotStoreResponsesWithAContentLengthLargerThanTheCache()
+      throws IOException {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Cache-Control", "max-age=60");
+    headers.put("Content-Length", "4096");
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(mockConnection(200, "body", headers));
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertEquals("body", read(interceptor.load("GET", URL, null).data));
+
+    assertEquals(0L, diskCache.getSize());
+  }
+
+  @Test
+  public void load_leavesRedirectsToTheWebView() throws IOException {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Cache-Control", "max-age=60");
+    headers.put("Location", "https://example.com/static/app.2.js");
+    final HttpURLConnection connection = mockConnection(302, "", headers);
+    when(mockNetworkProxy.openConnection(URL)).thenReturn(connection);
+    interceptor.addCachedPrefix("https://example.com/");
+
+    assertNull(interceptor.load("GET", URL, null));
+
+    verify(connection).setInstanceFollowRedirects(false);
+    assertEquals(0L, diskCache.getSize());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void hostApi_runsCacheOperationsOnTheIoExecutor() throws IOException {
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    final List<Runnable> ioTasks = new ArrayList<>();
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+    final WebResourceInterceptorHostApiImpl hostApi =
+        new WebResourceInterceptorHostApiImpl(
+            instanceManager,
+            new WebResourceInterceptorHostApiImpl.WebResourceInterceptorCreator(),
+            flutterAssetManager,
+            diskCache,
+            ioTasks::add,
+            mockHandler);
+    diskCache.put("a", stream("123456"), "text/plain", null, null, null, 0, new HashMap<>());
+    final GeneratedAndroidWebView.Result<Void> result = mock(GeneratedAndroidWebView.Result.class);
+
+    hostApi.clearCache(result);
+
+    assertEquals(6L, diskCache.getSize());
+    verify(result, never()).success(any());
+    ioTasks.get(0).run();
+    assertEquals(0L, diskCache.getSize());
+    verify(result).success(null);
+    instanceManager.close();
+  }
+
+  @Test
+  public void diskCache_evictsTheLeastRecentlyUsedResponses() throws IOException {
+    final HttpDiskCache cache = new HttpDiskCache(temporaryFolder.newFolder(), 10);
+    cache.put("a", stream("123456"), "text/plain", null, null, null, 0, new HashMap<>());
+    assertNotNull(cache.get("a"));
+
+    cache.put("b", stream("123456"), "text/plain", null, null, null, 0, new HashMap<>());
+
+    assertNull(cache.get("a"));
+    assertNotNull(cache.get("b"));
+    assertEquals(6L, cache.getSize());
+  }
+
+  private int temporaryFiles() {
+    final File[] files = temporaryFolder.getRoot().listFiles();
+    int count = 0;
+    for (File directory : files) {
+      final File[] temporary = directory.listFiles((dir, name) -> name.endsWith(".tmp"));
+      count += temporary == null ? 0 : temporary.length;
+    }
+    return count;
+  }
+
+  private static HttpURLConnection mockConnection(
+      int statusCode, String body, Map<String, String> headers) throws IOException {
+    final HttpURLConnection connection = mock(HttpURLConnection.class);
+    when(connection.getResponseCode()).thenReturn(statusCode);
+    when(connection.getResponseMessage()).thenReturn("OK");
+    when(connection.getContentType()).thenReturn("text/javascript; charset=utf-8");
+    when(connection.getInputStream()).thenReturn(stream(body));
+    final Map<String, List<String>> headerFields = new HashMap<>();
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      when(connection.getHeaderField(header.getKey())).thenReturn(header.getValue());
+      headerFields.put(header.getKey(), Collections.singletonList(header.getValue()));
+    }
+    when(connection.getHeaderFields()).thenReturn(headerFields);
+    return connection;
+  }
+
+  private static InputStream stream(String value) {
+    return new ByteArrayInputStream(bytes(value));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String read(InputStream stream) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+    stream.close();
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -8,11 +8,13 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.net.Uri;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCompatImpl;
@@ -125,4 +127,42 @@ public class WebViewClientTest {
 
     verify(mockWebViewClient).setReturnValueForShouldOverrideUrlLoading(false);
   }
+
+  @Test
+  public void setSubscribedEventsSkipsUnsubscribedEvents() {
+    hostApiImpl.setSubscribedEvents(1L, false, true, false, false);
+
+    webViewClient.onPageStarted(mockWebView, "https://www.google.com", null);
+    webViewClient.onPageFinished(mockWebView, "https://www.google.com");
+    webViewClient.onReceivedError(mockWebView, 32, "description", "https://www.google.com");
+    webViewClient.shouldOverrideUrlLoading(mockWebView, "https://www.google.com");
+
+    verify(mockFlutterApi, never()).onPageStarted(any(), any(), any(), any());
+    verify(mockFlutterApi)
+        .onPageFinished(eq(webViewClient), eq(mockWebView), eq("https://www.google.com"), any());
+    verify(mockFlutterApi, never()).onReceivedError(any(), any(), any(), any(), any(), any());
+    verify(mockFlutterApi, never()).urlLoading(any(), any(), any(), any());
+  }
+
+  @Test
+  public void setSubscribedEventsSendsLoadingRequestsHandledByDart() {
+    hostApiImpl.setSubscribedEvents(1L, true, true, true, false);
+    hostApiImpl.setSynchronousReturnValueForShouldOverrideUrlLoading(1L, true);
+
+    webViewClient.shouldOverrideUrlLoading(mockWebView, "https://www.google.com");
+    verify(mockFlutterApi)
+        .urlLoading(eq(webViewClient), eq(mockWebView), eq("https://www.google.com"), any());
+  }
+
+  @Test
+  public void shouldInterceptRequestServesResponsesOfTheInterceptor() {
+    final WebResourceInterceptor mockInterceptor = mock(WebResourceInterceptor.class);
+    final WebResourceRequest mockRequest = mock(WebResourceRequest.class);
+    final WebResourceResponse mockResponse = mock(WebResourceResponse.class);
+    when(mockInterceptor.intercept(mockRequest)).thenReturn(mockResponse);
+
+    webViewClient.setWebResourceInterceptor(mockInterceptor);
+
+    assertEquals(mockResponse, webViewClient.shouldInterceptRequest(mockWebView, mockRequest));
+  }
 }
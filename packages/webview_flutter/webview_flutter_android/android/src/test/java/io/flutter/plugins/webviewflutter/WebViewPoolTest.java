@@ -0,0 +1,196 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.webkit.WebSettings;
+import android.webkit.WebViewClient;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebViewHostApiImpl.WebViewProxy mockWebViewProxy;
+
+  @Mock WebViewPool.IdleScheduler mockIdleScheduler;
+
+  @Mock Context mockContext;
+
+  @Mock BinaryMessenger mockBinaryMessenger;
+
+  InstanceManager instanceManager;
+  WebViewPool webViewPool;
+
+  // Every WebView created by the proxy, in order.
+  final List<WebViewPlatformView> createdWebViews = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    instanceManager = InstanceManager.open(identifier -> {});
+    when(mockWebViewProxy.createWebView(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final WebViewPlatformView webView = mock(WebViewPlatformView.class);
+              when(webView.getSettings()).thenReturn(mock(WebSettings.class));
+              createdWebViews.add(webView);
+              return webView;
+            });
+    webViewPool =
+        new WebViewPool(
+            mockWebViewProxy, mockBinaryMessenger, instanceManager, mockContext, mockIdleScheduler);
+  }
+
+  @After
+  public void tearDown() {
+    instanceManager.close();
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    final WebViewPlatformView webView = webViewPool.obtain();
+
+    assertSame(createdWebViews.get(0), webView);
+    verify(mockIdleScheduler, never()).runWhenIdle(any());
+    assertFalse(webViewPool.recycle(webView));
+
+    final Map<String, Long> stats = webViewPool.getStats();
+    assertEquals(0L, (long) stats.get("hits"));
+    assertEquals(1L, (long) stats.get("misses"));
+    assertEquals(1L, (long) stats.get("webViewsCreated"));
+  }
+
+  @Test
+  public void fillsOneWebViewPerIdleCallback() {
+    webViewPool.setMaxSize(2);
+    assertTrue(createdWebViews.isEmpty());
+
+    runIdleTask();
+    assertEquals(1, createdWebViews.size());
+    runIdleTask();
+    assertEquals(2, createdWebViews.size());
+    verify(mockIdleScheduler, times(2)).runWhenIdle(any());
+    assertEquals(2L, (long) webViewPool.getStats().get("poolSize"));
+  }
+
+  @Test
+  public void obtainReturnsPooledWebViews() {
+    webViewPool.setMaxSize(1);
+    runIdleTask();
+
+    assertSame(createdWebViews.get(0), webViewPool.obtain());
+    assertEquals(1, createdWebViews.size());
+
+    final Map<String, Long> stats = webViewPool.getStats();
+    assertEquals(1L, (long) stats.get("hits"));
+    assertEquals(0L, (long) stats.get("misses"));
+    assertEquals(0L, (long) stats.get("poolSize"));
+
+    // The pool is refilled once the main thread is idle again.
+    runIdleTask();
+    assertEquals(2, createdWebViews.size());
+  }
+
+  @Test
+  public void recycleResetsWebViewBeforePoolingIt() {
+    webViewPool.setMaxSize(1);
+    final WebViewPlatformView webView = webViewPool.obtain();
+    assertFalse(webViewPool.recycle(mock(WebViewPlatformView.class)));
+
+    assertTrue(webViewPool.recycle(webView));
+    verify(webView).stopLoading();
+    verify(webView).removeJavaScriptChannels();
+    verify(webView).setDownloadListener(null);
+    verify(webView).setWebChromeClient(any(WebChromeClientHostApiImpl.SecureWebChromeClient.class));
+    verify(webView).loadUrl("about:blank");
+    assertEquals(0L, (long) webViewPool.getStats().get("poolSize"));
+
+    // The WebView being reset takes the place of the pooled WebView.
+    runIdleTask();
+    assertEquals(1, createdWebViews.size());
+
+    final ArgumentCaptor<WebViewClient> clientCaptor = ArgumentCaptor.forClass(WebViewClient.class);
+    verify(webView).setWebViewClient(clientCaptor.capture());
+    clientCaptor.getValue().onPageFinished(webView, "about:blank");
+    verify(webView).clearHistory();
+    verify(webView, never()).destroy();
+
+    assertSame(webView, webViewPool.obtain());
+    assertEquals(1L, (long) webViewPool.getStats().get("recycled"));
+  }
+
+  @Test
+  public void setContextDestroysPooledWebViews() {
+    webViewPool.setMaxSize(1);
+    runIdleTask();
+    final WebViewPlatformView pooledWebView = createdWebViews.get(0);
+
+    final Context newContext = mock(Context.class);
+    webViewPool.setContext(newContext);
+    verify(pooledWebView).destroy();
+
+    runIdleTask();
+    verify(mockWebViewProxy).createWebView(newContext, mockBinaryMessenger, instanceManager);
+    assertFalse(webViewPool.recycle(pooledWebView));
+  }
+
+  @Test
+  public void setMaxSizeDestroysExtraWebViews() {
+    webViewPool.setMaxSize(1);
+    runIdleTask();
+
+    webViewPool.setMaxSize(0);
+    verify(createdWebViews.get(0)).destroy();
+    assertEquals(0L, (long) webViewPool.getStats().get("poolSize"));
+  }
+
+  @Test
+  public void disposeRecyclesPooledWebViews() {
+    webViewPool.setMaxSize(1);
+    final JavaObjectHostApiImpl javaObjectHostApi =
+        new JavaObjectHostApiImpl(instanceManager, webViewPool);
+
+    final WebViewPlatformView recycledWebView = webViewPool.obtain();
+    instanceManager.addDartCreatedInstance(recycledWebView, 0);
+    final WebViewPlatformView destroyedWebView = webViewPool.obtain();
+    instanceManager.addDartCreatedInstance(destroyedWebView, 1);
+
+    javaObjectHostApi.dispose(0L);
+    javaObjectHostApi.dispose(1L);
+
+    verify(recycledWebView, never()).destroy();
+    verify(recycledWebView).loadUrl("about:blank");
+    verify(destroyedWebView).destroy();
+  }
+
+  private void runIdleTask() {
+    final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockIdleScheduler, atLeastOnce()).runWhenIdle(taskCaptor.capture());
+    taskCaptor.getValue().run();
+  }
+}
@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -18,8 +19,13 @@ import android.webkit.ValueCallback;
 import android.webkit.WebChromeClient;
 import android.webkit.WebViewClient;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultData;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 import org.junit.After;
 import org.junit.Before;
@@ -180,6 +186,60 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @Test
+  public void evaluateJavascriptBatch() {
+    final List<List<JavaScriptResultData>> successValue = new ArrayList<>();
+    testHostApiImpl.evaluateJavascriptBatch(
+        0L,
+        Arrays.asList("1 + 1", "2 + 2"),
+        new GeneratedAndroidWebView.Result<List<JavaScriptResultData>>() {
+          @Override
+          public void success(List<JavaScriptResultData> result) {
+            successValue.add(result);
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("1 + 1"), callbackCaptor.capture());
+    verify(mockWebView).evaluateJavascript(eq("2 + 2"), callbackCaptor.capture());
+
+    callbackCaptor.getAllValues().get(0).onReceiveValue("2");
+    assertTrue(successValue.isEmpty());
+    callbackCaptor.getAllValues().get(1).onReceiveValue(null);
+
+    assertEquals(1, successValue.size());
+    final List<JavaScriptResultData> results = successValue.get(0);
+    assertEquals(2, results.size());
+    assertEquals("2", results.get(0).getResult());
+    assertNull(results.get(1).getResult());
+    assertTrue(results.get(1).getElapsedMicros() >= 0);
+  }
+
+  @Test
+  public void evaluateJavascriptBatchWithoutScripts() {
+    final List<List<JavaScriptResultData>> successValue = new ArrayList<>();
+    testHostApiImpl.evaluateJavascriptBatch(
+        0L,
+        Collections.emptyList(),
+        new GeneratedAndroidWebView.Result<List<JavaScriptResultData>>() {
+          @Override
+          public void success(List<JavaScriptResultData> result) {
+            successValue.add(result);
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+
+    assertEquals(1, successValue.size());
+    assertTrue(successValue.get(0).isEmpty());
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -289,6 +289,19 @@ class WebView extends JavaObject {
     );
   }
 
+  /// Evaluates each of [scripts] in the context of the currently displayed
+  /// page, one after the other.
+  ///
+  /// The scripts are sent to the WebView in a single message, and their
+  /// results are returned in the same order once the last one is done. This
+  /// avoids a round trip between Dart and the platform for every script when
+  /// running many short scripts.
+  ///
+  /// Also see compatibility note on [evaluateJavascript].
+  Future<List<JavaScriptResult>> evaluateJavascriptBatch(List<String> scripts) {
+    return api.evaluateJavascriptBatchFromInstance(this, scripts);
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -424,7 +437,7 @@ class CookieManager {
   /// cookie with the same host, path and name will be replaced with the new
   /// cookie. The cookie being set will be ignored if it is expired. To set
   /// multiple cookies, your application should invoke this method multiple
-  /// times.
+  /// times, or use [setCookies].
   ///
   /// The value parameter must follow the format of the Set-Cookie HTTP
   /// response header defined by RFC6265bis. This is a key-value pair of the
@@ -440,12 +453,170 @@ class CookieManager {
   /// value – the cookie as a string, using the format of the 'Set-Cookie' HTTP response header
   Future<void> setCookie(String url, String value) => api.setCookie(url, value);
 
+  /// Sets the cookies of several URLs with a single platform call, and writes
+  /// them to persistent storage once they are all set.
+  ///
+  /// Each value of [cookies] is a list of cookies for the URL of its key, in
+  /// the format of [setCookie]. This is faster than calling [setCookie] for
+  /// each cookie when restoring a large number of cookies, like the cookies of
+  /// a previous session.
+  ///
+  /// The returned future resolves to the time the platform took to set and
+  /// store the cookies.
+  Future<Duration> setCookies(Map<String, List<String>> cookies) async {
+    final int elapsedMicros = await api.setCookies(cookies);
+    return Duration(microseconds: elapsedMicros);
+  }
+
+  /// Gets the cookies of several URLs with a single platform call.
+  ///
+  /// The returned map contains the cookies of each URL of [urls] in the format
+  /// of the `Cookie` HTTP request header, or null if the URL has no cookies.
+  Future<Map<String, String?>> getCookies(List<String> urls) async {
+    final Map<String?, String?> cookies = await api.getCookies(urls);
+    return cookies.cast<String, String?>();
+  }
+
   /// Removes all cookies.
   ///
   /// The returned future resolves to true if any cookies were removed.
   Future<bool> clearCookies() => api.clearCookies();
 }
 
+/// Keeps [WebView]s using hybrid composition that are created ahead of time.
+///
+/// Constructing a WebView can take a while, especially the first one of the
+/// process. When the pool is enabled, WebViews are created whenever the main
+/// thread is idle and handed out to new [WebView]s, and disposed WebViews are
+/// reset and reused.
+///
+/// The pool is disabled by default.
+class WebViewPool {
+  WebViewPool._();
+
+  static WebViewPool? _instance;
+
+  /// Gets the globally set WebViewPool instance.
+  static WebViewPool get instance => _instance ??= WebViewPool._();
+
+  /// Setter for the singleton value, for testing purposes only.
+  @visibleForTesting
+  static set instance(WebViewPool value) => _instance = value;
+
+  /// Pigeon Host Api implementation for [WebViewPool].
+  @visibleForTesting
+  static WebViewPoolHostApi api = WebViewPoolHostApi();
+
+  /// Sets the number of WebViews created ahead of time.
+  ///
+  /// A size of 0 disables the pool and destroys the WebViews it holds.
+  Future<void> setMaxSize(int maxSize) => api.setMaxSize(maxSize);
+
+  /// Returns the metrics of the pool and of the creation of WebViews.
+  ///
+  /// Contains the current `poolSize` and `maxSize`, the number of WebViews
+  /// handed out from the pool (`hits`) or created on demand (`misses`), the
+  /// number of `recycled` WebViews, and the number of `webViewsCreated`. The
+  /// `createTimeTotalMicros`, `createTimeMaxMicros` and
+  /// `firstCreateTimeMicros` times measure the construction of WebViews, and
+  /// `obtainTimeTotalMicros` and `lastObtainTimeMicros` the time new [WebView]s
+  /// waited for one.
+  Future<Map<String, int>> getStats() async {
+    final Map<String?, int?> stats = await api.getStats();
+    return stats.cast<String, int>();
+  }
+}
+
+/// Records the traffic of the platform channels of this plugin, to find the
+/// APIs and callbacks that are slow or called too often.
+///
+/// For each channel, the number of messages and their size in both directions
+/// are counted, along with the time until the reply. For a host API, this is
+/// the time the platform took to handle the call. For a Flutter API, this is
+/// the time until Dart replied to the callback.
+///
+/// Tracing is disabled by default. It can be enabled in release builds, as its
+/// counters add little overhead to each message.
+class ChannelTracing {
+  ChannelTracing._();
+
+  static ChannelTracing? _instance;
+
+  /// Gets the globally set ChannelTracing instance.
+  static ChannelTracing get instance => _instance ??= ChannelTracing._();
+
+  /// Setter for the singleton value, for testing purposes only.
+  @visibleForTesting
+  static set instance(ChannelTracing value) => _instance = value;
+
+  /// Pigeon Host Api implementation for [ChannelTracing].
+  @visibleForTesting
+  static ChannelTracingHostApi api = ChannelTracingHostApi();
+
+  /// Starts or stops recording the traffic.
+  ///
+  /// The traffic recorded so far is kept when tracing is stopped.
+  Future<void> setEnabled(bool enabled) => api.setEnabled(enabled);
+
+  /// Returns the traffic recorded for each channel that received or sent a
+  /// message.
+  Future<List<ChannelStats>> getStats() async {
+    final List<Map<String?, Object?>?> stats = await api.getStats();
+    return stats.map((Map<String?, Object?>? channelStats) {
+      return ChannelStats(
+        channel: channelStats!['channel']! as String,
+        isHostApi: channelStats['isHostApi']! as bool,
+        calls: channelStats['calls']! as int,
+        bytesFromDart: channelStats['bytesFromDart']! as int,
+        bytesToDart: channelStats['bytesToDart']! as int,
+        totalTime: Duration(
+          microseconds: channelStats['totalTimeMicros']! as int,
+        ),
+        maxTime: Duration(microseconds: channelStats['maxTimeMicros']! as int),
+      );
+    }).toList();
+  }
+
+  /// Forgets the traffic recorded so far.
+  Future<void> reset() => api.reset();
+}
+
+/// The traffic of a platform channel recorded by [ChannelTracing].
+class ChannelStats {
+  /// Constructs a [ChannelStats].
+  const ChannelStats({
+    required this.channel,
+    required this.isHostApi,
+    required this.calls,
+    required this.bytesFromDart,
+    required this.bytesToDart,
+    required this.totalTime,
+    required this.maxTime,
+  });
+
+  /// The name of the channel, which contains the API and method names.
+  final String channel;
+
+  /// Whether Dart sends the messages of the channel, as opposed to the
+  /// platform.
+  final bool isHostApi;
+
+  /// The number of messages sent through the channel.
+  final int calls;
+
+  /// The size of the messages or replies sent by Dart, in bytes.
+  final int bytesFromDart;
+
+  /// The size of the messages or replies sent by the platform, in bytes.
+  final int bytesToDart;
+
+  /// The total time from the messages to their replies.
+  final Duration totalTime;
+
+  /// The longest time from a message to its reply.
+  final Duration maxTime;
+}
+
 /// Manages settings state for a [WebView].
 ///
 /// When a WebView is first created, it obtains a set of default settings. These
@@ -630,12 +801,49 @@ class JavaScriptChannel extends JavaObject {
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   final void Function(String message) postMessage;
 
+  /// Enables or disables batching of the messages sent through this channel.
+  ///
+  /// When enabled, messages are queued on the Java side and sent to Dart
+  /// together once per frame, or as soon as [maxBatchSize] messages are
+  /// queued. [postMessage] is still called once per message, in the order
+  /// JavaScript sent them. Disabling batching sends any queued messages right
+  /// away.
+  Future<void> setBatching(bool enabled, {int maxBatchSize = 64}) {
+    return api.setBatchingFromInstance(this, enabled, maxBatchSize);
+  }
+
+  /// Returns the message queue metrics of this channel.
+  ///
+  /// Contains the current `queueDepth`, the `maxQueueDepth` reached, and the
+  /// number of `messages` and `batches` sent to Dart.
+  Future<Map<String, int>> getQueueStats() {
+    return api.getQueueStatsFromInstance(this);
+  }
+
   @override
   JavaScriptChannel copy() {
     return JavaScriptChannel.detached(channelName, postMessage: postMessage);
   }
 }
 
+/// Events of a [WebViewClient] that can be sent to Dart.
+///
+/// See [WebViewClient.setSubscribedEvents].
+enum WebViewClientEvent {
+  /// Calls to [WebViewClient.onPageStarted].
+  pageStarted,
+
+  /// Calls to [WebViewClient.onPageFinished].
+  pageFinished,
+
+  /// Calls to [WebViewClient.onReceivedRequestError] and
+  /// [WebViewClient.onReceivedError].
+  receivedError,
+
+  /// Calls to [WebViewClient.requestLoading] and [WebViewClient.urlLoading].
+  loadingRequest,
+}
+
 /// Receive various notifications and requests for [WebView].
 class WebViewClient extends JavaObject {
   /// Constructs a [WebViewClient].
@@ -822,6 +1030,18 @@ class WebViewClient extends JavaObject {
     return api.setShouldOverrideUrlLoadingReturnValueFromInstance(this, value);
   }
 
+  /// Sets the events that the Java `WebViewClient` sends to Dart.
+  ///
+  /// No message is sent for the events that aren't subscribed to, and their
+  /// callbacks aren't called. Loading requests are always sent while the value
+  /// set by [setSynchronousReturnValueForShouldOverrideUrlLoading] is true,
+  /// since the [WebView] doesn't load them itself.
+  ///
+  /// Every event is subscribed to by default.
+  Future<void> setSubscribedEvents(Set<WebViewClientEvent> events) {
+    return api.setSubscribedEventsFromInstance(this, events);
+  }
+
   @override
   WebViewClient copy() {
     return WebViewClient.detached(
@@ -938,6 +1158,25 @@ class WebChromeClient extends JavaObject {
     );
   }
 
+  /// Sets which progress changes are sent to [onProgressChanged].
+  ///
+  /// When [enabled] is false, progress changes aren't sent to Dart. Otherwise
+  /// a progress is only sent when it differs by at least [minProgressDelta]
+  /// from the last progress sent. The start of a new page load and the
+  /// completion of a load are always sent.
+  ///
+  /// Every progress change is sent by default.
+  Future<void> setProgressChangedEvents({
+    required bool enabled,
+    int minProgressDelta = 1,
+  }) {
+    return api.setProgressChangedEventsFromInstance(
+      this,
+      enabled,
+      minProgressDelta,
+    );
+  }
+
   @override
   WebChromeClient copy() {
     return WebChromeClient.detached(
@@ -1038,6 +1277,24 @@ class WebResourceError {
   final String description;
 }
 
+/// The result of a script evaluated by [WebView.evaluateJavascriptBatch].
+class JavaScriptResult {
+  /// Constructs a [JavaScriptResult].
+  JavaScriptResult({
+    required this.result,
+    required this.elapsedTime,
+  });
+
+  /// The value returned by the script, as for [WebView.evaluateJavascript].
+  final String? result;
+
+  /// The time the WebView took to evaluate the script.
+  ///
+  /// Measured from the end of the previous script of the batch, so it doesn't
+  /// include the time spent waiting for earlier scripts.
+  final Duration elapsedTime;
+}
+
 /// Manages Flutter assets that are part of Android's app bundle.
 class FlutterAssetManager {
   /// Constructs the [FlutterAssetManager].
@@ -1095,3 +1352,269 @@ class WebStorage extends JavaObject {
     return WebStorage.detached();
   }
 }
+
+/// Serves the requests of a [WebViewClient] from the Flutter assets, or from an
+/// on-disk HTTP cache, without going through the network.
+///
+/// Requests are intercepted on a background thread on the Java side, so serving
+/// them never goes through Dart. Only `GET` requests are served, and only on
+/// Android 5.0 and above.
+class WebResourceInterceptor extends JavaObject {
+  /// Constructs a [WebResourceInterceptor].
+  WebResourceInterceptor() : super.detached() {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    api.createFromInstance(this);
+  }
+
+  /// Constructs a [WebResourceInterceptor] without creating the associated
+  /// Java object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies.
+  WebResourceInterceptor.detached() : super.detached();
+
+  /// Pigeon Host Api implementation for [WebResourceInterceptor].
+  @visibleForTesting
+  static WebResourceInterceptorHostApiImpl api =
+      WebResourceInterceptorHostApiImpl();
+
+  /// Sets the maximum total size of the cached responses, shared by every
+  /// [WebResourceInterceptor].
+  ///
+  /// Defaults to 50MB. The least recently used responses are evicted first.
+  static Future<void> setCacheMaxSize(int maxSizeBytes) {
+    return api.setCacheMaxSize(maxSizeBytes);
+  }
+
+  /// Removes every cached response.
+  static Future<void> clearCache() {
+    return api.clearCache();
+  }
+
+  /// Serves URLs starting with [urlPrefix] from the Flutter assets in
+  /// [assetDirectory].
+  ///
+  /// For example, with the prefix `https://example.com/static/` and the
+  /// directory `assets/web`, `https://example.com/static/app.js` is served
+  /// from the asset `assets/web/app.js`. Requests for missing assets go to the
+  /// network.
+  Future<void> addAssetPrefix(String urlPrefix, String assetDirectory) {
+    return api.addAssetPrefixFromInstance(this, urlPrefix, assetDirectory);
+  }
+
+  /// Caches the responses of http and https URLs starting with [urlPrefix] on
+  /// disk.
+  ///
+  /// Cached responses are served as long as their `Cache-Control: max-age` or
+  /// `Expires` header says they are fresh, and revalidated with their `ETag`
+  /// or `Last-Modified` header afterwards. When the network is unavailable,
+  /// stale responses are served. Responses with a `Vary` header are not
+  /// cached, as they depend on the request headers.
+  Future<void> addCachedPrefix(String urlPrefix) {
+    return api.addCachedPrefixFromInstance(this, urlPrefix);
+  }
+
+  /// Intercepts the requests of [webViewClient].
+  Future<void> attachToWebViewClient(WebViewClient webViewClient) {
+    return api.attachToWebViewClientFromInstance(this, webViewClient);
+  }
+
+  /// Returns the counts of requests served by this interceptor.
+  ///
+  /// The keys are `assetHits`, `assetMisses`, `cacheHits`, `cacheMisses`,
+  /// `cacheRevalidations`, `cacheStaleHits` and `cacheSizeBytes`.
+  Future<Map<String, int>> getStats() {
+    return api.getStatsFromInstance(this);
+  }
+
+  @override
+  WebResourceInterceptor copy() {
+    return WebResourceInterceptor.detached();
+  }
+}
+
+/// Exchanges binary messages with the JavaScript of a [WebView].
+///
+/// Exposes an object named [channelName] to JavaScript. Its `postMessage`
+/// method takes an `ArrayBuffer`, which is received by [onMessage] as bytes
+/// without being encoded as a string. Messages sent with [postMessage] are
+/// received as `ArrayBuffer`s by the `onmessage` handler of the object.
+///
+/// Requires a WebView that supports web message listeners, see [isSupported].
+/// [JavaScriptChannel] can be used otherwise.
+class BinaryJavaScriptChannel extends JavaObject {
+  /// Constructs a [BinaryJavaScriptChannel].
+  BinaryJavaScriptChannel(
+    this.channelName, {
+    required this.onMessage,
+    this.allowedOriginRules = const <String>['*'],
+  }) : super.detached() {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    api.createFromInstance(this);
+  }
+
+  /// Constructs a [BinaryJavaScriptChannel] without creating the associated
+  /// Java object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies.
+  BinaryJavaScriptChannel.detached(
+    this.channelName, {
+    required this.onMessage,
+    this.allowedOriginRules = const <String>['*'],
+  }) : super.detached();
+
+  /// Pigeon Host Api implementation for [BinaryJavaScriptChannel].
+  @visibleForTesting
+  static BinaryJavaScriptChannelHostApiImpl api =
+      BinaryJavaScriptChannelHostApiImpl();
+
+  /// Name of the object exposed to JavaScript.
+  final String channelName;
+
+  /// Origins of the frames the object is exposed to, such as
+  /// `https://example.com`.
+  ///
+  /// See https://developer.android.com/reference/androidx/webkit/WebViewCompat#addWebMessageListener(android.webkit.WebView,java.lang.String,java.util.Set%3Cjava.lang.String%3E,androidx.webkit.WebViewCompat.WebMessageListener).
+  final List<String> allowedOriginRules;
+
+  /// Callback method when JavaScript calls `postMessage` on the object.
+  ///
+  /// Strings posted by JavaScript are received encoded as UTF-8.
+  final void Function(Uint8List message) onMessage;
+
+  /// Whether binary messages can be exchanged with JavaScript on this device.
+  static Future<bool> isSupported() {
+    return api.isSupported();
+  }
+
+  /// Exposes this channel to the JavaScript of [webView].
+  ///
+  /// The object is available to the pages loaded afterwards.
+  Future<void> addToWebView(WebView webView) {
+    return api.addToWebViewFromInstance(this, webView);
+  }
+
+  /// Removes this channel from the JavaScript of [webView].
+  Future<void> removeFromWebView(WebView webView) {
+    return api.removeFromWebViewFromInstance(this, webView);
+  }
+
+  /// Sends [message] to the `onmessage` handler of the object.
+  ///
+  /// The page has to post a message to this channel first, so that the
+  /// WebView knows which frame to send messages to.
+  Future<void> postMessage(Uint8List message) {
+    return api.postMessageFromInstance(this, message);
+  }
+
+  @override
+  BinaryJavaScriptChannel copy() {
+    return BinaryJavaScriptChannel.detached(
+      channelName,
+      onMessage: onMessage,
+      allowedOriginRules: allowedOriginRules,
+    );
+  }
+}
+
+/// Downloads a URL to a file on the platform side, so that the data doesn't go
+/// through Dart.
+///
+/// Typically started from [DownloadListener.onDownloadStart], with the URL and
+/// user agent of the download. The request carries the cookies of the
+/// [WebView] for the URL.
+///
+/// The data is written to [filePath] with a `.part` suffix, and moved to
+/// [filePath] once the download completes. Starting the download again after
+/// it failed or was cancelled resumes from the data already written, when the
+/// server supports `Range` requests and the file still has the `ETag` or
+/// `Last-Modified` date it had when the data was written.
+///
+/// The download is cancelled when this object is garbage collected, so a
+/// reference has to be kept while it runs.
+class FileDownload extends JavaObject {
+  /// Constructs a [FileDownload].
+  FileDownload({
+    required this.url,
+    required this.filePath,
+    this.userAgent,
+    this.progressInterval = const Duration(milliseconds: 250),
+    this.onProgress,
+    this.onComplete,
+    this.onError,
+  }) : super.detached() {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    api.createFromInstance(this);
+  }
+
+  /// Constructs a [FileDownload] without creating the associated Java object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies.
+  FileDownload.detached({
+    required this.url,
+    required this.filePath,
+    this.userAgent,
+    this.progressInterval = const Duration(milliseconds: 250),
+    this.onProgress,
+    this.onComplete,
+    this.onError,
+  }) : super.detached();
+
+  /// Pigeon Host Api implementation for [FileDownload].
+  @visibleForTesting
+  static FileDownloadHostApiImpl api = FileDownloadHostApiImpl();
+
+  /// The http or https URL to download.
+  final String url;
+
+  /// The path of the file the data is written to.
+  final String filePath;
+
+  /// The `User-Agent` header of the request, or null for the default one.
+  final String? userAgent;
+
+  /// The minimum time between two calls to [onProgress].
+  final Duration progressInterval;
+
+  /// Callback method when data is received.
+  ///
+  /// [totalBytes] is -1 when the server didn't send the size of the file.
+  final void Function(int receivedBytes, int totalBytes)? onProgress;
+
+  /// Callback method when the file has been fully written to [filePath].
+  final void Function(int receivedBytes)? onComplete;
+
+  /// Callback method when the download failed.
+  ///
+  /// The data received so far is kept, and the download can be started again.
+  final void Function(String description)? onError;
+
+  /// Starts the download.
+  ///
+  /// Completes with an error if the download is already running.
+  Future<void> start() {
+    return api.startFromInstance(this);
+  }
+
+  /// Stops the download, keeping the data received so far.
+  ///
+  /// The callbacks aren't called anymore until the download is started again.
+  Future<void> cancel() {
+    return api.cancelFromInstance(this);
+  }
+
+  @override
+  FileDownload copy() {
+    return FileDownload.detached(
+      url: url,
+      filePath: filePath,
+      userAgent: userAgent,
+      progressInterval: progressInterval,
+      onProgress: onProgress,
+      onComplete: onComplete,
+      onError: onError,
+    );
+  }
+}
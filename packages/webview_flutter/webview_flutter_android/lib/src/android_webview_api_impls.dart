@@ -45,6 +45,8 @@ class AndroidWebViewFlutterApis {
     WebChromeClientFlutterApiImpl? webChromeClientFlutterApi,
     JavaScriptChannelFlutterApiImpl? javaScriptChannelFlutterApi,
     FileChooserParamsFlutterApiImpl? fileChooserParamsFlutterApi,
+    BinaryJavaScriptChannelFlutterApiImpl? binaryJavaScriptChannelFlutterApi,
+    FileDownloadFlutterApiImpl? fileDownloadFlutterApi,
   }) {
     this.javaObjectFlutterApi =
         javaObjectFlutterApi ?? JavaObjectFlutterApiImpl();
@@ -58,6 +60,11 @@ class AndroidWebViewFlutterApis {
         javaScriptChannelFlutterApi ?? JavaScriptChannelFlutterApiImpl();
     this.fileChooserParamsFlutterApi =
         fileChooserParamsFlutterApi ?? FileChooserParamsFlutterApiImpl();
+    this.binaryJavaScriptChannelFlutterApi =
+        binaryJavaScriptChannelFlutterApi ??
+            BinaryJavaScriptChannelFlutterApiImpl();
+    this.fileDownloadFlutterApi =
+        fileDownloadFlutterApi ?? FileDownloadFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
@@ -85,6 +92,13 @@ class AndroidWebViewFlutterApis {
   /// Flutter Api for [FileChooserParams].
   late final FileChooserParamsFlutterApiImpl fileChooserParamsFlutterApi;
 
+  /// Flutter Api for [BinaryJavaScriptChannel].
+  late final BinaryJavaScriptChannelFlutterApiImpl
+      binaryJavaScriptChannelFlutterApi;
+
+  /// Flutter Api for [FileDownload].
+  late final FileDownloadFlutterApiImpl fileDownloadFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
@@ -94,6 +108,10 @@ class AndroidWebViewFlutterApis {
       WebChromeClientFlutterApi.setup(webChromeClientFlutterApi);
       JavaScriptChannelFlutterApi.setup(javaScriptChannelFlutterApi);
       FileChooserParamsFlutterApi.setup(fileChooserParamsFlutterApi);
+      BinaryJavaScriptChannelFlutterApi.setup(
+        binaryJavaScriptChannelFlutterApi,
+      );
+      FileDownloadFlutterApi.setup(fileDownloadFlutterApi);
       _haveBeenSetUp = true;
     }
   }
@@ -253,6 +271,23 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<List<JavaScriptResult>> evaluateJavascriptBatchFromInstance(
+    WebView instance,
+    List<String> scripts,
+  ) async {
+    final List<JavaScriptResultData?> results = await evaluateJavascriptBatch(
+      instanceManager.getIdentifier(instance)!,
+      scripts,
+    );
+    return results.map((JavaScriptResultData? data) {
+      return JavaScriptResult(
+        result: data!.result,
+        elapsedTime: Duration(microseconds: data.elapsedMicros),
+      );
+    }).toList();
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
@@ -508,6 +543,29 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
       );
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setBatchingFromInstance(
+    JavaScriptChannel instance,
+    bool enabled,
+    int maxBatchSize,
+  ) {
+    return setBatching(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      maxBatchSize,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String, int>> getQueueStatsFromInstance(
+    JavaScriptChannel instance,
+  ) async {
+    final Map<String?, int?> stats = await getQueueStats(
+      instanceManager.getIdentifier(instance)!,
+    );
+    return stats.cast<String, int>();
+  }
 }
 
 /// Flutter api implementation for [JavaScriptChannel].
@@ -529,6 +587,19 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<String?> messages) {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an JavaScriptChannel with instanceId: $instanceId',
+    );
+    for (final String? message in messages) {
+      instance!.postMessage(message!);
+    }
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -560,6 +631,20 @@ class WebViewClientHostApiImpl extends WebViewClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setSubscribedEventsFromInstance(
+    WebViewClient instance,
+    Set<WebViewClientEvent> events,
+  ) {
+    return setSubscribedEvents(
+      instanceManager.getIdentifier(instance)!,
+      events.contains(WebViewClientEvent.pageStarted),
+      events.contains(WebViewClientEvent.pageFinished),
+      events.contains(WebViewClientEvent.receivedError),
+      events.contains(WebViewClientEvent.loadingRequest),
+    );
+  }
 }
 
 /// Flutter api implementation for [WebViewClient].
@@ -801,6 +886,19 @@ class WebChromeClientHostApiImpl extends WebChromeClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setProgressChangedEventsFromInstance(
+    WebChromeClient instance,
+    bool enabled,
+    int minProgressDelta,
+  ) {
+    return setProgressChangedEvents(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      minProgressDelta,
+    );
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
@@ -905,3 +1003,220 @@ class FileChooserParamsFlutterApiImpl extends FileChooserParamsFlutterApi {
     );
   }
 }
+
+/// Host api implementation for [WebResourceInterceptor].
+class WebResourceInterceptorHostApiImpl extends WebResourceInterceptorHostApi {
+  /// Constructs a [WebResourceInterceptorHostApiImpl].
+  WebResourceInterceptorHostApiImpl({
+    super.binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> createFromInstance(WebResourceInterceptor instance) async {
+    if (instanceManager.getIdentifier(instance) == null) {
+      final int identifier = instanceManager.addDartCreatedInstance(instance);
+      return create(identifier);
+    }
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> addAssetPrefixFromInstance(
+    WebResourceInterceptor instance,
+    String urlPrefix,
+    String assetDirectory,
+  ) {
+    return addAssetPrefix(
+      instanceManager.getIdentifier(instance)!,
+      urlPrefix,
+      assetDirectory,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> addCachedPrefixFromInstance(
+    WebResourceInterceptor instance,
+    String urlPrefix,
+  ) {
+    return addCachedPrefix(instanceManager.getIdentifier(instance)!, urlPrefix);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> attachToWebViewClientFromInstance(
+    WebResourceInterceptor instance,
+    WebViewClient webViewClient,
+  ) {
+    return attachToWebViewClient(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(webViewClient)!,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String, int>> getStatsFromInstance(
+    WebResourceInterceptor instance,
+  ) async {
+    final Map<String?, int?> stats =
+        await getStats(instanceManager.getIdentifier(instance)!);
+    return stats.cast<String, int>();
+  }
+}
+
+/// Host api implementation for [BinaryJavaScriptChannel].
+class BinaryJavaScriptChannelHostApiImpl
+    extends BinaryJavaScriptChannelHostApi {
+  /// Constructs a [BinaryJavaScriptChannelHostApiImpl].
+  BinaryJavaScriptChannelHostApiImpl({
+    super.binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> createFromInstance(BinaryJavaScriptChannel instance) async {
+    if (instanceManager.getIdentifier(instance) == null) {
+      final int identifier = instanceManager.addDartCreatedInstance(instance);
+      await create(
+        identifier,
+        instance.channelName,
+        instance.allowedOriginRules,
+      );
+    }
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> addToWebViewFromInstance(
+    BinaryJavaScriptChannel instance,
+    WebView webView,
+  ) {
+    return addToWebView(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(webView)!,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> removeFromWebViewFromInstance(
+    BinaryJavaScriptChannel instance,
+    WebView webView,
+  ) {
+    return removeFromWebView(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(webView)!,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> postMessageFromInstance(
+    BinaryJavaScriptChannel instance,
+    Uint8List message,
+  ) {
+    return postMessage(instanceManager.getIdentifier(instance)!, message);
+  }
+}
+
+/// Flutter api implementation for [BinaryJavaScriptChannel].
+class BinaryJavaScriptChannelFlutterApiImpl
+    extends BinaryJavaScriptChannelFlutterApi {
+  /// Constructs a [BinaryJavaScriptChannelFlutterApiImpl].
+  BinaryJavaScriptChannelFlutterApiImpl({InstanceManager? instanceManager})
+      : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  @override
+  void postMessage(int instanceId, Uint8List message) {
+    final BinaryJavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as BinaryJavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an BinaryJavaScriptChannel with instanceId: $instanceId',
+    );
+    instance!.onMessage(message);
+  }
+}
+
+/// Host api implementation for [FileDownload].
+class FileDownloadHostApiImpl extends FileDownloadHostApi {
+  /// Constructs a [FileDownloadHostApiImpl].
+  FileDownloadHostApiImpl({
+    super.binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> createFromInstance(FileDownload instance) async {
+    if (instanceManager.getIdentifier(instance) == null) {
+      final int identifier = instanceManager.addDartCreatedInstance(instance);
+      await create(
+        identifier,
+        instance.url,
+        instance.userAgent,
+        instance.filePath,
+        instance.progressInterval.inMilliseconds,
+      );
+    }
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> startFromInstance(FileDownload instance) {
+    return start(instanceManager.getIdentifier(instance)!);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> cancelFromInstance(FileDownload instance) {
+    return cancel(instanceManager.getIdentifier(instance)!);
+  }
+}
+
+/// Flutter api implementation for [FileDownload].
+class FileDownloadFlutterApiImpl extends FileDownloadFlutterApi {
+  /// Constructs a [FileDownloadFlutterApiImpl].
+  FileDownloadFlutterApiImpl({InstanceManager? instanceManager})
+      : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  @override
+  void onProgress(int instanceId, int receivedBytes, int totalBytes) {
+    final FileDownload? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as FileDownload?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an FileDownload with instanceId: $instanceId',
+    );
+    instance!.onProgress?.call(receivedBytes, totalBytes);
+  }
+
+  @override
+  void onComplete(int instanceId, int receivedBytes) {
+    final FileDownload? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as FileDownload?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an FileDownload with instanceId: $instanceId',
+    );
+    instance!.onComplete?.call(receivedBytes);
+  }
+
+  @override
+  void onError(int instanceId, String description) {
+    final FileDownload? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as FileDownload?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an FileDownload with instanceId: $instanceId',
+    );
+    instance!.onError?.call(description);
+  }
+}
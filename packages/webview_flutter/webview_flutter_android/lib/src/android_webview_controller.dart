@@ -80,6 +80,8 @@ class AndroidWebViewController extends PlatformWebViewController {
     _webView.settings.setBuiltInZoomControls(true);
 
     _webView.setWebChromeClient(_webChromeClient);
+    // Progress is only sent to a navigation delegate.
+    _webChromeClient.setProgressChangedEvents(enabled: false);
   }
 
   AndroidWebViewControllerCreationParams get _androidWebViewParams =>
@@ -260,6 +262,7 @@ class AndroidWebViewController extends PlatformWebViewController {
     handler.setOnLoadRequest(loadRequest);
     _webView.setWebViewClient(handler.androidWebViewClient);
     _webView.setDownloadListener(handler.androidDownloadListener);
+    await _webChromeClient.setProgressChangedEvents(enabled: true);
   }
 
   @override
@@ -793,6 +796,8 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
         }
       },
     );
+
+    _updateSubscribedEvents();
   }
 
   AndroidNavigationDelegateCreationParams get _androidParams =>
@@ -832,6 +837,21 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
   NavigationRequestCallback? _onNavigationRequest;
   LoadRequestCallback? _onLoadRequest;
 
+  // Events without a callback aren't sent by the native WebViewClient.
+  Future<void> _updateSubscribedEvents() {
+    return _webViewClient
+        .setSubscribedEvents(<android_webview.WebViewClientEvent>{
+      if (_onPageStarted != null)
+        android_webview.WebViewClientEvent.pageStarted,
+      if (_onPageFinished != null)
+        android_webview.WebViewClientEvent.pageFinished,
+      if (_onWebResourceError != null)
+        android_webview.WebViewClientEvent.receivedError,
+      if (_onNavigationRequest != null)
+        android_webview.WebViewClientEvent.loadingRequest,
+    });
+  }
+
   void _handleNavigation(
     String url, {
     required bool isForMainFrame,
@@ -881,6 +901,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     NavigationRequestCallback onNavigationRequest,
   ) async {
     _onNavigationRequest = onNavigationRequest;
+    await _updateSubscribedEvents();
     _webViewClient.setSynchronousReturnValueForShouldOverrideUrlLoading(true);
   }
 
@@ -889,6 +910,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     PageEventCallback onPageStarted,
   ) async {
     _onPageStarted = onPageStarted;
+    await _updateSubscribedEvents();
   }
 
   @override
@@ -896,6 +918,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     PageEventCallback onPageFinished,
   ) async {
     _onPageFinished = onPageFinished;
+    await _updateSubscribedEvents();
   }
 
   @override
@@ -910,5 +933,6 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     WebResourceErrorCallback onWebResourceError,
   ) async {
     _onWebResourceError = onWebResourceError;
+    await _updateSubscribedEvents();
   }
 }
@@ -86,6 +86,13 @@ class WebViewPoint {
   int y;
 }
 
+class JavaScriptResultData {
+  JavaScriptResultData(this.result, this.elapsedMicros);
+
+  String? result;
+  int elapsedMicros;
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
@@ -110,6 +117,10 @@ abstract class CookieManagerHostApi {
   bool clearCookies();
 
   void setCookie(String url, String value);
+
+  int setCookies(Map<String, List<String>> cookies);
+
+  Map<String, String?> getCookies(List<String> urls);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
@@ -164,6 +175,12 @@ abstract class WebViewHostApi {
     String javascriptString,
   );
 
+  @async
+  List<JavaScriptResultData?> evaluateJavascriptBatch(
+    int instanceId,
+    List<String?> scripts,
+  );
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -223,11 +240,17 @@ abstract class WebSettingsHostApi {
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void setBatching(int instanceId, bool enabled, int maxBatchSize);
+
+  Map<String, int> getQueueStats(int instanceId);
 }
 
 @FlutterApi()
 abstract class JavaScriptChannelFlutterApi {
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<String> messages);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -238,6 +261,14 @@ abstract class WebViewClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setSubscribedEvents(
+    int instanceId,
+    bool pageStarted,
+    bool pageFinished,
+    bool receivedError,
+    bool loadingRequest,
+  );
 }
 
 @FlutterApi()
@@ -295,6 +326,12 @@ abstract class WebChromeClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setProgressChangedEvents(
+    int instanceId,
+    bool enabled,
+    int minProgressDelta,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestAssetManagerHostApi')
@@ -336,3 +373,102 @@ abstract class FileChooserParamsFlutterApi {
     String? filenameHint,
   );
 }
+
+/// Handles methods calls to the native Java WebResourceInterceptor class.
+///
+/// Serves the requests of a WebViewClient from the Flutter assets, or from an
+/// on-disk HTTP cache.
+@HostApi(dartHostTestHandler: 'TestWebResourceInterceptorHostApi')
+abstract class WebResourceInterceptorHostApi {
+  void create(int instanceId);
+
+  void addAssetPrefix(int instanceId, String urlPrefix, String assetDirectory);
+
+  void addCachedPrefix(int instanceId, String urlPrefix);
+
+  void attachToWebViewClient(int instanceId, int webViewClientInstanceId);
+
+  @async
+  void setCacheMaxSize(int maxSizeBytes);
+
+  @async
+  void clearCache();
+
+  @async
+  Map<String, int> getStats(int instanceId);
+}
+
+/// Handles methods calls to the native Java BinaryJavaScriptChannel class.
+///
+/// Exchanges binary messages with JavaScript through a WebMessageListener.
+///
+/// See https://developer.android.com/reference/androidx/webkit/WebViewCompat#addWebMessageListener(android.webkit.WebView,java.lang.String,java.util.Set%3Cjava.lang.String%3E,androidx.webkit.WebViewCompat.WebMessageListener).
+@HostApi(dartHostTestHandler: 'TestBinaryJavaScriptChannelHostApi')
+abstract class BinaryJavaScriptChannelHostApi {
+  bool isSupported();
+
+  void create(
+    int instanceId,
+    String channelName,
+    List<String> allowedOriginRules,
+  );
+
+  void addToWebView(int instanceId, int webViewInstanceId);
+
+  void removeFromWebView(int instanceId, int webViewInstanceId);
+
+  void postMessage(int instanceId, Uint8List message);
+}
+
+@FlutterApi()
+abstract class BinaryJavaScriptChannelFlutterApi {
+  void postMessage(int instanceId, Uint8List message);
+}
+
+/// Handles methods calls to the native Java WebViewPool class.
+///
+/// Keeps WebViews using hybrid composition that are created ahead of time.
+@HostApi(dartHostTestHandler: 'TestWebViewPoolHostApi')
+abstract class WebViewPoolHostApi {
+  void setMaxSize(int maxSize);
+
+  Map<String, int> getStats();
+}
+
+/// Handles methods calls to the native Java FileDownload class.
+///
+/// Downloads a URL to a file on a background thread, with the cookies of the
+/// WebView.
+@HostApi(dartHostTestHandler: 'TestFileDownloadHostApi')
+abstract class FileDownloadHostApi {
+  void create(
+    int instanceId,
+    String url,
+    String? userAgent,
+    String filePath,
+    int progressIntervalMillis,
+  );
+
+  void start(int instanceId);
+
+  void cancel(int instanceId);
+}
+
+@FlutterApi()
+abstract class FileDownloadFlutterApi {
+  void onProgress(int instanceId, int receivedBytes, int totalBytes);
+
+  void onComplete(int instanceId, int receivedBytes);
+
+  void onError(int instanceId, String description);
+}
+
+/// Records the traffic of the platform channels of the plugin.
+@HostApi(dartHostTestHandler: 'TestChannelTracingHostApi')
+abstract class ChannelTracingHostApi {
+  void setEnabled(bool enabled);
+
+  List<Map<String, Object>> getStats();
+
+  void reset();
+}
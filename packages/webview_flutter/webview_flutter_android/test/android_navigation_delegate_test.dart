@@ -346,6 +346,27 @@ void main() {
           isTrue);
     });
 
+    test('only subscribes to events with a callback', () async {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+      final CapturingWebViewClient webViewClient =
+          CapturingWebViewClient.lastCreatedDelegate;
+      expect(webViewClient.subscribedEvents, isEmpty);
+
+      await androidNavigationDelegate.setOnPageFinished((_) {});
+      await androidNavigationDelegate.setOnNavigationRequest(
+        (NavigationRequest request) => NavigationDecision.navigate,
+      );
+
+      expect(
+        webViewClient.subscribedEvents,
+        <android_webview.WebViewClientEvent>{
+          android_webview.WebViewClientEvent.pageFinished,
+          android_webview.WebViewClientEvent.loadingRequest,
+        },
+      );
+    });
+
     test(
         'onLoadRequest from onDownloadStart should not be called when navigationRequestCallback is not specified',
         () {
@@ -473,6 +494,15 @@ class CapturingWebViewClient extends android_webview.WebViewClient {
       bool value) async {
     synchronousReturnValueForShouldOverrideUrlLoading = value;
   }
+
+  Set<android_webview.WebViewClientEvent> subscribedEvents =
+      android_webview.WebViewClientEvent.values.toSet();
+
+  @override
+  Future<void> setSubscribedEvents(
+      Set<android_webview.WebViewClientEvent> events) async {
+    subscribedEvents = events;
+  }
 }
 
 // Records the last created instance of itself.
@@ -485,6 +515,16 @@ class CapturingWebChromeClient extends android_webview.WebChromeClient {
   }
   static CapturingWebChromeClient lastCreatedDelegate =
       CapturingWebChromeClient();
+
+  bool progressChangedEventsEnabled = true;
+
+  @override
+  Future<void> setProgressChangedEvents({
+    required bool enabled,
+    int minProgressDelta = 1,
+  }) async {
+    progressChangedEventsEnabled = enabled;
+  }
 }
 
 // Records the last created instance of itself.
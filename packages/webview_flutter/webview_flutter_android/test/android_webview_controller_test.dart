@@ -515,7 +515,7 @@ void main() {
             .fromPlatformNavigationDelegateCreationParams(
           const PlatformNavigationDelegateCreationParams(),
           androidWebViewProxy: const AndroidWebViewProxy(
-            createAndroidWebViewClient: android_webview.WebViewClient.detached,
+            createAndroidWebViewClient: CapturingWebViewClient.new,
             createAndroidWebChromeClient:
                 android_webview.WebChromeClient.detached,
             createDownloadListener: android_webview.DownloadListener.detached,
@@ -540,6 +540,34 @@ void main() {
       expect(callbackProgress, 42);
     });
 
+    test('progress events are only sent with a navigation delegate',
+        () async {
+      final AndroidWebViewController controller = createControllerWithMocks(
+        createWebChromeClient: CapturingWebChromeClient.new,
+      );
+      final CapturingWebChromeClient webChromeClient =
+          CapturingWebChromeClient.lastCreatedDelegate;
+      expect(webChromeClient.progressChangedEventsEnabled, isFalse);
+
+      await controller.setPlatformNavigationDelegate(
+        AndroidNavigationDelegate(
+          AndroidNavigationDelegateCreationParams
+              .fromPlatformNavigationDelegateCreationParams(
+            const PlatformNavigationDelegateCreationParams(),
+            androidWebViewProxy: const AndroidWebViewProxy(
+              createAndroidWebViewClient: CapturingWebViewClient.new,
+              createAndroidWebChromeClient:
+                  android_webview.WebChromeClient.detached,
+              createDownloadListener:
+                  android_webview.DownloadListener.detached,
+            ),
+          ),
+        ),
+      );
+
+      expect(webChromeClient.progressChangedEventsEnabled, isTrue);
+    });
+
     test('onProgress does not cause LateInitializationError', () {
       // ignore: unused_local_variable
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1267,6 +1267,28 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
         returnValueForMissingStub: (String message) {},
       ) as void Function(String));
   @override
+  _i9.Future<void> setBatching(
+    bool? enabled, {
+    int? maxBatchSize = 64,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [enabled],
+          {#maxBatchSize: maxBatchSize},
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
+  _i9.Future<Map<String, int>> getQueueStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueStats,
+          [],
+        ),
+        returnValue: _i9.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i9.Future<Map<String, int>>);
+  @override
   _i2.JavaScriptChannel copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1591,6 +1613,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setProgressChangedEvents({
+    required bool? enabled,
+    int? minProgressDelta = 1,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedEvents,
+          [],
+          {
+            #enabled: enabled,
+            #minProgressDelta: minProgressDelta,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1923,6 +1962,20 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<String?>.value(),
       ) as _i9.Future<String?>);
   @override
+  _i9.Future<List<_i2.JavaScriptResult>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i9.Future<List<_i2.JavaScriptResult>>.value(
+            <_i2.JavaScriptResult>[]),
+        returnValueForMissingStub:
+            _i9.Future<List<_i2.JavaScriptResult>>.value(
+                <_i2.JavaScriptResult>[]),
+      ) as _i9.Future<List<_i2.JavaScriptResult>>);
+  @override
   _i9.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -2102,6 +2155,16 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setSubscribedEvents(Set<_i2.WebViewClientEvent>? events) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setSubscribedEvents,
+          [events],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
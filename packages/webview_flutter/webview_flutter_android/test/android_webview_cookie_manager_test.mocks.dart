@@ -19,6 +19,16 @@ import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeDuration_0 extends _i1.SmartFake implements Duration {
+  _FakeDuration_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManager].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -44,6 +54,31 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
   @override
+  _i3.Future<Duration> setCookies(Map<String, List<String>>? cookies) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [cookies],
+        ),
+        returnValue: _i3.Future<Duration>.value(_FakeDuration_0(
+          this,
+          Invocation.method(
+            #setCookies,
+            [cookies],
+          ),
+        )),
+      ) as _i3.Future<Duration>);
+  @override
+  _i3.Future<Map<String, String?>> getCookies(List<String>? urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [urls],
+        ),
+        returnValue:
+            _i3.Future<Map<String, String?>>.value(<String, String?>{}),
+      ) as _i3.Future<Map<String, String?>>);
+  @override
   _i3.Future<bool> clearCookies() => (super.noSuchMethod(
         Invocation.method(
           #clearCookies,
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -26,6 +28,11 @@ import 'test_android_webview.g.dart';
   TestWebViewClientHostApi,
   TestWebViewHostApi,
   TestAssetManagerHostApi,
+  TestBinaryJavaScriptChannelHostApi,
+  TestWebViewPoolHostApi,
+  TestFileDownloadHostApi,
+  TestChannelTracingHostApi,
+  TestWebResourceInterceptorHostApi,
   WebChromeClient,
   WebView,
   WebViewClient,
@@ -226,6 +233,29 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptBatch', () async {
+        when(
+          mockPlatformHostApi.evaluateJavascriptBatch(
+            webViewInstanceId,
+            <String>['1 + 1', 'undefined'],
+          ),
+        ).thenAnswer(
+          (_) async => <JavaScriptResultData>[
+            JavaScriptResultData(result: '2', elapsedMicros: 12),
+            JavaScriptResultData(elapsedMicros: 3),
+          ],
+        );
+
+        final List<JavaScriptResult> results = await webView
+            .evaluateJavascriptBatch(<String>['1 + 1', 'undefined']);
+
+        expect(results, hasLength(2));
+        expect(results[0].result, '2');
+        expect(results[0].elapsedTime, const Duration(microseconds: 12));
+        expect(results[1].result, isNull);
+        expect(results[1].elapsedTime, const Duration(microseconds: 3));
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -534,6 +564,58 @@ void main() {
         expect(result, 'Hello, World!');
       });
 
+      test('postMessages', () {
+        final List<String> results = <String>[];
+        when(mockJavaScriptChannel.postMessage).thenReturn((String message) {
+          results.add(message);
+        });
+
+        flutterApi.postMessages(
+          mockJavaScriptChannelInstanceId,
+          <String?>['first', 'second', 'third'],
+        );
+
+        expect(results, <String>['first', 'second', 'third']);
+      });
+
+      test('setBatching', () async {
+        final MockTestJavaScriptChannelHostApi mockHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockHostApi);
+        JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final JavaScriptChannel channel =
+            JavaScriptChannel.detached('channel', postMessage: (_) {});
+        final int instanceId = instanceManager.addDartCreatedInstance(channel);
+
+        await channel.setBatching(true, maxBatchSize: 8);
+
+        verify(mockHostApi.setBatching(instanceId, true, 8));
+      });
+
+      test('getQueueStats', () async {
+        final MockTestJavaScriptChannelHostApi mockHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockHostApi);
+        JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final JavaScriptChannel channel =
+            JavaScriptChannel.detached('channel', postMessage: (_) {});
+        final int instanceId = instanceManager.addDartCreatedInstance(channel);
+        when(mockHostApi.getQueueStats(instanceId)).thenReturn(
+          <String?, int?>{'queueDepth': 2, 'batches': 1},
+        );
+
+        expect(
+          await channel.getQueueStats(),
+          <String, int>{'queueDepth': 2, 'batches': 1},
+        );
+      });
+
       test('copy', () {
         expect(
           JavaScriptChannel.detached('channel', postMessage: (_) {}).copy(),
@@ -542,6 +624,320 @@ void main() {
       });
     });
 
+    group('BinaryJavaScriptChannel', () {
+      late MockTestBinaryJavaScriptChannelHostApi mockPlatformHostApi;
+
+      late InstanceManager instanceManager;
+
+      setUp(() {
+        mockPlatformHostApi = MockTestBinaryJavaScriptChannelHostApi();
+        TestBinaryJavaScriptChannelHostApi.setup(mockPlatformHostApi);
+
+        instanceManager = InstanceManager(onWeakReferenceRemoved: (_) {});
+        BinaryJavaScriptChannel.api = BinaryJavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+      });
+
+      tearDown(() {
+        TestBinaryJavaScriptChannelHostApi.setup(null);
+      });
+
+      test('create', () async {
+        final BinaryJavaScriptChannel channel =
+            BinaryJavaScriptChannel.detached(
+          'channel',
+          onMessage: (_) {},
+          allowedOriginRules: <String>['https://example.com'],
+        );
+
+        await BinaryJavaScriptChannel.api.createFromInstance(channel);
+
+        verify(mockPlatformHostApi.create(
+          instanceManager.getIdentifier(channel),
+          'channel',
+          <String>['https://example.com'],
+        ));
+      });
+
+      test('isSupported', () async {
+        when(mockPlatformHostApi.isSupported()).thenReturn(true);
+
+        expect(await BinaryJavaScriptChannel.isSupported(), isTrue);
+      });
+
+      test('addToWebView', () async {
+        final BinaryJavaScriptChannel channel =
+            BinaryJavaScriptChannel.detached('channel', onMessage: (_) {});
+        final int channelInstanceId =
+            instanceManager.addDartCreatedInstance(channel);
+        final WebView webView = WebView.detached();
+        final int webViewInstanceId =
+            instanceManager.addDartCreatedInstance(webView);
+
+        await channel.addToWebView(webView);
+
+        verify(mockPlatformHostApi.addToWebView(
+          channelInstanceId,
+          webViewInstanceId,
+        ));
+      });
+
+      test('postMessage', () async {
+        final BinaryJavaScriptChannel channel =
+            BinaryJavaScriptChannel.detached('channel', onMessage: (_) {});
+        final int instanceId = instanceManager.addDartCreatedInstance(channel);
+
+        await channel.postMessage(Uint8List.fromList(<int>[1, 2, 3]));
+
+        verify(mockPlatformHostApi.postMessage(
+          instanceId,
+          Uint8List.fromList(<int>[1, 2, 3]),
+        ));
+      });
+
+      test('FlutterAPI postMessage', () {
+        late final Uint8List result;
+        final BinaryJavaScriptChannel channel =
+            BinaryJavaScriptChannel.detached(
+          'channel',
+          onMessage: (Uint8List message) {
+            result = message;
+          },
+        );
+        final int instanceId = instanceManager.addDartCreatedInstance(channel);
+
+        BinaryJavaScriptChannelFlutterApiImpl(instanceManager: instanceManager)
+            .postMessage(instanceId, Uint8List.fromList(<int>[4, 5]));
+
+        expect(result, <int>[4, 5]);
+      });
+
+      test('copy', () {
+        final BinaryJavaScriptChannel channel =
+            BinaryJavaScriptChannel.detached('channel', onMessage: (_) {});
+        expect(channel.copy(), isA<BinaryJavaScriptChannel>());
+      });
+    });
+
+    group('WebResourceInterceptor', () {
+      late MockTestWebResourceInterceptorHostApi mockPlatformHostApi;
+
+      late InstanceManager instanceManager;
+
+      setUp(() {
+        mockPlatformHostApi = MockTestWebResourceInterceptorHostApi();
+        TestWebResourceInterceptorHostApi.setup(mockPlatformHostApi);
+
+        instanceManager = InstanceManager(onWeakReferenceRemoved: (_) {});
+        WebResourceInterceptor.api = WebResourceInterceptorHostApiImpl(
+          instanceManager: instanceManager,
+        );
+      });
+
+      tearDown(() {
+        TestWebResourceInterceptorHostApi.setup(null);
+      });
+
+      test('create', () async {
+        final WebResourceInterceptor interceptor =
+            WebResourceInterceptor.detached();
+
+        await WebResourceInterceptor.api.createFromInstance(interceptor);
+
+        verify(mockPlatformHostApi.create(
+          instanceManager.getIdentifier(interceptor),
+        ));
+      });
+
+      test('addAssetPrefix', () async {
+        final WebResourceInterceptor interceptor =
+            WebResourceInterceptor.detached();
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(interceptor);
+
+        await interceptor.addAssetPrefix(
+          'https://example.com/static/',
+          'assets/web',
+        );
+
+        verify(mockPlatformHostApi.addAssetPrefix(
+          instanceId,
+          'https://example.com/static/',
+          'assets/web',
+        ));
+      });
+
+      test('addCachedPrefix', () async {
+        final WebResourceInterceptor interceptor =
+            WebResourceInterceptor.detached();
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(interceptor);
+
+        await interceptor.addCachedPrefix('https://example.com/');
+
+        verify(mockPlatformHostApi.addCachedPrefix(
+          instanceId,
+          'https://example.com/',
+        ));
+      });
+
+      test('attachToWebViewClient', () async {
+        final WebResourceInterceptor interceptor =
+            WebResourceInterceptor.detached();
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(interceptor);
+        final WebViewClient webViewClient = WebViewClient.detached();
+        final int webViewClientInstanceId =
+            instanceManager.addDartCreatedInstance(webViewClient);
+
+        await interceptor.attachToWebViewClient(webViewClient);
+
+        verify(mockPlatformHostApi.attachToWebViewClient(
+          instanceId,
+          webViewClientInstanceId,
+        ));
+      });
+
+      test('setCacheMaxSize', () async {
+        await WebResourceInterceptor.setCacheMaxSize(1024);
+
+        verify(mockPlatformHostApi.setCacheMaxSize(1024));
+      });
+
+      test('clearCache', () async {
+        await WebResourceInterceptor.clearCache();
+
+        verify(mockPlatformHostApi.clearCache());
+      });
+
+      test('getStats', () async {
+        final WebResourceInterceptor interceptor =
+            WebResourceInterceptor.detached();
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(interceptor);
+        when(mockPlatformHostApi.getStats(instanceId)).thenAnswer(
+          (_) async => <String?, int?>{'cacheHits': 2, 'cacheSizeBytes': 64},
+        );
+
+        expect(
+          await interceptor.getStats(),
+          <String, int>{'cacheHits': 2, 'cacheSizeBytes': 64},
+        );
+      });
+
+      test('copy', () {
+        expect(
+          WebResourceInterceptor.detached().copy(),
+          isA<WebResourceInterceptor>(),
+        );
+      });
+    });
+
+    group('FileDownload', () {
+      late MockTestFileDownloadHostApi mockPlatformHostApi;
+
+      late InstanceManager instanceManager;
+
+      setUp(() {
+        mockPlatformHostApi = MockTestFileDownloadHostApi();
+        TestFileDownloadHostApi.setup(mockPlatformHostApi);
+
+        instanceManager = InstanceManager(onWeakReferenceRemoved: (_) {});
+        FileDownload.api = FileDownloadHostApiImpl(
+          instanceManager: instanceManager,
+        );
+      });
+
+      tearDown(() {
+        TestFileDownloadHostApi.setup(null);
+      });
+
+      test('create', () async {
+        final FileDownload fileDownload = FileDownload.detached(
+          url: 'https://example.com/file.zip',
+          filePath: '/downloads/file.zip',
+          userAgent: 'userAgent',
+          progressInterval: const Duration(seconds: 1),
+        );
+
+        await FileDownload.api.createFromInstance(fileDownload);
+
+        verify(mockPlatformHostApi.create(
+          instanceManager.getIdentifier(fileDownload),
+          'https://example.com/file.zip',
+          'userAgent',
+          '/downloads/file.zip',
+          1000,
+        ));
+      });
+
+      test('start', () async {
+        final FileDownload fileDownload = FileDownload.detached(
+          url: 'https://example.com/file.zip',
+          filePath: '/downloads/file.zip',
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(fileDownload);
+
+        await fileDownload.start();
+
+        verify(mockPlatformHostApi.start(instanceId));
+      });
+
+      test('cancel', () async {
+        final FileDownload fileDownload = FileDownload.detached(
+          url: 'https://example.com/file.zip',
+          filePath: '/downloads/file.zip',
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(fileDownload);
+
+        await fileDownload.cancel();
+
+        verify(mockPlatformHostApi.cancel(instanceId));
+      });
+
+      test('FlutterAPI callbacks', () {
+        final List<String> events = <String>[];
+        final FileDownload fileDownload = FileDownload.detached(
+          url: 'https://example.com/file.zip',
+          filePath: '/downloads/file.zip',
+          onProgress: (int receivedBytes, int totalBytes) {
+            events.add('progress $receivedBytes/$totalBytes');
+          },
+          onComplete: (int receivedBytes) {
+            events.add('complete $receivedBytes');
+          },
+          onError: (String description) {
+            events.add('error $description');
+          },
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(fileDownload);
+
+        final FileDownloadFlutterApiImpl flutterApi =
+            FileDownloadFlutterApiImpl(instanceManager: instanceManager);
+        flutterApi.onProgress(instanceId, 3, -1);
+        flutterApi.onError(instanceId, 'Connection reset');
+        flutterApi.onComplete(instanceId, 5);
+
+        expect(events, <String>[
+          'progress 3/-1',
+          'error Connection reset',
+          'complete 5',
+        ]);
+      });
+
+      test('copy', () {
+        final FileDownload fileDownload = FileDownload.detached(
+          url: 'https://example.com/file.zip',
+          filePath: '/downloads/file.zip',
+        );
+        expect(fileDownload.copy(), isA<FileDownload>());
+      });
+    });
+
     group('WebViewClient', () {
       late WebViewClientFlutterApiImpl flutterApi;
 
@@ -709,6 +1105,25 @@ void main() {
         );
       });
 
+      test('setSubscribedEvents', () {
+        final MockTestWebViewClientHostApi mockHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockHostApi);
+
+        WebViewClient.api =
+            WebViewClientHostApiImpl(instanceManager: instanceManager);
+
+        final WebViewClient webViewClient = WebViewClient.detached();
+        instanceManager.addHostCreatedInstance(webViewClient, 2);
+
+        webViewClient.setSubscribedEvents(<WebViewClientEvent>{
+          WebViewClientEvent.pageFinished,
+          WebViewClientEvent.loadingRequest,
+        });
+
+        verify(mockHostApi.setSubscribedEvents(2, false, true, false, true));
+      });
+
       test('copy', () {
         expect(WebViewClient.detached().copy(), isA<WebViewClient>());
       });
@@ -913,6 +1328,25 @@ void main() {
         );
       });
 
+      test('setProgressChangedEvents', () {
+        final MockTestWebChromeClientHostApi mockHostApi =
+            MockTestWebChromeClientHostApi();
+        TestWebChromeClientHostApi.setup(mockHostApi);
+
+        WebChromeClient.api =
+            WebChromeClientHostApiImpl(instanceManager: instanceManager);
+
+        final WebChromeClient webChromeClient = WebChromeClient.detached();
+        instanceManager.addHostCreatedInstance(webChromeClient, 2);
+
+        webChromeClient.setProgressChangedEvents(
+          enabled: true,
+          minProgressDelta: 10,
+        );
+
+        verify(mockHostApi.setProgressChangedEvents(2, true, 10));
+      });
+
       test('copy', () {
         expect(WebChromeClient.detached().copy(), isA<WebChromeClient>());
       });
@@ -961,6 +1395,130 @@ void main() {
       CookieManager.instance.clearCookies();
       verify(CookieManager.api.clearCookies());
     });
+
+    test('setCookies calls setCookies on CookieManagerHostApi', () async {
+      CookieManager.api = MockCookieManagerHostApi();
+      when(CookieManager.api.setCookies(any))
+          .thenAnswer((_) => Future<int>.value(1500));
+
+      final Duration elapsedTime =
+          await CookieManager.instance.setCookies(<String, List<String>>{
+        'https://flutter.dev': <String>['foo=bar', 'baz=qux'],
+      });
+
+      expect(elapsedTime, const Duration(microseconds: 1500));
+      verify(CookieManager.api.setCookies(<String, List<String>>{
+        'https://flutter.dev': <String>['foo=bar', 'baz=qux'],
+      }));
+    });
+
+    test('getCookies calls getCookies on CookieManagerHostApi', () async {
+      CookieManager.api = MockCookieManagerHostApi();
+      when(CookieManager.api.getCookies(<String>[
+        'https://flutter.dev',
+        'https://dart.dev',
+      ])).thenAnswer(
+        (_) => Future<Map<String?, String?>>.value(<String?, String?>{
+          'https://flutter.dev': 'foo=bar',
+          'https://dart.dev': null,
+        }),
+      );
+
+      expect(
+        await CookieManager.instance.getCookies(<String>[
+          'https://flutter.dev',
+          'https://dart.dev',
+        ]),
+        <String, String?>{
+          'https://flutter.dev': 'foo=bar',
+          'https://dart.dev': null,
+        },
+      );
+    });
+  });
+
+  group('WebViewPool', () {
+    late MockTestWebViewPoolHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewPoolHostApi();
+      TestWebViewPoolHostApi.setup(mockPlatformHostApi);
+    });
+
+    tearDown(() {
+      TestWebViewPoolHostApi.setup(null);
+    });
+
+    test('setMaxSize', () async {
+      await WebViewPool.instance.setMaxSize(2);
+      verify(mockPlatformHostApi.setMaxSize(2));
+    });
+
+    test('getStats', () async {
+      when(mockPlatformHostApi.getStats()).thenReturn(<String?, int?>{
+        'poolSize': 1,
+        'hits': 3,
+        'firstCreateTimeMicros': 120000,
+      });
+
+      expect(
+        await WebViewPool.instance.getStats(),
+        <String, int>{
+          'poolSize': 1,
+          'hits': 3,
+          'firstCreateTimeMicros': 120000,
+        },
+      );
+    });
+  });
+
+  group('ChannelTracing', () {
+    late MockTestChannelTracingHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestChannelTracingHostApi();
+      TestChannelTracingHostApi.setup(mockPlatformHostApi);
+    });
+
+    tearDown(() {
+      TestChannelTracingHostApi.setup(null);
+    });
+
+    test('setEnabled', () async {
+      await ChannelTracing.instance.setEnabled(true);
+      verify(mockPlatformHostApi.setEnabled(true));
+    });
+
+    test('getStats', () async {
+      when(mockPlatformHostApi.getStats()).thenReturn(<Map<String?, Object?>>[
+        <String?, Object?>{
+          'channel': 'dev.flutter.pigeon.WebViewHostApi.loadUrl',
+          'isHostApi': true,
+          'calls': 2,
+          'bytesFromDart': 120,
+          'bytesToDart': 4,
+          'totalTimeMicros': 3000,
+          'maxTimeMicros': 2000,
+        },
+      ]);
+
+      final List<ChannelStats> stats =
+          await ChannelTracing.instance.getStats();
+
+      expect(stats, hasLength(1));
+      expect(stats[0].channel, 'dev.flutter.pigeon.WebViewHostApi.loadUrl');
+      expect(stats[0].isHostApi, isTrue);
+      expect(stats[0].calls, 2);
+      expect(stats[0].bytesFromDart, 120);
+      expect(stats[0].bytesToDart, 4);
+      expect(stats[0].totalTime, const Duration(milliseconds: 3));
+      expect(stats[0].maxTime, const Duration(milliseconds: 2));
+    });
+
+    test('reset', () async {
+      await ChannelTracing.instance.reset();
+      verify(mockPlatformHostApi.reset());
+    });
   });
 
   group('WebStorage', () {
@@ -140,6 +140,25 @@ class MockCookieManagerHostApi extends _i1.Mock
         returnValue: _i5.Future<void>.value(),
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
+  @override
+  _i5.Future<int> setCookies(Map<String?, List<String?>?>? arg_cookies) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [arg_cookies],
+        ),
+        returnValue: _i5.Future<int>.value(0),
+      ) as _i5.Future<int>);
+  @override
+  _i5.Future<Map<String?, String?>> getCookies(List<String?>? arg_urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [arg_urls],
+        ),
+        returnValue:
+            _i5.Future<Map<String?, String?>>.value(<String?, String?>{}),
+      ) as _i5.Future<Map<String?, String?>>);
 }
 
 /// A class which mocks [DownloadListener].
@@ -208,6 +227,28 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
         returnValue: (String message) {},
       ) as void Function(String));
   @override
+  _i5.Future<void> setBatching(
+    bool? enabled, {
+    int? maxBatchSize = 64,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [enabled],
+          {#maxBatchSize: maxBatchSize},
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<Map<String, int>> getQueueStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueStats,
+          [],
+        ),
+        returnValue: _i5.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i5.Future<Map<String, int>>);
+  @override
   _i2.JavaScriptChannel copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -285,6 +326,31 @@ class MockTestJavaScriptChannelHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setBatching(
+    int? instanceId,
+    bool? enabled,
+    int? maxBatchSize,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [
+            instanceId,
+            enabled,
+            maxBatchSize,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  Map<String?, int?> getQueueStats(int? instanceId) => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueStats,
+          [instanceId],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
 }
 
 /// A class which mocks [TestWebChromeClientHostApi].
@@ -319,6 +385,23 @@ class MockTestWebChromeClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setProgressChangedEvents(
+    int? instanceId,
+    bool? enabled,
+    int? minProgressDelta,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedEvents,
+          [
+            instanceId,
+            enabled,
+            minProgressDelta,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebSettingsHostApi].
@@ -586,6 +669,27 @@ class MockTestWebViewClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setSubscribedEvents(
+    int? instanceId,
+    bool? pageStarted,
+    bool? pageFinished,
+    bool? receivedError,
+    bool? loadingRequest,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setSubscribedEvents,
+          [
+            instanceId,
+            pageStarted,
+            pageFinished,
+            receivedError,
+            loadingRequest,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebViewHostApi].
@@ -764,6 +868,22 @@ class MockTestWebViewHostApi extends _i1.Mock
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<List<_i3.JavaScriptResultData?>> evaluateJavascriptBatch(
+    int? instanceId,
+    List<String?>? scripts,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [
+            instanceId,
+            scripts,
+          ],
+        ),
+        returnValue: _i5.Future<List<_i3.JavaScriptResultData?>>.value(
+            <_i3.JavaScriptResultData?>[]),
+      ) as _i5.Future<List<_i3.JavaScriptResultData?>>);
+  @override
   String? getTitle(int? instanceId) => (super.noSuchMethod(Invocation.method(
         #getTitle,
         [instanceId],
@@ -959,6 +1079,290 @@ class MockTestAssetManagerHostApi extends _i1.Mock
       ) as String);
 }
 
+/// A class which mocks [TestBinaryJavaScriptChannelHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestBinaryJavaScriptChannelHostApi extends _i1.Mock
+    implements _i6.TestBinaryJavaScriptChannelHostApi {
+  MockTestBinaryJavaScriptChannelHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  bool isSupported() => (super.noSuchMethod(
+        Invocation.method(
+          #isSupported,
+          [],
+        ),
+        returnValue: false,
+      ) as bool);
+  @override
+  void create(
+    int? instanceId,
+    String? channelName,
+    List<String?>? allowedOriginRules,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #create,
+          [
+            instanceId,
+            channelName,
+            allowedOriginRules,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void addToWebView(
+    int? instanceId,
+    int? webViewInstanceId,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #addToWebView,
+          [
+            instanceId,
+            webViewInstanceId,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void removeFromWebView(
+    int? instanceId,
+    int? webViewInstanceId,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #removeFromWebView,
+          [
+            instanceId,
+            webViewInstanceId,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void postMessage(
+    int? instanceId,
+    _i7.Uint8List? message,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #postMessage,
+          [
+            instanceId,
+            message,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+}
+
+/// A class which mocks [TestWebViewPoolHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewPoolHostApi extends _i1.Mock
+    implements _i6.TestWebViewPoolHostApi {
+  MockTestWebViewPoolHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setMaxSize(int? maxSize) => super.noSuchMethod(
+        Invocation.method(
+          #setMaxSize,
+          [maxSize],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  Map<String?, int?> getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
+}
+
+/// A class which mocks [TestFileDownloadHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestFileDownloadHostApi extends _i1.Mock
+    implements _i6.TestFileDownloadHostApi {
+  MockTestFileDownloadHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void create(
+    int? instanceId,
+    String? url,
+    String? userAgent,
+    String? filePath,
+    int? progressIntervalMillis,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #create,
+          [
+            instanceId,
+            url,
+            userAgent,
+            filePath,
+            progressIntervalMillis,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void start(int? instanceId) => super.noSuchMethod(
+        Invocation.method(
+          #start,
+          [instanceId],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void cancel(int? instanceId) => super.noSuchMethod(
+        Invocation.method(
+          #cancel,
+          [instanceId],
+        ),
+        returnValueForMissingStub: null,
+      );
+}
+
+/// A class which mocks [TestChannelTracingHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestChannelTracingHostApi extends _i1.Mock
+    implements _i6.TestChannelTracingHostApi {
+  MockTestChannelTracingHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setEnabled(bool? enabled) => super.noSuchMethod(
+        Invocation.method(
+          #setEnabled,
+          [enabled],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  List<Map<String?, Object?>?> getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: <Map<String?, Object?>?>[],
+      ) as List<Map<String?, Object?>?>);
+  @override
+  void reset() => super.noSuchMethod(
+        Invocation.method(
+          #reset,
+          [],
+        ),
+        returnValueForMissingStub: null,
+      );
+}
+
+/// A class which mocks [TestWebResourceInterceptorHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebResourceInterceptorHostApi extends _i1.Mock
+    implements _i6.TestWebResourceInterceptorHostApi {
+  MockTestWebResourceInterceptorHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void create(int? instanceId) => super.noSuchMethod(
+        Invocation.method(
+          #create,
+          [instanceId],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void addAssetPrefix(
+    int? instanceId,
+    String? urlPrefix,
+    String? assetDirectory,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #addAssetPrefix,
+          [
+            instanceId,
+            urlPrefix,
+            assetDirectory,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void addCachedPrefix(
+    int? instanceId,
+    String? urlPrefix,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #addCachedPrefix,
+          [
+            instanceId,
+            urlPrefix,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void attachToWebViewClient(
+    int? instanceId,
+    int? webViewClientInstanceId,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #attachToWebViewClient,
+          [
+            instanceId,
+            webViewClientInstanceId,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  _i5.Future<void> setCacheMaxSize(int? maxSizeBytes) => (super.noSuchMethod(
+        Invocation.method(
+          #setCacheMaxSize,
+          [maxSizeBytes],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<void> clearCache() => (super.noSuchMethod(
+        Invocation.method(
+          #clearCache,
+          [],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<Map<String?, int?>> getStats(int? instanceId) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [instanceId],
+        ),
+        returnValue: _i5.Future<Map<String?, int?>>.value(<String?, int?>{}),
+      ) as _i5.Future<Map<String?, int?>>);
+}
+
 /// A class which mocks [WebChromeClient].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -978,6 +1382,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setProgressChangedEvents({
+    required bool? enabled,
+    int? minProgressDelta = 1,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedEvents,
+          [],
+          {
+            #enabled: enabled,
+            #minProgressDelta: minProgressDelta,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1158,6 +1579,17 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<List<_i2.JavaScriptResult>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i5.Future<List<_i2.JavaScriptResult>>.value(
+            <_i2.JavaScriptResult>[]),
+      ) as _i5.Future<List<_i2.JavaScriptResult>>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -1324,6 +1756,16 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setSubscribedEvents(Set<_i2.WebViewClientEvent>? events) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setSubscribedEvents,
+          [events],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
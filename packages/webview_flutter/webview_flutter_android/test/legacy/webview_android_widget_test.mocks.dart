@@ -482,6 +482,17 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<List<_i2.JavaScriptResult>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i5.Future<List<_i2.JavaScriptResult>>.value(
+            <_i2.JavaScriptResult>[]),
+      ) as _i5.Future<List<_i2.JavaScriptResult>>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -51,9 +51,12 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
   const _TestWebViewHostApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebViewPoint) {
+    if (value is JavaScriptResultData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
+    } else if (value is WebViewPoint) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -63,6 +66,9 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
+        return JavaScriptResultData.decode(readValue(buffer)!);
+
+      case 129:
         return WebViewPoint.decode(readValue(buffer)!);
 
       default:
@@ -102,6 +108,9 @@ abstract class TestWebViewHostApi {
 
   Future<String?> evaluateJavascript(int instanceId, String javascriptString);
 
+  Future<List<JavaScriptResultData?>> evaluateJavascriptBatch(
+      int instanceId, List<String?> scripts);
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -413,6 +422,30 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null int.');
+          final List<String?>? arg_scripts =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_scripts != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null List<String?>.');
+          final List<JavaScriptResultData?> output =
+              await api.evaluateJavascriptBatch(arg_instanceId!, arg_scripts!);
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -1021,6 +1054,10 @@ abstract class TestJavaScriptChannelHostApi {
 
   void create(int instanceId, String channelName);
 
+  void setBatching(int instanceId, bool enabled, int maxBatchSize);
+
+  Map<String?, int?> getQueueStats(int instanceId);
+
   static void setup(TestJavaScriptChannelHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1045,6 +1082,50 @@ abstract class TestJavaScriptChannelHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null bool.');
+          final int? arg_maxBatchSize = (args[2] as int?);
+          assert(arg_maxBatchSize != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          api.setBatching(arg_instanceId!, arg_enabled!, arg_maxBatchSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueStats was null, expected non-null int.');
+          final Map<String?, int?> output = api.getQueueStats(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1056,6 +1137,13 @@ abstract class TestWebViewClientHostApi {
   void setSynchronousReturnValueForShouldOverrideUrlLoading(
       int instanceId, bool value);
 
+  void setSubscribedEvents(
+      int instanceId,
+      bool pageStarted,
+      bool pageFinished,
+      bool receivedError,
+      bool loadingRequest);
+
   static void setup(TestWebViewClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1101,6 +1189,38 @@ abstract class TestWebViewClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null, expected non-null int.');
+          final bool? arg_pageStarted = (args[1] as bool?);
+          assert(arg_pageStarted != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null, expected non-null bool.');
+          final bool? arg_pageFinished = (args[2] as bool?);
+          assert(arg_pageFinished != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null, expected non-null bool.');
+          final bool? arg_receivedError = (args[3] as bool?);
+          assert(arg_receivedError != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null, expected non-null bool.');
+          final bool? arg_loadingRequest = (args[4] as bool?);
+          assert(arg_loadingRequest != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedEvents was null, expected non-null bool.');
+          api.setSubscribedEvents(
+              arg_instanceId!, arg_pageStarted!, arg_pageFinished!, arg_receivedError!, arg_loadingRequest!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -1141,6 +1261,9 @@ abstract class TestWebChromeClientHostApi {
   void setSynchronousReturnValueForOnShowFileChooser(
       int instanceId, bool value);
 
+  void setProgressChangedEvents(
+      int instanceId, bool enabled, int minProgressDelta);
+
   static void setup(TestWebChromeClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1186,6 +1309,33 @@ abstract class TestWebChromeClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents was null, expected non-null bool.');
+          final int? arg_minProgressDelta = (args[2] as int?);
+          assert(arg_minProgressDelta != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressChangedEvents was null, expected non-null int.');
+          api.setProgressChangedEvents(
+              arg_instanceId!, arg_enabled!, arg_minProgressDelta!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -1289,3 +1439,506 @@ abstract class TestWebStorageHostApi {
     }
   }
 }
+
+/// Handles methods calls to the native Java BinaryJavaScriptChannel class.
+///
+/// Exchanges binary messages with JavaScript through a WebMessageListener.
+///
+/// See https://developer.android.com/reference/androidx/webkit/WebViewCompat#addWebMessageListener(android.webkit.WebView,java.lang.String,java.util.Set%3Cjava.lang.String%3E,androidx.webkit.WebViewCompat.WebMessageListener).
+abstract class TestBinaryJavaScriptChannelHostApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  bool isSupported();
+
+  void create(
+      int instanceId, String channelName, List<String?> allowedOriginRules);
+
+  void addToWebView(int instanceId, int webViewInstanceId);
+
+  void removeFromWebView(int instanceId, int webViewInstanceId);
+
+  void postMessage(int instanceId, Uint8List message);
+
+  static void setup(TestBinaryJavaScriptChannelHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.isSupported',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final bool output = api.isSupported();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create was null, expected non-null int.');
+          final String? arg_channelName = (args[1] as String?);
+          assert(arg_channelName != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create was null, expected non-null String.');
+          final List<String?>? arg_allowedOriginRules =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(arg_allowedOriginRules != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.create was null, expected non-null List<String?>.');
+          api.create(
+              arg_instanceId!, arg_channelName!, arg_allowedOriginRules!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.addToWebView',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.addToWebView was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.addToWebView was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.addToWebView was null, expected non-null int.');
+          api.addToWebView(arg_instanceId!, arg_webViewInstanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.removeFromWebView',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.removeFromWebView was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.removeFromWebView was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.removeFromWebView was null, expected non-null int.');
+          api.removeFromWebView(arg_instanceId!, arg_webViewInstanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage was null, expected non-null int.');
+          final Uint8List? arg_message = (args[1] as Uint8List?);
+          assert(arg_message != null,
+              'Argument for dev.flutter.pigeon.BinaryJavaScriptChannelHostApi.postMessage was null, expected non-null Uint8List.');
+          api.postMessage(arg_instanceId!, arg_message!);
+          return <Object?>[];
+        });
+      }
+    }
+  }
+}
+
+/// Handles methods calls to the native Java WebViewPool class.
+///
+/// Keeps WebViews using hybrid composition that are created ahead of time.
+abstract class TestWebViewPoolHostApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void setMaxSize(int maxSize);
+
+  Map<String?, int?> getStats();
+
+  static void setup(TestWebViewPoolHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSize = (args[0] as int?);
+          assert(arg_maxSize != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize was null, expected non-null int.');
+          api.setMaxSize(arg_maxSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getStats();
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}
+
+/// Handles methods calls to the native Java FileDownload class.
+///
+/// Downloads a URL to a file on a background thread, with the cookies of the
+/// WebView.
+abstract class TestFileDownloadHostApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(
+      int instanceId,
+      String url,
+      String? userAgent,
+      String filePath,
+      int progressIntervalMillis);
+
+  void start(int instanceId);
+
+  void cancel(int instanceId);
+
+  static void setup(TestFileDownloadHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.FileDownloadHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.create was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.create was null, expected non-null String.');
+          final String? arg_userAgent = (args[2] as String?);
+          final String? arg_filePath = (args[3] as String?);
+          assert(arg_filePath != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.create was null, expected non-null String.');
+          final int? arg_progressIntervalMillis = (args[4] as int?);
+          assert(arg_progressIntervalMillis != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.create was null, expected non-null int.');
+          api.create(
+              arg_instanceId!, arg_url!, arg_userAgent, arg_filePath!, arg_progressIntervalMillis!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.FileDownloadHostApi.start', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.start was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.start was null, expected non-null int.');
+          api.start(arg_instanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.FileDownloadHostApi.cancel', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.cancel was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.FileDownloadHostApi.cancel was null, expected non-null int.');
+          api.cancel(arg_instanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+  }
+}
+
+/// Records the traffic of the platform channels of the plugin.
+abstract class TestChannelTracingHostApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void setEnabled(bool enabled);
+
+  List<Map<String?, Object?>?> getStats();
+
+  void reset();
+
+  static void setup(TestChannelTracingHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelTracingHostApi.setEnabled', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ChannelTracingHostApi.setEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_enabled = (args[0] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.ChannelTracingHostApi.setEnabled was null, expected non-null bool.');
+          api.setEnabled(arg_enabled!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelTracingHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final List<Map<String?, Object?>?> output = api.getStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelTracingHostApi.reset', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.reset();
+          return <Object?>[];
+        });
+      }
+    }
+  }
+}
+
+/// Handles methods calls to the native Java WebResourceInterceptor class.
+///
+/// Serves the requests of a WebViewClient from the Flutter assets, or from an
+/// on-disk HTTP cache.
+abstract class TestWebResourceInterceptorHostApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(int instanceId);
+
+  void addAssetPrefix(int instanceId, String urlPrefix, String assetDirectory);
+
+  void addCachedPrefix(int instanceId, String urlPrefix);
+
+  void attachToWebViewClient(int instanceId, int webViewClientInstanceId);
+
+  Future<void> setCacheMaxSize(int maxSizeBytes);
+
+  Future<void> clearCache();
+
+  Future<Map<String?, int?>> getStats(int instanceId);
+
+  static void setup(TestWebResourceInterceptorHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.create', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.create was null, expected non-null int.');
+          api.create(arg_instanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix was null, expected non-null int.');
+          final String? arg_urlPrefix = (args[1] as String?);
+          assert(arg_urlPrefix != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix was null, expected non-null String.');
+          final String? arg_assetDirectory = (args[2] as String?);
+          assert(arg_assetDirectory != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addAssetPrefix was null, expected non-null String.');
+          api.addAssetPrefix(
+              arg_instanceId!, arg_urlPrefix!, arg_assetDirectory!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.addCachedPrefix',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addCachedPrefix was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addCachedPrefix was null, expected non-null int.');
+          final String? arg_urlPrefix = (args[1] as String?);
+          assert(arg_urlPrefix != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addCachedPrefix was null, expected non-null String.');
+          api.addCachedPrefix(arg_instanceId!, arg_urlPrefix!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.attachToWebViewClient',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.attachToWebViewClient was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.attachToWebViewClient was null, expected non-null int.');
+          final int? arg_webViewClientInstanceId = (args[1] as int?);
+          assert(arg_webViewClientInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.attachToWebViewClient was null, expected non-null int.');
+          api.attachToWebViewClient(
+              arg_instanceId!, arg_webViewClientInstanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSizeBytes = (args[0] as int?);
+          assert(arg_maxSizeBytes != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize was null, expected non-null int.');
+          await api.setCacheMaxSize(arg_maxSizeBytes!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          await api.clearCache();
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats was null, expected non-null int.');
+          final Map<String?, int?> output = await api.getStats(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}